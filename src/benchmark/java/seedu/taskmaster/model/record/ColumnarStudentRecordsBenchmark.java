@@ -0,0 +1,58 @@
+package seedu.taskmaster.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.BenchmarkUtil.getUsedHeapBytes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class ColumnarStudentRecordsBenchmark {
+    private static final int SESSION_COUNT = 100;
+    private static final int STUDENTS_PER_SESSION = 1_000;
+
+    @Test
+    public void heapFootprint_semesterOfSessions_smallerThanRecordObjects() {
+        List<Student> roster = SyntheticStudents.getStudents(STUDENTS_PER_SESSION);
+
+        long recordObjectBytes = getHeapFootprint(roster, false);
+        long columnarBytes = getHeapFootprint(roster, true);
+
+        // Each record object and its class participation take up about 60 bytes, against 13 bytes in columns
+        assertTrue(2 * columnarBytes < recordObjectBytes,
+                SESSION_COUNT + " sessions of " + STUDENTS_PER_SESSION + " students took up " + columnarBytes
+                        + " bytes in columns and " + recordObjectBytes + " bytes as record objects");
+    }
+
+    /**
+     * Returns the number of bytes of heap taken up by {@code SESSION_COUNT} lists of the records of {@code roster},
+     * kept in columns if {@code isColumnar} and as {@code StudentRecord} objects otherwise, after every student has
+     * been marked as present and given a score.
+     */
+    private static long getHeapFootprint(List<Student> roster, boolean isColumnar) {
+        StudentTable studentTable = new StudentTable();
+        long usedBytesBefore = getUsedHeapBytes();
+
+        List<StudentRecordList> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            StudentRecordList studentRecords = isColumnar
+                    ? new StudentRecordListManager(studentTable)
+                    : StudentRecordListManager.backedBy(new ArrayList<>());
+            studentRecords.setStudentRecords(StudentRecordListManager.of(roster).asUnmodifiableObservableList());
+            studentRecords.markAllStudentAttendances(AttendanceType.PRESENT);
+            for (int j = 0; j < roster.size(); j++) {
+                studentRecords.scoreStudentParticipation(roster.get(j).getNusnetId(), (i + j) % 10);
+            }
+            sessions.add(studentRecords);
+        }
+
+        long usedBytes = getUsedHeapBytes() - usedBytesBefore;
+        assertEquals(SESSION_COUNT, sessions.size());
+        return usedBytes;
+    }
+}
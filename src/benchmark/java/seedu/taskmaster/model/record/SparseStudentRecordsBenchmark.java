@@ -0,0 +1,75 @@
+package seedu.taskmaster.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.BenchmarkUtil.getUsedHeapBytes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class SparseStudentRecordsBenchmark {
+    private static final int SESSION_COUNT = 100;
+    private static final int STUDENTS_PER_SESSION = 1_000;
+    private static final int MARKS_PER_SESSION = 5;
+    private static final int TRIALS = 3;
+
+    private final List<Student> roster = SyntheticStudents.getStudents(STUDENTS_PER_SESSION);
+
+    @Test
+    public void heapFootprint_semesterOfSessions_scalesWithMarkedRecords() {
+        // Measured a few times, as memory freed by other tests in the meantime is counted against a measurement
+        long denseBytes = 0;
+        long sparseBytes = 0;
+        for (int trial = 0; trial < TRIALS && !(sparseBytes > 0 && 10 * sparseBytes < denseBytes); trial++) {
+            denseBytes = getHeapFootprint(false);
+            sparseBytes = getHeapFootprint(true);
+        }
+
+        // Sessions of the same students share one roster, so each only stores the few records marked in it
+        assertTrue(10 * sparseBytes < denseBytes,
+                SESSION_COUNT + " sessions of " + STUDENTS_PER_SESSION + " students with " + MARKS_PER_SESSION
+                        + " marked took up " + sparseBytes + " bytes sparse and " + denseBytes + " bytes in columns");
+    }
+
+    /**
+     * Returns the number of bytes of heap taken up by {@code SESSION_COUNT} lists of the records of the roster,
+     * stored sparsely if {@code isSparse} and in columns otherwise, after {@code MARKS_PER_SESSION} students have
+     * been marked as present in each.
+     */
+    private long getHeapFootprint(boolean isSparse) {
+        // Creates the roster beforehand, as every sparse session shares it
+        Roster studentRoster = Roster.of(roster);
+        long usedBytesBefore = getUsedHeapBytes();
+
+        List<StudentRecordList> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            StudentRecordList studentRecords = isSparse
+                    ? StudentRecordListManager.of(studentRoster)
+                    : getDenseRecords(roster, studentRoster.getStudentTable());
+            for (int j = 0; j < MARKS_PER_SESSION; j++) {
+                studentRecords.markStudentAttendance(roster.get((i + j * 97) % roster.size()).getNusnetId(),
+                        AttendanceType.PRESENT);
+            }
+            sessions.add(studentRecords);
+        }
+
+        long usedBytes = getUsedHeapBytes() - usedBytesBefore;
+        assertEquals(SESSION_COUNT, sessions.size());
+        return usedBytes;
+    }
+
+    private static StudentRecordList getDenseRecords(List<Student> students, StudentTable studentTable) {
+        StudentRecordList studentRecords = new StudentRecordListManager(studentTable);
+        List<StudentRecord> unmarkedRecords = new ArrayList<>();
+        for (Student student : students) {
+            unmarkedRecords.add(new StudentRecord(student.getName(), student.getNusnetId()));
+        }
+        studentRecords.setStudentRecords(unmarkedRecords);
+        return studentRecords;
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.taskmaster.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class StudentRecordListBenchmark {
+    private static final int SMALL_ROSTER_SIZE = 1_000;
+    private static final int LARGE_ROSTER_SIZE = 50_000;
+    private static final int MARKS_PER_TRIAL = 20_000;
+    private static final int TRIALS = 3;
+    private static final int LECTURE_SIZE = 600;
+
+    @Test
+    public void markStudentAttendance_largeRoster_throughputIndependentOfRosterSize() {
+        long smallRosterNanosPerMark = getBestNanosPerMark(SMALL_ROSTER_SIZE);
+        long largeRosterNanosPerMark = getBestNanosPerMark(LARGE_ROSTER_SIZE);
+
+        // A linear scan per mark would be about 50 times slower on the large roster.
+        assertTrue(largeRosterNanosPerMark <= 10 * Math.max(smallRosterNanosPerMark, 1),
+                "Marking slowed from " + smallRosterNanosPerMark + "ns to " + largeRosterNanosPerMark + "ns");
+    }
+
+    @Test
+    public void markAllStudentAttendances_observedList_fasterThanMarkingEachStudent() {
+        long markEachNanos = Long.MAX_VALUE;
+        long markAllNanos = Long.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            List<Student> lecture = SyntheticStudents.getStudents(LECTURE_SIZE);
+            StudentRecordList records = StudentRecordListManager.of(lecture);
+            ObservableList<StudentRecord> displayedList = observeAsDisplayed(records);
+
+            long start = System.nanoTime();
+            for (Student student : lecture) {
+                records.markStudentAttendance(student.getNusnetId(), AttendanceType.PRESENT);
+            }
+            markEachNanos = Math.min(markEachNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            records.markAllStudentAttendances(AttendanceType.ABSENT);
+            markAllNanos = Math.min(markAllNanos, System.nanoTime() - start);
+            assertEquals(AttendanceType.ABSENT, displayedList.get(LECTURE_SIZE - 1).getAttendanceType());
+        }
+
+        assertTrue(markAllNanos < markEachNanos,
+                "Marking all took " + markAllNanos + "ns, marking each student took " + markEachNanos + "ns");
+    }
+
+    @Test
+    public void getLowestScoringRecords_largeRoster_timeIndependentOfRosterSize() {
+        // The large roster is timed first, so that the small roster is not slowed by code that is yet to be compiled
+        long largeRosterNanosPerQuery = getBestNanosPerScoreQuery(LARGE_ROSTER_SIZE);
+        long smallRosterNanosPerQuery = getBestNanosPerScoreQuery(SMALL_ROSTER_SIZE);
+
+        // A scan of the list per query would be about 50 times slower on the large roster.
+        assertTrue(largeRosterNanosPerQuery <= 10 * Math.max(smallRosterNanosPerQuery, 1),
+                "Scoring and querying slowed from " + smallRosterNanosPerQuery + "ns to "
+                        + largeRosterNanosPerQuery + "ns");
+    }
+
+    @Test
+    public void getRandomPresentRecord_largeRoster_timeIndependentOfRosterSize() {
+        // The large roster is timed first, so that the small roster is not slowed by code that is yet to be compiled
+        long largeRosterNanosPerPick = getBestNanosPerRandomPick(LARGE_ROSTER_SIZE);
+        long smallRosterNanosPerPick = getBestNanosPerRandomPick(SMALL_ROSTER_SIZE);
+
+        // A scan of the list per pick would be about 50 times slower on the large roster.
+        assertTrue(largeRosterNanosPerPick <= 10 * Math.max(smallRosterNanosPerPick, 1),
+                "Marking and picking slowed from " + smallRosterNanosPerPick + "ns to "
+                        + largeRosterNanosPerPick + "ns");
+    }
+
+    /**
+     * Returns the best observed time in nanoseconds taken to mark one student in a roster of {@code rosterSize}.
+     */
+    private static long getBestNanosPerMark(int rosterSize) {
+        List<Student> roster = SyntheticStudents.getStudents(rosterSize);
+        StudentRecordList records = StudentRecordListManager.of(roster);
+
+        long bestNanosPerMark = Long.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < MARKS_PER_TRIAL; i++) {
+                // Strides through the roster so that marks land all over the list
+                Student student = roster.get((int) ((i * 7919L) % rosterSize));
+                records.markStudentAttendance(student.getNusnetId(), AttendanceType.PRESENT);
+            }
+            bestNanosPerMark = Math.min(bestNanosPerMark, (System.nanoTime() - start) / MARKS_PER_TRIAL);
+        }
+        return bestNanosPerMark;
+    }
+
+    /**
+     * Returns the best observed time in nanoseconds taken to score one present student in a roster of
+     * {@code rosterSize} and then find the five lowest scoring students.
+     */
+    private static long getBestNanosPerScoreQuery(int rosterSize) {
+        List<Student> roster = SyntheticStudents.getStudents(rosterSize);
+        StudentRecordList records = StudentRecordListManager.of(roster);
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        records.getLowestScore();
+
+        long bestNanosPerQuery = Long.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < MARKS_PER_TRIAL; i++) {
+                Student student = roster.get((int) ((i * 7919L) % rosterSize));
+                records.scoreStudentParticipation(student.getNusnetId(), i % 10);
+                records.getLowestScoringRecords(5);
+            }
+            bestNanosPerQuery = Math.min(bestNanosPerQuery, (System.nanoTime() - start) / MARKS_PER_TRIAL);
+        }
+        return bestNanosPerQuery;
+    }
+
+    /**
+     * Returns the best observed time in nanoseconds taken to mark one student in a roster of {@code rosterSize} and
+     * then pick a present student at random in each sampling mode.
+     */
+    private static long getBestNanosPerRandomPick(int rosterSize) {
+        List<Student> roster = SyntheticStudents.getStudents(rosterSize);
+        StudentRecordList records = StudentRecordListManager.of(roster);
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        Random random = new Random(1);
+        records.getRandomPresentRecord(random, SamplingMode.UNIFORM);
+
+        long bestNanosPerPick = Long.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < MARKS_PER_TRIAL; i++) {
+                Student student = roster.get((int) ((i * 7919L) % rosterSize));
+                records.markStudentAttendance(student.getNusnetId(),
+                        i % 2 == 0 ? AttendanceType.ABSENT : AttendanceType.PRESENT);
+                for (SamplingMode mode : SamplingMode.values()) {
+                    records.getRandomPresentRecord(random, mode);
+                }
+            }
+            bestNanosPerPick = Math.min(bestNanosPerPick, (System.nanoTime() - start) / MARKS_PER_TRIAL);
+        }
+        return bestNanosPerPick;
+    }
+
+    /**
+     * Returns a {@code FilteredList} of {@code records} with a listener, as the displayed list of records observes
+     * them, so that each change to the records is passed on to the listener while the returned list is in use.
+     */
+    private static ObservableList<StudentRecord> observeAsDisplayed(StudentRecordList records) {
+        ObservableList<StudentRecord> displayedList = new FilteredList<>(records.asUnmodifiableObservableList());
+        displayedList.addListener((ListChangeListener<StudentRecord>) change -> {});
+        return displayedList;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.taskmaster.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class StudentStatisticsStoreBenchmark {
+
+    private static final SessionDateTime SESSION_DATE_TIME = new SessionDateTime(LocalDateTime.of(2020, 11, 1, 10, 30));
+    private static final int STUDENTS_PER_SESSION = 100;
+    private static final int SMALL_NUMBER_OF_SESSIONS = 5;
+    private static final int LARGE_NUMBER_OF_SESSIONS = 500;
+    private static final int TRIALS = 5;
+
+    @Test
+    public void get_manySessions_lookupTimeIndependentOfNumberOfSessions() {
+        // The many sessions are timed first, so that the few sessions are not slowed by code that is yet to be compiled
+        long manySessionsNanosPerLookup = getBestNanosPerLookup(LARGE_NUMBER_OF_SESSIONS);
+        long fewSessionsNanosPerLookup = getBestNanosPerLookup(SMALL_NUMBER_OF_SESSIONS);
+
+        // A scan of every session per lookup would be about 100 times slower with the many sessions.
+        assertTrue(manySessionsNanosPerLookup <= 5 * Math.max(fewSessionsNanosPerLookup, 1),
+                "Looking up statistics slowed from " + fewSessionsNanosPerLookup + "ns to "
+                        + manySessionsNanosPerLookup + "ns per lookup");
+    }
+
+    /**
+     * Returns the best observed time in nanoseconds taken to look up the statistics of a student over
+     * {@code numberOfSessions} sessions that have all been counted.
+     */
+    private static long getBestNanosPerLookup(int numberOfSessions) {
+        List<Student> students = SyntheticStudents.getStudents(STUDENTS_PER_SESSION);
+        StudentStatisticsStore store = new StudentStatisticsStore();
+        for (int i = 0; i < numberOfSessions; i++) {
+            Session session = new Session(new SessionName("Session " + i), SESSION_DATE_TIME, students);
+            session.markAllStudentAttendances(AttendanceType.PRESENT);
+            store.addSession(session);
+        }
+
+        long bestNanosPerLookup = Long.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            List<StudentStatistics> statistics = new ArrayList<>(students.size());
+            long start = System.nanoTime();
+            for (Student student : students) {
+                statistics.add(store.get(student.getNusnetId()));
+            }
+            bestNanosPerLookup = Math.min(bestNanosPerLookup, (System.nanoTime() - start) / students.size());
+            for (StudentStatistics studentStatistics : statistics) {
+                assertEquals(numberOfSessions, studentStatistics.getCount(AttendanceType.PRESENT));
+            }
+        }
+        return bestNanosPerLookup;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.taskmaster.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.taskmaster.testutil.StudentBuilder;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class UniqueStudentListBenchmark {
+
+    private static final int SMALL_ROSTER_SIZE = 1_000;
+    private static final int LARGE_ROSTER_SIZE = 10_000;
+    private static final int TRIALS = 5;
+    private static final int FACULTY_ROSTER_SIZE = 20_000;
+
+    @Test
+    public void addAndSetStudent_largeRoster_throughputIndependentOfRosterSize() {
+        // The large roster is timed first, so that the small roster is not slowed by code that is yet to be compiled
+        long largeRosterNanosPerStudent = getBestNanosPerStudent(LARGE_ROSTER_SIZE);
+        long smallRosterNanosPerStudent = getBestNanosPerStudent(SMALL_ROSTER_SIZE);
+
+        // A scan of the list per student would be about 10 times slower on the large roster.
+        assertTrue(largeRosterNanosPerStudent <= 5 * Math.max(smallRosterNanosPerStudent, 1),
+                "Adding and editing slowed from " + smallRosterNanosPerStudent + "ns to "
+                        + largeRosterNanosPerStudent + "ns per student");
+    }
+
+    /**
+     * Returns the best observed time in nanoseconds taken per student to add each student of a roster of
+     * {@code rosterSize} to an empty list one at a time, as when the roster is loaded, and then edit each student.
+     */
+    private static long getBestNanosPerStudent(int rosterSize) {
+        List<Student> roster = SyntheticStudents.getStudents(rosterSize);
+        List<Student> editedRoster = new ArrayList<>(rosterSize);
+        for (Student student : roster) {
+            editedRoster.add(new StudentBuilder(student).withTelegram(VALID_TELEGRAM_BOB).build());
+        }
+
+        long bestNanosPerStudent = Long.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            UniqueStudentList students = new UniqueStudentList();
+            long start = System.nanoTime();
+            for (Student student : roster) {
+                students.add(student);
+            }
+            for (int i = 0; i < rosterSize; i++) {
+                students.setStudent(roster.get(i), editedRoster.get(i));
+            }
+            bestNanosPerStudent = Math.min(bestNanosPerStudent, (System.nanoTime() - start) / rosterSize);
+            assertEquals(editedRoster, students.asUnmodifiableObservableList());
+        }
+        return bestNanosPerStudent;
+    }
+
+    @Test
+    public void setSearch_facultyRoster_fasterThanTestingEveryStudent() {
+        List<Student> roster = SyntheticStudents.getStudents(FACULTY_ROSTER_SIZE);
+        UniqueStudentList students = new UniqueStudentList();
+        students.setStudents(roster);
+        FilteredStudentList filteredStudents = new FilteredStudentList(students);
+        FilteredList<Student> scannedStudents = new FilteredList<>(students.asUnmodifiableObservableList());
+        StudentMatchesKeywordsPredicate predicate = new StudentMatchesKeywordsPredicate(
+                Arrays.asList("12345", "1999*", SyntheticStudents.getNusnetId(42)));
+
+        long bestScanNanos = Long.MAX_VALUE;
+        long bestIndexNanos = Long.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            long start = System.nanoTime();
+            scannedStudents.setPredicate(predicate);
+            bestScanNanos = Math.min(bestScanNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            filteredStudents.setSearch(predicate);
+            bestIndexNanos = Math.min(bestIndexNanos, System.nanoTime() - start);
+
+            assertTrue(filteredStudents.contains(roster.get(42)));
+            assertEquals(scannedStudents, filteredStudents);
+            scannedStudents.setPredicate(null);
+            filteredStudents.setPredicate(student -> true);
+        }
+
+        assertTrue(10 * bestIndexNanos < bestScanNanos, "Showing the students found in the index took "
+                + bestIndexNanos + "ns, against " + bestScanNanos + "ns to test every student");
+    }
+}
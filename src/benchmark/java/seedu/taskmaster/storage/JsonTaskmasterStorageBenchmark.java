@@ -0,0 +1,93 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.storage.JsonTaskmasterStorageTest.assertRecordsShareObjectsOfStudentList;
+import static seedu.taskmaster.testutil.BenchmarkUtil.getUsedHeapBytes;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionList;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class JsonTaskmasterStorageBenchmark {
+    private static final int SMALL_ROSTER_SIZE = 2_000;
+    private static final int LARGE_ROSTER_SIZE = 16_000;
+    private static final int TRIALS = 3;
+    private static final int SEMESTER_STUDENT_COUNT = 1_000;
+    private static final int SEMESTER_SESSION_COUNT = 26;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSessionList_semester_recordsTakeUpLittleHeap() throws Exception {
+        JsonTaskmasterStorage storage = new JsonTaskmasterStorage(testFolder.resolve("taskmaster.json"),
+                testFolder.resolve("session_list.json"));
+        Taskmaster semester = SyntheticStudents.getSemester(SEMESTER_STUDENT_COUNT, SEMESTER_SESSION_COUNT);
+        storage.saveTaskmaster(semester);
+        storage.saveSessionList(semester);
+
+        ReadOnlyTaskmaster studentList = storage.readTaskmaster().get();
+        storage.readSessionList().get().asUnmodifiableObservableList().forEach(Session::getStudentRecords);
+        long usedBytesBefore = getUsedHeapBytes();
+        SessionList sessionList = storage.readSessionList().get();
+        sessionList.asUnmodifiableObservableList().forEach(Session::getStudentRecords);
+        long bytesPerRecord = (getUsedHeapBytes() - usedBytesBefore)
+                / (SEMESTER_STUDENT_COUNT * SEMESTER_SESSION_COUNT);
+
+        assertRecordsShareObjectsOfStudentList(studentList, sessionList);
+        // A name and NUSNET ID of its own would add over 100 bytes to each record
+        assertTrue(bytesPerRecord < 40, "The records of a semester took up " + bytesPerRecord + " bytes each");
+    }
+
+    @Test
+    public void read_largeRoster_loadTimeLinearInRosterSize() throws Exception {
+        // The large roster is loaded first, so that the small roster is not slowed by code that is yet to be compiled
+        long largeRosterNanosPerStudent = getBestNanosPerStudentLoaded(LARGE_ROSTER_SIZE);
+        long smallRosterNanosPerStudent = getBestNanosPerStudentLoaded(SMALL_ROSTER_SIZE);
+
+        // Checking each student against every student loaded before it makes the time per student grow with the
+        // roster, to over 4 times that of the small roster.
+        assertTrue(largeRosterNanosPerStudent <= 3 * Math.max(smallRosterNanosPerStudent, 1),
+                "Loading slowed from " + smallRosterNanosPerStudent + "ns to " + largeRosterNanosPerStudent
+                        + "ns per student");
+    }
+
+    /**
+     * Returns the best observed time in nanoseconds taken per student to load a student list of
+     * {@code rosterSize} students, and a session list holding a session with a record of each student.
+     */
+    private long getBestNanosPerStudentLoaded(int rosterSize) throws Exception {
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setStudents(SyntheticStudents.getStudents(rosterSize));
+        taskmaster.addSession(new Session(new SessionName("Roster " + rosterSize),
+                new SessionDateTime(LocalDateTime.of(2020, 8, 10, 10, 0)), taskmaster.getStudentList()));
+
+        Path taskmasterFilePath = testFolder.resolve("roster" + rosterSize + ".json");
+        Path sessionListFilePath = testFolder.resolve("roster" + rosterSize + "_sessions.json");
+        // Reading a session list other than that of the storage reads the records of every session
+        JsonTaskmasterStorage storage = new JsonTaskmasterStorage(taskmasterFilePath,
+                testFolder.resolve("unused.json"));
+        storage.saveTaskmaster(taskmaster);
+        storage.saveSessionList(taskmaster, sessionListFilePath);
+
+        long bestNanosPerStudent = Long.MAX_VALUE;
+        for (int trial = 0; trial < TRIALS; trial++) {
+            long start = System.nanoTime();
+            assertEquals(rosterSize, storage.readTaskmaster().get().getStudentList().size());
+            assertEquals(1, storage.readSessionList(sessionListFilePath).get().getNumberOfSessions());
+            bestNanosPerStudent = Math.min(bestNanosPerStudent, (System.nanoTime() - start) / rosterSize);
+        }
+        return bestNanosPerStudent;
+    }
+}
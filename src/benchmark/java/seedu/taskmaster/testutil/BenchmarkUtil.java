@@ -0,0 +1,21 @@
+package seedu.taskmaster.testutil;
+
+/**
+ * A utility class for benchmarks.
+ */
+public class BenchmarkUtil {
+
+    /**
+     * Returns the number of bytes of heap in use after collecting garbage, for benchmarks of the memory taken up by
+     * data that the benchmark keeps a reference to.
+     */
+    public static long getUsedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            usedBytes = Math.min(usedBytes, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return usedBytes;
+    }
+}
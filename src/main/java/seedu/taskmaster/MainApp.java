@@ -2,6 +2,7 @@ package seedu.taskmaster;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,9 +10,11 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.taskmaster.commons.core.Config;
 import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.core.StorageFormat;
 import seedu.taskmaster.commons.core.Version;
 import seedu.taskmaster.commons.exceptions.DataConversionException;
 import seedu.taskmaster.commons.util.ConfigUtil;
+import seedu.taskmaster.commons.util.FileUtil;
 import seedu.taskmaster.commons.util.StringUtil;
 import seedu.taskmaster.logic.Logic;
 import seedu.taskmaster.logic.LogicManager;
@@ -20,16 +23,21 @@ import seedu.taskmaster.model.ModelManager;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.ReadOnlyUserPrefs;
 import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.TaskmasterChange;
 import seedu.taskmaster.model.UserPrefs;
 import seedu.taskmaster.model.session.SessionList;
 import seedu.taskmaster.model.session.SessionListManager;
 import seedu.taskmaster.model.util.SampleDataUtil;
+import seedu.taskmaster.storage.BinaryTaskmasterStorage;
+import seedu.taskmaster.storage.JsonTaskmasterJournal;
 import seedu.taskmaster.storage.JsonTaskmasterStorage;
 import seedu.taskmaster.storage.JsonUserPrefsStorage;
 import seedu.taskmaster.storage.Storage;
 import seedu.taskmaster.storage.StorageManager;
 import seedu.taskmaster.storage.TaskmasterStorage;
+import seedu.taskmaster.storage.TaskmasterStorageConverter;
 import seedu.taskmaster.storage.UserPrefsStorage;
+import seedu.taskmaster.storage.WriteBehindTaskmasterStorage;
 import seedu.taskmaster.ui.Ui;
 import seedu.taskmaster.ui.UiManager;
 
@@ -40,6 +48,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 0, true);
 
+    /** The name of the journal file, which is kept in the same folder as the student list file. */
+    public static final String JOURNAL_FILE_NAME = "journal.jsonl";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -48,6 +59,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** Whether the data was read from the backup of a data file, as the data file could not be read. */
+    private boolean isReadFromBackup;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Taskmaster ]===========================");
@@ -58,9 +72,10 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskmasterStorage taskmasterStorage = new JsonTaskmasterStorage(userPrefs.getTaskmasterFilePath(),
-                userPrefs.getSessionListFilePath());
-        storage = new StorageManager(taskmasterStorage, userPrefsStorage);
+        TaskmasterStorage taskmasterStorage = new WriteBehindTaskmasterStorage(initTaskmasterStorage(userPrefs));
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(
+                userPrefs.getTaskmasterFilePath().resolveSibling(JOURNAL_FILE_NAME));
+        storage = new StorageManager(taskmasterStorage, userPrefsStorage, journal);
 
         initLogging(config);
 
@@ -71,6 +86,92 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code TaskmasterStorage} that stores data in the format chosen in {@code userPrefs}. <br>
+     * If the data was last saved in the other format, it is imported into the chosen format first, so that no data is
+     * lost when the user switches between formats.
+     */
+    private TaskmasterStorage initTaskmasterStorage(ReadOnlyUserPrefs userPrefs) {
+        TaskmasterStorage jsonStorage = new JsonTaskmasterStorage(userPrefs.getTaskmasterFilePath(),
+                userPrefs.getSessionListFilePath());
+        TaskmasterStorage binaryStorage = new BinaryTaskmasterStorage(
+                BinaryTaskmasterStorage.toBinaryFilePath(userPrefs.getTaskmasterFilePath()),
+                BinaryTaskmasterStorage.toBinaryFilePath(userPrefs.getSessionListFilePath()),
+                userPrefs.getStorageFormat() == StorageFormat.MAPPED_BINARY);
+
+        boolean isBinary = userPrefs.getStorageFormat() != StorageFormat.JSON;
+        TaskmasterStorage chosenStorage = isBinary ? binaryStorage : jsonStorage;
+        TaskmasterStorage otherStorage = isBinary ? jsonStorage : binaryStorage;
+        try {
+            if (TaskmasterStorageConverter.copyIfNewer(otherStorage, chosenStorage)) {
+                logger.info("Imported data saved in another format into " + userPrefs.getStorageFormat() + " files");
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not import data saved in another format: " + StringUtil.getDetails(e));
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Makes the changes in {@code storage}'s journal to {@code taskmaster} in order, and returns the number made. <br>
+     * Replaying stops at the first change that cannot be read or made, and the journal is then set aside to be
+     * recovered by hand, rather than cleared once the data is next saved.
+     */
+    private int replayJournal(Storage storage, Taskmaster taskmaster) {
+        List<TaskmasterChange> changes;
+        try {
+            changes = storage.readJournal();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not read the journal: " + StringUtil.getDetails(e));
+            setAsideJournal(storage);
+            return 0;
+        }
+
+        for (int i = 0; i < changes.size(); i++) {
+            try {
+                changes.get(i).applyTo(taskmaster);
+            } catch (RuntimeException e) {
+                // Such as a change to a session whose records file can no longer be read
+                logger.warning("Could not make change " + (i + 1) + " of " + changes.size() + " in the journal: "
+                        + StringUtil.getDetails(e));
+                setAsideJournal(storage);
+                return i;
+            }
+        }
+        return changes.size();
+    }
+
+    /**
+     * Returns the data read by {@code reader} from {@code filePath}, or from the backup of {@code filePath} if it is
+     * not in the correct format. The backup holds the data as it was before {@code filePath} was last saved.
+     * @throws DataConversionException if neither file is in the correct format.
+     */
+    private <T> Optional<T> readWithBackup(Path filePath, DataReader<T> reader)
+            throws DataConversionException, IOException {
+        try {
+            return reader.read(filePath);
+        } catch (DataConversionException e) {
+            Path backupFile = FileUtil.getBackupFile(filePath);
+            if (!FileUtil.isFileExists(backupFile)) {
+                throw e;
+            }
+            logger.warning(filePath + " is not in the correct format. Reading the data saved before it from "
+                    + backupFile + " instead: " + StringUtil.getDetails(e));
+            Optional<T> data = reader.read(backupFile);
+            isReadFromBackup = true;
+            return data;
+        }
+    }
+
+    private void setAsideJournal(Storage storage) {
+        try {
+            storage.setAsideJournal();
+        } catch (IOException e) {
+            logger.warning("Could not set aside the journal. Changes that were not recovered will be lost once the"
+                    + " data is saved: " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s student list and {@code userPrefs}. <br>
      * The data from the sample student list will be used instead if {@code storage}'s student list is not found,
@@ -81,18 +182,22 @@ public class MainApp extends Application {
         Optional<SessionList> sessionListOptional;
         ReadOnlyTaskmaster initialData = null;
         SessionList initialSessionList = new SessionListManager();
+        boolean isInSyncWithStorage = false;
+        isReadFromBackup = false;
         try {
-            taskmasterOptional = storage.readTaskmaster();
+            taskmasterOptional = readWithBackup(storage.getTaskmasterFilePath(), storage::readTaskmaster);
             if (!taskmasterOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample Taskmaster");
             }
             initialData = taskmasterOptional.orElseGet(SampleDataUtil::getSampleTaskmaster);
 
-            sessionListOptional = storage.readSessionList();
+            sessionListOptional = readWithBackup(storage.getSessionListFilePath(), storage::readSessionList);
             if (!sessionListOptional.isPresent()) {
                 logger.info("Session List file not found.");
             }
             initialSessionList = sessionListOptional.orElse(initialSessionList);
+            isInSyncWithStorage = taskmasterOptional.isPresent() && sessionListOptional.isPresent()
+                    && !isReadFromBackup;
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty Taskmaster");
             initialData = new Taskmaster();
@@ -106,7 +211,26 @@ public class MainApp extends Application {
             initialSessionList = new SessionListManager();
         }
 
-        return new ModelManager(initialData, initialSessionList.asUnmodifiableObservableList(), userPrefs);
+        if (isReadFromBackup) {
+            // The journaled changes were made to the data file, not to its backup
+            setAsideJournal(storage);
+        }
+
+        // Changes that were journaled but not saved before TAskmaster last stopped are made again
+        Taskmaster recoveredData = new Taskmaster(initialData);
+        recoveredData.setSessionList(initialSessionList);
+        int recoveredCount = isInSyncWithStorage ? replayJournal(storage, recoveredData) : 0;
+        if (recoveredCount > 0) {
+            logger.info("Recovered " + recoveredCount + " changes from the journal");
+        }
+
+        Model initialModel = new ModelManager(recoveredData, userPrefs);
+        if (isInSyncWithStorage && recoveredCount == 0 && initialSessionList.getSavedStatistics().isPresent()) {
+            // Data that was just read from storage does not need to be written back until it changes.
+            // Without saved statistics, it is written back so that the statistics counted now are saved with it.
+            initialModel.markAsSaved();
+        }
+        return initialModel;
     }
 
     private void initLogging(Config config) {
@@ -190,10 +314,24 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TAskmaster ] =============================");
+        try {
+            logic.saveSnapshot();
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Reads data from a file.
+     */
+    @FunctionalInterface
+    private interface DataReader<T> {
+        Optional<T> read(Path filePath) throws DataConversionException, IOException;
+    }
 }
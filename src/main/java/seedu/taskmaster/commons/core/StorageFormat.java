@@ -0,0 +1,16 @@
+package seedu.taskmaster.commons.core;
+
+/**
+ * The formats in which TAskmaster can store its data on the hard disk.
+ */
+public enum StorageFormat {
+    /** Json files, which can be read and edited by hand. */
+    JSON,
+    /** Compact binary files, which are smaller and faster to read than json files. */
+    BINARY,
+    /**
+     * The same binary files as {@link #BINARY}, with the records of a session only decoded as they are displayed or
+     * changed. The session list file is memory-mapped, except on Windows, where it is read into memory instead.
+     */
+    MAPPED_BINARY
+}
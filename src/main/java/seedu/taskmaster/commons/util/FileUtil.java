@@ -1,10 +1,17 @@
 package seedu.taskmaster.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +82,98 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, in the same way as {@link #writeToFileAtomically}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, creating the file and its missing
+     * parent directories if needed.
+     *
+     * The contents are first written to a temporary file next to {@code file} and forced to the disk, and the
+     * temporary file is then renamed over {@code file} in a single step. If writing fails or TAskmaster stops part
+     * way, {@code file} keeps its previous contents. The previous contents are also kept in the backup file returned
+     * by {@link #getBackupFile}, which is replaced every time {@code file} is written.
+     * @throws IOException if the file cannot be written. {@code file} is then left unchanged.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.write(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+
+        if (isFileExists(file)) {
+            backUp(file);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectoryOf(file);
+    }
+
+    /**
+     * Returns the file holding the contents that {@code file} had before it was last written by
+     * {@link #writeToFileAtomically}.
+     */
+    public static Path getBackupFile(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the file that {@code file} is the backup of, or {@code file} itself if it is not a backup file.
+     */
+    public static Path getBackedUpFile(Path file) {
+        String fileName = file.getFileName().toString();
+        if (!fileName.endsWith(BACKUP_FILE_SUFFIX)) {
+            return file;
+        }
+        return file.resolveSibling(fileName.substring(0, fileName.length() - BACKUP_FILE_SUFFIX.length()));
+    }
+
+    /**
+     * Replaces the backup of {@code file} with its current contents, while {@code file} stays in place.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupFile = getBackupFile(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            // A second link to the current contents, which stays after the file is replaced, avoids copying them
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entries of the parent directory of {@code file} to the disk, so that a rename into it
+     * survives a crash. Not every platform allows a directory to be opened, in which case this does nothing.
+     */
+    private static void forceDirectoryOf(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The rename is still made, but may only reach the disk later
+        }
+    }
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
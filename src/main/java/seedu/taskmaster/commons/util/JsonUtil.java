@@ -2,19 +2,33 @@ package seedu.taskmaster.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +36,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.taskmaster.commons.core.LogsCenter;
 import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +54,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Leaves flushing to the underlying buffered stream instead of flushing after every element
+    private static final ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -90,6 +109,111 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads the elements of the array named {@code arrayFieldName} in the top-level object of the given file one
+     * at a time, passing each to {@code elementHandler} before the next is read. Unlike {@link #readJsonFile}, the
+     * file is never held in memory as a whole, so memory use is bounded by the size of a single element.
+     * Other fields of the top-level object are skipped. A missing array is treated as an empty one.
+     * @param filePath cannot be null.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler) throws DataConversionException, IllegalValueException {
+        return readJsonArrayFile(filePath, arrayFieldName, elementClass, elementHandler, null);
+    }
+
+    /**
+     * Reads the elements of the array named {@code arrayFieldName} as {@link #readJsonArrayFile(Path, String, Class,
+     * ElementHandler)} does, and puts the other fields of the top-level object that hold a string into
+     * {@code textFields}, unless it is null. Fields written before the array are read before its elements are.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> elementHandler, Map<String, String> textFields)
+            throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (InputStream in = new BufferedInputStream(Channels.newInputStream(FileChannel.open(filePath)));
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken valueToken = parser.nextToken();
+                if (!arrayFieldName.equals(parser.getCurrentName())) {
+                    if (textFields != null && valueToken == JsonToken.VALUE_STRING) {
+                        textFields.put(parser.getCurrentName(), parser.getText());
+                    }
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected \"" + arrayFieldName + "\" to be an array");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementHandler.handle(parser.readValueAs(elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * Saves the given elements to the specified file as an array named {@code arrayFieldName} in a top-level
+     * object, in the same format as {@link #saveJsonFile} would. Each element is written as soon as it is taken
+     * from {@code elements}, so the json document is never held in memory as a whole.
+     * Overwrites existing file if it exists, creates a new file if it doesn't. The file is replaced as a whole only
+     * once every element has been written, as described in {@link FileUtil#writeToFileAtomically}.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterator<T> elements)
+            throws IOException {
+        saveJsonArrayFile(filePath, Collections.emptyMap(), arrayFieldName, elements);
+    }
+
+    /**
+     * Saves the given elements to the specified file as {@link #saveJsonArrayFile(Path, String, Iterator)} does,
+     * with each of {@code textFields} written as a string field of the top-level object before the array.
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, Map<String, String> textFields, String arrayFieldName,
+            Iterator<T> elements) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(textFields);
+        requireNonNull(elements);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeJsonArray(out, textFields, arrayFieldName, elements));
+    }
+
+    private static <T> void writeJsonArray(OutputStream out, Map<String, String> textFields, String arrayFieldName,
+            Iterator<T> elements) throws IOException {
+        // The stream is left open for the file to be forced to the disk after it is written
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            for (Map.Entry<String, String> textField : textFields.entrySet()) {
+                generator.writeStringField(textField.getKey(), textField.getValue());
+            }
+            generator.writeArrayFieldStart(arrayFieldName);
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +234,25 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, such as for
+     * a file with one JSON value on each line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element read by {@link #readJsonArrayFile}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
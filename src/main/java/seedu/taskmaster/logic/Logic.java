@@ -1,6 +1,8 @@
 package seedu.taskmaster.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Predicate;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
@@ -10,8 +12,10 @@ import seedu.taskmaster.logic.commands.exceptions.CommandException;
 import seedu.taskmaster.logic.parser.exceptions.ParseException;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
 
 /**
@@ -27,6 +31,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves every change to the data, and clears the journal of those changes once storage has written them.
+     * Storage may write the data after this method returns, and a failure to write it is reported in the result of
+     * a later command.
+     * @throws IOException If the data could not be saved.
+     */
+    void saveSnapshot() throws IOException;
+
     /**
      * Returns the Taskmaster.
      *
@@ -37,6 +49,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of students */
     ObservableList<Student> getFilteredStudentList();
 
+    /**
+     * Shows the students matching {@code predicate} in the filtered list of students.
+     *
+     * @see seedu.taskmaster.model.Model#updateFilteredStudentList(Predicate)
+     */
+    void updateFilteredStudentList(Predicate<Student> predicate);
+
     /** Returns an unmodifiable view of the filtered list of student records */
     ObservableList<StudentRecord> getFilteredStudentRecordList();
 
@@ -64,4 +83,7 @@ public interface Logic {
 
     SimpleObjectProperty<Session> getCurrentSession();
 
+    /** Returns the attendance and participation of the student with {@code nusnetId} over all sessions. */
+    StudentStatistics getStudentStatistics(NusnetId nusnetId);
+
 }
@@ -2,6 +2,10 @@ package seedu.taskmaster.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleObjectProperty;
@@ -17,24 +21,40 @@ import seedu.taskmaster.logic.parser.TaskmasterParser;
 import seedu.taskmaster.logic.parser.exceptions.ParseException;
 import seedu.taskmaster.model.Model;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.TaskmasterChange;
 import seedu.taskmaster.model.record.StudentRecord;
 import seedu.taskmaster.model.record.StudentRecordList;
 import seedu.taskmaster.model.record.StudentRecordListManager;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
 import seedu.taskmaster.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ *
+ * The changes made by each command are appended to the journal in storage. The data itself is only saved once the
+ * journal holds {@link #SNAPSHOT_INTERVAL} changes, when a command makes a change that cannot be journaled, or when
+ * a snapshot is requested. The changes journaled before a snapshot are sealed, and cleared from the journal once
+ * storage has written the snapshot, without the command that saved it waiting for the write.
+ *
+ * A failure to save or journal data is reported in the result of the command during which it is found, after the
+ * feedback of the command itself, as the changes made by the command are kept either way.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+
+    /** The number of changes that the journal can hold before the data is saved and the journal is cleared. */
+    public static final int SNAPSHOT_INTERVAL = 100;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TaskmasterParser taskmasterParser;
+    /** The failure of the latest write of a snapshot that has not been reported yet, if any. */
+    private final AtomicReference<IOException> unreportedWriteFailure = new AtomicReference<>();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -52,29 +72,96 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = taskmasterParser.parseCommand(commandText);
 
-        if (command instanceof StorageCommand) {
-            StorageCommand storageCommand = (StorageCommand) command;
-            storageCommand.initialiseStorage(storage);
-            commandResult = storageCommand.execute(model);
-        } else if (command instanceof NewSessionCommand) {
-            NewSessionCommand newSessionCommand = (NewSessionCommand) command;
-            StudentRecordList studentRecords = StudentRecordListManager.of(model.getFilteredStudentList());
-            newSessionCommand.setStudentRecords(studentRecords);
-            commandResult = newSessionCommand.execute(model);
-        } else {
-            commandResult = command.execute(model);
+        try {
+            if (command instanceof StorageCommand) {
+                StorageCommand storageCommand = (StorageCommand) command;
+                storageCommand.initialiseStorage(storage);
+                commandResult = storageCommand.execute(model);
+            } else if (command instanceof NewSessionCommand) {
+                NewSessionCommand newSessionCommand = (NewSessionCommand) command;
+                StudentRecordList studentRecords = StudentRecordListManager.of(
+                        model.getRoster(model.getFilteredStudentList()));
+                newSessionCommand.setStudentRecords(studentRecords);
+                commandResult = newSessionCommand.execute(model);
+            } else {
+                commandResult = command.execute(model);
+            }
+        } finally {
+            // Whatever the command changed before it failed is undone as one step as well
+            model.commitTaskmaster();
         }
 
         try {
-            storage.saveTaskmaster(model.getTaskmaster());
-            storage.saveSessionList(model.getTaskmaster());
+            journalChanges();
         } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            unreportedWriteFailure.set(ioe);
         }
 
+        IOException writeFailure = unreportedWriteFailure.getAndSet(null);
+        if (writeFailure != null) {
+            logger.warning(FILE_OPS_ERROR_MESSAGE + writeFailure);
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + FILE_OPS_ERROR_MESSAGE + writeFailure,
+                    commandResult.isShowHelp(), commandResult.isExit());
+        }
         return commandResult;
     }
 
+    /**
+     * Appends the changes made by the last command to the journal, or saves a snapshot instead if the changes
+     * cannot be journaled or the journal is full.
+     * Nothing is written if the last command did not modify any data.
+     */
+    private void journalChanges() throws IOException {
+        Optional<List<TaskmasterChange>> changes = model.getUnjournaledChanges();
+        if (changes.isPresent() && changes.get().isEmpty()) {
+            return;
+        }
+
+        if (!changes.isPresent() || storage.getJournalSize() + changes.get().size() > SNAPSHOT_INTERVAL) {
+            saveSnapshot();
+            return;
+        }
+
+        storage.appendToJournal(changes.get());
+        model.markAsJournaled();
+    }
+
+    @Override
+    public void saveSnapshot() throws IOException {
+        saveModifiedData();
+        // The changes journaled so far may only be cleared once the snapshot is on the disk
+        long sealNumber = storage.sealJournal();
+        storage.whenWritten(() -> clearSealedJournal(sealNumber), unreportedWriteFailure::set);
+        // Snapshots keep the student table their records were copied with, so the records can be moved meanwhile
+        model.compactStudentTable();
+    }
+
+    /**
+     * Clears the changes sealed up to {@code sealNumber} from the journal, as the snapshot saved with them has been
+     * written.
+     */
+    private void clearSealedJournal(long sealNumber) {
+        try {
+            storage.clearSealedJournal(sealNumber);
+        } catch (IOException ioe) {
+            unreportedWriteFailure.set(ioe);
+        }
+    }
+
+    /**
+     * Writes the parts of the Taskmaster that have changed since they were last saved to storage.
+     */
+    private void saveModifiedData() throws IOException {
+        ReadOnlyTaskmaster taskmaster = model.getTaskmaster();
+        if (taskmaster.isStudentListModified()) {
+            storage.saveTaskmaster(taskmaster);
+        }
+        if (taskmaster.isSessionListModified()) {
+            storage.saveSessionList(taskmaster);
+        }
+        model.markAsSaved();
+    }
+
     @Override
     public ReadOnlyTaskmaster getTaskmaster() {
         return model.getTaskmaster();
@@ -90,6 +177,11 @@ public class LogicManager implements Logic {
         return model.getFilteredStudentRecordList();
     }
 
+    @Override
+    public void updateFilteredStudentList(Predicate<Student> predicate) {
+        model.updateFilteredStudentList(predicate);
+    }
+
     @Override
     public ObservableList<Session> getFilteredSessionList() {
         return model.getFilteredSessionList();
@@ -124,4 +216,9 @@ public class LogicManager implements Logic {
     public SimpleObjectProperty<Session> getCurrentSession() {
         return this.model.getCurrentSession();
     }
+
+    @Override
+    public StudentStatistics getStudentStatistics(NusnetId nusnetId) {
+        return model.getStudentStatistics(nusnetId);
+    }
 }
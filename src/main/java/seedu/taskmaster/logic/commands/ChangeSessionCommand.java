@@ -6,6 +6,7 @@ import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_SESSION_NAME;
 import seedu.taskmaster.logic.commands.exceptions.CommandException;
 import seedu.taskmaster.model.Model;
 import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.SessionException;
 
 /**
  * Changes the current session of the Taskmaster to another session in the session list.
@@ -41,7 +42,11 @@ public class ChangeSessionCommand extends Command {
             throw new CommandException(MESSAGE_SESSION_NOT_FOUND);
         }
 
-        model.changeSession(sessionName);
+        try {
+            model.changeSession(sessionName);
+        } catch (SessionException sessionException) {
+            throw new CommandException(sessionException.getMessage());
+        }
         return new CommandResult(String.format(MESSAGE_SUCCESS, sessionName));
     }
 
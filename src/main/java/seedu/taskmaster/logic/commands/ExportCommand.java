@@ -0,0 +1,96 @@
+package seedu.taskmaster.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_ATTENDANCE_FILENAME;
+import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_SESSION_NAME;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.taskmaster.logic.commands.exceptions.CommandException;
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.NoSessionException;
+import seedu.taskmaster.model.session.exceptions.SessionException;
+
+/**
+ * Exports the student records of one session, or of every session, to a CSV file.
+ */
+public class ExportCommand extends StorageCommand {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the student records of a session, or of every session if no session is given, to a file "
+            + "in the same folder as the data file.\n"
+            + "Parameters: "
+            + PREFIX_ATTENDANCE_FILENAME + "FILENAME (without the " + CSV_FILE_EXTENSION + " extension) "
+            + "[" + PREFIX_SESSION_NAME + "SESSION_NAME]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ATTENDANCE_FILENAME + "week10 "
+            + PREFIX_SESSION_NAME + "CS2103 Tutorial 10";
+
+    public static final String MESSAGE_SUCCESS = "Exported the student records of %1$d sessions to %2$s";
+    public static final String MESSAGE_SESSION_NOT_FOUND = "This session does not exist!";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write to the file %1$s: %2$s";
+
+    private final String filename;
+    private final Optional<SessionName> sessionName;
+
+    /**
+     * Creates an ExportCommand to export the student records of the session named {@code sessionName}, or of every
+     * session if it is empty, to the file named {@code filename}.
+     */
+    public ExportCommand(String filename, Optional<SessionName> sessionName) {
+        requireNonNull(filename);
+        requireNonNull(sessionName);
+        this.filename = filename;
+        this.sessionName = sessionName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Session> sessions = getSessionsToExport(model);
+        Path filePath = getCsvFilePath(filename);
+
+        try {
+            storage.exportSessions(sessions, filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, ioe.getMessage()), ioe);
+        } catch (SessionException sessionException) {
+            throw new CommandException(sessionException.getMessage());
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sessions.size(), filePath));
+    }
+
+    private List<Session> getSessionsToExport(Model model) throws CommandException {
+        List<Session> allSessions = model.getTaskmaster().getSessionList();
+        if (allSessions.isEmpty()) {
+            throw new CommandException(new NoSessionException().getMessage());
+        }
+        if (!sessionName.isPresent()) {
+            return new ArrayList<>(allSessions);
+        }
+
+        List<Session> namedSessions = allSessions.stream()
+                .filter(session -> session.getSessionName().equals(sessionName.get()))
+                .collect(Collectors.toList());
+        if (namedSessions.isEmpty()) {
+            throw new CommandException(MESSAGE_SESSION_NOT_FOUND);
+        }
+        return namedSessions;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filename.equals(((ExportCommand) other).filename)
+                && sessionName.equals(((ExportCommand) other).sessionName));
+    }
+}
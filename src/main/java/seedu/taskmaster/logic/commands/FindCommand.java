@@ -4,31 +4,33 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.taskmaster.commons.core.Messages;
 import seedu.taskmaster.model.Model;
-import seedu.taskmaster.model.student.NameContainsKeywordsPredicate;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 
 /**
- * Finds and lists all students in student list whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all students in student list whose name contains any of the argument keywords, or whose NUSNET
+ * ID, email or Telegram handle is one of them.
+ * Keyword matching is case insensitive, and a keyword ending with {@code *} matches by prefix.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find-students";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "the specified keywords (case-insensitive), or whose NUSNET ID, email or Telegram handle is one of "
+            + "them, and displays them as a list with index numbers. End a keyword with * to match by prefix.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final StudentMatchesKeywordsPredicate predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(StudentMatchesKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
+        model.findStudents(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
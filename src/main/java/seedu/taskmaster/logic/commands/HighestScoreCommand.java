@@ -0,0 +1,73 @@
+package seedu.taskmaster.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.taskmaster.commons.core.Messages;
+import seedu.taskmaster.logic.commands.exceptions.CommandException;
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.session.exceptions.SessionException;
+
+/**
+ * Shows the present students in the current session with the highest class participation scores.
+ */
+public class HighestScoreCommand extends Command {
+    public static final String COMMAND_WORD = "highest-score";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the student(s) with the highest "
+            + "class participation score, or the given number of students with the highest scores.\n"
+            + "Parameters: [COUNT] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SCORES = "\nHighest scores: %1$s";
+
+    private final Optional<Integer> count;
+
+    /**
+     * Creates a HighestScoreCommand to show every student tied for the highest score.
+     */
+    public HighestScoreCommand() {
+        this.count = Optional.empty();
+    }
+
+    /**
+     * Creates a HighestScoreCommand to show the {@code count} students with the highest scores.
+     */
+    public HighestScoreCommand(int count) {
+        assert count > 0;
+        this.count = Optional.of(count);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<StudentRecord> highestScoringRecords = null;
+        try {
+            if (count.isPresent()) {
+                highestScoringRecords = model.showHighestScoringStudents(count.get());
+            } else {
+                model.showHighestScoringStudents();
+            }
+        } catch (SessionException se) {
+            throw new CommandException(se.getMessage());
+        }
+
+        String message =
+                String.format(Messages.MESSAGE_RECORDS_LISTED_OVERVIEW, model.getFilteredStudentRecordList().size());
+        if (highestScoringRecords != null) {
+            message += String.format(MESSAGE_SCORES, LowestScoreCommand.describeScores(highestScoringRecords));
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HighestScoreCommand // instanceof handles nulls
+                && count.equals(((HighestScoreCommand) other).count));
+    }
+}
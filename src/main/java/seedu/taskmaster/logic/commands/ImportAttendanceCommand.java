@@ -0,0 +1,89 @@
+package seedu.taskmaster.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_ATTENDANCE_FILENAME;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.logic.commands.exceptions.CommandException;
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.session.exceptions.SessionException;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * Imports the attendance and participation scores in a CSV file, such as the log of a card scanner, into the
+ * current session.
+ */
+public class ImportAttendanceCommand extends StorageCommand {
+
+    public static final String COMMAND_WORD = "import-attendance";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Marks every student in an attendance file as present in the current session, and scores their "
+            + "participation if the file has a score for them. "
+            + "The file must be in the same folder as the data file.\n"
+            + "Parameters: "
+            + PREFIX_ATTENDANCE_FILENAME + "FILENAME (without the " + CSV_FILE_EXTENSION + " extension)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ATTENDANCE_FILENAME + "lecture1";
+
+    public static final String MESSAGE_SUCCESS = "Imported the attendance of %1$d students from %2$s";
+    public static final String MESSAGE_STUDENTS_NOT_FOUND =
+            "\n%1$d students in the file are not in this session and were skipped: %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The attendance file %1$s does not exist!";
+    public static final String MESSAGE_READ_ERROR = "Could not read the attendance file %1$s: %2$s";
+
+    private final String filename;
+
+    /**
+     * Creates an ImportAttendanceCommand to import the attendance in the file named {@code filename}.
+     */
+    public ImportAttendanceCommand(String filename) {
+        requireNonNull(filename);
+        this.filename = filename;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path filePath = getCsvFilePath(filename);
+        if (!storage.fileExists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        Map<NusnetId, EditStudentRecordDescriptor> edits;
+        try {
+            edits = storage.readAttendance(filePath);
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, dce.getCause().getMessage()), dce);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+
+        List<NusnetId> nusnetIdsNotInSession;
+        try {
+            nusnetIdsNotInSession = model.editStudentRecords(edits);
+        } catch (SessionException sessionException) {
+            throw new CommandException(sessionException.getMessage());
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, edits.size() - nusnetIdsNotInSession.size(), filePath);
+        if (!nusnetIdsNotInSession.isEmpty()) {
+            message += String.format(MESSAGE_STUDENTS_NOT_FOUND, nusnetIdsNotInSession.size(),
+                    nusnetIdsNotInSession.stream().map(NusnetId::toString).collect(Collectors.joining(", ")));
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportAttendanceCommand // instanceof handles nulls
+                && filename.equals(((ImportAttendanceCommand) other).filename));
+    }
+}
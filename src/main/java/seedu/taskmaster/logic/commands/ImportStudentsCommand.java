@@ -0,0 +1,93 @@
+package seedu.taskmaster.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_ATTENDANCE_FILENAME;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.taskmaster.logic.commands.exceptions.CommandException;
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.storage.ImportedStudents;
+
+/**
+ * Adds the students in a class list CSV file to the student list.
+ */
+public class ImportStudentsCommand extends StorageCommand {
+
+    public static final String COMMAND_WORD = "import-students";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds every student in a class list file to the student list. "
+            + "The file must be in the same folder as the data file.\n"
+            + "Parameters: "
+            + PREFIX_ATTENDANCE_FILENAME + "FILENAME (without the " + CSV_FILE_EXTENSION + " extension)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_ATTENDANCE_FILENAME + "classlist";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students from %2$s";
+    public static final String MESSAGE_DUPLICATE_STUDENTS =
+            "\n%1$d students already exist in the student list and were skipped: %2$s";
+    public static final String MESSAGE_INVALID_LINES = "\n%1$d lines are invalid and were skipped:\n%2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The class list file %1$s does not exist!";
+    public static final String MESSAGE_READ_ERROR = "Could not read the class list file %1$s: %2$s";
+
+    private final String filename;
+
+    /**
+     * Creates an ImportStudentsCommand to import the students in the file named {@code filename}.
+     */
+    public ImportStudentsCommand(String filename) {
+        requireNonNull(filename);
+        this.filename = filename;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path filePath = getCsvFilePath(filename);
+        if (!storage.fileExists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        ImportedStudents importedStudents;
+        try {
+            importedStudents = storage.readStudents(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+
+        List<Student> newStudents = new ArrayList<>();
+        List<String> duplicateNusnetIds = new ArrayList<>();
+        for (Student student : importedStudents.getStudents()) {
+            if (model.hasStudent(student)) {
+                duplicateNusnetIds.add(student.getNusnetId().toString());
+            } else {
+                newStudents.add(student);
+            }
+        }
+        if (!newStudents.isEmpty()) {
+            model.addStudents(newStudents);
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, newStudents.size(), filePath);
+        if (!duplicateNusnetIds.isEmpty()) {
+            message += String.format(MESSAGE_DUPLICATE_STUDENTS, duplicateNusnetIds.size(),
+                    String.join(", ", duplicateNusnetIds));
+        }
+        List<String> invalidLines = importedStudents.getInvalidLines();
+        if (!invalidLines.isEmpty()) {
+            message += String.format(MESSAGE_INVALID_LINES, invalidLines.size(), String.join("\n", invalidLines));
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportStudentsCommand // instanceof handles nulls
+                && filename.equals(((ImportStudentsCommand) other).filename));
+    }
+}
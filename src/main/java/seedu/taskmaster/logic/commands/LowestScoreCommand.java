@@ -2,31 +2,81 @@ package seedu.taskmaster.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import seedu.taskmaster.commons.core.Messages;
 import seedu.taskmaster.logic.commands.exceptions.CommandException;
 import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.record.StudentRecord;
 import seedu.taskmaster.model.session.exceptions.SessionException;
 
 public class LowestScoreCommand extends Command {
     public static final String COMMAND_WORD = "lowest-score";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the student(s) with the lowest "
-            + "class participation score.\n"
-            + "Example: " + COMMAND_WORD;
+            + "class participation score, or the given number of students with the lowest scores.\n"
+            + "Parameters: [COUNT] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
 
     public static final String MESSAGE_SUCCESS = "Listed %1$d students";
+    public static final String MESSAGE_SCORES = "\nLowest scores: %1$s";
+
+    private final Optional<Integer> count;
+
+    /**
+     * Creates a LowestScoreCommand to show every student tied for the lowest score.
+     */
+    public LowestScoreCommand() {
+        this.count = Optional.empty();
+    }
+
+    /**
+     * Creates a LowestScoreCommand to show the {@code count} students with the lowest scores.
+     */
+    public LowestScoreCommand(int count) {
+        assert count > 0;
+        this.count = Optional.of(count);
+    }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
+        List<StudentRecord> lowestScoringRecords = null;
         try {
-            model.showLowestScoringStudents();
+            if (count.isPresent()) {
+                lowestScoringRecords = model.showLowestScoringStudents(count.get());
+            } else {
+                model.showLowestScoringStudents();
+            }
         } catch (SessionException se) {
             throw new CommandException(se.getMessage());
         }
 
-        return new CommandResult(
-                String.format(Messages.MESSAGE_RECORDS_LISTED_OVERVIEW, model.getFilteredStudentRecordList().size()));
+        String message =
+                String.format(Messages.MESSAGE_RECORDS_LISTED_OVERVIEW, model.getFilteredStudentRecordList().size());
+        if (lowestScoringRecords != null) {
+            message += String.format(MESSAGE_SCORES, describeScores(lowestScoringRecords));
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Returns the name and score of the student of each record in {@code studentRecords}, in order.
+     */
+    static String describeScores(List<StudentRecord> studentRecords) {
+        return studentRecords.stream()
+                .map(studentRecord -> String.format("%1$s %2$.2f", studentRecord.getName(),
+                        studentRecord.getClassParticipation().getRawScore()))
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LowestScoreCommand // instanceof handles nulls
+                && count.equals(((LowestScoreCommand) other).count));
     }
 }
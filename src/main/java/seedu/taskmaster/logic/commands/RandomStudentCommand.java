@@ -6,24 +6,45 @@ import java.util.Random;
 
 import seedu.taskmaster.logic.commands.exceptions.CommandException;
 import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.record.SamplingMode;
 import seedu.taskmaster.model.session.exceptions.SessionException;
 
 public class RandomStudentCommand extends Command {
     public static final String COMMAND_WORD = "random-student";
+    public static final String MODE_NO_REPEAT = "no-repeat";
+    public static final String MODE_WEIGHTED = "weighted";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Gets a random student to call.\n"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [" + MODE_NO_REPEAT + " | " + MODE_WEIGHTED + "]\n"
+            + "- " + MODE_NO_REPEAT + ": calls on every present student once before anyone is called again.\n"
+            + "- " + MODE_WEIGHTED + ": calls on students with lower participation scores more often.\n"
+            + "Example: " + COMMAND_WORD + " " + MODE_NO_REPEAT;
 
     public static final String MESSAGE_SUCCESS = "Listed random student";
 
-    private Random random;
+    private final Random random;
+    private final SamplingMode mode;
 
     public RandomStudentCommand() {
-        this.random = new Random();
+        this(new Random());
     }
 
     public RandomStudentCommand(Random random) {
+        this(random, SamplingMode.UNIFORM);
+    }
+
+    public RandomStudentCommand(SamplingMode mode) {
+        this(new Random(), mode);
+    }
+
+    /**
+     * Creates a RandomStudentCommand that picks a student with {@code random} in the given {@code mode}.
+     */
+    public RandomStudentCommand(Random random, SamplingMode mode) {
+        requireNonNull(random);
+        requireNonNull(mode);
         this.random = random;
+        this.mode = mode;
     }
 
     @Override
@@ -31,11 +52,18 @@ public class RandomStudentCommand extends Command {
         requireNonNull(model);
 
         try {
-            model.showRandomStudent(random);
+            model.showRandomStudent(random, mode);
         } catch (SessionException se) {
             throw new CommandException(se.getMessage());
         }
 
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RandomStudentCommand // instanceof handles nulls
+                && mode.equals(((RandomStudentCommand) other).mode));
+    }
 }
@@ -0,0 +1,29 @@
+package seedu.taskmaster.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.taskmaster.logic.commands.exceptions.CommandException;
+import seedu.taskmaster.model.Model;
+
+/**
+ * Redoes the changes made by the last command that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoTaskmaster()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoTaskmaster();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.taskmaster.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.taskmaster.commons.core.Messages;
+import seedu.taskmaster.commons.core.index.Index;
+import seedu.taskmaster.logic.commands.exceptions.CommandException;
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.student.Student;
+
+/**
+ * Shows the attendance and participation across all sessions of a student identified using its displayed index
+ * from the student list.
+ */
+public class StatsStudentCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats-student";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the attendance and average participation score across all sessions of the student "
+            + "identified by the index number used in the displayed student list.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Statistics of %1$s (%2$s):\n"
+            + "Sessions: %3$d (present: %4$d, absent: %5$d, no record: %6$d)\n"
+            + "Attendance rate: %7$.0f%%\n"
+            + "Average participation score: %8$.2f";
+
+    private final Index targetIndex;
+
+    public StatsStudentCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Student> lastShownList = model.getFilteredStudentList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+        }
+
+        Student student = lastShownList.get(targetIndex.getZeroBased());
+        StudentStatistics statistics = model.getStudentStatistics(student.getNusnetId());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, student.getName(), student.getNusnetId(),
+                statistics.getSessionCount(), statistics.getCount(AttendanceType.PRESENT),
+                statistics.getCount(AttendanceType.ABSENT), statistics.getCount(AttendanceType.NO_RECORD),
+                statistics.getAttendanceRate() * 100, statistics.getAverageScore()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsStudentCommand // instanceof handles nulls
+                && targetIndex.equals(((StatsStudentCommand) other).targetIndex)); // state check
+    }
+}
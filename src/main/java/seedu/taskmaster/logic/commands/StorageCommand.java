@@ -1,11 +1,26 @@
 package seedu.taskmaster.logic.commands;
 
+import java.nio.file.Path;
+
 import seedu.taskmaster.storage.Storage;
 
+/**
+ * Represents a command that reads or writes files through the {@code Storage} in addition to changing the model.
+ * The storage is given to the command just before it is executed.
+ */
 public abstract class StorageCommand extends Command {
+    public static final String CSV_FILE_EXTENSION = ".csv";
+
     protected Storage storage;
 
     public void initialiseStorage(Storage storage) {
         this.storage = storage;
     }
+
+    /**
+     * Returns the path of the CSV file named {@code filename}, which is in the same folder as the data file.
+     */
+    protected Path getCsvFilePath(String filename) {
+        return storage.getTaskmasterFilePath().resolveSibling(filename + CSV_FILE_EXTENSION);
+    }
 }
@@ -0,0 +1,29 @@
+package seedu.taskmaster.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.taskmaster.logic.commands.exceptions.CommandException;
+import seedu.taskmaster.model.Model;
+
+/**
+ * Undoes the changes made by the last command that changed the data.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoTaskmaster()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoTaskmaster();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
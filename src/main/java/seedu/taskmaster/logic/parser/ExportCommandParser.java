@@ -0,0 +1,44 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_ATTENDANCE_FILENAME;
+import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_SESSION_NAME;
+
+import java.util.Optional;
+
+import seedu.taskmaster.logic.commands.ExportCommand;
+import seedu.taskmaster.logic.parser.exceptions.ParseException;
+import seedu.taskmaster.model.session.SessionName;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * ExportCommand and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_ATTENDANCE_FILENAME, PREFIX_SESSION_NAME);
+
+        if (!argMultimap.getValue(PREFIX_ATTENDANCE_FILENAME).isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        String filename = ParserUtil.parseFilename(argMultimap.getValue(PREFIX_ATTENDANCE_FILENAME).get());
+        if (filename.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Optional<SessionName> sessionName = Optional.empty();
+        if (argMultimap.getValue(PREFIX_SESSION_NAME).isPresent()) {
+            sessionName = Optional.of(ParserUtil.parseSessionName(argMultimap.getValue(PREFIX_SESSION_NAME).get()));
+        }
+        return new ExportCommand(filename, sessionName);
+    }
+
+}
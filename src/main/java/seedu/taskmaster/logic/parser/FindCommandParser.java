@@ -3,10 +3,12 @@ package seedu.taskmaster.logic.parser;
 import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import seedu.taskmaster.logic.commands.FindCommand;
 import seedu.taskmaster.logic.parser.exceptions.ParseException;
-import seedu.taskmaster.model.student.NameContainsKeywordsPredicate;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -19,15 +21,25 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform to the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        List<String> keywords = parseKeywords(args);
+        if (keywords.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        return new FindCommand(new StudentMatchesKeywordsPredicate(keywords));
+    }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Returns the keywords in the given {@code String} of arguments of a FindCommand, or an empty list if there are
+     * none, so that the keywords searched as the command is typed are those it searches once entered.
+     */
+    public static List<String> parseKeywords(String args) {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(trimmedArgs.split("\\s+"));
     }
 
 }
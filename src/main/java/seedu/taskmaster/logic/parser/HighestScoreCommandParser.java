@@ -0,0 +1,30 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.taskmaster.logic.commands.HighestScoreCommand;
+import seedu.taskmaster.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new HighestScoreCommand object
+ */
+public class HighestScoreCommandParser implements Parser<HighestScoreCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HighestScoreCommand
+     * and returns a HighestScoreCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public HighestScoreCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new HighestScoreCommand();
+        }
+        try {
+            return new HighestScoreCommand(ParserUtil.parseCount(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, HighestScoreCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_ATTENDANCE_FILENAME;
+
+import seedu.taskmaster.logic.commands.ImportAttendanceCommand;
+import seedu.taskmaster.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportAttendanceCommand object
+ */
+public class ImportAttendanceCommandParser implements Parser<ImportAttendanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * ImportAttendanceCommand and returns an ImportAttendanceCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ImportAttendanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ATTENDANCE_FILENAME);
+
+        if (!argMultimap.getValue(PREFIX_ATTENDANCE_FILENAME).isPresent()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportAttendanceCommand.MESSAGE_USAGE));
+        }
+
+        String filename = ParserUtil.parseFilename(argMultimap.getValue(PREFIX_ATTENDANCE_FILENAME).get());
+        if (filename.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportAttendanceCommand.MESSAGE_USAGE));
+        }
+        return new ImportAttendanceCommand(filename);
+    }
+
+}
@@ -0,0 +1,30 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.taskmaster.logic.commands.LowestScoreCommand;
+import seedu.taskmaster.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LowestScoreCommand object
+ */
+public class LowestScoreCommandParser implements Parser<LowestScoreCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LowestScoreCommand
+     * and returns a LowestScoreCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public LowestScoreCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new LowestScoreCommand();
+        }
+        try {
+            return new LowestScoreCommand(ParserUtil.parseCount(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, LowestScoreCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -10,6 +10,7 @@ import seedu.taskmaster.commons.exceptions.IllegalValueException;
 import seedu.taskmaster.logic.commands.ParticipationAllCommand;
 import seedu.taskmaster.logic.commands.ParticipationCommand;
 import seedu.taskmaster.logic.parser.exceptions.ParseException;
+import seedu.taskmaster.model.record.ClassParticipation;
 
 /**
  * Parses input arguments and creates a new ParticipationCommand object
@@ -42,7 +43,7 @@ public class ParticipationCommandParser implements Parser<ParticipationCommand>
             } else if (rawScore < 0) {
                 throw new IllegalValueException(
                         "Invalid input: Negative score. Score needs to be between 0 to 10 inclusive.");
-            } else if (rawScore > 10) {
+            } else if (rawScore > ClassParticipation.MAX_SCORE) {
                 throw new IllegalValueException(
                         "Invalid input: Score is greater than 10. Score needs to be between 0 to 10 inclusive.");
             }
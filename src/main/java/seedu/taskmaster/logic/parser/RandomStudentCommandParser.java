@@ -0,0 +1,33 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.taskmaster.logic.commands.RandomStudentCommand;
+import seedu.taskmaster.logic.parser.exceptions.ParseException;
+import seedu.taskmaster.model.record.SamplingMode;
+
+/**
+ * Parses input arguments and creates a new RandomStudentCommand object
+ */
+public class RandomStudentCommandParser implements Parser<RandomStudentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RandomStudentCommand
+     * and returns a RandomStudentCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public RandomStudentCommand parse(String args) throws ParseException {
+        switch (args.trim()) {
+        case "":
+            return new RandomStudentCommand(SamplingMode.UNIFORM);
+        case RandomStudentCommand.MODE_NO_REPEAT:
+            return new RandomStudentCommand(SamplingMode.NO_REPEAT);
+        case RandomStudentCommand.MODE_WEIGHTED:
+            return new RandomStudentCommand(SamplingMode.WEIGHTED_TO_LOW_SCORES);
+        default:
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RandomStudentCommand.MESSAGE_USAGE));
+        }
+    }
+
+}
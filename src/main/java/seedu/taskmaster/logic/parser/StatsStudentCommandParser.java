@@ -0,0 +1,29 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.taskmaster.commons.core.index.Index;
+import seedu.taskmaster.logic.commands.StatsStudentCommand;
+import seedu.taskmaster.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsStudentCommand object
+ */
+public class StatsStudentCommandParser implements Parser<StatsStudentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsStudentCommand
+     * and returns a StatsStudentCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public StatsStudentCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new StatsStudentCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsStudentCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
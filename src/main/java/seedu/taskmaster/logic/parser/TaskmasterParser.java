@@ -14,8 +14,12 @@ import seedu.taskmaster.logic.commands.DeleteCommand;
 import seedu.taskmaster.logic.commands.DeleteSessionCommand;
 import seedu.taskmaster.logic.commands.EditCommand;
 import seedu.taskmaster.logic.commands.ExitCommand;
+import seedu.taskmaster.logic.commands.ExportCommand;
 import seedu.taskmaster.logic.commands.FindCommand;
 import seedu.taskmaster.logic.commands.HelpCommand;
+import seedu.taskmaster.logic.commands.HighestScoreCommand;
+import seedu.taskmaster.logic.commands.ImportAttendanceCommand;
+import seedu.taskmaster.logic.commands.ImportStudentsCommand;
 import seedu.taskmaster.logic.commands.ListRecordsCommand;
 import seedu.taskmaster.logic.commands.ListStudentsCommand;
 import seedu.taskmaster.logic.commands.LowestScoreCommand;
@@ -23,6 +27,9 @@ import seedu.taskmaster.logic.commands.MarkCommand;
 import seedu.taskmaster.logic.commands.NewSessionCommand;
 import seedu.taskmaster.logic.commands.ParticipationCommand;
 import seedu.taskmaster.logic.commands.RandomStudentCommand;
+import seedu.taskmaster.logic.commands.RedoCommand;
+import seedu.taskmaster.logic.commands.StatsStudentCommand;
+import seedu.taskmaster.logic.commands.UndoCommand;
 import seedu.taskmaster.logic.parser.exceptions.ParseException;
 
 /**
@@ -86,10 +93,13 @@ public class TaskmasterParser {
             return new ParticipationCommandParser().parse(arguments);
 
         case LowestScoreCommand.COMMAND_WORD:
-            return new LowestScoreCommand();
+            return new LowestScoreCommandParser().parse(arguments);
+
+        case HighestScoreCommand.COMMAND_WORD:
+            return new HighestScoreCommandParser().parse(arguments);
 
         case RandomStudentCommand.COMMAND_WORD:
-            return new RandomStudentCommand();
+            return new RandomStudentCommandParser().parse(arguments);
 
         case NewSessionCommand.COMMAND_WORD:
             return new NewSessionCommandParser().parse(arguments);
@@ -100,6 +110,24 @@ public class TaskmasterParser {
         case DeleteSessionCommand.COMMAND_WORD:
             return new DeleteSessionCommandParser().parse(arguments);
 
+        case ImportAttendanceCommand.COMMAND_WORD:
+            return new ImportAttendanceCommandParser().parse(arguments);
+
+        case ImportStudentsCommand.COMMAND_WORD:
+            return new ImportStudentsCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case StatsStudentCommand.COMMAND_WORD:
+            return new StatsStudentCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
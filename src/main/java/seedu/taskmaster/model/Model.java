@@ -2,6 +2,8 @@ package seedu.taskmaster.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.function.Predicate;
 
@@ -9,11 +11,17 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.taskmaster.commons.core.GuiSettings;
 import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.Roster;
+import seedu.taskmaster.model.record.SamplingMode;
 import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
 import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 
 /**
  * The API of the Model component.
@@ -70,6 +78,59 @@ public interface Model {
     /** Returns the Taskmaster */
     ReadOnlyTaskmaster getTaskmaster();
 
+    /**
+     * Records that the current state of the Taskmaster has been written to storage.
+     */
+    void markAsSaved();
+
+    /**
+     * Returns the changes made to the Taskmaster since they were last journaled or saved, or
+     * {@code Optional.empty()} if some of them can only be recorded by saving the Taskmaster.
+     */
+    Optional<List<TaskmasterChange>> getUnjournaledChanges();
+
+    /**
+     * Records that the changes returned by {@link #getUnjournaledChanges()} have been written to the journal.
+     */
+    void markAsJournaled();
+
+    /**
+     * Drops the students no longer referred to from the student table of the Taskmaster, once enough of them have
+     * been added. Must not be called while a copy of the Taskmaster is being saved in the background.
+     */
+    void compactStudentTable();
+
+    /**
+     * Returns the roster of {@code students}, against which the records of a new session of those students are
+     * synthesised. Sessions created from the same students share a roster.
+     */
+    Roster getRoster(List<Student> students);
+
+    /**
+     * Returns true if there is a command whose changes to the Taskmaster can be undone.
+     */
+    boolean canUndoTaskmaster();
+
+    /**
+     * Returns true if there is an undone command whose changes to the Taskmaster can be redone.
+     */
+    boolean canRedoTaskmaster();
+
+    /**
+     * Undoes the changes made to the Taskmaster by the latest command that has not been undone.
+     */
+    void undoTaskmaster();
+
+    /**
+     * Redoes the changes made to the Taskmaster by the latest command that has been undone.
+     */
+    void redoTaskmaster();
+
+    /**
+     * Ends the changes made to the Taskmaster by the current command, so that they are undone together.
+     */
+    void commitTaskmaster();
+
     /**
      * Replaces the contents of the session list with {@code sessions}.
      * {@code sessions} must not contain duplicate sessions.
@@ -90,6 +151,9 @@ public interface Model {
 
     /**
      * Changes the currentSession to a Session with that name.
+     * The student records of the session are loaded from storage if they have not been loaded yet.
+     *
+     * @throws SessionLoadException if the student records of the session cannot be loaded.
      */
     void changeSession(SessionName sessionName);
 
@@ -125,6 +189,13 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given students.
+     * None of the students may already exist in the student list, and {@code students} must not contain duplicate
+     * students.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the student list.
@@ -148,6 +219,13 @@ public interface Model {
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filter of the filtered student list to show the students matching {@code predicate}, found through
+     * the search index of the student list.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findStudents(StudentMatchesKeywordsPredicate predicate);
+
     /**
      * Updates the filter of the filtered session list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -165,6 +243,27 @@ public interface Model {
      */
     void showLowestScoringStudents();
 
+    /**
+     * Updates the filter of the filtered student list to show the students with the highest score.
+     */
+    void showHighestScoringStudents();
+
+    /**
+     * Updates the filter of the filtered student list to show the {@code count} present students with the lowest
+     * scores.
+     *
+     * @return the records of those students, from the lowest score up.
+     */
+    List<StudentRecord> showLowestScoringStudents(int count);
+
+    /**
+     * Updates the filter of the filtered student list to show the {@code count} present students with the highest
+     * scores.
+     *
+     * @return the records of those students, from the highest score down.
+     */
+    List<StudentRecord> showHighestScoringStudents(int count);
+
     /**
      * Marks the attendance of the given student record {@code target} with the given {@code attendanceType}.
      * The student must exist in the student list.
@@ -193,9 +292,23 @@ public interface Model {
     void scoreAllStudents(double score);
 
     /**
-     * Updates the filter of the filtered student list to show a random student.
+     * Edits the record of each student identified by a NUSNET ID in {@code edits} in the current session with the
+     * details in the descriptor it is mapped to. Students without a record in the current session are skipped.
+     *
+     * @return the NUSNET IDs in {@code edits} without a record in the current session.
+     */
+    List<NusnetId> editStudentRecords(Map<NusnetId, EditStudentRecordDescriptor> edits);
+
+    /**
+     * Returns the attendance and participation of the student with {@code nusnetId} over all sessions.
+     */
+    StudentStatistics getStudentStatistics(NusnetId nusnetId);
+
+    /**
+     * Updates the filter of the filtered student list to show a present student picked at random with
+     * {@code random} in the given {@code mode}.
      */
-    void showRandomStudent(Random random);
+    void showRandomStudent(Random random, SamplingMode mode);
 
     /**
      * Returns the currently displayed session.
@@ -5,9 +5,12 @@ import static seedu.taskmaster.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
@@ -15,16 +18,23 @@ import javafx.collections.transformation.FilteredList;
 import seedu.taskmaster.commons.core.GuiSettings;
 import seedu.taskmaster.commons.core.LogsCenter;
 import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.Roster;
+import seedu.taskmaster.model.record.SamplingMode;
 import seedu.taskmaster.model.record.ScoreEqualsPredicate;
 import seedu.taskmaster.model.record.StudentRecord;
 import seedu.taskmaster.model.record.StudentRecordEqualsPredicate;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.record.StudentRecordOfStudentsPredicate;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionName;
 import seedu.taskmaster.model.session.exceptions.NoPresentInSessionException;
 import seedu.taskmaster.model.session.exceptions.NoSessionException;
 import seedu.taskmaster.model.session.exceptions.NoSessionSelectedException;
+import seedu.taskmaster.model.student.FilteredStudentList;
 import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
 
 /**
@@ -32,37 +42,34 @@ import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final long BYTES_PER_KILOBYTE = 1024;
 
     private final Taskmaster taskmaster;
     private final UserPrefs userPrefs;
-    private final FilteredList<Student> filteredStudents;
+    private final FilteredStudentList filteredStudents;
     private final FilteredList<Session> filteredSessions;
     private FilteredList<StudentRecord> filteredStudentRecords;
     private Predicate<StudentRecord> studentRecordPredicate;
 
     /**
-     * Initializes a ModelManager with the given Taskmaster, SessionList, and userPrefs.
+     * Initializes a ModelManager with the given Taskmaster, including its sessions, and userPrefs.
      */
-    public ModelManager(ReadOnlyTaskmaster taskmaster, List<Session> sessionList, ReadOnlyUserPrefs userPrefs) {
+    public ModelManager(ReadOnlyTaskmaster taskmaster, ReadOnlyUserPrefs userPrefs) {
         super();
         requireAllNonNull(taskmaster, userPrefs);
 
         logger.fine("Initializing with student list: " + taskmaster + " and user prefs " + userPrefs);
 
         this.taskmaster = new Taskmaster(taskmaster);
-        this.taskmaster.setSessions(sessionList);
 
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredStudents = new FilteredList<>(this.taskmaster.getStudentList());
+        this.taskmaster.setHistoryBudget(this.userPrefs.getUndoHistoryKilobytes() * BYTES_PER_KILOBYTE);
+        filteredStudents = this.taskmaster.createFilteredStudentList();
         filteredSessions = new FilteredList<>(this.taskmaster.getSessionList());
         filteredStudentRecords = null;
         studentRecordPredicate = PREDICATE_SHOW_ALL_STUDENT_RECORDS;
     }
 
-    public ModelManager(ReadOnlyTaskmaster taskmaster, ReadOnlyUserPrefs userPrefs) {
-        this(taskmaster, taskmaster.getSessionList(), userPrefs);
-    }
-
     public ModelManager() {
         this(new Taskmaster(), new UserPrefs());
     }
@@ -73,6 +80,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        taskmaster.setHistoryBudget(this.userPrefs.getUndoHistoryKilobytes() * BYTES_PER_KILOBYTE);
     }
 
     @Override
@@ -114,6 +122,75 @@ public class ModelManager implements Model {
         return taskmaster;
     }
 
+    @Override
+    public void markAsSaved() {
+        taskmaster.markAsSaved();
+    }
+
+    @Override
+    public Optional<List<TaskmasterChange>> getUnjournaledChanges() {
+        return taskmaster.getUnjournaledChanges();
+    }
+
+    @Override
+    public void markAsJournaled() {
+        taskmaster.markAsJournaled();
+    }
+
+    @Override
+    public void compactStudentTable() {
+        taskmaster.compactStudentTable();
+    }
+
+    @Override
+    public Roster getRoster(List<Student> students) {
+        requireNonNull(students);
+        return taskmaster.getRoster(students);
+    }
+
+    @Override
+    public boolean canUndoTaskmaster() {
+        return taskmaster.canUndo();
+    }
+
+    @Override
+    public boolean canRedoTaskmaster() {
+        return taskmaster.canRedo();
+    }
+
+    @Override
+    public void undoTaskmaster() {
+        taskmaster.undo();
+        showAllAfterUndoOrRedo();
+    }
+
+    @Override
+    public void redoTaskmaster() {
+        taskmaster.redo();
+        showAllAfterUndoOrRedo();
+    }
+
+    @Override
+    public void commitTaskmaster() {
+        taskmaster.commitHistory();
+    }
+
+    /**
+     * Clears the filters of the lists shown, as the changes that were undone or redone may not match them.
+     */
+    private void showAllAfterUndoOrRedo() {
+        filteredSessions.setPredicate(PREDICATE_SHOW_ALL_SESSIONS);
+        if (!taskmaster.inSession()) {
+            filteredStudentRecords = null;
+            filteredStudents.setPredicate(PREDICATE_SHOW_ALL_STUDENTS);
+            return;
+        }
+        studentRecordPredicate = PREDICATE_SHOW_ALL_STUDENT_RECORDS;
+        if (filteredStudentRecords != null) {
+            filteredStudentRecords.setPredicate(studentRecordPredicate);
+        }
+    }
+
     @Override
     public void setSessions(List<Session> sessions) {
         taskmaster.setSessions(sessions);
@@ -150,8 +227,10 @@ public class ModelManager implements Model {
              */
             assert taskmaster.hasSession(sessionName);
             // Update filteredStudentRecords before Session is changed.
+            // The records are loaded first, so that nothing is changed if they cannot be loaded.
+            ObservableList<StudentRecord> studentRecords = taskmaster.getSession(sessionName).getStudentRecords();
             studentRecordPredicate = PREDICATE_SHOW_ALL_STUDENT_RECORDS;
-            filteredStudentRecords = new FilteredList<>(taskmaster.getSession(sessionName).getStudentRecords());
+            filteredStudentRecords = new FilteredList<>(studentRecords);
 
             taskmaster.changeSession(sessionName);
         }
@@ -195,6 +274,13 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        requireNonNull(students);
+        taskmaster.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
@@ -237,11 +323,25 @@ public class ModelManager implements Model {
         updateFilteredStudentRecordList(PREDICATE_SHOW_ALL_STUDENT_RECORDS);
     }
 
+    @Override
+    public List<NusnetId> editStudentRecords(Map<NusnetId, EditStudentRecordDescriptor> edits) {
+        requireNonNull(edits);
+        List<NusnetId> nusnetIdsNotInSession = taskmaster.editStudentRecords(edits);
+        updateFilteredStudentRecordList(PREDICATE_SHOW_ALL_STUDENT_RECORDS);
+        return nusnetIdsNotInSession;
+    }
+
+    @Override
+    public StudentStatistics getStudentStatistics(NusnetId nusnetId) {
+        requireNonNull(nusnetId);
+        return taskmaster.getStudentStatistics(nusnetId);
+    }
+
     //=========== Filtered Student List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Student} backed by the internal list of
-     * {@code versionedTaskmaster}
+     * {@code taskmaster}
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
@@ -255,9 +355,16 @@ public class ModelManager implements Model {
         taskmaster.showStudentList();
     }
 
+    @Override
+    public void findStudents(StudentMatchesKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredStudents.setSearch(predicate);
+        taskmaster.showStudentList();
+    }
+
     /**
-     * Returns an unmodifiable view of the list of {@code StudentRecord} backed by the internal list of
-     * {@code versionedTaskmaster}
+     * Returns an unmodifiable view of the list of {@code StudentRecord} backed by the student records of the
+     * current session of {@code taskmaster}
      */
     @Override
     public ObservableList<StudentRecord> getFilteredStudentRecordList() {
@@ -301,16 +408,15 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void showRandomStudent(Random random) {
-        FilteredList<StudentRecord> temp = new FilteredList<>(taskmaster.getStudentRecordList());
-        temp.setPredicate(PREDICATE_SHOW_ALL_PRESENT_STUDENT_RECORDS);
+    public void showRandomStudent(Random random, SamplingMode mode) {
+        requireAllNonNull(random, mode);
+        StudentRecord randomRecord;
         try {
-            int index = random.nextInt(temp.size());
-            StudentRecord randomRecord = temp.get(index);
-            updateFilteredStudentRecordList(new StudentRecordEqualsPredicate(randomRecord));
-        } catch (IllegalArgumentException e) {
+            randomRecord = taskmaster.getRandomPresentRecord(random, mode);
+        } catch (StudentNotFoundException snfe) {
             throw new NoPresentInSessionException();
         }
+        updateFilteredStudentRecordList(new StudentRecordEqualsPredicate(randomRecord));
     }
 
     @Override
@@ -327,6 +433,43 @@ public class ModelManager implements Model {
         updateFilteredStudentRecordList(studentRecordPredicate);
     }
 
+    @Override
+    public void showHighestScoringStudents() {
+        double highestScore;
+        try {
+            highestScore = taskmaster.getHighestScore();
+        } catch (StudentNotFoundException snfe) {
+            throw new NoPresentInSessionException();
+        }
+
+        updateFilteredStudentRecordList(new ScoreEqualsPredicate(highestScore));
+    }
+
+    @Override
+    public List<StudentRecord> showLowestScoringStudents(int count) {
+        return showStudentRecords(taskmaster.getLowestScoringRecords(count));
+    }
+
+    @Override
+    public List<StudentRecord> showHighestScoringStudents(int count) {
+        return showStudentRecords(taskmaster.getHighestScoringRecords(count));
+    }
+
+    /**
+     * Updates the filter of the filtered student list to show only {@code studentRecords}.
+     *
+     * @throws NoPresentInSessionException if {@code studentRecords} is empty, as no student is present.
+     */
+    private List<StudentRecord> showStudentRecords(List<StudentRecord> studentRecords) {
+        if (studentRecords.isEmpty()) {
+            throw new NoPresentInSessionException();
+        }
+        updateFilteredStudentRecordList(new StudentRecordOfStudentsPredicate(studentRecords.stream()
+                .map(StudentRecord::getNusnetId)
+                .collect(Collectors.toSet())));
+        return studentRecords;
+    }
+
     //=========== Current Session Accessor =================================================================
     @Override
     public SimpleObjectProperty<Session> getCurrentSession() {
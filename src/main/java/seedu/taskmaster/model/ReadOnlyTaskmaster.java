@@ -1,8 +1,13 @@
 package seedu.taskmaster.model;
 
+import java.util.Map;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
 
 
@@ -26,4 +31,20 @@ public interface ReadOnlyTaskmaster {
      */
     ObservableList<StudentRecord> getStudentRecordList();
 
+    /**
+     * Returns true if the student list has changed since it was last saved.
+     */
+    boolean isStudentListModified();
+
+    /**
+     * Returns true if the session list, or the records of any session in it, has changed since it was last saved.
+     */
+    boolean isSessionListModified();
+
+    /**
+     * Returns the attendance and participation of every student over all sessions, keyed by their NUSNET IDs, or
+     * {@code Optional.empty()} if they are not known for every session.
+     */
+    Optional<Map<NusnetId, StudentStatistics>> getStatisticsOfEveryStudent();
+
 }
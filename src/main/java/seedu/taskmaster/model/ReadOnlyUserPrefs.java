@@ -3,6 +3,7 @@ package seedu.taskmaster.model;
 import java.nio.file.Path;
 
 import seedu.taskmaster.commons.core.GuiSettings;
+import seedu.taskmaster.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -14,4 +15,8 @@ public interface ReadOnlyUserPrefs {
     Path getTaskmasterFilePath();
 
     Path getSessionListFilePath();
+
+    StorageFormat getStorageFormat();
+
+    long getUndoHistoryKilobytes();
 }
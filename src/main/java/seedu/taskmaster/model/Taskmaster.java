@@ -3,18 +3,32 @@ package seedu.taskmaster.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.Roster;
+import seedu.taskmaster.model.record.SamplingMode;
 import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.record.StudentTable;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionList;
 import seedu.taskmaster.model.session.SessionListManager;
 import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.StudentStatisticsStore;
 import seedu.taskmaster.model.session.exceptions.NoSessionException;
 import seedu.taskmaster.model.session.exceptions.NoSessionSelectedException;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+import seedu.taskmaster.model.student.FilteredStudentList;
 import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
 import seedu.taskmaster.model.student.UniqueStudentList;
@@ -25,9 +39,22 @@ import seedu.taskmaster.model.student.UniqueStudentList;
  */
 public class Taskmaster implements ReadOnlyTaskmaster {
 
+    /** How many times its size after it was last compacted the student table may grow to before it is compacted. */
+    private static final int TABLE_GROWTH_BEFORE_COMPACTION = 2;
+
     protected SimpleObjectProperty<Session> currentSession;
     private final UniqueStudentList students;
     private final SessionList sessions;
+    private final StudentStatisticsStore studentStatistics = new StudentStatisticsStore();
+    private boolean isStudentListModified;
+    private final List<TaskmasterChange> unjournaledChanges = new ArrayList<>();
+    private boolean hasUnjournalableChanges;
+    private final TaskmasterHistory history = new TaskmasterHistory();
+    private StudentTable studentTable = new StudentTable();
+    /** The size of the student table when it was last compacted. */
+    private int compactedTableSize;
+    /** The roster of the students the latest session was created from, or null if none has been. */
+    private Roster latestRoster;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -63,7 +90,16 @@ public class Taskmaster implements ReadOnlyTaskmaster {
      */
     public void setStudents(List<Student> students) {
         currentSession.setValue(null);
+        List<Student> previousStudents = new ArrayList<>(this.students.asUnmodifiableObservableList());
         this.students.setStudents(students);
+        addToStudentTable(students);
+        isStudentListModified = true;
+        hasUnjournalableChanges = true;
+
+        List<Student> replacement = new ArrayList<>(students);
+        history.record(taskmaster -> taskmaster.setStudents(previousStudents),
+                taskmaster -> taskmaster.setStudents(replacement),
+                TaskmasterHistory.STUDENT_BYTES * (previousStudents.size() + replacement.size()));
     }
 
 
@@ -72,7 +108,38 @@ public class Taskmaster implements ReadOnlyTaskmaster {
      * {@code sessions} must not contain duplicate sessions.
      */
     public void setSessions(List<Session> sessions) {
+        setSessions(sessions, Optional.empty());
+    }
+
+    /**
+     * Replaces the contents of the session list with the sessions in {@code sessionList}, such as a session list read
+     * from storage. If statistics were saved with it, the sessions are not read to count the statistics of each
+     * student.
+     */
+    public void setSessionList(SessionList sessionList) {
+        setSessions(sessionList.asUnmodifiableObservableList(), sessionList.getSavedStatistics());
+    }
+
+    /**
+     * Replaces the contents of the session list with {@code sessions}, which must not contain duplicate sessions.
+     * If {@code savedStatistics} is present, it must be the statistics of every student over {@code sessions}.
+     */
+    private void setSessions(List<Session> sessions, Optional<Map<NusnetId, StudentStatistics>> savedStatistics) {
+        List<Session> previousSessions = new ArrayList<>(this.sessions.asUnmodifiableObservableList());
         this.sessions.setSessions(sessions);
+        sessions.forEach(session -> session.useStudentTable(studentTable));
+        studentStatistics.setSessions(sessions, savedStatistics);
+        hasUnjournalableChanges = true;
+
+        if (history.isRecording() && !previousSessions.stream().allMatch(Taskmaster::loadStudentRecords)) {
+            // The sessions could not be restored once their records files are deleted
+            history.clear();
+            return;
+        }
+        List<Session> replacement = new ArrayList<>(sessions);
+        history.record(taskmaster -> taskmaster.setSessions(previousSessions),
+                taskmaster -> taskmaster.setSessions(replacement),
+                estimateBytes(previousSessions) + estimateBytes(replacement));
     }
 
     /**
@@ -81,7 +148,7 @@ public class Taskmaster implements ReadOnlyTaskmaster {
     public void resetData(ReadOnlyTaskmaster newData) {
         requireNonNull(newData);
         setStudents(newData.getStudentList());
-        setSessions(newData.getSessionList());
+        setSessions(newData.getSessionList(), newData.getStatisticsOfEveryStudent());
         currentSession.setValue(null);
     }
 
@@ -93,7 +160,19 @@ public class Taskmaster implements ReadOnlyTaskmaster {
      */
     public void deleteSession(SessionName sessionName) {
         currentSession.setValue(null);
-        sessions.delete(sessionName);
+        Session deletedSession = sessions.get(sessionName);
+        int index = sessions.delete(sessionName);
+        studentStatistics.removeSession(sessionName);
+        unjournaledChanges.add(TaskmasterChange.deleteSession(sessionName));
+
+        if (history.isRecording() && !loadStudentRecords(deletedSession)) {
+            // The session could not be restored once its records file is deleted
+            history.clear();
+            return;
+        }
+        history.record(taskmaster -> taskmaster.insertSession(index, deletedSession),
+                taskmaster -> taskmaster.deleteSession(sessionName),
+                estimateBytes(Collections.singletonList(deletedSession)));
     }
 
     /**
@@ -102,6 +181,45 @@ public class Taskmaster implements ReadOnlyTaskmaster {
      */
     public void addSession(Session session) {
         sessions.add(session);
+        session.useStudentTable(studentTable);
+        studentStatistics.addSession(session);
+        journalAddedSession(session);
+
+        SessionName sessionName = session.getSessionName();
+        history.record(taskmaster -> taskmaster.deleteSession(sessionName),
+                taskmaster -> taskmaster.addSession(session), TaskmasterHistory.SESSION_BYTES);
+    }
+
+    /**
+     * Inserts a deleted {@code session} back into the session list at {@code index}.
+     */
+    private void insertSession(int index, Session session) {
+        if (index != sessions.getNumberOfSessions()) {
+            // Changes in the journal can only add a session to the end of the list
+            hasUnjournalableChanges = true;
+        }
+        sessions.add(index, session);
+        session.useStudentTable(studentTable);
+        studentStatistics.addSession(session);
+        journalAddedSession(session);
+    }
+
+    /**
+     * Records the addition of {@code session} as a change to journal, if the session can be made again from the
+     * student list, that is, if it has an unmarked record of each student in the student list and of no one else.
+     * The session list is otherwise saved in full in the next snapshot.
+     */
+    private void journalAddedSession(Session session) {
+        boolean isUnmarkedSessionOfStudentList = session.isLoaded()
+                && session.getRoster().filter(roster -> roster.hasStudents(students.asUnmodifiableObservableList()))
+                        .isPresent()
+                && session.getMarkedRecords().isEmpty();
+        if (isUnmarkedSessionOfStudentList) {
+            unjournaledChanges.add(TaskmasterChange.addSession(session.getSessionName(),
+                    session.getSessionDateTime()));
+        } else {
+            hasUnjournalableChanges = true;
+        }
     }
 
     /**
@@ -153,6 +271,21 @@ public class Taskmaster implements ReadOnlyTaskmaster {
         return students.contains(student);
     }
 
+    /**
+     * Returns the student in the student list with {@code nusnetId}, or an empty {@code Optional} if there is none.
+     */
+    Optional<Student> getStudentWithNusnetId(NusnetId nusnetId) {
+        return students.get(nusnetId);
+    }
+
+    /**
+     * Returns a new view of the students shown from the student list, which finds the students matching a search
+     * through the search index of the student list.
+     */
+    public FilteredStudentList createFilteredStudentList() {
+        return new FilteredStudentList(students);
+    }
+
     /**
      * Adds a student to the student list.
      * The student must not already exist in the student list.
@@ -160,6 +293,41 @@ public class Taskmaster implements ReadOnlyTaskmaster {
     public void addStudent(Student student) {
         currentSession.setValue(null);
         students.add(student);
+        addToStudentTable(Collections.singletonList(student));
+        isStudentListModified = true;
+        unjournaledChanges.add(TaskmasterChange.addStudent(student));
+
+        history.record(taskmaster -> taskmaster.removeStudent(student),
+                taskmaster -> taskmaster.addStudent(student), TaskmasterHistory.STUDENT_BYTES);
+    }
+
+    /**
+     * Adds {@code students} to the student list, in a single change to the list.
+     * None of the students may already exist in the student list, and {@code students} must not contain duplicate
+     * students.
+     */
+    public void addStudents(List<Student> students) {
+        currentSession.setValue(null);
+        this.students.addAll(students);
+        addToStudentTable(students);
+        isStudentListModified = true;
+        for (Student student : students) {
+            unjournaledChanges.add(TaskmasterChange.addStudent(student));
+        }
+
+        List<Student> addedStudents = new ArrayList<>(students);
+        history.record(taskmaster -> taskmaster.removeLastStudents(addedStudents),
+                taskmaster -> taskmaster.addStudents(addedStudents),
+                TaskmasterHistory.STUDENT_BYTES * addedStudents.size());
+    }
+
+    /**
+     * Removes {@code addedStudents}, which were added to the end of the student list, from the end of the list.
+     */
+    private void removeLastStudents(List<Student> addedStudents) {
+        for (int i = addedStudents.size() - 1; i >= 0; i--) {
+            removeStudent(addedStudents.get(i));
+        }
     }
 
     /**
@@ -172,6 +340,60 @@ public class Taskmaster implements ReadOnlyTaskmaster {
         requireNonNull(editedStudent);
         currentSession.setValue(null);
         students.setStudent(target, editedStudent);
+        addToStudentTable(Collections.singletonList(editedStudent));
+        isStudentListModified = true;
+        unjournaledChanges.add(TaskmasterChange.editStudent(target.getNusnetId(), editedStudent));
+
+        history.record(taskmaster -> taskmaster.setStudent(editedStudent, target),
+                taskmaster -> taskmaster.setStudent(target, editedStudent), 2 * TaskmasterHistory.STUDENT_BYTES);
+    }
+
+    /**
+     * Adds {@code students} to the student table, so that the records of each student in every session share the
+     * name and NUSNET ID objects of the student in the student list.
+     */
+    private void addToStudentTable(List<Student> students) {
+        for (Student student : students) {
+            studentTable.add(student.getName(), student.getNusnetId());
+        }
+    }
+
+    /**
+     * Returns the roster of {@code students} in the student table, against which the unmarked records of a new
+     * session of those students are synthesised. The roster returned last is returned again while sessions are
+     * created from the same students, so that those sessions share it.
+     */
+    public Roster getRoster(List<Student> students) {
+        requireNonNull(students);
+        if (latestRoster == null || !latestRoster.hasStudents(students)) {
+            latestRoster = Roster.of(students, studentTable);
+        }
+        return latestRoster;
+    }
+
+    StudentTable getStudentTable() {
+        return studentTable;
+    }
+
+    /**
+     * Moves the students and the loaded records of the sessions into a new student table, once the table has grown
+     * to more than {@code TABLE_GROWTH_BEFORE_COMPACTION} times the size it had after it was last compacted. Students
+     * who were renamed or removed, and are no longer referred to by any session, are then dropped from the table.
+     * As the records are moved in place, no copy of the sessions may be being saved in the background.
+     */
+    public void compactStudentTable() {
+        int sizeBeforeGrowth = Math.max(compactedTableSize, students.asUnmodifiableObservableList().size());
+        if (studentTable.size() <= TABLE_GROWTH_BEFORE_COMPACTION * sizeBeforeGrowth) {
+            return;
+        }
+
+        studentTable = new StudentTable();
+        addToStudentTable(students.asUnmodifiableObservableList());
+        sessions.asUnmodifiableObservableList().forEach(session -> session.useStudentTable(studentTable));
+        if (latestRoster != null) {
+            latestRoster = latestRoster.in(studentTable);
+        }
+        compactedTableSize = studentTable.size();
     }
 
     /**
@@ -180,7 +402,27 @@ public class Taskmaster implements ReadOnlyTaskmaster {
      */
     public void removeStudent(Student key) {
         currentSession.setValue(null);
-        students.remove(key);
+        int index = students.remove(key);
+        isStudentListModified = true;
+        unjournaledChanges.add(TaskmasterChange.deleteStudent(key.getNusnetId()));
+
+        history.record(taskmaster -> taskmaster.insertStudent(index, key),
+                taskmaster -> taskmaster.removeStudent(key), TaskmasterHistory.STUDENT_BYTES);
+    }
+
+    /**
+     * Inserts a removed {@code student} back into the student list at {@code index}.
+     */
+    private void insertStudent(int index, Student student) {
+        currentSession.setValue(null);
+        if (index != students.asUnmodifiableObservableList().size()) {
+            // Changes in the journal can only add a student to the end of the list
+            hasUnjournalableChanges = true;
+        }
+        students.add(index, student);
+        addToStudentTable(Collections.singletonList(student));
+        isStudentListModified = true;
+        unjournaledChanges.add(TaskmasterChange.addStudent(student));
     }
 
     /**
@@ -202,7 +444,13 @@ public class Taskmaster implements ReadOnlyTaskmaster {
             throw new NoSessionSelectedException();
         }
 
-        currentSession.get().markStudentAttendance(target.getNusnetId(), attendanceType);
+        Session session = currentSession.get();
+        List<StudentRecord> previousRecords = getRecordsToBeEdited(session,
+                Collections.singletonList(target.getNusnetId()));
+        session.markStudentAttendance(target.getNusnetId(), attendanceType);
+        unjournaledChanges.add(
+                TaskmasterChange.markStudent(currentSessionName(), target.getNusnetId(), attendanceType));
+        recordEditsOfStudentRecords(session, previousRecords);
     }
 
     /**
@@ -225,7 +473,11 @@ public class Taskmaster implements ReadOnlyTaskmaster {
             throw new NoSessionSelectedException();
         }
 
-        currentSession.get().markStudentAttendance(nusnetId, attendanceType);
+        Session session = currentSession.get();
+        List<StudentRecord> previousRecords = getRecordsToBeEdited(session, Collections.singletonList(nusnetId));
+        session.markStudentAttendance(nusnetId, attendanceType);
+        unjournaledChanges.add(TaskmasterChange.markStudent(currentSessionName(), nusnetId, attendanceType));
+        recordEditsOfStudentRecords(session, previousRecords);
     }
 
     /**
@@ -246,7 +498,11 @@ public class Taskmaster implements ReadOnlyTaskmaster {
             throw new NoSessionSelectedException();
         }
 
-        currentSession.get().markAllStudentAttendances(attendanceType);
+        Session session = currentSession.get();
+        List<StudentRecord> previousRecords = getAllRecordsToBeEdited(session);
+        session.markAllStudentAttendances(attendanceType);
+        unjournaledChanges.add(TaskmasterChange.markAllStudents(currentSessionName(), attendanceType));
+        recordEditsOfStudentRecords(session, previousRecords);
     }
 
     /**
@@ -265,7 +521,12 @@ public class Taskmaster implements ReadOnlyTaskmaster {
             throw new NoSessionSelectedException();
         }
 
-        currentSession.get().scoreStudentParticipation(target.getNusnetId(), score);
+        Session session = currentSession.get();
+        List<StudentRecord> previousRecords = getRecordsToBeEdited(session,
+                Collections.singletonList(target.getNusnetId()));
+        session.scoreStudentParticipation(target.getNusnetId(), score);
+        unjournaledChanges.add(TaskmasterChange.scoreStudent(currentSessionName(), target.getNusnetId(), score));
+        recordEditsOfStudentRecords(session, previousRecords);
     }
 
     /**
@@ -285,7 +546,11 @@ public class Taskmaster implements ReadOnlyTaskmaster {
             throw new NoSessionSelectedException();
         }
 
-        currentSession.get().scoreStudentParticipation(nusnetId, score);
+        Session session = currentSession.get();
+        List<StudentRecord> previousRecords = getRecordsToBeEdited(session, Collections.singletonList(nusnetId));
+        session.scoreStudentParticipation(nusnetId, score);
+        unjournaledChanges.add(TaskmasterChange.scoreStudent(currentSessionName(), nusnetId, score));
+        recordEditsOfStudentRecords(session, previousRecords);
     }
 
     /**
@@ -303,20 +568,318 @@ public class Taskmaster implements ReadOnlyTaskmaster {
             throw new NoSessionSelectedException();
         }
 
-        currentSession.get().scoreAllParticipation(score);
+        Session session = currentSession.get();
+        List<StudentRecord> previousRecords = getAllRecordsToBeEdited(session);
+        session.scoreAllParticipation(score);
+        unjournaledChanges.add(TaskmasterChange.scoreAllStudents(currentSessionName(), score));
+        recordEditsOfStudentRecords(session, previousRecords);
+    }
+
+    /**
+     * Edits the record of each student identified by a NUSNET ID in {@code edits} with the details in the
+     * descriptor it is mapped to, as a single change to the student records of the current session.
+     * Students without a record in the current session are skipped.
+     *
+     * @return the NUSNET IDs in {@code edits} without a record in the current session.
+     * @throws NoSessionException If the session list is empty.
+     * @throws NoSessionSelectedException If no session has been selected.
+     */
+    public List<NusnetId> editStudentRecords(Map<NusnetId, EditStudentRecordDescriptor> edits)
+            throws NoSessionException, NoSessionSelectedException {
+        assert edits != null;
+
+        if (sessions.isEmpty()) {
+            throw new NoSessionException();
+        } else if (currentSession.isNull().get()) {
+            throw new NoSessionSelectedException();
+        }
+
+        Session session = currentSession.get();
+        Map<NusnetId, EditStudentRecordDescriptor> editsInSession = new LinkedHashMap<>();
+        List<NusnetId> nusnetIdsNotInSession = new ArrayList<>();
+        for (Map.Entry<NusnetId, EditStudentRecordDescriptor> edit : edits.entrySet()) {
+            if (session.hasStudentRecord(edit.getKey())) {
+                editsInSession.put(edit.getKey(), edit.getValue());
+            } else {
+                nusnetIdsNotInSession.add(edit.getKey());
+            }
+        }
+
+        List<StudentRecord> previousRecords = getRecordsToBeEdited(session, editsInSession.keySet());
+        session.editStudentRecords(editsInSession);
+        SessionName sessionName = session.getSessionName();
+        editsInSession.forEach((nusnetId, descriptor) -> recordEditOfStudentRecord(sessionName, nusnetId, descriptor));
+        recordEditsOfStudentRecords(session, previousRecords);
+        return nusnetIdsNotInSession;
+    }
+
+    /**
+     * Records the edit of the record of the student with {@code nusnetId} in the session with {@code sessionName}
+     * as the changes that mark and score the student.
+     */
+    private void recordEditOfStudentRecord(SessionName sessionName, NusnetId nusnetId,
+            EditStudentRecordDescriptor descriptor) {
+        descriptor.getAttendanceType().ifPresent(attendanceType ->
+                unjournaledChanges.add(TaskmasterChange.markStudent(sessionName, nusnetId, attendanceType)));
+        descriptor.getClassParticipation().ifPresent(classParticipation ->
+                unjournaledChanges.add(
+                        TaskmasterChange.scoreStudent(sessionName, nusnetId, classParticipation.getRawScore())));
+    }
+
+    /**
+     * Returns the records of the students with {@code nusnetIds} in {@code session} before they are edited, or an
+     * empty list if the history is not recording.
+     */
+    private List<StudentRecord> getRecordsToBeEdited(Session session, Collection<NusnetId> nusnetIds) {
+        if (!history.isRecording()) {
+            return Collections.emptyList();
+        }
+        List<StudentRecord> previousRecords = new ArrayList<>(nusnetIds.size());
+        for (NusnetId nusnetId : nusnetIds) {
+            previousRecords.add(session.getStudentRecord(nusnetId));
+        }
+        return previousRecords;
+    }
+
+    /**
+     * Returns every record of {@code session} before they are edited, or an empty list if the history is not
+     * recording.
+     */
+    private List<StudentRecord> getAllRecordsToBeEdited(Session session) {
+        return history.isRecording() ? new ArrayList<>(session.getStudentRecords()) : Collections.emptyList();
+    }
+
+    /**
+     * Records in the history the edits of the records in {@code previousRecords} that were changed in
+     * {@code session}, keeping only the records of the students whose records were changed.
+     */
+    private void recordEditsOfStudentRecords(Session session, List<StudentRecord> previousRecords) {
+        List<StudentRecord> changedRecords = new ArrayList<>();
+        List<StudentRecord> editedRecords = new ArrayList<>();
+        for (StudentRecord previousRecord : previousRecords) {
+            StudentRecord editedRecord = session.getStudentRecord(previousRecord.getNusnetId());
+            if (!editedRecord.equals(previousRecord)) {
+                changedRecords.add(previousRecord);
+                editedRecords.add(editedRecord);
+            }
+        }
+        if (changedRecords.isEmpty()) {
+            return;
+        }
+
+        SessionName sessionName = session.getSessionName();
+        history.record(taskmaster -> taskmaster.restoreStudentRecords(sessionName, changedRecords),
+                taskmaster -> taskmaster.restoreStudentRecords(sessionName, editedRecords),
+                2 * TaskmasterHistory.RECORD_BYTES * changedRecords.size());
+    }
+
+    /**
+     * Replaces the record of each student in {@code studentRecords} in the session with {@code sessionName} with
+     * their record in {@code studentRecords}, as a single change to the student records of the session.
+     */
+    private void restoreStudentRecords(SessionName sessionName, List<StudentRecord> studentRecords) {
+        Map<NusnetId, EditStudentRecordDescriptor> edits = new LinkedHashMap<>();
+        for (StudentRecord studentRecord : studentRecords) {
+            EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+            descriptor.setAttendanceType(studentRecord.getAttendanceType());
+            descriptor.setClassParticipation(studentRecord.getClassParticipation());
+            edits.put(studentRecord.getNusnetId(), descriptor);
+        }
+        sessions.get(sessionName).editStudentRecords(edits);
+        edits.forEach((nusnetId, descriptor) -> recordEditOfStudentRecord(sessionName, nusnetId, descriptor));
+    }
+
+    /**
+     * Returns true if the student records of {@code session} are in memory, reading them from storage first if they
+     * are not, so that the session can be restored after its records file is deleted.
+     */
+    private static boolean loadStudentRecords(Session session) {
+        try {
+            session.getStudentRecords();
+            return true;
+        } catch (SessionLoadException sle) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the estimated number of bytes held by {@code sessions} and their student records.
+     */
+    private static long estimateBytes(List<Session> sessions) {
+        long estimatedBytes = 0;
+        for (Session session : sessions) {
+            estimatedBytes += TaskmasterHistory.SESSION_BYTES;
+            if (session.isLoaded()) {
+                estimatedBytes += TaskmasterHistory.SESSION_RECORD_BYTES * session.getStudentRecords().size();
+            }
+        }
+        return estimatedBytes;
     }
 
     /**
      * Returns the lowest score amongst all students in the student list.
      */
     public double getLowestScore() throws NoSessionException, NoSessionSelectedException {
+        return getSelectedSession().getLowestScore();
+    }
+
+    /**
+     * Returns the highest score amongst all present students in the current session.
+     */
+    public double getHighestScore() throws NoSessionException, NoSessionSelectedException {
+        return getSelectedSession().getHighestScore();
+    }
+
+    /**
+     * Returns the records of the {@code count} present students with the lowest scores in the current session,
+     * from the lowest score up.
+     */
+    public List<StudentRecord> getLowestScoringRecords(int count)
+            throws NoSessionException, NoSessionSelectedException {
+        return getSelectedSession().getLowestScoringRecords(count);
+    }
+
+    /**
+     * Returns the records of the {@code count} present students with the highest scores in the current session,
+     * from the highest score down.
+     */
+    public List<StudentRecord> getHighestScoringRecords(int count)
+            throws NoSessionException, NoSessionSelectedException {
+        return getSelectedSession().getHighestScoringRecords(count);
+    }
+
+    /**
+     * Returns the record of a present student in the current session picked at random with {@code random} in the
+     * given {@code mode}.
+     */
+    public StudentRecord getRandomPresentRecord(Random random, SamplingMode mode)
+            throws NoSessionException, NoSessionSelectedException {
+        return getSelectedSession().getRandomPresentRecord(random, mode);
+    }
+
+    /**
+     * Returns the current session.
+     *
+     * @throws NoSessionException If the session list is empty.
+     * @throws NoSessionSelectedException If no session has been selected.
+     */
+    private Session getSelectedSession() throws NoSessionException, NoSessionSelectedException {
         if (sessions.isEmpty()) {
             throw new NoSessionException();
         } else if (currentSession.isNull().get()) {
             throw new NoSessionSelectedException();
         }
+        return currentSession.get();
+    }
+
+    /**
+     * Returns the attendance and participation of the student with {@code nusnetId} over all sessions.
+     */
+    public StudentStatistics getStudentStatistics(NusnetId nusnetId) {
+        requireNonNull(nusnetId);
+        return studentStatistics.get(nusnetId);
+    }
+
+    @Override
+    public Optional<Map<NusnetId, StudentStatistics>> getStatisticsOfEveryStudent() {
+        return studentStatistics.getAll();
+    }
+
+    /* Undo and Redo */
+
+    /**
+     * Sets the number of bytes of memory the history of changes that can be undone may take up. Changes are not
+     * recorded in the history if it is 0.
+     */
+    public void setHistoryBudget(long budgetBytes) {
+        history.setBudgetBytes(budgetBytes);
+    }
+
+    /**
+     * Ends the changes made by the current command, so that they are undone and redone together.
+     */
+    public void commitHistory() {
+        history.commit();
+    }
+
+    /**
+     * Returns true if there are changes to undo.
+     */
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    /**
+     * Returns true if there are undone changes to redo.
+     */
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the estimated number of bytes of memory taken up by the history of changes.
+     */
+    long getHistoryBytes() {
+        return history.getUsedBytes();
+    }
+
+    /**
+     * Undoes the changes made by the latest command that has not been undone.
+     */
+    public void undo() {
+        history.undo(this);
+    }
+
+    /**
+     * Redoes the changes made by the latest command that has been undone.
+     */
+    public void redo() {
+        history.redo(this);
+    }
+
+    /* Persistence Tracking */
+
+    @Override
+    public boolean isStudentListModified() {
+        return isStudentListModified;
+    }
+
+    @Override
+    public boolean isSessionListModified() {
+        return sessions.isModified();
+    }
+
+    /**
+     * Records that the current student list and session list have been written to storage, so that
+     * subsequent calls to {@link #isStudentListModified()} and {@link #isSessionListModified()} return false
+     * until the next change.
+     */
+    public void markAsSaved() {
+        isStudentListModified = false;
+        sessions.markAsSaved();
+        markAsJournaled();
+    }
+
+    /**
+     * Returns the changes made since this {@code Taskmaster} was last journaled or saved, in the order in which they
+     * were made, or {@code Optional.empty()} if any of those changes cannot be described by a
+     * {@code TaskmasterChange}, such as replacing all the students at once.
+     */
+    public Optional<List<TaskmasterChange>> getUnjournaledChanges() {
+        if (hasUnjournalableChanges) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArrayList<>(unjournaledChanges));
+    }
 
-        return currentSession.get().getLowestScore();
+    /**
+     * Records that the changes returned by {@link #getUnjournaledChanges()} have been written to the journal, so
+     * that they are not returned again.
+     * The data is still considered modified until it is saved.
+     */
+    public void markAsJournaled() {
+        unjournaledChanges.clear();
+        hasUnjournalableChanges = false;
     }
 
     /* Util Methods */
@@ -0,0 +1,275 @@
+package seedu.taskmaster.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.taskmaster.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentRecordListManager;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
+
+/**
+ * A single change made to the data of a {@code Taskmaster}, which can be recorded and made again to a copy of the
+ * data.
+ *
+ * Students are identified by their NUSNET ID and sessions by their name, never by their position in a displayed
+ * list, so a change has the same effect whatever is displayed when it is made again.
+ * Changes only hold the values that they set, so making a change again to data that already includes it has no
+ * further effect. An added session is not held with its records, but made again from the student list, as a new
+ * session is, so only sessions of every student that have not been marked are journaled as added.
+ */
+public class TaskmasterChange {
+
+    /**
+     * The kinds of change that can be made to a {@code Taskmaster}.
+     */
+    public enum Type {
+        ADD_STUDENT, EDIT_STUDENT, DELETE_STUDENT, ADD_SESSION, DELETE_SESSION,
+        MARK_STUDENT, MARK_ALL_STUDENTS, SCORE_STUDENT, SCORE_ALL_STUDENTS
+    }
+
+    private final Type type;
+    private final NusnetId nusnetId;
+    private final Student student;
+    private final SessionName sessionName;
+    private final SessionDateTime sessionDateTime;
+    private final AttendanceType attendanceType;
+    private final double score;
+
+    private TaskmasterChange(Type type, NusnetId nusnetId, Student student, SessionName sessionName,
+            SessionDateTime sessionDateTime, AttendanceType attendanceType, double score) {
+        this.type = type;
+        this.nusnetId = nusnetId;
+        this.student = student;
+        this.sessionName = sessionName;
+        this.sessionDateTime = sessionDateTime;
+        this.attendanceType = attendanceType;
+        this.score = score;
+    }
+
+    /**
+     * Returns a change that adds {@code student} to the student list.
+     */
+    public static TaskmasterChange addStudent(Student student) {
+        requireNonNull(student);
+        return new TaskmasterChange(Type.ADD_STUDENT, student.getNusnetId(), student, null, null, null, 0);
+    }
+
+    /**
+     * Returns a change that replaces the student with {@code nusnetId} with {@code editedStudent}.
+     */
+    public static TaskmasterChange editStudent(NusnetId nusnetId, Student editedStudent) {
+        requireAllNonNull(nusnetId, editedStudent);
+        return new TaskmasterChange(Type.EDIT_STUDENT, nusnetId, editedStudent, null, null, null, 0);
+    }
+
+    /**
+     * Returns a change that removes the student with {@code nusnetId} from the student list.
+     */
+    public static TaskmasterChange deleteStudent(NusnetId nusnetId) {
+        requireNonNull(nusnetId);
+        return new TaskmasterChange(Type.DELETE_STUDENT, nusnetId, null, null, null, null, 0);
+    }
+
+    /**
+     * Returns a change that adds a session with {@code sessionName} and {@code sessionDateTime} to the session list,
+     * with an unmarked record of each student in the student list.
+     */
+    public static TaskmasterChange addSession(SessionName sessionName, SessionDateTime sessionDateTime) {
+        requireAllNonNull(sessionName, sessionDateTime);
+        return new TaskmasterChange(Type.ADD_SESSION, null, null, sessionName, sessionDateTime, null, 0);
+    }
+
+    /**
+     * Returns a change that deletes the session with {@code sessionName}.
+     */
+    public static TaskmasterChange deleteSession(SessionName sessionName) {
+        requireNonNull(sessionName);
+        return new TaskmasterChange(Type.DELETE_SESSION, null, null, sessionName, null, null, 0);
+    }
+
+    /**
+     * Returns a change that marks the attendance of the student with {@code nusnetId} in the session with
+     * {@code sessionName} with {@code attendanceType}.
+     */
+    public static TaskmasterChange markStudent(SessionName sessionName, NusnetId nusnetId,
+            AttendanceType attendanceType) {
+        requireAllNonNull(sessionName, nusnetId, attendanceType);
+        return new TaskmasterChange(Type.MARK_STUDENT, nusnetId, null, sessionName, null, attendanceType, 0);
+    }
+
+    /**
+     * Returns a change that marks the attendance of every student in the session with {@code sessionName} with
+     * {@code attendanceType}.
+     */
+    public static TaskmasterChange markAllStudents(SessionName sessionName, AttendanceType attendanceType) {
+        requireAllNonNull(sessionName, attendanceType);
+        return new TaskmasterChange(Type.MARK_ALL_STUDENTS, null, null, sessionName, null, attendanceType, 0);
+    }
+
+    /**
+     * Returns a change that sets the participation score of the student with {@code nusnetId} in the session with
+     * {@code sessionName} to {@code score}.
+     */
+    public static TaskmasterChange scoreStudent(SessionName sessionName, NusnetId nusnetId, double score) {
+        requireAllNonNull(sessionName, nusnetId);
+        return new TaskmasterChange(Type.SCORE_STUDENT, nusnetId, null, sessionName, null, null, score);
+    }
+
+    /**
+     * Returns a change that sets the participation score of every present student in the session with
+     * {@code sessionName} to {@code score}.
+     */
+    public static TaskmasterChange scoreAllStudents(SessionName sessionName, double score) {
+        requireNonNull(sessionName);
+        return new TaskmasterChange(Type.SCORE_ALL_STUDENTS, null, null, sessionName, null, null, score);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the NUSNET ID of the student that is changed, if the change is to a single student.
+     */
+    public Optional<NusnetId> getNusnetId() {
+        return Optional.ofNullable(nusnetId);
+    }
+
+    /**
+     * Returns the student that is added, or that an existing student is replaced with.
+     */
+    public Optional<Student> getStudent() {
+        return Optional.ofNullable(student);
+    }
+
+    /**
+     * Returns the name of the session that is changed, if the change is to a session.
+     */
+    public Optional<SessionName> getSessionName() {
+        return Optional.ofNullable(sessionName);
+    }
+
+    /**
+     * Returns the date and time of the session that is added.
+     */
+    public Optional<SessionDateTime> getSessionDateTime() {
+        return Optional.ofNullable(sessionDateTime);
+    }
+
+    /**
+     * Returns the attendance type that students are marked with.
+     */
+    public Optional<AttendanceType> getAttendanceType() {
+        return Optional.ofNullable(attendanceType);
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Makes this change to {@code taskmaster}.
+     * Parts of the change that no longer apply, such as marking a student in a session that has since been deleted,
+     * are skipped.
+     */
+    public void applyTo(Taskmaster taskmaster) {
+        switch (type) {
+        case ADD_STUDENT:
+            if (!taskmaster.hasStudent(student)) {
+                taskmaster.addStudent(student);
+            }
+            break;
+        case EDIT_STUDENT:
+            findStudent(taskmaster)
+                    .filter(target -> target.isSameStudent(student) || !taskmaster.hasStudent(student))
+                    .ifPresent(target -> taskmaster.setStudent(target, student));
+            break;
+        case DELETE_STUDENT:
+            findStudent(taskmaster).ifPresent(taskmaster::removeStudent);
+            break;
+        case ADD_SESSION:
+            if (!taskmaster.hasSession(sessionName)) {
+                List<Student> students = taskmaster.getStudentList();
+                taskmaster.addSession(new Session(sessionName, sessionDateTime,
+                        StudentRecordListManager.of(taskmaster.getRoster(students))));
+            }
+            break;
+        case DELETE_SESSION:
+            if (taskmaster.hasSession(sessionName)) {
+                taskmaster.deleteSession(sessionName);
+            }
+            break;
+        default:
+            if (taskmaster.hasSession(sessionName)) {
+                applyToSession(taskmaster.getSession(sessionName));
+            }
+        }
+    }
+
+    private void applyToSession(Session target) {
+        try {
+            switch (type) {
+            case MARK_STUDENT:
+                target.markStudentAttendance(nusnetId, attendanceType);
+                break;
+            case MARK_ALL_STUDENTS:
+                target.markAllStudentAttendances(attendanceType);
+                break;
+            case SCORE_STUDENT:
+                target.scoreStudentParticipation(nusnetId, score);
+                break;
+            case SCORE_ALL_STUDENTS:
+                target.scoreAllParticipation(score);
+                break;
+            default:
+                throw new AssertionError("Not a change to a session: " + type);
+            }
+        } catch (StudentNotFoundException snfe) {
+            // The student is no longer in the session
+        }
+    }
+
+    private Optional<Student> findStudent(Taskmaster taskmaster) {
+        return taskmaster.getStudentWithNusnetId(nusnetId);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TaskmasterChange)) {
+            return false;
+        }
+
+        TaskmasterChange otherChange = (TaskmasterChange) other;
+        return type == otherChange.type
+                && Objects.equals(nusnetId, otherChange.nusnetId)
+                && Objects.equals(student, otherChange.student)
+                && Objects.equals(sessionName, otherChange.sessionName)
+                && Objects.equals(sessionDateTime, otherChange.sessionDateTime)
+                && attendanceType == otherChange.attendanceType
+                && Double.compare(score, otherChange.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, nusnetId, student, sessionName, sessionDateTime, attendanceType, score);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + getNusnetId().map(Object::toString).orElse("")
+                + getSessionName().map(name -> " in " + name).orElse("");
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.taskmaster.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The history of the changes made to a {@code Taskmaster} by each command, which can be undone and redone.
+ *
+ * A step of the history holds the edits that undo and redo what a command changed, rather than a copy of the data,
+ * and the students, sessions and records in an edit are the same objects as in the {@code Taskmaster}. Recording,
+ * undoing and redoing a step thus take time and memory in proportion to what the command changed, however large the
+ * rest of the data is.
+ *
+ * The memory taken up by each step is estimated, and the oldest steps are forgotten once the steps take up more
+ * than the memory budget of the history.
+ */
+class TaskmasterHistory {
+
+    /** The estimated number of bytes of an edit, besides the data it holds. */
+    static final long EDIT_BYTES = 64;
+    /** The estimated number of bytes of a student held by an edit, with their name, NUSNET ID and tags. */
+    static final long STUDENT_BYTES = 256;
+    /** The estimated number of bytes of a session held by an edit, besides its student records. */
+    static final long SESSION_BYTES = 256;
+    /** The estimated number of bytes of a student record held by an edit, with its class participation. */
+    static final long RECORD_BYTES = 64;
+    /** The estimated number of bytes of each student record of a session held by an edit, stored in columns. */
+    static final long SESSION_RECORD_BYTES = 16;
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private List<Edit> pendingEdits = new ArrayList<>();
+    private long budgetBytes;
+    private long usedBytes;
+    private boolean isReplaying;
+
+    /**
+     * Creates a history that records nothing until it is given a memory budget.
+     */
+    TaskmasterHistory() {
+        this.budgetBytes = 0;
+    }
+
+    /**
+     * Sets the number of bytes the steps of the history may take up, forgetting the oldest steps if they take up
+     * more. No edits are recorded if {@code budgetBytes} is 0.
+     */
+    void setBudgetBytes(long budgetBytes) {
+        assert budgetBytes >= 0;
+        this.budgetBytes = budgetBytes;
+        forgetOldestSteps();
+    }
+
+    /**
+     * Returns true if edits are being recorded, which they are not while a step is undone or redone.
+     */
+    boolean isRecording() {
+        return budgetBytes > 0 && !isReplaying;
+    }
+
+    /**
+     * Records a change to the {@code Taskmaster} made by the current command, which is undone by {@code undo} and
+     * redone by {@code redo}, and holds about {@code estimatedBytes} of memory.
+     * Nothing is recorded unless {@link #isRecording()}.
+     */
+    void record(Consumer<Taskmaster> undo, Consumer<Taskmaster> redo, long estimatedBytes) {
+        requireNonNull(undo);
+        requireNonNull(redo);
+        if (isRecording()) {
+            pendingEdits.add(new Edit(undo, redo, EDIT_BYTES + estimatedBytes));
+        }
+    }
+
+    /**
+     * Ends the step of the current command, so that the changes it made are undone together.
+     * The steps that were undone can no longer be redone, unless the command changed nothing.
+     */
+    void commit() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        Step step = new Step(pendingEdits);
+        pendingEdits = new ArrayList<>();
+        for (Step redoStep : redoSteps) {
+            usedBytes -= redoStep.estimatedBytes;
+        }
+        redoSteps.clear();
+        undoSteps.push(step);
+        usedBytes += step.estimatedBytes;
+        forgetOldestSteps();
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the changes of the latest step on {@code taskmaster}, in reverse order.
+     * There must be a step to undo.
+     */
+    void undo(Taskmaster taskmaster) {
+        assert canUndo();
+        assert pendingEdits.isEmpty();
+        Step step = undoSteps.pop();
+        isReplaying = true;
+        try {
+            for (int i = step.edits.size() - 1; i >= 0; i--) {
+                step.edits.get(i).undo.accept(taskmaster);
+            }
+        } finally {
+            isReplaying = false;
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Redoes the changes of the step undone last on {@code taskmaster}, in order.
+     * There must be a step to redo.
+     */
+    void redo(Taskmaster taskmaster) {
+        assert canRedo();
+        assert pendingEdits.isEmpty();
+        Step step = redoSteps.pop();
+        isReplaying = true;
+        try {
+            for (Edit edit : step.edits) {
+                edit.redo.accept(taskmaster);
+            }
+        } finally {
+            isReplaying = false;
+        }
+        undoSteps.push(step);
+    }
+
+    /**
+     * Forgets every step, and the changes of the current command.
+     */
+    void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        pendingEdits.clear();
+        usedBytes = 0;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken up by the steps of the history.
+     */
+    long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Forgets the oldest steps that can be undone until the steps fit in the budget, and the steps that can be
+     * redone as well if the budget has been lowered below what those take up.
+     */
+    private void forgetOldestSteps() {
+        while (usedBytes > budgetBytes && !undoSteps.isEmpty()) {
+            usedBytes -= undoSteps.removeLast().estimatedBytes;
+        }
+        if (usedBytes > budgetBytes) {
+            redoSteps.clear();
+            usedBytes = 0;
+        }
+    }
+
+    /**
+     * A change to a {@code Taskmaster}, with the functions that undo and redo it.
+     */
+    private static class Edit {
+        private final Consumer<Taskmaster> undo;
+        private final Consumer<Taskmaster> redo;
+        private final long estimatedBytes;
+
+        Edit(Consumer<Taskmaster> undo, Consumer<Taskmaster> redo, long estimatedBytes) {
+            this.undo = undo;
+            this.redo = redo;
+            this.estimatedBytes = estimatedBytes;
+        }
+    }
+
+    /**
+     * The edits made by one command, in the order in which they were made.
+     */
+    private static class Step {
+        private final List<Edit> edits;
+        private final long estimatedBytes;
+
+        Step(List<Edit> edits) {
+            this.edits = Collections.unmodifiableList(edits);
+            this.estimatedBytes = edits.stream().mapToLong(edit -> edit.estimatedBytes).sum();
+        }
+    }
+}
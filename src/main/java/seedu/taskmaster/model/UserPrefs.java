@@ -1,12 +1,14 @@
 package seedu.taskmaster.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.taskmaster.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.taskmaster.commons.core.GuiSettings;
+import seedu.taskmaster.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -16,6 +18,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path taskmasterFilePath = Paths.get("data" , "taskmaster.json");
     private Path sessionListFilePath = Paths.get("data", "session_list.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private long undoHistoryKilobytes = 16 * 1024;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +41,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTaskmasterFilePath(newUserPrefs.getTaskmasterFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setUndoHistoryKilobytes(newUserPrefs.getUndoHistoryKilobytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -61,6 +67,28 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return sessionListFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public long getUndoHistoryKilobytes() {
+        return undoHistoryKilobytes;
+    }
+
+    /**
+     * Sets the memory the history of commands that can be undone may take up to {@code undoHistoryKilobytes}, with
+     * 0 turning undo off.
+     */
+    public void setUndoHistoryKilobytes(long undoHistoryKilobytes) {
+        checkArgument(undoHistoryKilobytes >= 0);
+        this.undoHistoryKilobytes = undoHistoryKilobytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -73,12 +101,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && taskmasterFilePath.equals(o.taskmasterFilePath);
+                && taskmasterFilePath.equals(o.taskmasterFilePath)
+                && storageFormat.equals(o.storageFormat)
+                && undoHistoryKilobytes == o.undoHistoryKilobytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, taskmasterFilePath);
+        return Objects.hash(guiSettings, taskmasterFilePath, storageFormat, undoHistoryKilobytes);
     }
 
     @Override
@@ -86,6 +116,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + taskmasterFilePath);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nUndo history size : " + undoHistoryKilobytes + " KB");
         return sb.toString();
     }
 
@@ -3,6 +3,7 @@ package seedu.taskmaster.model.record;
 
 public class ClassParticipation {
     public static final String MESSAGE_CONSTRAINTS = "The score of a student needs to be a positive integer.";
+    public static final double MAX_SCORE = 10;
 
     private double score = 0;
 
@@ -25,6 +26,13 @@ public class ClassParticipation {
         this.score = score;
     }
 
+    /**
+     * Returns true if {@code score} is a valid score, between 0 and {@code MAX_SCORE} inclusive.
+     */
+    public static boolean isValidScore(double score) {
+        return score >= 0 && score <= MAX_SCORE;
+    }
+
     /**
      * Returns the class participation score as an double.
      */
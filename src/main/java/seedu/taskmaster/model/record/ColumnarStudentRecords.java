@@ -0,0 +1,141 @@
+package seedu.taskmaster.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list of student records stored a column at a time: the id of each student in a {@code StudentTable}, their
+ * attendance type as a byte and their class participation score as a double, in parallel arrays.
+ *
+ * A {@code StudentRecord} is created each time a record is read, and is not kept, so a record takes up 13 bytes
+ * while it is not being displayed or used by a command, instead of the two objects of a record that is kept.
+ */
+class ColumnarStudentRecords extends AbstractList<StudentRecord> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 10;
+    private static final AttendanceType[] ATTENDANCE_TYPES = AttendanceType.values();
+
+    private StudentTable studentTable;
+    private int[] studentIds = new int[INITIAL_CAPACITY];
+    private byte[] attendanceTypes = new byte[INITIAL_CAPACITY];
+    private double[] scores = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty list that refers to students by their id in {@code studentTable}.
+     */
+    ColumnarStudentRecords(StudentTable studentTable) {
+        requireNonNull(studentTable);
+        this.studentTable = studentTable;
+    }
+
+    StudentTable getStudentTable() {
+        return studentTable;
+    }
+
+    /**
+     * Refers to the students of the records by their id in {@code studentTable} from now on, adding them to it if they
+     * are not in it. The records read are unchanged.
+     */
+    void useStudentTable(StudentTable studentTable) {
+        requireNonNull(studentTable);
+        if (studentTable == this.studentTable) {
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            int studentId = studentIds[i];
+            studentIds[i] = studentTable.idOf(this.studentTable.getName(studentId),
+                    this.studentTable.getNusnetId(studentId), -1);
+        }
+        this.studentTable = studentTable;
+    }
+
+    @Override
+    public StudentRecord get(int index) {
+        Objects.checkIndex(index, size);
+        int studentId = studentIds[index];
+        return new StudentRecord(studentTable.getName(studentId), studentTable.getNusnetId(studentId),
+                ATTENDANCE_TYPES[attendanceTypes[index]], new ClassParticipation(scores[index]));
+    }
+
+    @Override
+    public StudentRecord set(int index, StudentRecord studentRecord) {
+        requireNonNull(studentRecord);
+        StudentRecord previousRecord = get(index);
+        write(index, studentRecord);
+        return previousRecord;
+    }
+
+    @Override
+    public void add(int index, StudentRecord studentRecord) {
+        requireNonNull(studentRecord);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(studentIds, index, studentIds, index + 1, size - index);
+        System.arraycopy(attendanceTypes, index, attendanceTypes, index + 1, size - index);
+        System.arraycopy(scores, index, scores, index + 1, size - index);
+        size++;
+        write(index, studentRecord);
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends StudentRecord> studentRecords) {
+        ensureCapacity(size + studentRecords.size());
+        return super.addAll(studentRecords);
+    }
+
+    @Override
+    public StudentRecord remove(int index) {
+        StudentRecord removedRecord = get(index);
+        System.arraycopy(studentIds, index + 1, studentIds, index, size - index - 1);
+        System.arraycopy(attendanceTypes, index + 1, attendanceTypes, index, size - index - 1);
+        System.arraycopy(scores, index + 1, scores, index, size - index - 1);
+        size--;
+        modCount++;
+        return removedRecord;
+    }
+
+    /**
+     * Removes every record. The arrays are kept, as the list is usually cleared to be filled with the records of
+     * the same students again.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Stores {@code studentRecord} at {@code index}. The student who was at {@code index} before is checked first,
+     * as a record is usually replaced by a record of the same student.
+     */
+    private void write(int index, StudentRecord studentRecord) {
+        studentIds[index] = studentTable.idOf(studentRecord.getName(), studentRecord.getNusnetId(),
+                studentIds[index]);
+        attendanceTypes[index] = (byte) studentRecord.getAttendanceType().ordinal();
+        scores[index] = studentRecord.getClassParticipation().getRawScore();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= studentIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, studentIds.length + (studentIds.length >> 1));
+        studentIds = Arrays.copyOf(studentIds, newCapacity);
+        attendanceTypes = Arrays.copyOf(attendanceTypes, newCapacity);
+        scores = Arrays.copyOf(scores, newCapacity);
+    }
+}
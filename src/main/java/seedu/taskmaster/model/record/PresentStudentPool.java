@@ -0,0 +1,115 @@
+package seedu.taskmaster.model.record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * The NUSNET IDs of the present students in a list of student records, from which students are picked at random to
+ * be called on.
+ *
+ * The IDs are kept in an array, so that a student is picked in constant time, and the slot of each ID in the array
+ * is indexed, so that a student is added or removed in constant time by swapping them with the last ID. To call on
+ * everyone once before anyone is called again, the students yet to be called in the current round are kept at the
+ * front of the array, and a student who is called is swapped to the back of that part.
+ *
+ * The students called in the current round are also kept apart from the array, so that the round carries on when
+ * the pool is cleared and filled again, such as after the records of the session are replaced by an undo.
+ */
+class PresentStudentPool {
+
+    private final List<NusnetId> nusnetIds = new ArrayList<>();
+    private final Map<NusnetId, Integer> slotOfNusnetId = new HashMap<>();
+    /** The students called in the current round, including those who have since left the pool. */
+    private final Set<NusnetId> calledNusnetIds = new HashSet<>();
+
+    /** The number of students at the front of the array who have not been called in the current round. */
+    private int uncalledCount;
+
+    /**
+     * Adds the student with {@code nusnetId}, who is yet to be called in the current round unless they were called
+     * before leaving the pool. The student must not be in the pool already.
+     */
+    void add(NusnetId nusnetId) {
+        assert !slotOfNusnetId.containsKey(nusnetId);
+        slotOfNusnetId.put(nusnetId, nusnetIds.size());
+        nusnetIds.add(nusnetId);
+        if (!calledNusnetIds.contains(nusnetId)) {
+            swap(nusnetIds.size() - 1, uncalledCount);
+            uncalledCount++;
+        }
+    }
+
+    /**
+     * Removes the student with {@code nusnetId}, who must be in the pool.
+     */
+    void remove(NusnetId nusnetId) {
+        int slot = slotOfNusnetId.get(nusnetId);
+        if (slot < uncalledCount) {
+            // Moves the student to the called part first, so that the uncalled part stays at the front
+            swap(slot, uncalledCount - 1);
+            slot = uncalledCount - 1;
+            uncalledCount--;
+        }
+        int lastSlot = nusnetIds.size() - 1;
+        swap(slot, lastSlot);
+        nusnetIds.remove(lastSlot);
+        slotOfNusnetId.remove(nusnetId);
+    }
+
+    /**
+     * Removes every student, but not who has been called in the current round.
+     */
+    void clear() {
+        nusnetIds.clear();
+        slotOfNusnetId.clear();
+        uncalledCount = 0;
+    }
+
+    boolean isEmpty() {
+        return nusnetIds.isEmpty();
+    }
+
+    /**
+     * Returns the NUSNET ID of a student picked uniformly at random with {@code random}.
+     * The pool must not be empty.
+     */
+    NusnetId pick(Random random) {
+        assert !isEmpty();
+        return nusnetIds.get(random.nextInt(nusnetIds.size()));
+    }
+
+    /**
+     * Returns the NUSNET ID of a student picked uniformly at random with {@code random} from those who have not been
+     * called in the current round, and records that they have been called. Once everyone has been called, a new round
+     * starts. The pool must not be empty.
+     */
+    NusnetId pickUncalled(Random random) {
+        assert !isEmpty();
+        if (uncalledCount == 0) {
+            calledNusnetIds.clear();
+            uncalledCount = nusnetIds.size();
+        }
+        swap(random.nextInt(uncalledCount), uncalledCount - 1);
+        uncalledCount--;
+        NusnetId calledNusnetId = nusnetIds.get(uncalledCount);
+        calledNusnetIds.add(calledNusnetId);
+        return calledNusnetId;
+    }
+
+    private void swap(int slot, int otherSlot) {
+        if (slot == otherSlot) {
+            return;
+        }
+        Collections.swap(nusnetIds, slot, otherSlot);
+        slotOfNusnetId.put(nusnetIds.get(slot), slot);
+        slotOfNusnetId.put(nusnetIds.get(otherSlot), otherSlot);
+    }
+}
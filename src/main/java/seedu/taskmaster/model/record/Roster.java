@@ -0,0 +1,208 @@
+package seedu.taskmaster.model.record;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.taskmaster.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+
+/**
+ * The students a session was created with, in order, against which the records of the session that have not been
+ * marked or scored are synthesised instead of being stored.
+ *
+ * A roster is immutable, and the sessions created from the same students share one roster, so that a new session
+ * takes up space for the records that are marked or scored in it rather than for every student. The position of each
+ * student is indexed by their NUSNET ID when first needed, and the index is shared by those sessions too.
+ *
+ * A roster refers to its students by their id in a {@code StudentTable}. The sessions sharing a roster that are moved
+ * to another table share the roster moved with them.
+ */
+public final class Roster {
+
+    private final StudentTable studentTable;
+    private final int[] studentIds;
+
+    /**
+     * The position index, as a hash table of positions probed by NUSNET ID. Each slot holds a position plus one, or
+     * 0 if the slot is empty.
+     */
+    private volatile int[] positionSlots;
+    /** This roster in the table it was last moved to, or null if it has not been moved. */
+    private Roster movedRoster;
+
+    private Roster(StudentTable studentTable, int[] studentIds) {
+        this.studentTable = studentTable;
+        this.studentIds = studentIds;
+    }
+
+    /**
+     * Returns the roster of {@code students}, who must have unique NUSNET IDs, in a student table of its own.
+     */
+    public static Roster of(List<Student> students) {
+        return of(students, new StudentTable());
+    }
+
+    /**
+     * Returns the roster of {@code students}, who must have unique NUSNET IDs, in {@code studentTable}.
+     */
+    public static Roster of(List<Student> students, StudentTable studentTable) {
+        requireAllNonNull(students, studentTable);
+        return of(students, Student::getName, Student::getNusnetId, studentTable);
+    }
+
+    /**
+     * Returns the roster of the students of {@code studentRecords}, which must have unique NUSNET IDs, in
+     * {@code studentTable}.
+     */
+    public static Roster ofRecords(List<StudentRecord> studentRecords, StudentTable studentTable) {
+        requireAllNonNull(studentRecords, studentTable);
+        return of(studentRecords, StudentRecord::getName, StudentRecord::getNusnetId, studentTable);
+    }
+
+    private static <T> Roster of(List<T> students, Function<T, Name> nameOf, Function<T, NusnetId> nusnetIdOf,
+            StudentTable studentTable) {
+        int[] studentIds = new int[students.size()];
+        for (int i = 0; i < studentIds.length; i++) {
+            T student = students.get(i);
+            studentIds[i] = studentTable.idOf(nameOf.apply(student), nusnetIdOf.apply(student), -1);
+        }
+        return new Roster(studentTable, studentIds);
+    }
+
+    /**
+     * Returns true if this roster has exactly {@code students}, in the same order.
+     * The names and NUSNET IDs of students in the student list are the objects kept in the student table, so they
+     * are usually told apart without comparing their contents.
+     */
+    public boolean hasStudents(List<Student> students) {
+        requireNonNull(students);
+        if (students.size() != studentIds.length) {
+            return false;
+        }
+        for (int i = 0; i < studentIds.length; i++) {
+            Student student = students.get(i);
+            if (!isStudentAt(i, student.getName(), student.getNusnetId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns this roster with its students in {@code studentTable}, which is this roster itself if they are in it
+     * already. The roster moved to a table is kept, so that the sessions sharing this roster share the moved roster.
+     */
+    public synchronized Roster in(StudentTable studentTable) {
+        requireNonNull(studentTable);
+        if (studentTable == this.studentTable) {
+            return this;
+        }
+        if (movedRoster == null || movedRoster.studentTable != studentTable) {
+            movedRoster = ofRecords(getUnmarkedRecords(), studentTable);
+        }
+        return movedRoster;
+    }
+
+    StudentTable getStudentTable() {
+        return studentTable;
+    }
+
+    /**
+     * Returns the number of students in the roster.
+     */
+    public int size() {
+        return studentIds.length;
+    }
+
+    /**
+     * Returns the records of the students in the roster before they are marked or scored, in order.
+     */
+    public List<StudentRecord> getUnmarkedRecords() {
+        return new UnmarkedRecords();
+    }
+
+    /**
+     * Returns the record of the student at {@code position} before they are marked or scored.
+     */
+    StudentRecord getUnmarkedRecord(int position) {
+        int studentId = studentIds[position];
+        return new StudentRecord(studentTable.getName(studentId), studentTable.getNusnetId(studentId));
+    }
+
+    /**
+     * Returns true if {@code studentRecord} is a record of the student at {@code position}.
+     */
+    boolean isStudentAt(int position, StudentRecord studentRecord) {
+        return isStudentAt(position, studentRecord.getName(), studentRecord.getNusnetId());
+    }
+
+    private boolean isStudentAt(int position, Name name, NusnetId nusnetId) {
+        int studentId = studentIds[position];
+        return studentTable.getNusnetId(studentId).equals(nusnetId) && studentTable.getName(studentId).equals(name);
+    }
+
+    /**
+     * Returns the position of the student with {@code nusnetId} in the roster, or -1 if they are not in it.
+     */
+    int positionOf(NusnetId nusnetId) {
+        int[] slots = getPositionSlots();
+        int mask = slots.length - 1;
+        for (int slot = hash(nusnetId) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int position = slots[slot] - 1;
+            if (studentTable.getNusnetId(studentIds[position]).equals(nusnetId)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position index, building it if it has not been built. As the roster never changes, an index
+     * built by two threads at once is the same either way.
+     */
+    private int[] getPositionSlots() {
+        int[] slots = positionSlots;
+        if (slots != null) {
+            return slots;
+        }
+
+        // At least twice as many slots as students, so that a lookup probes few slots
+        slots = new int[Integer.highestOneBit(Math.max(2 * studentIds.length - 1, 1)) << 1];
+        int mask = slots.length - 1;
+        for (int i = 0; i < studentIds.length; i++) {
+            int slot = hash(studentTable.getNusnetId(studentIds[i])) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+        positionSlots = slots;
+        return slots;
+    }
+
+    private static int hash(NusnetId nusnetId) {
+        int hashCode = nusnetId.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * A view of the unmarked records of the students in the roster, each created when it is read.
+     */
+    private class UnmarkedRecords extends AbstractList<StudentRecord> implements RandomAccess {
+        @Override
+        public StudentRecord get(int index) {
+            return getUnmarkedRecord(index);
+        }
+
+        @Override
+        public int size() {
+            return studentIds.length;
+        }
+    }
+}
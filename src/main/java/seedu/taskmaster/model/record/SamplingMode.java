@@ -0,0 +1,15 @@
+package seedu.taskmaster.model.record;
+
+/**
+ * Represents the ways in which a present student can be picked at random to be called on.
+ */
+public enum SamplingMode {
+    /** Every present student is equally likely to be picked. */
+    UNIFORM,
+
+    /** Every present student is picked once before anyone is picked again. */
+    NO_REPEAT,
+
+    /** Present students with lower participation scores are more likely to be picked. */
+    WEIGHTED_TO_LOW_SCORES
+}
@@ -2,8 +2,6 @@ package seedu.taskmaster.model.record;
 
 import java.util.function.Predicate;
 
-import seedu.taskmaster.model.student.NameContainsKeywordsPredicate;
-
 
 public class ScoreEqualsPredicate implements Predicate<StudentRecord> {
 
@@ -22,7 +20,7 @@ public class ScoreEqualsPredicate implements Predicate<StudentRecord> {
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof NameContainsKeywordsPredicate // instanceof handles nulls
+                || (other instanceof ScoreEqualsPredicate // instanceof handles nulls
                 && desiredScore == ((ScoreEqualsPredicate) other).desiredScore); // state check
     }
 }
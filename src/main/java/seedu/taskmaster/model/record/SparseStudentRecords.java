@@ -0,0 +1,173 @@
+package seedu.taskmaster.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * A list of the records of the students in a {@code Roster}, in which only the records that have been marked or
+ * scored are stored. The record of every other student is synthesised from the roster each time it is read.
+ *
+ * Once more than {@code 1 / DENSE_FRACTION} of the students have been marked or scored, or a record that does not
+ * belong at its position in the roster is added, every record is moved into a {@code ColumnarStudentRecords}, which
+ * takes up less space than storing that many records on their own. The list becomes sparse again when it is cleared,
+ * as it is usually cleared to be filled with the records of the same students again.
+ */
+class SparseStudentRecords extends AbstractList<StudentRecord> implements RandomAccess {
+
+    /** A marked record takes up about 8 times the 13 bytes of a record in columns, with its entry in the map. */
+    private static final int DENSE_FRACTION = 8;
+
+    private Roster roster;
+    /** The marked records while the list is sparse, by their position in the roster. */
+    private final NavigableMap<Integer, StudentRecord> markedRecords = new TreeMap<>();
+    /** Every record once the list is no longer sparse, or null while it is. */
+    private ColumnarStudentRecords denseRecords;
+    /** The number of students in the roster who have a record while the list is sparse. */
+    private int size;
+
+    /**
+     * Creates a list of the unmarked records of every student in {@code roster}.
+     */
+    SparseStudentRecords(Roster roster) {
+        requireNonNull(roster);
+        this.roster = roster;
+        this.size = roster.size();
+    }
+
+    Roster getRoster() {
+        return roster;
+    }
+
+    /**
+     * Refers to the students of the records by their id in {@code studentTable} from now on. The marked records are
+     * given the name and NUSNET ID objects of their student in the table, and the records read are unchanged.
+     */
+    void useStudentTable(StudentTable studentTable) {
+        roster = roster.in(studentTable);
+        if (!isSparse()) {
+            denseRecords.useStudentTable(studentTable);
+            return;
+        }
+        for (Map.Entry<Integer, StudentRecord> entry : markedRecords.entrySet()) {
+            StudentRecord unmarkedRecord = roster.getUnmarkedRecord(entry.getKey());
+            StudentRecord markedRecord = entry.getValue();
+            entry.setValue(new StudentRecord(unmarkedRecord.getName(), unmarkedRecord.getNusnetId(),
+                    markedRecord.getAttendanceType(), markedRecord.getClassParticipation()));
+        }
+    }
+
+    /**
+     * Returns true if only the marked records are stored.
+     */
+    boolean isSparse() {
+        return denseRecords == null;
+    }
+
+    /**
+     * Returns the records that have been marked or scored, in order. The list must be sparse.
+     */
+    List<StudentRecord> getMarkedRecords() {
+        assert isSparse();
+        return new ArrayList<>(markedRecords.values());
+    }
+
+    /**
+     * Returns the position of the record of the student with {@code nusnetId}, or -1 if the list has no record of
+     * them. The list must be sparse.
+     */
+    int positionOf(NusnetId nusnetId) {
+        assert isSparse();
+        int position = roster.positionOf(nusnetId);
+        return position < size ? position : -1;
+    }
+
+    @Override
+    public StudentRecord get(int index) {
+        if (!isSparse()) {
+            return denseRecords.get(index);
+        }
+        Objects.checkIndex(index, size);
+        StudentRecord markedRecord = markedRecords.get(index);
+        return markedRecord == null ? roster.getUnmarkedRecord(index) : markedRecord;
+    }
+
+    @Override
+    public StudentRecord set(int index, StudentRecord studentRecord) {
+        requireNonNull(studentRecord);
+        if (isSparse() && index >= 0 && index < size && roster.isStudentAt(index, studentRecord)) {
+            StudentRecord previousRecord = get(index);
+            store(index, studentRecord);
+            return previousRecord;
+        }
+        makeDense();
+        return denseRecords.set(index, studentRecord);
+    }
+
+    @Override
+    public void add(int index, StudentRecord studentRecord) {
+        requireNonNull(studentRecord);
+        if (isSparse() && index == size && size < roster.size() && roster.isStudentAt(index, studentRecord)) {
+            size++;
+            store(index, studentRecord);
+        } else {
+            makeDense();
+            denseRecords.add(index, studentRecord);
+        }
+        modCount++;
+    }
+
+    @Override
+    public StudentRecord remove(int index) {
+        makeDense();
+        modCount++;
+        return denseRecords.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        denseRecords = null;
+        markedRecords.clear();
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return isSparse() ? size : denseRecords.size();
+    }
+
+    /**
+     * Stores {@code studentRecord} at {@code index} while the list is sparse, making the list dense if too many
+     * records have been marked.
+     */
+    private void store(int index, StudentRecord studentRecord) {
+        if (studentRecord.isUnmarked()) {
+            markedRecords.remove(index);
+            return;
+        }
+        markedRecords.put(index, studentRecord);
+        if (markedRecords.size() > roster.size() / DENSE_FRACTION) {
+            makeDense();
+        }
+    }
+
+    private void makeDense() {
+        if (!isSparse()) {
+            return;
+        }
+        ColumnarStudentRecords studentRecords = new ColumnarStudentRecords(roster.getStudentTable());
+        studentRecords.addAll(this);
+        denseRecords = studentRecords;
+        markedRecords.clear();
+    }
+}
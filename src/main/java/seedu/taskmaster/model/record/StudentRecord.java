@@ -79,6 +79,13 @@ public class StudentRecord {
         return this.getNusnetId().equals(otherRecord.getNusnetId());
     }
 
+    /**
+     * Returns true if the student has neither been marked nor scored, as in the record they start a session with.
+     */
+    public boolean isUnmarked() {
+        return attendanceType == AttendanceType.NO_RECORD && classParticipation.getRawScore() == 0;
+    }
+
     /**
      * Returns a string representation of the record.
      */
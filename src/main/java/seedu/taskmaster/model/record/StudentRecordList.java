@@ -2,6 +2,9 @@ package seedu.taskmaster.model.record;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
 
 import javafx.collections.ObservableList;
 import seedu.taskmaster.model.student.NusnetId;
@@ -33,6 +36,26 @@ public interface StudentRecordList extends Iterable<StudentRecord> {
      */
     void scoreAllParticipation(double score);
 
+    /**
+     * Edits the record of each student identified by a NUSNET ID in {@code edits} with the details in the
+     * descriptor it is mapped to.
+     * @throws StudentNotFoundException if a NUSNET ID in {@code edits} has no record in the list, in which case no
+     *     record is edited.
+     */
+    void editStudentRecords(Map<NusnetId, StudentRecordListManager.EditStudentRecordDescriptor> edits)
+            throws StudentNotFoundException;
+
+    /**
+     * Returns true if the list contains a record of the student with {@code nusnetId}.
+     */
+    boolean hasStudentRecord(NusnetId nusnetId);
+
+    /**
+     * Returns the record of the student with {@code nusnetId}.
+     * @throws StudentNotFoundException if the list has no record of the student.
+     */
+    StudentRecord getStudentRecord(NusnetId nusnetId) throws StudentNotFoundException;
+
     /**
      * Replaces the contents of this list with {@code replacement}.
      */
@@ -44,12 +67,57 @@ public interface StudentRecordList extends Iterable<StudentRecord> {
      */
     void setStudentRecords(List<StudentRecord> studentRecords);
 
+    /**
+     * Returns the roster against which the unmarked records in the list are synthesised, if only the marked records
+     * are stored.
+     */
+    Optional<Roster> getRoster();
+
+    /**
+     * Returns the records in the list of students who have been marked or scored, in the order of the list.
+     */
+    List<StudentRecord> getMarkedRecords();
+
+    /**
+     * Returns a copy of this list, which is unaffected by later changes to this list.
+     */
+    StudentRecordList copy();
+
+    /**
+     * Refers to the students of the records by their id in {@code studentTable} from now on, so that the records
+     * share the name and NUSNET ID objects of the students in the table. The records in the list are unchanged.
+     */
+    void useStudentTable(StudentTable studentTable);
+
     /**
      * Returns the lowest score amongst all present students in the student list.
      * @throws StudentNotFoundException if there are no present students in the student list.
      */
     double getLowestScore() throws StudentNotFoundException;
 
+    /**
+     * Returns the highest score amongst all present students in the student list.
+     * @throws StudentNotFoundException if there are no present students in the student list.
+     */
+    double getHighestScore() throws StudentNotFoundException;
+
+    /**
+     * Returns the records of the {@code count} present students with the lowest scores, from the lowest score up.
+     */
+    List<StudentRecord> getLowestScoringRecords(int count);
+
+    /**
+     * Returns the records of the {@code count} present students with the highest scores, from the highest score
+     * down.
+     */
+    List<StudentRecord> getHighestScoringRecords(int count);
+
+    /**
+     * Returns the record of a present student picked at random with {@code random} in the given {@code mode}.
+     * @throws StudentNotFoundException if there are no present students in the student list.
+     */
+    StudentRecord getRandomPresentRecord(Random random, SamplingMode mode) throws StudentNotFoundException;
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}
      */
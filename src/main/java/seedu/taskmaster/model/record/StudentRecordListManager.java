@@ -3,10 +3,18 @@ package seedu.taskmaster.model.record;
 import static java.util.Objects.requireNonNull;
 import static seedu.taskmaster.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,25 +27,125 @@ import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
 /**
  * Represents a list of student records.
  * A student is identified by their NUSNET ID.
+ *
+ * Unless the list is backed by a given list, its records are kept in a {@code ColumnarStudentRecords}, which stores
+ * them as primitives and only creates a {@code StudentRecord} when a record is read. The list of a new session only
+ * stores the records that are marked or scored, in a {@code SparseStudentRecords}, until so many are that storing
+ * every record in columns takes up less space. While the list is sparse, the position of each record is that of its
+ * student in the {@code Roster} of the session, and only the marked records are read to find the present students.
+ *
+ * The position of each record in the backing list is indexed by its NUSNET ID, so that a single record can be
+ * looked up and updated in constant time. The index is built when a record is first looked up, and rebuilt after
+ * the contents of the list are replaced, so that a list that is only displayed never reads every record.
+ *
+ * The records of present students are also kept in order of their score, so that the lowest and highest scoring
+ * students are found without reading every record, and in a {@code PresentStudentPool}, so that a present student
+ * is picked at random in constant time. Like the position index, these indexes of present students are built when
+ * they are first needed and rebuilt after the contents of the list are replaced. In between, they are updated
+ * together with each record that is marked or scored. Who has been called in the current round of picks without
+ * repeats is kept across rebuilds.
  */
 public class StudentRecordListManager implements StudentRecordList {
-    private final ObservableList<StudentRecord> internalList = FXCollections.observableArrayList();
-    private final ObservableList<StudentRecord> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    /** Orders records by their score, and records with the same score by their NUSNET ID. */
+    private static final Comparator<StudentRecord> SCORE_ORDER = Comparator
+            .comparingDouble((StudentRecord studentRecord) -> studentRecord.getClassParticipation().getRawScore())
+            .thenComparing(studentRecord -> studentRecord.getNusnetId().value);
+
+    private final ObservableList<StudentRecord> internalList;
+    private final ObservableList<StudentRecord> internalUnmodifiableList;
+    /** The backing list if it only stores marked records while it is sparse, or null otherwise. */
+    private final SparseStudentRecords sparseRecords;
+    /** The backing list if it keeps every record in columns, or null otherwise. */
+    private final ColumnarStudentRecords columnarRecords;
+    /**
+     * The position index, as a hash table of the positions in the backing list probed by NUSNET ID. Each slot holds
+     * a position plus one, or 0 if the slot is empty. Positions are kept as primitives, as boxed positions in a
+     * {@code HashMap} would take up more memory than records kept in columns.
+     */
+    private int[] positionSlots = new int[0];
+    private boolean isPositionIndexValid;
+    private final NavigableSet<StudentRecord> presentRecordsByScore = new TreeSet<>(SCORE_ORDER);
+    private final PresentStudentPool presentStudents = new PresentStudentPool();
+    private boolean isPresentIndexValid;
+
+    /**
+     * Creates an empty {@code StudentRecordListManager} with a student table of its own.
+     */
+    public StudentRecordListManager() {
+        this(new StudentTable());
+    }
 
     /**
-     * Initialises a {@code StudentRecordListManager} with the given {@code students}.
-     * The attendance of each student is initialised as {@code NO_RECORD}.
+     * Creates an empty {@code StudentRecordListManager} that refers to students by their id in {@code studentTable}.
+     */
+    public StudentRecordListManager(StudentTable studentTable) {
+        this(new ColumnarStudentRecords(studentTable));
+    }
+
+    private StudentRecordListManager(List<StudentRecord> backingList, SparseStudentRecords sparseRecords,
+            ColumnarStudentRecords columnarRecords) {
+        internalList = FXCollections.observableList(backingList);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        this.sparseRecords = sparseRecords;
+        this.columnarRecords = columnarRecords;
+    }
+
+    private StudentRecordListManager(ColumnarStudentRecords backingList) {
+        this(backingList, null, backingList);
+    }
+
+    private StudentRecordListManager(SparseStudentRecords backingList) {
+        this(backingList, backingList, null);
+    }
+
+    /**
+     * Returns a {@code StudentRecordListManager} that keeps its records in {@code studentRecords} instead of
+     * copying them, so that a record is only read from {@code studentRecords} when it is needed.
+     * {@code studentRecords} must support {@code set} and must not contain records representing the same student.
+     */
+    public static StudentRecordList backedBy(List<StudentRecord> studentRecords) {
+        requireNonNull(studentRecords);
+        return new StudentRecordListManager(studentRecords, null, null);
+    }
+
+    /**
+     * Initialises a {@code StudentRecordListManager} with the given {@code students}, in a student table of its own.
+     * The attendance of each student is initialised as {@code NO_RECORD}. These unmarked records are not stored,
+     * but synthesised against the roster of {@code students}.
      */
     public static StudentRecordList of(List<Student> students) {
-        List<StudentRecord> studentRecords = students
-                .stream()
-                .map(student -> new StudentRecord(student.getName(), student.getNusnetId()))
-                .collect(Collectors.toList());
+        requireNonNull(students);
+        return of(Roster.of(students));
+    }
 
-        StudentRecordList studentRecordList = new StudentRecordListManager();
-        studentRecordList.setStudentRecords(studentRecords);
-        return studentRecordList;
+    /**
+     * Initialises a {@code StudentRecordListManager} with the students in {@code roster}.
+     * The attendance of each student is initialised as {@code NO_RECORD}. These unmarked records are not stored,
+     * but synthesised against {@code roster}, which may be shared with other lists of the same students.
+     */
+    public static StudentRecordList of(Roster roster) {
+        requireNonNull(roster);
+        return new StudentRecordListManager(new SparseStudentRecords(roster));
+    }
+
+    /**
+     * Returns a {@code StudentRecordListManager} of the students in {@code roster}, in which the record of each
+     * student in {@code markedRecords} replaces their unmarked record. Only the marked records are stored.
+     *
+     * @throws StudentNotFoundException if a student in {@code markedRecords} is not in {@code roster}.
+     */
+    public static StudentRecordList sparseOf(Roster roster, List<StudentRecord> markedRecords)
+            throws StudentNotFoundException {
+        requireAllNonNull(roster, markedRecords);
+        SparseStudentRecords studentRecords = new SparseStudentRecords(roster);
+        for (StudentRecord markedRecord : markedRecords) {
+            int position = roster.positionOf(markedRecord.getNusnetId());
+            if (position < 0 || !roster.isStudentAt(position, markedRecord)) {
+                throw new StudentNotFoundException();
+            }
+            studentRecords.set(position, markedRecord);
+        }
+        return new StudentRecordListManager(studentRecords);
     }
 
     /**
@@ -47,39 +155,28 @@ public class StudentRecordListManager implements StudentRecordList {
     public void markStudentAttendance(NusnetId nusnetId, AttendanceType attendanceType) {
         requireAllNonNull(nusnetId, attendanceType);
 
-        boolean isFound = false;
+        int position = getPositionOf(nusnetId);
+        EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+        descriptor.setAttendanceType(attendanceType);
 
-        for (int i = 0; i < internalList.size(); i++) {
-            StudentRecord studentRecord = internalList.get(i);
-            if (studentRecord.getNusnetId().equals(nusnetId)) {
-                EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
-                descriptor.setAttendanceType(attendanceType);
-
-                StudentRecord markedStudentRecord = createEditedStudentRecord(studentRecord, descriptor);
-                internalList.set(i, markedStudentRecord);
-                isFound = true;
-                break;
-            }
-        }
-
-        if (!isFound) {
-            throw new StudentNotFoundException();
-        }
+        StudentRecord markedStudentRecord = createEditedStudentRecord(internalList.get(position), descriptor);
+        setStudentRecord(position, markedStudentRecord);
     }
 
     /**
      * Marks the attendances of all {@code StudentRecords} with given {@code attendanceType}.
+     * Observers of the list are notified of all the marked records in a single change.
      */
     @Override
     public void markAllStudentAttendances(AttendanceType attendanceType) {
-        for (int i = 0; i < internalList.size(); i++) {
-            StudentRecord studentRecord = internalList.get(i);
-            EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
-            descriptor.setAttendanceType(attendanceType);
+        EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+        descriptor.setAttendanceType(attendanceType);
 
-            StudentRecord markedStudentRecord = createEditedStudentRecord(studentRecord, descriptor);
-            internalList.set(i, markedStudentRecord);
+        List<StudentRecord> markedStudentRecords = new ArrayList<>(internalList.size());
+        for (StudentRecord studentRecord : internalList) {
+            markedStudentRecords.add(createEditedStudentRecord(studentRecord, descriptor));
         }
+        replaceAllInPlace(markedStudentRecords);
     }
 
 
@@ -90,43 +187,76 @@ public class StudentRecordListManager implements StudentRecordList {
     public void scoreStudentParticipation(NusnetId nusnetId, double score) {
         requireAllNonNull(nusnetId);
 
-        boolean isFound = false;
+        int position = getPositionOf(nusnetId);
+        EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+        descriptor.setClassParticipation(new ClassParticipation(score));
 
-        for (int i = 0; i < internalList.size(); i++) {
-            StudentRecord studentRecord = internalList.get(i);
-            if (studentRecord.getNusnetId().equals(nusnetId)) {
-                EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
-                descriptor.setClassParticipation(new ClassParticipation(score));
-
-                StudentRecord markedStudentRecord = createEditedStudentRecord(studentRecord, descriptor);
-                internalList.set(i, markedStudentRecord);
-                isFound = true;
-                break;
-            }
-        }
-
-        if (!isFound) {
-            throw new StudentNotFoundException();
-        }
+        StudentRecord scoredStudentRecord = createEditedStudentRecord(internalList.get(position), descriptor);
+        setStudentRecord(position, scoredStudentRecord);
     }
 
     /**
      * Updates the {@code ClassParticipation} of all {@code StudentRecords} which are {@code PRESENT} with the
      * given {@code score}.
+     * Observers of the list are notified of all the scored records in a single change, or not at all if no student
+     * is present.
      */
     @Override
     public void scoreAllParticipation(double score) {
-        for (int i = 0; i < internalList.size(); i++) {
-            StudentRecord studentRecord = internalList.get(i);
+        EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+        descriptor.setClassParticipation(new ClassParticipation(score));
 
+        List<StudentRecord> scoredStudentRecords = new ArrayList<>(internalList.size());
+        boolean isAnyStudentPresent = false;
+        for (StudentRecord studentRecord : internalList) {
             if (studentRecord.getAttendanceType() == AttendanceType.PRESENT) {
-                EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
-                descriptor.setClassParticipation(new ClassParticipation(score));
-
-                StudentRecord scoredStudentRecord = createEditedStudentRecord(studentRecord, descriptor);
-                internalList.set(i, scoredStudentRecord);
+                scoredStudentRecords.add(createEditedStudentRecord(studentRecord, descriptor));
+                isAnyStudentPresent = true;
+            } else {
+                scoredStudentRecords.add(studentRecord);
             }
         }
+
+        if (isAnyStudentPresent) {
+            replaceAllInPlace(scoredStudentRecords);
+        }
+    }
+
+    /**
+     * Edits the record of each student identified by a NUSNET ID in {@code edits} with the details in the
+     * descriptor it is mapped to.
+     * Observers of the list are notified of all the edited records in a single change.
+     *
+     * @throws StudentNotFoundException if a NUSNET ID in {@code edits} has no record in the list, in which case no
+     *     record is edited.
+     */
+    @Override
+    public void editStudentRecords(Map<NusnetId, EditStudentRecordDescriptor> edits)
+            throws StudentNotFoundException {
+        requireNonNull(edits);
+        if (edits.isEmpty()) {
+            return;
+        }
+
+        List<StudentRecord> editedStudentRecords = new ArrayList<>(internalList);
+        for (Map.Entry<NusnetId, EditStudentRecordDescriptor> edit : edits.entrySet()) {
+            int position = getPositionOf(edit.getKey());
+            editedStudentRecords.set(position,
+                    createEditedStudentRecord(editedStudentRecords.get(position), edit.getValue()));
+        }
+        replaceAllInPlace(editedStudentRecords);
+    }
+
+    @Override
+    public boolean hasStudentRecord(NusnetId nusnetId) {
+        requireNonNull(nusnetId);
+        return findPositionOf(nusnetId) >= 0;
+    }
+
+    @Override
+    public StudentRecord getStudentRecord(NusnetId nusnetId) throws StudentNotFoundException {
+        requireNonNull(nusnetId);
+        return internalList.get(getPositionOf(nusnetId));
     }
 
     /**
@@ -136,6 +266,8 @@ public class StudentRecordListManager implements StudentRecordList {
     public void setStudentRecords(StudentRecordListManager replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        isPositionIndexValid = false;
+        invalidatePresentIndexes();
     }
 
     /**
@@ -150,27 +282,154 @@ public class StudentRecordListManager implements StudentRecordList {
         }
 
         internalList.setAll(studentRecords);
+        isPositionIndexValid = false;
+        invalidatePresentIndexes();
     }
 
     @Override
-    public double getLowestScore() throws StudentNotFoundException {
-        double lowestScore = Double.MAX_VALUE;
-        for (int i = 0; i < internalList.size(); i++) {
-            StudentRecord studentRecord = internalList.get(i);
-            if (studentRecord.getAttendanceType().equals(AttendanceType.PRESENT)) {
-                double score = studentRecord.getClassParticipation().getRawScore();
+    public Optional<Roster> getRoster() {
+        return isSparse() ? Optional.of(sparseRecords.getRoster()) : Optional.empty();
+    }
 
-                if (score < lowestScore) {
-                    lowestScore = score;
-                }
+    @Override
+    public List<StudentRecord> getMarkedRecords() {
+        if (isSparse()) {
+            return sparseRecords.getMarkedRecords();
+        }
+        List<StudentRecord> markedRecords = new ArrayList<>();
+        for (StudentRecord studentRecord : internalList) {
+            if (!studentRecord.isUnmarked()) {
+                markedRecords.add(studentRecord);
             }
         }
+        return markedRecords;
+    }
+
+    /**
+     * Returns a copy of this list, which is unaffected by later changes to this list. If only the marked records are
+     * stored, only those are copied, and the copy shares the roster of this list.
+     */
+    @Override
+    public StudentRecordList copy() {
+        if (isSparse()) {
+            return sparseOf(sparseRecords.getRoster(), sparseRecords.getMarkedRecords());
+        }
+        StudentRecordListManager copy = new StudentRecordListManager(getStudentTable().orElseGet(StudentTable::new));
+        copy.setStudentRecords(this);
+        return copy;
+    }
+
+    /**
+     * Moves the records into {@code studentTable}, unless the list is backed by a given list, whose records are read
+     * from it as they are.
+     */
+    @Override
+    public void useStudentTable(StudentTable studentTable) {
+        requireNonNull(studentTable);
+        if (sparseRecords != null) {
+            sparseRecords.useStudentTable(studentTable);
+        } else if (columnarRecords != null) {
+            columnarRecords.useStudentTable(studentTable);
+        }
+    }
+
+    /**
+     * Returns the student table the records refer to, or {@code Optional.empty()} if the list is backed by a given
+     * list.
+     */
+    private Optional<StudentTable> getStudentTable() {
+        if (sparseRecords != null) {
+            return Optional.of(sparseRecords.getRoster().getStudentTable());
+        }
+        return Optional.ofNullable(columnarRecords).map(ColumnarStudentRecords::getStudentTable);
+    }
+
+    private boolean isSparse() {
+        return sparseRecords != null && sparseRecords.isSparse();
+    }
+
+    @Override
+    public double getLowestScore() throws StudentNotFoundException {
+        if (getPresentIndexes().isEmpty()) {
+            throw new StudentNotFoundException();
+        }
+        return presentRecordsByScore.first().getClassParticipation().getRawScore();
+    }
 
-        if (lowestScore == Double.MAX_VALUE) {
+    @Override
+    public double getHighestScore() throws StudentNotFoundException {
+        if (getPresentIndexes().isEmpty()) {
             throw new StudentNotFoundException();
         }
+        return presentRecordsByScore.last().getClassParticipation().getRawScore();
+    }
 
-        return lowestScore;
+    /**
+     * Returns the records of the {@code count} present students with the lowest scores, from the lowest score up.
+     * Students with the same score are ordered by their NUSNET ID.
+     */
+    @Override
+    public List<StudentRecord> getLowestScoringRecords(int count) {
+        return takeFirst(getPresentIndexes().iterator(), count);
+    }
+
+    /**
+     * Returns the records of the {@code count} present students with the highest scores, from the highest score
+     * down. Students with the same score are ordered by their NUSNET ID, from the last to the first.
+     */
+    @Override
+    public List<StudentRecord> getHighestScoringRecords(int count) {
+        return takeFirst(getPresentIndexes().descendingIterator(), count);
+    }
+
+    /**
+     * Returns the record of a present student picked at random with {@code random} in the given {@code mode}.
+     *
+     * @throws StudentNotFoundException if there are no present students in the list.
+     */
+    @Override
+    public StudentRecord getRandomPresentRecord(Random random, SamplingMode mode) throws StudentNotFoundException {
+        requireAllNonNull(random, mode);
+        if (getPresentIndexes().isEmpty()) {
+            throw new StudentNotFoundException();
+        }
+
+        switch (mode) {
+        case NO_REPEAT:
+            return getStudentRecord(presentStudents.pickUncalled(random));
+        case WEIGHTED_TO_LOW_SCORES:
+            return pickWeightedToLowScores(random);
+        default:
+            return getStudentRecord(presentStudents.pick(random));
+        }
+    }
+
+    /**
+     * Returns the record of a present student picked at random with {@code random}, where a student with a score of
+     * 0 is {@code ClassParticipation.MAX_SCORE + 1} times as likely to be picked as a student with the maximum score.
+     *
+     * A student is picked uniformly and kept with a probability in proportion to their weight, and picked again
+     * otherwise. As every weight is at least {@code 1 / (MAX_SCORE + 1)} of the largest weight, fewer than
+     * {@code MAX_SCORE + 1} students are picked on average, however many students are present.
+     */
+    private StudentRecord pickWeightedToLowScores(Random random) {
+        double maxWeight = ClassParticipation.MAX_SCORE + 1;
+        while (true) {
+            StudentRecord studentRecord = getStudentRecord(presentStudents.pick(random));
+            double score = Math.min(studentRecord.getClassParticipation().getRawScore(), ClassParticipation.MAX_SCORE);
+            if (random.nextDouble() * maxWeight < maxWeight - score) {
+                return studentRecord;
+            }
+        }
+    }
+
+    private static List<StudentRecord> takeFirst(Iterator<StudentRecord> studentRecords, int count) {
+        assert count > 0;
+        List<StudentRecord> firstStudentRecords = new ArrayList<>();
+        while (studentRecords.hasNext() && firstStudentRecords.size() < count) {
+            firstStudentRecords.add(studentRecords.next());
+        }
+        return firstStudentRecords;
     }
 
     /**
@@ -209,6 +468,149 @@ public class StudentRecordListManager implements StudentRecordList {
         return internalList.hashCode();
     }
 
+    /**
+     * Replaces every record in the list with the record at the same position in {@code editedStudentRecords}, which
+     * must be a record of the same student, in a single change to the list.
+     * Changing each record separately would notify observers of the list, such as the displayed list of records,
+     * once for every record.
+     */
+    private void replaceAllInPlace(List<StudentRecord> editedStudentRecords) {
+        assert editedStudentRecords.size() == internalList.size();
+        if (isPresentIndexValid) {
+            for (int i = 0; i < internalList.size(); i++) {
+                updatePresentIndexes(internalList.get(i), editedStudentRecords.get(i));
+            }
+        }
+        // Every student keeps their position, so the position index stays valid
+        internalList.setAll(editedStudentRecords);
+    }
+
+    /**
+     * Replaces the record at {@code position} with {@code editedStudentRecord}, which must be a record of the same
+     * student.
+     */
+    private void setStudentRecord(int position, StudentRecord editedStudentRecord) {
+        StudentRecord studentRecord = internalList.set(position, editedStudentRecord);
+        if (isPresentIndexValid) {
+            updatePresentIndexes(studentRecord, editedStudentRecord);
+        }
+    }
+
+    /**
+     * Replaces {@code studentRecord} with {@code editedStudentRecord} in the indexes of present students.
+     */
+    private void updatePresentIndexes(StudentRecord studentRecord, StudentRecord editedStudentRecord) {
+        // A record that is read again is a new but equal object, so records are compared by their contents
+        if (studentRecord.equals(editedStudentRecord)) {
+            return;
+        }
+        boolean wasPresent = studentRecord.getAttendanceType() == AttendanceType.PRESENT;
+        boolean isPresent = editedStudentRecord.getAttendanceType() == AttendanceType.PRESENT;
+        if (wasPresent) {
+            presentRecordsByScore.remove(studentRecord);
+        }
+        if (isPresent) {
+            presentRecordsByScore.add(editedStudentRecord);
+        }
+        if (wasPresent && !isPresent) {
+            presentStudents.remove(studentRecord.getNusnetId());
+        } else if (!wasPresent && isPresent) {
+            presentStudents.add(editedStudentRecord.getNusnetId());
+        }
+    }
+
+    /**
+     * Builds the indexes of present students if they are not valid, and returns the records of the present students
+     * in order of their score.
+     */
+    private NavigableSet<StudentRecord> getPresentIndexes() {
+        if (!isPresentIndexValid) {
+            // A present student has been marked, so only the marked records of a sparse list need to be read
+            for (StudentRecord studentRecord : isSparse() ? sparseRecords.getMarkedRecords() : internalList) {
+                if (studentRecord.getAttendanceType() == AttendanceType.PRESENT) {
+                    presentRecordsByScore.add(studentRecord);
+                    presentStudents.add(studentRecord.getNusnetId());
+                }
+            }
+            isPresentIndexValid = true;
+        }
+        return presentRecordsByScore;
+    }
+
+    /**
+     * Discards the indexes of present students, which must be done whenever the contents of the backing list are
+     * replaced.
+     */
+    private void invalidatePresentIndexes() {
+        presentRecordsByScore.clear();
+        presentStudents.clear();
+        isPresentIndexValid = false;
+    }
+
+    /**
+     * Returns the position of the record of the student with {@code nusnetId} in the backing list.
+     *
+     * @throws StudentNotFoundException if no record in the list represents the student.
+     */
+    private int getPositionOf(NusnetId nusnetId) throws StudentNotFoundException {
+        int position = findPositionOf(nusnetId);
+        if (position < 0) {
+            throw new StudentNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the record of the student with {@code nusnetId} in the backing list, or -1 if no
+     * record in the list represents the student.
+     */
+    private int findPositionOf(NusnetId nusnetId) {
+        if (isSparse()) {
+            return sparseRecords.positionOf(nusnetId);
+        }
+        if (!isPositionIndexValid) {
+            rebuildPositionIndex();
+        }
+        int mask = positionSlots.length - 1;
+        for (int slot = hash(nusnetId) & mask; positionSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int position = positionSlots[slot] - 1;
+            if (internalList.get(position).getNusnetId().equals(nusnetId)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Re-indexes the position of every record in the backing list by its NUSNET ID.
+     * The index must be marked as invalid whenever records are added to, removed from or reordered in the backing
+     * list.
+     */
+    private void rebuildPositionIndex() {
+        // At least twice as many slots as records, so that a lookup probes few slots
+        int slotCount = Integer.highestOneBit(Math.max(2 * internalList.size() - 1, 1)) << 1;
+        if (positionSlots.length == slotCount) {
+            Arrays.fill(positionSlots, 0);
+        } else {
+            positionSlots = new int[slotCount];
+        }
+
+        int mask = slotCount - 1;
+        for (int i = 0; i < internalList.size(); i++) {
+            int slot = hash(internalList.get(i).getNusnetId()) & mask;
+            while (positionSlots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            positionSlots[slot] = i + 1;
+        }
+        isPositionIndexValid = true;
+    }
+
+    private static int hash(NusnetId nusnetId) {
+        int hashCode = nusnetId.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
     /**
      * Creates and returns a {@code StudentRecord} with the details of {@code studentRecordToEdit}
      * edited with {@code editStudentRecordDescriptor}.
@@ -233,11 +635,10 @@ public class StudentRecordListManager implements StudentRecordList {
      * Returns true if {@code studentRecords} contains only records of unique students and no duplicate students.
      */
     private boolean studentsAreUnique(List<StudentRecord> studentRecords) {
-        for (int i = 0; i < studentRecords.size() - 1; i++) {
-            for (int j = i + 1; j < studentRecords.size(); j++) {
-                if (studentRecords.get(i).getNusnetId().equals(studentRecords.get(j).getNusnetId())) {
-                    return false;
-                }
+        Set<NusnetId> nusnetIds = new HashSet<>();
+        for (StudentRecord studentRecord : studentRecords) {
+            if (!nusnetIds.add(studentRecord.getNusnetId())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,30 @@
+package seedu.taskmaster.model.record;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * Tests that a {@code StudentRecord} is the record of one of the students with the given NUSNET IDs.
+ */
+public class StudentRecordOfStudentsPredicate implements Predicate<StudentRecord> {
+
+    private final Set<NusnetId> nusnetIds;
+
+    public StudentRecordOfStudentsPredicate(Set<NusnetId> nusnetIds) {
+        this.nusnetIds = nusnetIds;
+    }
+
+    @Override
+    public boolean test(StudentRecord studentRecord) {
+        return nusnetIds.contains(studentRecord.getNusnetId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentRecordOfStudentsPredicate) // instanceof handles nulls
+                && nusnetIds.equals(((StudentRecordOfStudentsPredicate) other).nusnetIds);
+    }
+}
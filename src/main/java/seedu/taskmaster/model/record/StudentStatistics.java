@@ -0,0 +1,147 @@
+package seedu.taskmaster.model.record;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.taskmaster.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * Represents the attendance and participation of a student summed over every session they have a record in.
+ * Guarantees: immutable.
+ */
+public class StudentStatistics {
+
+    public static final StudentStatistics EMPTY = new StudentStatistics(0, 0, 0, 0);
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of sessions of each kind cannot be negative";
+
+    private static final String STRING_FORMAT = "Present in %1$d of %2$d sessions (%3$.0f%%), average score %4$.2f";
+
+    private final int presentCount;
+    private final int absentCount;
+    private final int noRecordCount;
+
+    /**
+     * The sum of the scores in hundredths, as scores are kept to 2 decimal places. Summing whole numbers means that
+     * adding a score and removing it again always restores the previous sum exactly.
+     */
+    private final long scoreSumInHundredths;
+
+    /**
+     * Creates the statistics of a student who was present in {@code presentCount} sessions, absent in
+     * {@code absentCount} sessions and has no attendance record in {@code noRecordCount} sessions, and whose scores
+     * sum to {@code scoreSumInHundredths} hundredths. Every count must be non-negative.
+     */
+    public StudentStatistics(int presentCount, int absentCount, int noRecordCount, long scoreSumInHundredths) {
+        checkArgument(isValidCounts(presentCount, absentCount, noRecordCount), MESSAGE_CONSTRAINTS);
+        this.presentCount = presentCount;
+        this.absentCount = absentCount;
+        this.noRecordCount = noRecordCount;
+        this.scoreSumInHundredths = scoreSumInHundredths;
+    }
+
+    /**
+     * Returns true if the given numbers of sessions are valid counts.
+     */
+    public static boolean isValidCounts(int presentCount, int absentCount, int noRecordCount) {
+        return presentCount >= 0 && absentCount >= 0 && noRecordCount >= 0;
+    }
+
+    /**
+     * Returns these statistics with {@code studentRecord} counted as well.
+     */
+    public StudentStatistics plus(StudentRecord studentRecord) {
+        return combine(studentRecord, 1);
+    }
+
+    /**
+     * Returns these statistics without {@code studentRecord}, which must have been counted in them.
+     */
+    public StudentStatistics minus(StudentRecord studentRecord) {
+        return combine(studentRecord, -1);
+    }
+
+    private StudentStatistics combine(StudentRecord studentRecord, int sign) {
+        requireNonNull(studentRecord);
+        AttendanceType attendanceType = studentRecord.getAttendanceType();
+        long score = Math.round(studentRecord.getClassParticipation().getRawScore() * 100);
+        return new StudentStatistics(
+                presentCount + (attendanceType == AttendanceType.PRESENT ? sign : 0),
+                absentCount + (attendanceType == AttendanceType.ABSENT ? sign : 0),
+                noRecordCount + (attendanceType == AttendanceType.NO_RECORD ? sign : 0),
+                scoreSumInHundredths + sign * score);
+    }
+
+    /**
+     * Returns the number of sessions in which the attendance of the student is {@code attendanceType}.
+     */
+    public int getCount(AttendanceType attendanceType) {
+        requireNonNull(attendanceType);
+        switch (attendanceType) {
+        case PRESENT:
+            return presentCount;
+        case ABSENT:
+            return absentCount;
+        default:
+            return noRecordCount;
+        }
+    }
+
+    /**
+     * Returns the number of sessions the student has a record in.
+     */
+    public int getSessionCount() {
+        return presentCount + absentCount + noRecordCount;
+    }
+
+    /**
+     * Returns the sum of the scores of the student over all their sessions.
+     */
+    public double getScoreSum() {
+        return scoreSumInHundredths / 100.0;
+    }
+
+    /**
+     * Returns the sum of the scores of the student in hundredths, as it is kept.
+     */
+    public long getScoreSumInHundredths() {
+        return scoreSumInHundredths;
+    }
+
+    /**
+     * Returns the fraction of their sessions in which the student was present, or 0 if they are in no sessions.
+     */
+    public double getAttendanceRate() {
+        int sessionCount = getSessionCount();
+        return sessionCount == 0 ? 0 : (double) presentCount / sessionCount;
+    }
+
+    /**
+     * Returns the average score of the student over all their sessions, or 0 if they are in no sessions.
+     */
+    public double getAverageScore() {
+        int sessionCount = getSessionCount();
+        return sessionCount == 0 ? 0 : getScoreSum() / sessionCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(STRING_FORMAT, presentCount, getSessionCount(), getAttendanceRate() * 100,
+                getAverageScore());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentStatistics // instanceof handles nulls
+                && presentCount == ((StudentStatistics) other).presentCount
+                && absentCount == ((StudentStatistics) other).absentCount
+                && noRecordCount == ((StudentStatistics) other).noRecordCount
+                && scoreSumInHundredths == ((StudentStatistics) other).scoreSumInHundredths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(presentCount, absentCount, noRecordCount, scoreSumInHundredths);
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.taskmaster.model.record;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * Numbers the students that have records, so that a list of student records can refer to a student by a single
+ * {@code int} instead of by their {@code Name} and {@code NusnetId}.
+ *
+ * The table also keeps the one {@code Name} and {@code NusnetId} object of each student that every record of the
+ * student shares, however many sessions they are in. Each {@code Taskmaster} has a table of its own, to which it adds
+ * the students in its student list and moves the records of its sessions, and the storage loaders look students up in
+ * the table they are given instead of keeping the copies they read from a file.
+ *
+ * A student whose name changes is given a new id, so that the records made under their old name are unaffected.
+ * Ids are never reused while the table is in use, as a list of records may still refer to them. Students no longer
+ * referred to are dropped by moving the records into a new table instead.
+ *
+ * Students are added under a lock, but read without one, as every record read looks up its student. A reader on
+ * another thread, such as one saving a copy of the sessions in the background, only reads the ids of records handed
+ * to it after they were written, and a student is stored before their id is handed out.
+ */
+public class StudentTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile Name[] names = new Name[INITIAL_CAPACITY];
+    private volatile NusnetId[] nusnetIds = new NusnetId[INITIAL_CAPACITY];
+    private volatile int size;
+    private final Map<NusnetId, Integer> latestIdOfNusnetId = new HashMap<>();
+
+    /**
+     * Returns the id of the student with {@code name} and {@code nusnetId}, adding them to the table if they are not
+     * in it. The student at {@code likelyId} is checked first, so that the student whose record is replaced by a
+     * record of the same student is found without looking up their NUSNET ID.
+     */
+    int idOf(Name name, NusnetId nusnetId, int likelyId) {
+        if (likelyId >= 0 && likelyId < size && nusnetIds[likelyId] == nusnetId && names[likelyId] == name) {
+            return likelyId;
+        }
+        return findOrAdd(name, nusnetId);
+    }
+
+    private synchronized int findOrAdd(Name name, NusnetId nusnetId) {
+        Integer id = latestIdOfNusnetId.get(nusnetId);
+        if (id != null && names[id].equals(name)) {
+            return id;
+        }
+
+        int newId = size;
+        if (newId == nusnetIds.length) {
+            int newCapacity = newId + (newId >> 1);
+            names = Arrays.copyOf(names, newCapacity);
+            nusnetIds = Arrays.copyOf(nusnetIds, newCapacity);
+        }
+        names[newId] = name;
+        nusnetIds[newId] = nusnetId;
+        latestIdOfNusnetId.put(nusnetId, newId);
+        size = newId + 1;
+        return newId;
+    }
+
+    /**
+     * Adds the student with {@code name} and {@code nusnetId} to the table, making {@code name} and {@code nusnetId}
+     * the objects shared by the records of the student from now on.
+     */
+    public synchronized void add(Name name, NusnetId nusnetId) {
+        int id = findOrAdd(name, nusnetId);
+        names[id] = name;
+        nusnetIds[id] = nusnetId;
+    }
+
+    /**
+     * Returns the NUSNET ID object shared by the records of the student with {@code nusnetId}, or {@code nusnetId}
+     * itself if no such student is in the table.
+     */
+    public synchronized NusnetId canonicalise(NusnetId nusnetId) {
+        Integer id = latestIdOfNusnetId.get(nusnetId);
+        return id == null ? nusnetId : nusnetIds[id];
+    }
+
+    /**
+     * Returns the name object shared by the records of the student with {@code nusnetId} and {@code name}, adding
+     * the student to the table if they are not in it.
+     */
+    public Name canonicalise(Name name, NusnetId nusnetId) {
+        return getName(findOrAdd(name, nusnetId));
+    }
+
+    Name getName(int id) {
+        return names[id];
+    }
+
+    NusnetId getNusnetId(int id) {
+        return nusnetIds[id];
+    }
+
+    /**
+     * Returns the number of ids handed out by the table, including those of students no longer referred to.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -1,12 +1,25 @@
 package seedu.taskmaster.model.session;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.Roster;
+import seedu.taskmaster.model.record.SamplingMode;
 import seedu.taskmaster.model.record.StudentRecord;
 import seedu.taskmaster.model.record.StudentRecordList;
 import seedu.taskmaster.model.record.StudentRecordListManager;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.record.StudentTable;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
 import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
 import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
@@ -20,11 +33,18 @@ public class Session {
 
     private final SessionName sessionName;
     private final SessionDateTime sessionDateTime;
-    private final StudentRecordList studentRecords;
+    private StudentRecordList studentRecords;
+    private StudentRecordListLoader studentRecordsLoader;
+    /** The table the student records are loaded into, while they have not been loaded. */
+    private StudentTable studentTable;
+    /** The listeners to give the student records to once they are loaded, while they have not been loaded. */
+    private final List<Consumer<ObservableList<StudentRecord>>> loadListeners = new ArrayList<>();
+    private boolean isModified;
 
     /**
      * A session is represented by its {@code sessionName},
      * stores date and time data and a list of student records.
+     * A newly created session counts as modified until it is saved.
      */
     public Session(SessionName sessionName,
                    SessionDateTime sessionDateTime,
@@ -32,6 +52,7 @@ public class Session {
         this.sessionName = sessionName;
         this.sessionDateTime = sessionDateTime;
         this.studentRecords = studentRecords;
+        this.isModified = true;
     }
 
     /**
@@ -41,9 +62,65 @@ public class Session {
     public Session(SessionName sessionName,
                    SessionDateTime sessionDateTime,
                    List<Student> students) {
+        this(sessionName, sessionDateTime, StudentRecordListManager.of(students));
+    }
+
+    /**
+     * Creates a session that has already been saved, whose student records are only read from storage
+     * by {@code studentRecordsLoader} when they are first needed.
+     */
+    public Session(SessionName sessionName,
+                   SessionDateTime sessionDateTime,
+                   StudentRecordListLoader studentRecordsLoader) {
         this.sessionName = sessionName;
         this.sessionDateTime = sessionDateTime;
-        this.studentRecords = StudentRecordListManager.of(students);
+        this.studentRecordsLoader = studentRecordsLoader;
+        this.studentTable = new StudentTable();
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied} whose student records are unaffected by later changes to the original.
+     * If the records of the original have not been loaded yet, the copy loads them on its own when needed.
+     * If only the marked records of the original are stored, only those are copied.
+     */
+    public Session(Session toBeCopied) {
+        this.sessionName = toBeCopied.sessionName;
+        this.sessionDateTime = toBeCopied.sessionDateTime;
+        this.isModified = toBeCopied.isModified;
+        if (toBeCopied.isLoaded()) {
+            this.studentRecords = toBeCopied.studentRecords.copy();
+        } else {
+            this.studentRecordsLoader = toBeCopied.studentRecordsLoader;
+            this.studentTable = toBeCopied.studentTable;
+        }
+    }
+
+    /**
+     * Returns a copy of this session that can be read on another thread while this session is changed.
+     * Loaded student records are copied. Records that have not been loaded are loaded by the copy into a student
+     * table of its own when it needs them, so that reading the copy never touches this session or its table.
+     */
+    public Session detachedCopy() {
+        if (isLoaded()) {
+            return new Session(this);
+        }
+        Session copy = new Session(sessionName, sessionDateTime, studentRecordsLoader);
+        copy.isModified = isModified;
+        return copy;
+    }
+
+    /**
+     * Makes the student records of this session refer to their students by their id in {@code studentTable}, so
+     * that they share the name and NUSNET ID objects of the students in the table. Records that have not been loaded
+     * are loaded into {@code studentTable} when they are first needed.
+     */
+    public void useStudentTable(StudentTable studentTable) {
+        requireNonNull(studentTable);
+        if (isLoaded()) {
+            studentRecords.useStudentTable(studentTable);
+        } else {
+            this.studentTable = studentTable;
+        }
     }
 
     public SessionName getSessionName() {
@@ -56,9 +133,55 @@ public class Session {
 
     /**
      * Returns list of student records as an unmodifiable {@code ObservableList}
+     *
+     * @throws SessionLoadException if the student records had to be read from storage and could not be.
+     */
+    public ObservableList<StudentRecord> getStudentRecords() throws SessionLoadException {
+        return getStudentRecordList().asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns the roster against which the unmarked records of this session are synthesised, if only its marked
+     * records are stored.
+     *
+     * @throws SessionLoadException if the student records had to be read from storage and could not be.
+     */
+    public Optional<Roster> getRoster() throws SessionLoadException {
+        return getStudentRecordList().getRoster();
+    }
+
+    /**
+     * Returns the records of the students who have been marked or scored in this session.
+     *
+     * @throws SessionLoadException if the student records had to be read from storage and could not be.
+     */
+    public List<StudentRecord> getMarkedRecords() throws SessionLoadException {
+        return getStudentRecordList().getMarkedRecords();
+    }
+
+    /**
+     * Returns true if the student records of this session are in memory.
+     */
+    public boolean isLoaded() {
+        return studentRecords != null;
+    }
+
+    /**
+     * Adds a listener that is given the student records of this session as soon as they are loaded from storage,
+     * before they can be changed. The listener is run at most once, and never if the records are already loaded.
+     */
+    public void addLoadListener(Consumer<ObservableList<StudentRecord>> listener) {
+        requireNonNull(listener);
+        if (!isLoaded()) {
+            loadListeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener added by {@link #addLoadListener}, if it has not been run yet.
      */
-    public ObservableList<StudentRecord> getStudentRecords() {
-        return studentRecords.asUnmodifiableObservableList();
+    public void removeLoadListener(Consumer<ObservableList<StudentRecord>> listener) {
+        loadListeners.remove(listener);
     }
 
     /**
@@ -68,11 +191,16 @@ public class Session {
     public void markStudentAttendance(NusnetId nusnetId, AttendanceType attendanceType) {
         assert nusnetId != null;
         assert attendanceType != null;
-        studentRecords.markStudentAttendance(nusnetId, attendanceType);
+        getStudentRecordList().markStudentAttendance(nusnetId, attendanceType);
+        isModified = true;
     }
 
+    /**
+     * Marks the attendance of every student in the student record list with {@code attendanceType}.
+     */
     public void markAllStudentAttendances(AttendanceType attendanceType) {
-        studentRecords.markAllStudentAttendances(attendanceType);
+        getStudentRecordList().markAllStudentAttendances(attendanceType);
+        isModified = true;
     }
 
     /**
@@ -81,30 +209,136 @@ public class Session {
      */
     public void scoreStudentParticipation(NusnetId nusnetId, double score) {
         assert nusnetId != null;
-        studentRecords.scoreStudentParticipation(nusnetId, score);
+        getStudentRecordList().scoreStudentParticipation(nusnetId, score);
+        isModified = true;
     }
 
+    /**
+     * Updates the participation score of every present student in the student record list with {@code score}.
+     */
     public void scoreAllParticipation(double score) {
-        studentRecords.scoreAllParticipation(score);
+        getStudentRecordList().scoreAllParticipation(score);
+        isModified = true;
     }
 
     /**
      * Returns the lowest score amongst all students in the student list.
      */
     public double getLowestScore() {
-        return studentRecords.getLowestScore();
+        return getStudentRecordList().getLowestScore();
     }
 
     /**
-     * Updates the {@code StudentRecordList} with the data in {@code studentRecords}.
-     * @throws StudentNotFoundException
+     * Returns the highest score amongst all present students in the student list.
+     */
+    public double getHighestScore() {
+        return getStudentRecordList().getHighestScore();
+    }
+
+    /**
+     * Returns the records of the {@code count} present students with the lowest scores, from the lowest score up.
+     */
+    public List<StudentRecord> getLowestScoringRecords(int count) {
+        return getStudentRecordList().getLowestScoringRecords(count);
+    }
+
+    /**
+     * Returns the records of the {@code count} present students with the highest scores, from the highest score
+     * down.
+     */
+    public List<StudentRecord> getHighestScoringRecords(int count) {
+        return getStudentRecordList().getHighestScoringRecords(count);
+    }
+
+    /**
+     * Returns the record of a present student picked at random with {@code random} in the given {@code mode}.
+     */
+    public StudentRecord getRandomPresentRecord(Random random, SamplingMode mode) {
+        return getStudentRecordList().getRandomPresentRecord(random, mode);
+    }
+
+    /**
+     * Updates the attendance of each student in the {@code StudentRecordList} with the attendance of their record
+     * in {@code studentRecords}.
+     * @throws StudentNotFoundException if a student in {@code studentRecords} has no record in this session, in
+     *     which case no record is updated.
      */
     public void updateStudentRecords(List<StudentRecord> studentRecords) throws StudentNotFoundException {
+        Map<NusnetId, EditStudentRecordDescriptor> edits = new LinkedHashMap<>();
         for (StudentRecord studentRecord: studentRecords) {
-            this.studentRecords.markStudentAttendance(
-                    studentRecord.getNusnetId(),
-                    studentRecord.getAttendanceType());
+            EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+            descriptor.setAttendanceType(studentRecord.getAttendanceType());
+            edits.put(studentRecord.getNusnetId(), descriptor);
+        }
+        editStudentRecords(edits);
+    }
+
+    /**
+     * Edits the record of each student identified by a NUSNET ID in {@code edits} with the details in the
+     * descriptor it is mapped to, as a single change to the {@code StudentRecordList}.
+     * @throws StudentNotFoundException if a NUSNET ID in {@code edits} has no record in this session, in which case
+     *     no record is edited.
+     */
+    public void editStudentRecords(Map<NusnetId, EditStudentRecordDescriptor> edits)
+            throws StudentNotFoundException {
+        assert edits != null;
+        getStudentRecordList().editStudentRecords(edits);
+        if (!edits.isEmpty()) {
+            isModified = true;
+        }
+    }
+
+    /**
+     * Returns true if this session has a record of the student with {@code nusnetId}.
+     */
+    public boolean hasStudentRecord(NusnetId nusnetId) {
+        assert nusnetId != null;
+        return getStudentRecordList().hasStudentRecord(nusnetId);
+    }
+
+    /**
+     * Returns the record of the student with {@code nusnetId} in this session.
+     * @throws StudentNotFoundException if this session has no record of the student.
+     */
+    public StudentRecord getStudentRecord(NusnetId nusnetId) throws StudentNotFoundException {
+        assert nusnetId != null;
+        return getStudentRecordList().getStudentRecord(nusnetId);
+    }
+
+    /**
+     * Returns true if the student records of this session have changed since it was created or last saved.
+     */
+    public boolean isModified() {
+        return isModified;
+    }
+
+    /**
+     * Records that the current state of this session has been written to storage.
+     */
+    public void markAsSaved() {
+        isModified = false;
+    }
+
+    /**
+     * Records that this session has changes that have not been written to storage.
+     */
+    public void markAsModified() {
+        isModified = true;
+    }
+
+    /**
+     * Returns the student record list of this session, reading it from storage first if it has not been loaded.
+     */
+    private StudentRecordList getStudentRecordList() throws SessionLoadException {
+        if (!isLoaded()) {
+            studentRecords = studentRecordsLoader.load(studentTable);
+            studentRecordsLoader = null;
+            studentTable = null;
+            List<Consumer<ObservableList<StudentRecord>>> listeners = new ArrayList<>(loadListeners);
+            loadListeners.clear();
+            listeners.forEach(listener -> listener.accept(studentRecords.asUnmodifiableObservableList()));
         }
+        return studentRecords;
     }
 
     @Override
@@ -4,7 +4,11 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.ResolverStyle;
 
-public class SessionDateTime {
+/**
+ * Represents the date and time at which a session is conducted.
+ * Guarantees: immutable. Ordered from the earliest date and time to the latest.
+ */
+public class SessionDateTime implements Comparable<SessionDateTime> {
 
     public static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("dd-MM-uuuu HHmm").withResolverStyle(ResolverStyle.STRICT);
@@ -48,4 +52,14 @@ public class SessionDateTime {
                 && localDateTime.equals(((SessionDateTime) other).getLocalDateTime())); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return localDateTime.hashCode();
+    }
+
+    @Override
+    public int compareTo(SessionDateTime other) {
+        return localDateTime.compareTo(other.localDateTime);
+    }
+
 }
@@ -1,9 +1,13 @@
 package seedu.taskmaster.model.session;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.exceptions.SessionNotFoundException;
+import seedu.taskmaster.model.student.NusnetId;
 
 public interface SessionList extends Iterable<Session> {
 
@@ -20,7 +24,16 @@ public interface SessionList extends Iterable<Session> {
 
     void add(Session toAdd);
 
-    void delete(SessionName toDelete);
+    /**
+     * Inserts {@code toAdd} into the session list at {@code index}.
+     * No session in the list may have the same name.
+     */
+    void add(int index, Session toAdd);
+
+    /**
+     * Deletes the session with the name {@code toDelete}, and returns the position it was at.
+     */
+    int delete(SessionName toDelete);
 
     /**
      * Returns true if there are no sessions in the session list.
@@ -31,10 +44,43 @@ public interface SessionList extends Iterable<Session> {
 
     /**
      * Replaces the contents of this list with {@code sessions}.
-     * {@code sessions} must not contain duplicate sessions.
+     * {@code sessions} must not contain two sessions with the same name.
      */
     void setSessions(List<Session> sessions);
 
+    /**
+     * Returns the sessions in order of their date and time, from the earliest to the latest.
+     */
+    List<Session> getSessionsInChronologicalOrder();
+
+    /**
+     * Returns the sessions conducted from {@code start}, inclusive, to {@code end}, exclusive, in order of their date
+     * and time.
+     */
+    List<Session> getSessionsBetween(SessionDateTime start, SessionDateTime end);
+
+    /**
+     * Returns true if the list or any of its sessions has changed since it was created or last saved.
+     */
+    boolean isModified();
+
+    /**
+     * Records that the current state of the list and all its sessions has been written to storage.
+     */
+    void markAsSaved();
+
+    /**
+     * Returns the statistics of every student over the sessions in this list as they were saved, keyed by their
+     * NUSNET IDs, if they were read from storage together with the list and the list has not changed since.
+     */
+    Optional<Map<NusnetId, StudentStatistics>> getSavedStatistics();
+
+    /**
+     * Records that {@code savedStatistics} are the statistics of every student over the sessions in this list as
+     * they are in storage. The list must have no unsaved changes. The statistics are forgotten when it changes.
+     */
+    void setSavedStatistics(Map<NusnetId, StudentStatistics> savedStatistics);
+
     /**
      * Returns the session list as an unmodifiable {@code ObservableList}
      */
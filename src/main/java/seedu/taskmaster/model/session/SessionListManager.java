@@ -3,22 +3,42 @@ package seedu.taskmaster.model.session;
 import static java.util.Objects.requireNonNull;
 import static seedu.taskmaster.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.exceptions.DuplicateSessionException;
 import seedu.taskmaster.model.session.exceptions.SessionNotFoundException;
+import seedu.taskmaster.model.student.NusnetId;
 
 /**
  * Represents a list of sessions.
+ *
+ * Besides the displayed list, the sessions are indexed by name, so that a session is found by its name in constant
+ * time, and kept in order of their date and time, so that the sessions in a period are found without reading every
+ * session. Both indexes are updated together with the list by every method that changes it.
  */
 public class SessionListManager implements SessionList {
 
     private final ObservableList<Session> internalList = FXCollections.observableArrayList();
     private final ObservableList<Session> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<SessionName, Session> sessionOfName = new HashMap<>();
+    private final NavigableMap<SessionDateTime, List<Session>> sessionsAtDateTime = new TreeMap<>();
+    private boolean isModified;
+    /** The statistics saved with the sessions in this list, or null if there are none that are up to date. */
+    private Map<NusnetId, StudentStatistics> savedStatistics;
 
     /**
      * Initialises an {@code SessionListManager} with the given {@code sessions}.
@@ -31,12 +51,11 @@ public class SessionListManager implements SessionList {
 
     @Override
     public Session get(SessionName sessionName) throws SessionNotFoundException {
-        for (int i = 0; i < getNumberOfSessions(); i++) {
-            if (internalList.get(i).getSessionName().equals(sessionName)) {
-                return internalList.get(i);
-            }
+        Session session = sessionOfName.get(sessionName);
+        if (session == null) {
+            throw new SessionNotFoundException();
         }
-        throw new SessionNotFoundException();
+        return session;
     }
 
     public int getNumberOfSessions() {
@@ -48,19 +67,15 @@ public class SessionListManager implements SessionList {
      */
     @Override
     public boolean contains(Session session) {
-        return internalList.contains(session);
+        Session sessionWithSameName = sessionOfName.get(session.getSessionName());
+        return sessionWithSameName != null && sessionWithSameName.equals(session);
     }
 
     /**
      * Returns true if the session list contains a session with {@code sessionName}.
      */
     public boolean contains(SessionName sessionName) {
-        for (Session session : internalList) {
-            if (session.getSessionName().equals(sessionName)) {
-                return true;
-            }
-        }
-        return false;
+        return sessionOfName.containsKey(sessionName);
     }
 
     /**
@@ -76,27 +91,55 @@ public class SessionListManager implements SessionList {
         if (contains(toAdd.getSessionName())) {
             throw new DuplicateSessionException();
         }
+        addToIndexes(toAdd);
         internalList.add(toAdd);
+        isModified = true;
+        savedStatistics = null;
     }
 
     @Override
-    public void delete(SessionName toDelete) {
+    public void add(int index, Session toAdd) throws DuplicateSessionException {
+        requireNonNull(toAdd);
+        if (contains(toAdd.getSessionName())) {
+            throw new DuplicateSessionException();
+        }
+        addToIndexes(toAdd);
+        internalList.add(index, toAdd);
+        isModified = true;
+        savedStatistics = null;
+    }
+
+    @Override
+    public int delete(SessionName toDelete) {
         requireNonNull(toDelete);
-        if (!contains(toDelete)) {
+        Session deletedSession = sessionOfName.remove(toDelete);
+        if (deletedSession == null) {
             throw new SessionNotFoundException();
         }
-        internalList.removeIf(session -> session.getSessionName().equals(toDelete));
+        List<Session> sessionsAtSameDateTime = sessionsAtDateTime.get(deletedSession.getSessionDateTime());
+        sessionsAtSameDateTime.remove(deletedSession);
+        if (sessionsAtSameDateTime.isEmpty()) {
+            sessionsAtDateTime.remove(deletedSession.getSessionDateTime());
+        }
+        int index = internalList.indexOf(deletedSession);
+        internalList.remove(index);
+        isModified = true;
+        savedStatistics = null;
+        return index;
     }
 
     @Override
     public void setSessions(SessionListManager replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        isModified = true;
+        savedStatistics = null;
     }
 
     /**
      * Replaces the contents of this list with {@code sessions}.
-     * {@code sessions} must not contain duplicate sessions.
+     * {@code sessions} must not contain two sessions with the same name.
      */
     @Override
     public void setSessions(List<Session> sessions) {
@@ -104,18 +147,101 @@ public class SessionListManager implements SessionList {
         if (!sessionsAreUnique(sessions)) {
             throw new DuplicateSessionException();
         }
+        rebuildIndexes(sessions);
         internalList.setAll(sessions);
+        isModified = true;
+        savedStatistics = null;
+    }
+
+    /**
+     * Returns the sessions in order of their date and time, from the earliest to the latest.
+     * Sessions conducted at the same date and time are in the order in which they were added.
+     */
+    @Override
+    public List<Session> getSessionsInChronologicalOrder() {
+        return flatten(sessionsAtDateTime.values());
+    }
+
+    /**
+     * Returns the sessions conducted from {@code start}, inclusive, to {@code end}, exclusive, in order of their date
+     * and time.
+     */
+    @Override
+    public List<Session> getSessionsBetween(SessionDateTime start, SessionDateTime end) {
+        requireAllNonNull(start, end);
+        if (start.compareTo(end) >= 0) {
+            return new ArrayList<>();
+        }
+        return flatten(sessionsAtDateTime.subMap(start, true, end, false).values());
+    }
+
+    private static List<Session> flatten(Collection<List<Session>> sessionLists) {
+        List<Session> sessions = new ArrayList<>();
+        for (List<Session> sessionList : sessionLists) {
+            sessions.addAll(sessionList);
+        }
+        return sessions;
+    }
+
+    private void addToIndexes(Session session) {
+        sessionOfName.put(session.getSessionName(), session);
+        sessionsAtDateTime.computeIfAbsent(session.getSessionDateTime(), dateTime -> new ArrayList<>(1))
+                .add(session);
+    }
+
+    /**
+     * Replaces the contents of the indexes with {@code sessions}, which must not contain two sessions with the same
+     * name.
+     */
+    private void rebuildIndexes(List<Session> sessions) {
+        sessionOfName.clear();
+        sessionsAtDateTime.clear();
+        sessions.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Returns true if sessions have been added, deleted or replaced, or if the records of any session have changed,
+     * since this list was created or last saved.
+     */
+    @Override
+    public boolean isModified() {
+        return isModified || internalList.stream().anyMatch(Session::isModified);
+    }
+
+    /**
+     * Records that the current state of this list and all its sessions has been written to storage.
+     * Statistics saved with an earlier state of the list are forgotten.
+     */
+    @Override
+    public void markAsSaved() {
+        isModified = false;
+        savedStatistics = null;
+        internalList.forEach(Session::markAsSaved);
+    }
+
+    @Override
+    public Optional<Map<NusnetId, StudentStatistics>> getSavedStatistics() {
+        if (isModified()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(savedStatistics);
+    }
+
+    @Override
+    public void setSavedStatistics(Map<NusnetId, StudentStatistics> savedStatistics) {
+        requireNonNull(savedStatistics);
+        assert !isModified();
+        this.savedStatistics = new HashMap<>(savedStatistics);
     }
 
     /**
-     * Returns true if {@code sessions} contains only unique sessions.
+     * Returns true if no two sessions in {@code sessions} have the same name.
      */
     private boolean sessionsAreUnique(List<Session> sessions) {
-        for (int i = 0; i < sessions.size() - 1; i++) {
-            for (int j = i + 1; j < sessions.size(); j++) {
-                if (sessions.get(i).equals(sessions.get(j))) {
-                    return false;
-                }
+        Set<SessionName> sessionNames = new HashSet<>();
+        for (Session session : sessions) {
+            if (!sessionNames.add(session.getSessionName())) {
+                return false;
             }
         }
         return true;
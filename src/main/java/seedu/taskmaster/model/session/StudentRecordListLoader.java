@@ -0,0 +1,20 @@
+package seedu.taskmaster.model.session;
+
+import seedu.taskmaster.model.record.StudentRecordList;
+import seedu.taskmaster.model.record.StudentTable;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+
+/**
+ * Reads the student records of a {@code Session} from storage when they are first needed.
+ */
+@FunctionalInterface
+public interface StudentRecordListLoader {
+
+    /**
+     * Returns the student records of the session, which refer to their students by their id in
+     * {@code studentTable}.
+     *
+     * @throws SessionLoadException if the student records could not be read.
+     */
+    StudentRecordList load(StudentTable studentTable) throws SessionLoadException;
+}
@@ -0,0 +1,206 @@
+package seedu.taskmaster.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * Keeps the {@code StudentStatistics} of every student over a set of sessions, so that the statistics of a student
+ * are found in constant time however many sessions there are, without reading any session from storage.
+ *
+ * The statistics are kept up to date by listening to the student records of each session: a record that is
+ * replaced is subtracted from the statistics of its student and the new record is added. Sessions read from storage
+ * together with the statistics saved with them are not loaded to be counted, as their records are already in the
+ * saved statistics. Each of them is only listened to once its records are loaded for some other reason, before
+ * they can be changed. A session that has not been loaded is only read to be counted if no statistics were saved
+ * with it, and to be subtracted when it is removed.
+ */
+public class StudentStatisticsStore {
+
+    private static final Logger logger = LogsCenter.getLogger(StudentStatisticsStore.class);
+
+    private final Map<NusnetId, StudentStatistics> statisticsOfNusnetId = new HashMap<>();
+    private final Map<SessionName, CountedSession> countedSessions = new HashMap<>();
+    /** The sessions counted in saved statistics whose records have not been loaded yet. */
+    private final Map<SessionName, SavedSession> savedSessions = new HashMap<>();
+    /** True if a session could not be read to be counted or subtracted, which leaves the statistics incomplete. */
+    private boolean hasUncountedSessions;
+
+    /**
+     * Adds the records of {@code session} to the statistics, reading them from storage if they have not been loaded.
+     * A session with the same name must not have been added already. A session that cannot be loaded is left out of
+     * the statistics.
+     */
+    public void addSession(Session session) {
+        requireNonNull(session);
+        assert !hasSession(session.getSessionName());
+        try {
+            ObservableList<StudentRecord> studentRecords = session.getStudentRecords();
+            studentRecords.forEach(this::add);
+            listen(session.getSessionName(), studentRecords);
+        } catch (SessionLoadException sle) {
+            logger.warning("Leaving a session out of the student statistics: " + sle.getMessage());
+            hasUncountedSessions = true;
+        }
+    }
+
+    /**
+     * Replaces the sessions in the statistics with {@code sessions}. If {@code savedStatistics} is present, it must
+     * be the statistics of every student over {@code sessions} as they were saved, and the sessions are not read to
+     * be counted. Otherwise, each session is added as {@link #addSession} does.
+     */
+    public void setSessions(List<Session> sessions, Optional<Map<NusnetId, StudentStatistics>> savedStatistics) {
+        requireNonNull(sessions);
+        requireNonNull(savedStatistics);
+        clear();
+        if (!savedStatistics.isPresent()) {
+            sessions.forEach(this::addSession);
+            return;
+        }
+
+        statisticsOfNusnetId.putAll(savedStatistics.get());
+        for (Session session : sessions) {
+            SessionName sessionName = session.getSessionName();
+            if (session.isLoaded()) {
+                listen(sessionName, session.getStudentRecords());
+            } else {
+                Consumer<ObservableList<StudentRecord>> loadListener = studentRecords -> {
+                    savedSessions.remove(sessionName);
+                    listen(sessionName, studentRecords);
+                };
+                session.addLoadListener(loadListener);
+                savedSessions.put(sessionName, new SavedSession(session, loadListener));
+            }
+        }
+    }
+
+    /**
+     * Removes the records of the session named {@code sessionName} from the statistics, if it was added.
+     */
+    public void removeSession(SessionName sessionName) {
+        requireNonNull(sessionName);
+        SavedSession savedSession = savedSessions.remove(sessionName);
+        if (savedSession != null) {
+            savedSession.session.removeLoadListener(savedSession.loadListener);
+            try {
+                savedSession.session.getStudentRecords().forEach(this::subtract);
+            } catch (SessionLoadException sle) {
+                logger.warning("Could not remove a session from the student statistics: " + sle.getMessage());
+                hasUncountedSessions = true;
+            }
+            return;
+        }
+        CountedSession countedSession = countedSessions.remove(sessionName);
+        if (countedSession != null) {
+            countedSession.studentRecords.removeListener(countedSession.listener);
+            countedSession.studentRecords.forEach(this::subtract);
+        }
+    }
+
+    /**
+     * Removes every session from the statistics.
+     */
+    public void clear() {
+        countedSessions.values().forEach(countedSession ->
+                countedSession.studentRecords.removeListener(countedSession.listener));
+        countedSessions.clear();
+        savedSessions.values().forEach(savedSession ->
+                savedSession.session.removeLoadListener(savedSession.loadListener));
+        savedSessions.clear();
+        statisticsOfNusnetId.clear();
+        hasUncountedSessions = false;
+    }
+
+    /**
+     * Returns the statistics of the student with {@code nusnetId} over all the sessions added.
+     */
+    public StudentStatistics get(NusnetId nusnetId) {
+        requireNonNull(nusnetId);
+        return statisticsOfNusnetId.getOrDefault(nusnetId, StudentStatistics.EMPTY);
+    }
+
+    /**
+     * Returns a copy of the statistics of every student with a record in the sessions added, keyed by their NUSNET
+     * IDs, or {@code Optional.empty()} if a session could not be read to be counted.
+     */
+    public Optional<Map<NusnetId, StudentStatistics>> getAll() {
+        if (hasUncountedSessions) {
+            return Optional.empty();
+        }
+        return Optional.of(new HashMap<>(statisticsOfNusnetId));
+    }
+
+    private boolean hasSession(SessionName sessionName) {
+        return countedSessions.containsKey(sessionName) || savedSessions.containsKey(sessionName);
+    }
+
+    /**
+     * Keeps the statistics up to date with later changes to {@code studentRecords}, which are already counted.
+     */
+    private void listen(SessionName sessionName, ObservableList<StudentRecord> studentRecords) {
+        ListChangeListener<StudentRecord> listener = this::onStudentRecordsChanged;
+        studentRecords.addListener(listener);
+        countedSessions.put(sessionName, new CountedSession(studentRecords, listener));
+    }
+
+    private void onStudentRecordsChanged(ListChangeListener.Change<? extends StudentRecord> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::subtract);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(StudentRecord studentRecord) {
+        NusnetId nusnetId = studentRecord.getNusnetId();
+        statisticsOfNusnetId.put(nusnetId,
+                statisticsOfNusnetId.getOrDefault(nusnetId, StudentStatistics.EMPTY).plus(studentRecord));
+    }
+
+    private void subtract(StudentRecord studentRecord) {
+        StudentStatistics statistics = statisticsOfNusnetId.get(studentRecord.getNusnetId()).minus(studentRecord);
+        if (statistics.getSessionCount() == 0) {
+            statisticsOfNusnetId.remove(studentRecord.getNusnetId());
+        } else {
+            statisticsOfNusnetId.put(studentRecord.getNusnetId(), statistics);
+        }
+    }
+
+    /**
+     * The student records of a counted session and the listener that keeps the statistics up to date with them.
+     */
+    private static class CountedSession {
+        private final ObservableList<StudentRecord> studentRecords;
+        private final ListChangeListener<StudentRecord> listener;
+
+        CountedSession(ObservableList<StudentRecord> studentRecords, ListChangeListener<StudentRecord> listener) {
+            this.studentRecords = studentRecords;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * A session counted in saved statistics and the listener that starts listening to its records once they load.
+     */
+    private static class SavedSession {
+        private final Session session;
+        private final Consumer<ObservableList<StudentRecord>> loadListener;
+
+        SavedSession(Session session, Consumer<ObservableList<StudentRecord>> loadListener) {
+            this.session = session;
+            this.loadListener = loadListener;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.taskmaster.model.session.exceptions;
+
+/**
+ * Signals that the student records of a session could not be read from storage.
+ */
+public class SessionLoadException extends SessionException {
+
+    private static final String MESSAGE_FORMAT = "Could not load the records of session %1$s: %2$s";
+
+    private final String message;
+
+    /**
+     * Creates a {@code SessionLoadException} for the session named {@code sessionName} caused by {@code cause}.
+     */
+    public SessionLoadException(String sessionName, Throwable cause) {
+        super();
+        initCause(cause);
+        this.message = String.format(MESSAGE_FORMAT, sessionName, cause.getMessage());
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+}
@@ -0,0 +1,130 @@
+package seedu.taskmaster.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+import javafx.collections.transformation.FilteredList;
+
+/**
+ * An unmodifiable view of the students in a {@code UniqueStudentList} that are shown: either those passing a
+ * predicate, which are found by testing every student, or those matching the keywords of a search, which are found in
+ * the search index of the list without reading the other students.
+ *
+ * While a search is shown, a change to the list only finds the matching students again if a student added or removed
+ * matches the keywords, as the other students cannot change the students shown.
+ */
+public class FilteredStudentList extends ObservableListBase<Student> {
+
+    private final UniqueStudentList students;
+    private final FilteredList<Student> filteredStudents;
+    private StudentMatchesKeywordsPredicate searchPredicate;
+    /** The students matching {@code searchPredicate} in list order, or null if no search is shown. */
+    private List<Student> matchingStudents;
+
+    /**
+     * Creates a {@code FilteredStudentList} showing every student in {@code students}.
+     */
+    public FilteredStudentList(UniqueStudentList students) {
+        requireNonNull(students);
+        this.students = students;
+        filteredStudents = new FilteredList<>(students.asUnmodifiableObservableList());
+        filteredStudents.addListener(this::onFilteredStudentsChanged);
+        students.asUnmodifiableObservableList().addListener(this::onStudentsChanged);
+    }
+
+    /**
+     * Shows the students passing {@code predicate}.
+     */
+    public void setPredicate(Predicate<Student> predicate) {
+        requireNonNull(predicate);
+        if (matchingStudents == null) {
+            filteredStudents.setPredicate(predicate);
+            return;
+        }
+
+        // The filtered students are not shown while a search is, so the change of predicate is not passed on
+        filteredStudents.setPredicate(predicate);
+        List<Student> shownStudents = matchingStudents;
+        matchingStudents = null;
+        searchPredicate = null;
+        replaceShownStudents(shownStudents);
+    }
+
+    /**
+     * Shows the students matching the keywords of {@code predicate}, found in the search index of the list.
+     */
+    public void setSearch(StudentMatchesKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<Student> shownStudents = matchingStudents == null ? filteredStudents : matchingStudents;
+        searchPredicate = predicate;
+        matchingStudents = students.findMatchingStudents(predicate);
+        replaceShownStudents(shownStudents);
+    }
+
+    @Override
+    public Student get(int index) {
+        return matchingStudents == null ? filteredStudents.get(index) : matchingStudents.get(index);
+    }
+
+    @Override
+    public int size() {
+        return matchingStudents == null ? filteredStudents.size() : matchingStudents.size();
+    }
+
+    /**
+     * Reports that the students shown, which were {@code shownStudents}, have all been replaced.
+     */
+    private void replaceShownStudents(List<Student> shownStudents) {
+        beginChange();
+        nextReplace(0, size(), shownStudents);
+        endChange();
+    }
+
+    private void onFilteredStudentsChanged(ListChangeListener.Change<? extends Student> change) {
+        if (matchingStudents != null) {
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(change.getFrom(), change.getTo(), change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            } else if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    private void onStudentsChanged(ListChangeListener.Change<? extends Student> change) {
+        if (matchingStudents == null) {
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemoved().stream().anyMatch(searchPredicate)
+                    || change.getAddedSubList().stream().anyMatch(searchPredicate)) {
+                List<Student> shownStudents = matchingStudents;
+                matchingStudents = students.findMatchingStudents(searchPredicate);
+                replaceShownStudents(shownStudents);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.taskmaster.model.student;
+
+import static seedu.taskmaster.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds the students matching a search as it is typed, reusing the students found by the previous search when the
+ * search only narrows it.
+ *
+ * Keywords are matched as {@code StudentMatchesKeywordsPredicate} matches them, so that the students found as a
+ * {@code find-students} command is typed are those it finds once entered. A search whose keywords each match only
+ * tokens that the keyword in the same place of the previous search matched can only match students that the previous
+ * search matched, so only those students are read again. This is so when a keyword is unchanged, or when the previous
+ * keyword matched by prefix and the keyword starts with that prefix.
+ *
+ * A search only reads the students it is given, and may be used from any thread, but by one thread at a time.
+ */
+public class IncrementalStudentSearch {
+
+    private List<Student> previousStudents;
+    private List<String> previousKeywords = Collections.emptyList();
+    private List<Student> previousMatches = Collections.emptyList();
+    private int studentsRead;
+
+    /**
+     * Returns the students in {@code students} matching any of {@code keywords}, in order.
+     * {@code students} is a snapshot which must not change once given, as the students found in it are reused by
+     * the next search of the same snapshot.
+     */
+    public List<Student> find(List<Student> students, List<String> keywords) {
+        requireAllNonNull(students, keywords);
+        List<Student> candidates = isNarrowing(students, keywords) ? previousMatches : students;
+        StudentMatchesKeywordsPredicate predicate = new StudentMatchesKeywordsPredicate(keywords);
+        List<Student> matches = new ArrayList<>();
+        for (Student student : candidates) {
+            if (predicate.test(student)) {
+                matches.add(student);
+            }
+        }
+
+        studentsRead = candidates.size();
+        previousStudents = students;
+        previousKeywords = new ArrayList<>(keywords);
+        previousMatches = Collections.unmodifiableList(matches);
+        return previousMatches;
+    }
+
+    /**
+     * Returns the number of students read by the latest search.
+     */
+    int getStudentsRead() {
+        return studentsRead;
+    }
+
+    /**
+     * Returns true if a search of {@code students} for {@code keywords} only matches students that the previous
+     * search matched.
+     */
+    private boolean isNarrowing(List<Student> students, List<String> keywords) {
+        if (students != previousStudents || keywords.size() != previousKeywords.size()) {
+            return false;
+        }
+        for (int i = 0; i < keywords.size(); i++) {
+            if (!isNarrowing(previousKeywords.get(i), keywords.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code keyword} only matches tokens that {@code previousKeyword} matches.
+     */
+    private static boolean isNarrowing(String previousKeyword, String keyword) {
+        String previousWord = StudentSearchIndex.normalise(previousKeyword);
+        String word = StudentSearchIndex.normalise(keyword);
+        if (StudentSearchIndex.isPrefix(previousKeyword)) {
+            return word.startsWith(previousWord);
+        }
+        return !StudentSearchIndex.isPrefix(keyword) && word.equals(previousWord);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.taskmaster.model.student;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a word of a {@code Student}'s {@code Name}, or their NUSNET ID, email or Telegram handle, matches any of
+ * the keywords given, ignoring case. A keyword ending with {@code *} matches anything starting with the rest of it.
+ */
+public class StudentMatchesKeywordsPredicate implements Predicate<Student> {
+    private final List<String> keywords;
+
+    public StudentMatchesKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return keywords.stream().anyMatch(keyword -> StudentSearchIndex.matches(student, keyword));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentMatchesKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((StudentMatchesKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -0,0 +1,123 @@
+package seedu.taskmaster.model.student;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index of students by the words of their names and by their NUSNET ID, email and Telegram handle, so
+ * that the students matching a search are found without reading every student.
+ *
+ * Tokens are kept in lower case and in order, so that the students with a token starting with a prefix are found by
+ * reading only the range of tokens with that prefix.
+ */
+class StudentSearchIndex {
+
+    /** The suffix of a keyword that matches every token starting with the rest of the keyword. */
+    static final String PREFIX_WILDCARD = "*";
+
+    private final NavigableMap<String, Set<NusnetId>> studentsOfToken = new TreeMap<>();
+
+    /**
+     * Adds the tokens of {@code student} to the index.
+     */
+    void add(Student student) {
+        for (String token : getTokens(student)) {
+            studentsOfToken.computeIfAbsent(token, t -> new HashSet<>(1)).add(student.getNusnetId());
+        }
+    }
+
+    /**
+     * Removes the tokens of {@code student} from the index.
+     */
+    void remove(Student student) {
+        for (String token : getTokens(student)) {
+            Set<NusnetId> students = studentsOfToken.get(token);
+            if (students != null && students.remove(student.getNusnetId()) && students.isEmpty()) {
+                studentsOfToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the tokens of {@code students}.
+     */
+    void setStudents(Collection<Student> students) {
+        studentsOfToken.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the NUSNET IDs of the students with a token matching any of {@code keywords}.
+     */
+    Set<NusnetId> find(List<String> keywords) {
+        Set<NusnetId> matchingStudents = new HashSet<>();
+        for (String keyword : keywords) {
+            String normalisedKeyword = normalise(keyword);
+            if (!isPrefix(keyword)) {
+                matchingStudents.addAll(studentsOfToken.getOrDefault(normalisedKeyword, Collections.emptySet()));
+                continue;
+            }
+            for (Set<NusnetId> students : getTokensStartingWith(normalisedKeyword).values()) {
+                matchingStudents.addAll(students);
+            }
+        }
+        return matchingStudents;
+    }
+
+    private Map<String, Set<NusnetId>> getTokensStartingWith(String prefix) {
+        return studentsOfToken.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns true if {@code student} has a token matching {@code keyword}, found by reading the student rather than
+     * the index.
+     */
+    static boolean matches(Student student, String keyword) {
+        String normalisedKeyword = normalise(keyword);
+        boolean isPrefix = isPrefix(keyword);
+        for (String token : getTokens(student)) {
+            if (isPrefix ? token.startsWith(normalisedKeyword) : token.equals(normalisedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the tokens by which {@code student} can be found: each word of their name, and their NUSNET ID, email
+     * and Telegram handle, in lower case.
+     */
+    private static List<String> getTokens(Student student) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : student.getName().fullName.split("\\s+")) {
+            tokens.add(word.toLowerCase(Locale.ROOT));
+        }
+        tokens.add(student.getNusnetId().value.toLowerCase(Locale.ROOT));
+        tokens.add(student.getEmail().value.toLowerCase(Locale.ROOT));
+        tokens.add(student.getTelegram().value.toLowerCase(Locale.ROOT));
+        return tokens;
+    }
+
+    /**
+     * Returns true if {@code keyword} matches every token starting with the rest of it.
+     */
+    static boolean isPrefix(String keyword) {
+        return keyword.endsWith(PREFIX_WILDCARD);
+    }
+
+    /**
+     * Returns {@code keyword} in lower case, without its prefix wildcard.
+     */
+    static String normalise(String keyword) {
+        String word = isPrefix(keyword) ? keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length()) : keyword;
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
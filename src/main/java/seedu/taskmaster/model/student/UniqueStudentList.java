@@ -3,8 +3,14 @@ package seedu.taskmaster.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.taskmaster.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +26,12 @@ import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The position of each student in the list is indexed by their NUSNET ID, so that a student is found, added and
+ * replaced in constant time. Removing a student moves the students after them, so the positions are re-indexed
+ * when a student is next looked up, while the NUSNET IDs in the index are always those of the students in the list.
+ * The students are also indexed by the words of their names and their other details, so that the students matching a
+ * search are found without reading every student.
+ *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
@@ -27,13 +39,28 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<NusnetId, Integer> positionOfNusnetId = new HashMap<>();
+    private boolean isPositionIndexValid = true;
+    private final StudentSearchIndex searchIndex = new StudentSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return positionOfNusnetId.containsKey(toCheck.getNusnetId());
+    }
+
+    /**
+     * Returns the student in the list with {@code nusnetId}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Student> get(NusnetId nusnetId) {
+        requireNonNull(nusnetId);
+        if (!isPositionIndexValid) {
+            rebuildPositionIndex();
+        }
+        Integer position = positionOfNusnetId.get(nusnetId);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -45,9 +72,51 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
+        positionOfNusnetId.put(toAdd.getNusnetId(), internalList.size());
+        searchIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a student into the list at {@code index}.
+     * The student must not already exist in the list.
+     */
+    public void add(int index, Student toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateStudentException();
+        }
+        searchIndex.add(toAdd);
+        positionOfNusnetId.put(toAdd.getNusnetId(), index);
+        // The students after the inserted student are moving
+        if (index < internalList.size()) {
+            isPositionIndexValid = false;
+        }
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, in a single change to the list.
+     * None of the students may already exist in the list, and {@code toAdd} must not contain duplicate students.
+     */
+    public void addAll(List<Student> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!studentsAreUnique(toAdd)) {
+            throw new DuplicateStudentException();
+        }
+        for (Student student : toAdd) {
+            if (contains(student)) {
+                throw new DuplicateStudentException();
+            }
+        }
+
+        for (int i = 0; i < toAdd.size(); i++) {
+            positionOfNusnetId.put(toAdd.get(i).getNusnetId(), internalList.size() + i);
+            searchIndex.add(toAdd.get(i));
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
@@ -56,31 +125,41 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new StudentNotFoundException();
-        }
-
-        if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
-            throw new DuplicateStudentException();
+        int index = getPositionOf(target);
+        if (!target.isSameStudent(editedStudent)) {
+            if (contains(editedStudent)) {
+                throw new DuplicateStudentException();
+            }
+            positionOfNusnetId.remove(target.getNusnetId());
+            positionOfNusnetId.put(editedStudent.getNusnetId(), index);
         }
 
+        searchIndex.remove(target);
+        searchIndex.add(editedStudent);
         internalList.set(index, editedStudent);
     }
 
     /**
-     * Removes the equivalent student from the list.
+     * Removes the equivalent student from the list, and returns the position they were at.
      * The student must exist in the list.
      */
-    public void remove(Student toRemove) {
+    public int remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new StudentNotFoundException();
+        int index = getPositionOf(toRemove);
+        searchIndex.remove(toRemove);
+        positionOfNusnetId.remove(toRemove.getNusnetId());
+        // The students after the removed student are moving
+        if (index < internalList.size() - 1) {
+            isPositionIndexValid = false;
         }
+        internalList.remove(index);
+        return index;
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
+        searchIndex.setStudents(replacement.internalList);
+        indexPositions(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,9 +173,31 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
+        searchIndex.setStudents(students);
+        indexPositions(students);
         internalList.setAll(students);
     }
 
+    /**
+     * Returns the students in this list matching the keywords of {@code predicate}, in list order, found in the search
+     * index without reading the other students.
+     */
+    public List<Student> findMatchingStudents(StudentMatchesKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        if (!isPositionIndexValid) {
+            rebuildPositionIndex();
+        }
+        int[] positions = searchIndex.find(predicate.getKeywords()).stream()
+                .mapToInt(positionOfNusnetId::get)
+                .sorted()
+                .toArray();
+        List<Student> matchingStudents = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            matchingStudents.add(internalList.get(position));
+        }
+        return matchingStudents;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -121,15 +222,50 @@ public class UniqueStudentList implements Iterable<Student> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position in the list of the student equal to {@code student}.
+     *
+     * @throws StudentNotFoundException if no student in the list is equal to {@code student}.
+     */
+    private int getPositionOf(Student student) throws StudentNotFoundException {
+        if (!isPositionIndexValid) {
+            rebuildPositionIndex();
+        }
+        Integer position = positionOfNusnetId.get(student.getNusnetId());
+        if (position == null || !internalList.get(position).equals(student)) {
+            throw new StudentNotFoundException();
+        }
+        return position;
+    }
+
+    /**
+     * Re-indexes the position of every student in the list by their NUSNET ID.
+     */
+    private void rebuildPositionIndex() {
+        indexPositions(internalList);
+    }
+
+    /**
+     * Re-indexes the position of every student in {@code students} by their NUSNET ID, before they replace the
+     * contents of the list, so that the index is up to date when the list reports the change.
+     */
+    private void indexPositions(List<Student> students) {
+        positionOfNusnetId.clear();
+        for (int i = 0; i < students.size(); i++) {
+            positionOfNusnetId.put(students.get(i).getNusnetId(), i);
+        }
+        isPositionIndexValid = true;
+    }
+
     /**
      * Returns true if {@code students} contains only unique students.
      */
     private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+        // Students are the same student exactly when their NUSNET IDs are equal
+        Set<NusnetId> nusnetIds = new HashSet<>();
+        for (Student student : students) {
+            if (!nusnetIds.add(student.getNusnetId())) {
+                return false;
             }
         }
         return true;
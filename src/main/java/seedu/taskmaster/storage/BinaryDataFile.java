@@ -0,0 +1,156 @@
+package seedu.taskmaster.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.util.FileUtil;
+
+/**
+ * Reads and writes the data files of {@link BinaryTaskmasterStorage}.
+ *
+ * Every file starts with a header made up of a magic number, the version of the format that it was written in and
+ * the kind of data that it holds, so that a file of the wrong kind or from a newer version of TAskmaster is rejected
+ * instead of being misread.
+ *
+ * A file is read into a {@code ByteBuffer}, either by reading it into memory or by memory-mapping it. A file is
+ * written with {@link FileUtil#writeToFileAtomically}, which renames a new file over it. Where a file may be replaced
+ * while it is mapped, a mapping of the previous contents of the file stays valid after the file is saved again.
+ * Windows does not allow a mapped file to be replaced until the mapping is garbage collected, which would make every
+ * save after a mapped read fail, so files are always read into memory there.
+ */
+class BinaryDataFile {
+
+    /** The kind of data in a file holding the student list. */
+    static final byte STUDENT_LIST = 1;
+    /** The kind of data in a file holding the session list. */
+    static final byte SESSION_LIST = 2;
+
+    static final String MESSAGE_NOT_A_DATA_FILE = "%1$s is not a TAskmaster binary data file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "%1$s was written in an unsupported format version %2$d";
+    static final String MESSAGE_WRONG_KIND = "%1$s does not hold the expected kind of data";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryDataFile.class);
+
+    private static final int MAGIC_NUMBER = 0x544d4246; // "TMBF"
+    private static final short FORMAT_VERSION = 1;
+    private static final boolean IS_MAPPING_SUPPORTED = !System.getProperty("os.name").startsWith("Windows");
+
+    /**
+     * Returns the contents of {@code filePath} after checking that its header is that of a file holding
+     * {@code kind}. The position of the returned buffer is just past the header.
+     * If {@code isMapped} is true, the file is memory-mapped instead of being read into memory where mapped files
+     * can be replaced, so that its contents are only paged in as they are accessed.
+     *
+     * @return {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file cannot be read or its header is not as expected.
+     */
+    static Optional<ByteBuffer> openForReading(Path filePath, byte kind, boolean isMapped)
+            throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer contents = isMapped && IS_MAPPING_SUPPORTED
+                    ? map(filePath)
+                    : ByteBuffer.wrap(Files.readAllBytes(filePath));
+            checkHeader(contents, filePath, kind);
+            return Optional.of(contents);
+        } catch (IOException | BufferUnderflowException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns a stream that reads {@code contents} from its current position, advancing the position of
+     * {@code contents} by exactly the number of bytes read.
+     */
+    static DataInputStream inputStreamOf(ByteBuffer contents) {
+        return new DataInputStream(new ByteBufferInputStream(contents));
+    }
+
+    /**
+     * Replaces the contents of {@code filePath} with the header of a file holding {@code kind}, followed by what
+     * {@code contentWriter} writes. The file is created if it is missing.
+     */
+    static void write(Path filePath, byte kind, ContentWriter contentWriter) throws IOException {
+        FileUtil.writeToFileAtomically(filePath, out -> writeContents(new DataOutputStream(out), kind, contentWriter));
+    }
+
+    private static void writeContents(DataOutputStream out, byte kind, ContentWriter contentWriter)
+            throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+        out.writeByte(kind);
+        contentWriter.write(out);
+    }
+
+    private static ByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static void checkHeader(ByteBuffer contents, Path filePath, byte kind) throws IOException {
+        if (contents.getInt() != MAGIC_NUMBER) {
+            throw new IOException(String.format(MESSAGE_NOT_A_DATA_FILE, filePath));
+        }
+        short version = contents.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version));
+        }
+        if (contents.get() != kind) {
+            throw new IOException(String.format(MESSAGE_WRONG_KIND, filePath));
+        }
+    }
+
+    /**
+     * Writes the contents of a binary data file after its header.
+     */
+    @FunctionalInterface
+    interface ContentWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * An {@code InputStream} over the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int bytesRead = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, bytesRead);
+            return bytesRead;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package seedu.taskmaster.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.StringUtil;
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentRecordList;
+import seedu.taskmaster.model.record.StudentRecordListManager;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionList;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * Reads and writes the session list of a Taskmaster in the binary format of {@link BinaryTaskmasterStorage}.
+ *
+ * After the header, the file holds a table of every distinct NUSNET ID and a table of every distinct student name
+ * in the session list. Each session is then written as its name, its date and time, and its number of records,
+ * followed by the columns of its records as described in {@link BinaryStudentRecords}.
+ * The same students appear in every session, so each NUSNET ID and name is only written once however many sessions
+ * there are.
+ *
+ * The file ends with the statistics of every student over the session list, if they are known, so that they need not
+ * be counted from the records of every session. A file written before the statistics were kept ends after the last
+ * session instead.
+ *
+ * When the columns of the file as it was last read or written are kept in a {@link BinarySessionColumns}, the
+ * columns of sessions without unsaved changes are copied from there into the next save, and only the records of the
+ * other sessions are encoded again.
+ */
+class BinarySerializableSessionList {
+
+    public static final String MESSAGE_DUPLICATE_SESSION = JsonSerializableSessionList.MESSAGE_DUPLICATE_SESSION;
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySerializableSessionList.class);
+
+    /**
+     * Reads the session list in the binary file at {@code filePath}.
+     * If {@code isMapped} is true, the file is memory-mapped where possible, and the records of each session are
+     * only decoded as they are needed, and each record is checked as it is decoded, so that a record that is not
+     * valid is reported as a {@code SessionLoadException} when it is read. Otherwise, every record is read into
+     * memory and checked to be valid before this method returns.
+     *
+     * @return {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<SessionList> readModelType(Path filePath, boolean isMapped)
+            throws DataConversionException, IllegalValueException {
+        return readModelType(filePath, isMapped, new BinarySessionColumns());
+    }
+
+    /**
+     * Reads the session list in the binary file at {@code filePath} as {@link #readModelType(Path, boolean)} does,
+     * and keeps the columns of each session in {@code savedColumns}, as they are in the mapped file or in the copy
+     * of the file read into memory.
+     *
+     * @return {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<SessionList> readModelType(Path filePath, boolean isMapped,
+            BinarySessionColumns savedColumns) throws DataConversionException, IllegalValueException {
+        savedColumns.clear();
+        Optional<ByteBuffer> contents = BinaryDataFile.openForReading(filePath, BinaryDataFile.SESSION_LIST,
+                isMapped);
+        if (!contents.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            DataInputStream in = BinaryDataFile.inputStreamOf(contents.get());
+            List<NusnetId> nusnetIds = readNusnetIdTable(in);
+            List<Name> names = readNameTable(in);
+
+            SessionCollector sessionCollector = new SessionCollector();
+            Map<SessionName, BinaryStudentRecords> sessionColumns = new HashMap<>();
+            int sessionCount = in.readInt();
+            for (int i = 0; i < sessionCount; i++) {
+                sessionCollector.add(readSession(in, contents.get(), nusnetIds, names, isMapped, sessionColumns));
+            }
+
+            Optional<Map<NusnetId, StudentStatistics>> statistics = readStatistics(in, contents.get());
+
+            SessionList sessionList = sessionCollector.toModelType();
+            savedColumns.set(nusnetIds, names, sessionColumns);
+            // Sessions read from storage have no unsaved changes
+            sessionList.markAsSaved();
+            statistics.ifPresent(sessionList::setSavedStatistics);
+            return Optional.of(sessionList);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Writes the session list of {@code source} to the binary file at {@code filePath}, encoding every record.
+     */
+    public static void save(ReadOnlyTaskmaster source, Path filePath) throws IOException {
+        BinaryDataFile.write(filePath, BinaryDataFile.SESSION_LIST, out ->
+                writeSessionList(out, source, new BinarySessionColumns(), new WrittenColumns()));
+    }
+
+    /**
+     * Writes the session list of {@code source} to the binary file at {@code filePath}, which must be the file
+     * whose columns are in {@code savedColumns}. The columns of sessions without unsaved changes are copied from
+     * {@code savedColumns}, and only the records of the other sessions are read and encoded. Once the file has been
+     * written, it is opened again, mapped if {@code isMapped} is true or read into memory otherwise, and its columns
+     * are kept in {@code savedColumns} in place of the previous ones.
+     */
+    public static void save(ReadOnlyTaskmaster source, Path filePath, BinarySessionColumns savedColumns,
+            boolean isMapped) throws IOException {
+        WrittenColumns writtenColumns = new WrittenColumns();
+        try {
+            BinaryDataFile.write(filePath, BinaryDataFile.SESSION_LIST, out ->
+                    writeSessionList(out, source, savedColumns, writtenColumns));
+        } catch (IOException ioe) {
+            // The columns kept may no longer be those in the file, so every record is encoded by the next save
+            savedColumns.clear();
+            throw ioe;
+        }
+
+        try {
+            Optional<ByteBuffer> contents = BinaryDataFile.openForReading(filePath, BinaryDataFile.SESSION_LIST,
+                    isMapped);
+            if (contents.isPresent()) {
+                writtenColumns.keepIn(savedColumns, contents.get());
+                return;
+            }
+        } catch (DataConversionException dce) {
+            logger.warning("Could not open " + filePath + " after saving it: " + StringUtil.getDetails(dce));
+        }
+        savedColumns.clear();
+    }
+
+    private static void writeSessionList(DataOutputStream out, ReadOnlyTaskmaster source,
+            BinarySessionColumns savedColumns, WrittenColumns writtenColumns) throws IOException {
+        List<Optional<BinaryStudentRecords>> copiedColumns = new ArrayList<>();
+        for (Session session : source.getSessionList()) {
+            copiedColumns.add(session.isModified() ? Optional.empty() : savedColumns.get(session.getSessionName()));
+        }
+        if (copiedColumns.stream().anyMatch(Optional::isPresent)) {
+            // The positions in the copied columns refer to the tables they were saved with
+            writtenColumns.addTables(savedColumns.getNusnetIds(), savedColumns.getNames());
+        }
+        for (int i = 0; i < copiedColumns.size(); i++) {
+            if (!copiedColumns.get(i).isPresent()) {
+                writtenColumns.addTables(source.getSessionList().get(i).getStudentRecords());
+            }
+        }
+
+        out.writeInt(writtenColumns.nusnetIds.size());
+        for (NusnetId nusnetId : writtenColumns.nusnetIds) {
+            out.writeUTF(nusnetId.value);
+        }
+        out.writeInt(writtenColumns.names.size());
+        for (Name name : writtenColumns.names) {
+            out.writeUTF(name.fullName);
+        }
+
+        out.writeInt(source.getSessionList().size());
+        for (int i = 0; i < copiedColumns.size(); i++) {
+            Session session = source.getSessionList().get(i);
+            out.writeUTF(session.getSessionName().name);
+            out.writeUTF(session.getSessionDateTime().toString());
+            if (copiedColumns.get(i).isPresent()) {
+                BinaryStudentRecords columns = copiedColumns.get(i).get();
+                out.writeInt(columns.size());
+                writtenColumns.addSession(session.getSessionName(), out.size(), columns.size());
+                columns.writeColumnsTo(out);
+            } else {
+                List<StudentRecord> studentRecords = session.getStudentRecords();
+                out.writeInt(studentRecords.size());
+                writtenColumns.addSession(session.getSessionName(), out.size(), studentRecords.size());
+                BinaryStudentRecords.write(out, studentRecords, writtenColumns.nusnetIdPositions,
+                        writtenColumns.namePositions);
+            }
+        }
+
+        writeStatistics(out, source.getStatisticsOfEveryStudent());
+    }
+
+    private static void writeStatistics(DataOutputStream out, Optional<Map<NusnetId, StudentStatistics>> statistics)
+            throws IOException {
+        out.writeBoolean(statistics.isPresent());
+        if (!statistics.isPresent()) {
+            return;
+        }
+        out.writeInt(statistics.get().size());
+        for (Map.Entry<NusnetId, StudentStatistics> entry : statistics.get().entrySet()) {
+            StudentStatistics studentStatistics = entry.getValue();
+            out.writeUTF(entry.getKey().value);
+            out.writeInt(studentStatistics.getCount(AttendanceType.PRESENT));
+            out.writeInt(studentStatistics.getCount(AttendanceType.ABSENT));
+            out.writeInt(studentStatistics.getCount(AttendanceType.NO_RECORD));
+            out.writeLong(studentStatistics.getScoreSumInHundredths());
+        }
+    }
+
+    /**
+     * Reads the statistics at the end of the file, if the file has any.
+     */
+    private static Optional<Map<NusnetId, StudentStatistics>> readStatistics(DataInputStream in, ByteBuffer contents)
+            throws IOException, IllegalValueException {
+        if (!contents.hasRemaining() || !in.readBoolean()) {
+            return Optional.empty();
+        }
+        int size = in.readInt();
+        Map<NusnetId, StudentStatistics> statistics = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String nusnetId = in.readUTF();
+            if (!NusnetId.isValidNusnetId(nusnetId)) {
+                throw new IllegalValueException(NusnetId.MESSAGE_CONSTRAINTS);
+            }
+            int presentCount = in.readInt();
+            int absentCount = in.readInt();
+            int noRecordCount = in.readInt();
+            long scoreSumInHundredths = in.readLong();
+            if (!StudentStatistics.isValidCounts(presentCount, absentCount, noRecordCount)) {
+                throw new IllegalValueException(StudentStatistics.MESSAGE_CONSTRAINTS);
+            }
+            statistics.put(new NusnetId(nusnetId),
+                    new StudentStatistics(presentCount, absentCount, noRecordCount, scoreSumInHundredths));
+        }
+        return Optional.of(statistics);
+    }
+
+    private static List<NusnetId> readNusnetIdTable(DataInputStream in) throws IOException, IllegalValueException {
+        int size = in.readInt();
+        List<NusnetId> nusnetIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String nusnetId = in.readUTF();
+            if (!NusnetId.isValidNusnetId(nusnetId)) {
+                throw new IllegalValueException(NusnetId.MESSAGE_CONSTRAINTS);
+            }
+            nusnetIds.add(new NusnetId(nusnetId));
+        }
+        return nusnetIds;
+    }
+
+    private static List<Name> readNameTable(DataInputStream in) throws IOException, IllegalValueException {
+        int size = in.readInt();
+        List<Name> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = in.readUTF();
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            names.add(new Name(name));
+        }
+        return names;
+    }
+
+    private static Session readSession(DataInputStream in, ByteBuffer contents, List<NusnetId> nusnetIds,
+            List<Name> names, boolean isMapped, Map<SessionName, BinaryStudentRecords> sessionColumns)
+            throws IOException, IllegalValueException {
+        String sessionName = in.readUTF();
+        if (!SessionName.isValidName(sessionName)) {
+            throw new IllegalValueException(SessionName.MESSAGE_CONSTRAINTS);
+        }
+        SessionDateTime sessionDateTime;
+        try {
+            sessionDateTime = new SessionDateTime(LocalDateTime.parse(in.readUTF(),
+                    SessionDateTime.DATE_TIME_FORMATTER));
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(SessionDateTime.MESSAGE_CONSTRAINTS);
+        }
+
+        int recordCount = in.readInt();
+        BinaryStudentRecords studentRecords = BinaryStudentRecords.read(new SessionName(sessionName), contents,
+                recordCount, nusnetIds, names);
+        sessionColumns.put(new SessionName(sessionName), studentRecords);
+        if (isMapped) {
+            // Each load gets its own list, so that changes made to one copy of the session do not affect another.
+            // The records are only checked when they are first used, so that the mapped file is not read in full.
+            return new Session(new SessionName(sessionName), sessionDateTime, studentTable -> {
+                studentRecords.checkBeforeUse();
+                return StudentRecordListManager.backedBy(studentRecords.copy());
+            });
+        }
+        // Records read into memory are kept in columns, which share the name and NUSNET ID objects of each student
+        studentRecords.checkRecords();
+        StudentRecordList studentRecordList = new StudentRecordListManager();
+        studentRecordList.setStudentRecords(new ArrayList<>(studentRecords));
+        return new Session(new SessionName(sessionName), sessionDateTime, studentRecordList);
+    }
+
+    /**
+     * The tables and the columns of each session in a session list file as it is being written.
+     */
+    private static class WrittenColumns {
+        private final List<NusnetId> nusnetIds = new ArrayList<>();
+        private final List<Name> names = new ArrayList<>();
+        private final Map<NusnetId, Integer> nusnetIdPositions = new HashMap<>();
+        private final Map<Name, Integer> namePositions = new HashMap<>();
+        private final Map<SessionName, Integer> columnsStarts = new HashMap<>();
+        private final Map<SessionName, Integer> recordCounts = new HashMap<>();
+
+        /**
+         * Adds {@code savedNusnetIds} and {@code savedNames} to the end of the tables as they are, so that their
+         * positions in the tables written are the same as in the tables they were saved in.
+         */
+        void addTables(List<NusnetId> savedNusnetIds, List<Name> savedNames) {
+            for (NusnetId nusnetId : savedNusnetIds) {
+                nusnetIdPositions.putIfAbsent(nusnetId, nusnetIds.size());
+                nusnetIds.add(nusnetId);
+            }
+            for (Name name : savedNames) {
+                namePositions.putIfAbsent(name, names.size());
+                names.add(name);
+            }
+        }
+
+        /**
+         * Adds the NUSNET IDs and names of {@code studentRecords} that are not in the tables yet.
+         */
+        void addTables(List<StudentRecord> studentRecords) {
+            for (StudentRecord studentRecord : studentRecords) {
+                if (nusnetIdPositions.putIfAbsent(studentRecord.getNusnetId(), nusnetIds.size()) == null) {
+                    nusnetIds.add(studentRecord.getNusnetId());
+                }
+                if (namePositions.putIfAbsent(studentRecord.getName(), names.size()) == null) {
+                    names.add(studentRecord.getName());
+                }
+            }
+        }
+
+        void addSession(SessionName sessionName, int columnsStart, int recordCount) {
+            columnsStarts.put(sessionName, columnsStart);
+            recordCounts.put(sessionName, recordCount);
+        }
+
+        /**
+         * Keeps the columns written in {@code savedColumns}, as they are in {@code contents}, the file written.
+         */
+        void keepIn(BinarySessionColumns savedColumns, ByteBuffer contents) {
+            Map<SessionName, BinaryStudentRecords> sessionColumns = new HashMap<>();
+            for (Map.Entry<SessionName, Integer> entry : columnsStarts.entrySet()) {
+                sessionColumns.put(entry.getKey(), BinaryStudentRecords.at(entry.getKey(), contents, entry.getValue(),
+                        recordCounts.get(entry.getKey()), nusnetIds, names));
+            }
+            savedColumns.set(nusnetIds, names, sessionColumns);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.taskmaster.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.tag.Tag;
+
+/**
+ * Reads and writes the student list of a Taskmaster in the binary format of {@link BinaryTaskmasterStorage}.
+ *
+ * After the header, the file holds the number of students followed by each student's name, telegram, email,
+ * NUSNET ID and tags.
+ */
+class BinarySerializableTaskmaster {
+
+    public static final String MESSAGE_DUPLICATE_STUDENT = JsonSerializableTaskmaster.MESSAGE_DUPLICATE_STUDENT;
+
+    /**
+     * Reads the student list in the binary file at {@code filePath} into the model's {@code Taskmaster} object.
+     *
+     * @return {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyTaskmaster> readModelType(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        Optional<ByteBuffer> contents = BinaryDataFile.openForReading(filePath, BinaryDataFile.STUDENT_LIST, false);
+        if (!contents.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            DataInputStream in = BinaryDataFile.inputStreamOf(contents.get());
+            StudentCollector studentCollector = new StudentCollector();
+            int studentCount = in.readInt();
+            for (int i = 0; i < studentCount; i++) {
+                studentCollector.add(readStudent(in));
+            }
+            return Optional.of(studentCollector.toModelType());
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Writes the student list of {@code source} to the binary file at {@code filePath}.
+     */
+    public static void save(ReadOnlyTaskmaster source, Path filePath) throws IOException {
+        BinaryDataFile.write(filePath, BinaryDataFile.STUDENT_LIST, out -> writeStudents(out, source));
+    }
+
+    private static Student readStudent(DataInputStream in) throws IOException, IllegalValueException {
+        String name = in.readUTF();
+        String telegram = in.readUTF();
+        String email = in.readUTF();
+        String nusnetId = in.readUTF();
+        int tagCount = in.readUnsignedShort();
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(in.readUTF()));
+        }
+
+        // Reuses the validation of the json format, so that both formats accept the same students
+        return new JsonAdaptedStudent(name, telegram, email, nusnetId, tags).toModelType();
+    }
+
+    private static void writeStudents(DataOutputStream out, ReadOnlyTaskmaster source) throws IOException {
+        out.writeInt(source.getStudentList().size());
+        for (Student student : source.getStudentList()) {
+            writeStudent(out, student);
+        }
+    }
+
+    private static void writeStudent(DataOutputStream out, Student student) throws IOException {
+        out.writeUTF(student.getName().fullName);
+        out.writeUTF(student.getTelegram().value);
+        out.writeUTF(student.getEmail().value);
+        out.writeUTF(student.getNusnetId().value);
+        out.writeShort(student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.taskmaster.storage;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * The columns of the records of each session in the session list file of a {@link BinaryTaskmasterStorage}, as the
+ * file was last read or written, together with the tables of NUSNET IDs and names that they refer to.
+ *
+ * A session without unsaved changes has the same records as its columns in the file, so its columns can be copied
+ * into the next save of the file as they are, without reading or decoding its records. The tables of that save then
+ * start with the tables here, so that the positions in the copied columns still refer to the same NUSNET IDs and
+ * names. A NUSNET ID or name that is no longer referred to is therefore only dropped from the tables by a save that
+ * copies no columns.
+ */
+class BinarySessionColumns {
+
+    private List<NusnetId> nusnetIds = Collections.emptyList();
+    private List<Name> names = Collections.emptyList();
+    private Map<SessionName, BinaryStudentRecords> sessionColumns = Collections.emptyMap();
+
+    /**
+     * Returns the columns of the session named {@code sessionName} in the file, if it is there.
+     */
+    Optional<BinaryStudentRecords> get(SessionName sessionName) {
+        return Optional.ofNullable(sessionColumns.get(sessionName));
+    }
+
+    List<NusnetId> getNusnetIds() {
+        return nusnetIds;
+    }
+
+    List<Name> getNames() {
+        return names;
+    }
+
+    /**
+     * Replaces the columns with {@code sessionColumns}, which refer to {@code nusnetIds} and {@code names}.
+     */
+    void set(List<NusnetId> nusnetIds, List<Name> names, Map<SessionName, BinaryStudentRecords> sessionColumns) {
+        this.nusnetIds = Collections.unmodifiableList(nusnetIds);
+        this.names = Collections.unmodifiableList(names);
+        this.sessionColumns = Collections.unmodifiableMap(sessionColumns);
+    }
+
+    /**
+     * Forgets the columns, so that the next save writes the columns of every session.
+     */
+    void clear() {
+        set(Collections.emptyList(), Collections.emptyList(), Collections.emptyMap());
+    }
+}
@@ -0,0 +1,303 @@
+package seedu.taskmaster.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.ClassParticipation;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * The student records of a session in the session list file of {@link BinaryTaskmasterStorage}, read from the file
+ * one record at a time as they are needed.
+ *
+ * The records are stored a column at a time: the position of each record's NUSNET ID in the NUSNET ID table, the
+ * position of its name in the name table, its attendance type as a single byte and its class participation score
+ * as a double. Every column has a fixed width, so any record can be read without reading the ones before it.
+ *
+ * A record is decoded each time it is read, so records that are never read, such as those further down a long
+ * list than has been scrolled to, take up no memory. A record that is replaced is kept in memory instead. The first
+ * time a record is added or removed, all the records are read into memory.
+ *
+ * Each record is checked as it is decoded, so that opening the file does not read every record, and a record that
+ * is not valid is reported as a {@code SessionLoadException} when it is read.
+ */
+class BinaryStudentRecords extends AbstractList<StudentRecord> {
+
+    public static final String MESSAGE_DUPLICATE_STUDENT = JsonSerializableSession.MESSAGE_DUPLICATE_STUDENT;
+    public static final String MESSAGE_INVALID_TABLE_POSITION =
+            "Student record refers to a NUSNET ID or name that is not in the session list file.";
+    public static final String MESSAGE_INCOMPLETE_RECORDS = "Student records of a session are incomplete.";
+
+    /** The number of bytes taken up by a record across all the columns. */
+    static final int RECORD_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES + Double.BYTES;
+
+    private static final int COPY_CHUNK_SIZE = 8192;
+
+    // The position of an attendance type in this array is its code in the file, which must never change
+    private static final AttendanceType[] ATTENDANCE_TYPE_CODES = {
+        AttendanceType.NO_RECORD, AttendanceType.PRESENT, AttendanceType.ABSENT
+    };
+
+    private final SessionName sessionName;
+    private final ByteBuffer contents;
+    private final int columnsStart;
+    private final int recordCount;
+    private final List<NusnetId> nusnetIds;
+    private final List<Name> names;
+
+    private final Map<Integer, StudentRecord> replacedRecords = new HashMap<>();
+    private List<StudentRecord> recordsInMemory;
+    private boolean areNusnetIdsChecked;
+
+    private BinaryStudentRecords(SessionName sessionName, ByteBuffer contents, int columnsStart, int recordCount,
+            List<NusnetId> nusnetIds, List<Name> names) {
+        this.sessionName = sessionName;
+        this.contents = contents;
+        this.columnsStart = columnsStart;
+        this.recordCount = recordCount;
+        this.nusnetIds = nusnetIds;
+        this.names = names;
+    }
+
+    /**
+     * Returns the {@code recordCount} records of the session named {@code sessionName} whose columns start at the
+     * current position of {@code contents}, after checking that the columns fit in {@code contents}. The records
+     * themselves are only checked as they are read, or by {@link #checkRecords}. The position of {@code contents} is
+     * moved past the columns.
+     * The records refer to the NUSNET IDs in {@code nusnetIds} and the names in {@code names} by their positions.
+     *
+     * @throws EOFException if {@code contents} ends before the columns do.
+     */
+    static BinaryStudentRecords read(SessionName sessionName, ByteBuffer contents, int recordCount,
+            List<NusnetId> nusnetIds, List<Name> names) throws EOFException {
+        if (recordCount < 0 || recordCount > contents.remaining() / RECORD_SIZE) {
+            throw new EOFException(MESSAGE_INCOMPLETE_RECORDS);
+        }
+
+        BinaryStudentRecords studentRecords = new BinaryStudentRecords(sessionName, contents, contents.position(),
+                recordCount, nusnetIds, names);
+        contents.position(contents.position() + recordCount * RECORD_SIZE);
+        return studentRecords;
+    }
+
+    /**
+     * Returns the {@code recordCount} records of the session named {@code sessionName} whose columns start at
+     * {@code columnsStart} in {@code contents}, which have just been written by this storage.
+     */
+    static BinaryStudentRecords at(SessionName sessionName, ByteBuffer contents, int columnsStart, int recordCount,
+            List<NusnetId> nusnetIds, List<Name> names) {
+        return new BinaryStudentRecords(sessionName, contents, columnsStart, recordCount, nusnetIds, names);
+    }
+
+    /**
+     * Writes the columns of {@code studentRecords} to {@code out}. The NUSNET ID and name of every record must be
+     * in {@code nusnetIdPositions} and {@code namePositions} respectively.
+     */
+    static void write(DataOutputStream out, List<StudentRecord> studentRecords,
+            Map<NusnetId, Integer> nusnetIdPositions, Map<Name, Integer> namePositions) throws IOException {
+        for (StudentRecord studentRecord : studentRecords) {
+            out.writeInt(nusnetIdPositions.get(studentRecord.getNusnetId()));
+        }
+        for (StudentRecord studentRecord : studentRecords) {
+            out.writeInt(namePositions.get(studentRecord.getName()));
+        }
+        for (StudentRecord studentRecord : studentRecords) {
+            out.writeByte(toCode(studentRecord.getAttendanceType()));
+        }
+        for (StudentRecord studentRecord : studentRecords) {
+            out.writeDouble(studentRecord.getClassParticipation().getRawScore());
+        }
+    }
+
+    /**
+     * Copies the columns of these records to {@code out} as they are in the file, without decoding any record.
+     * The NUSNET ID and name positions in the columns still refer to the tables of the file they were read from.
+     */
+    void writeColumnsTo(DataOutputStream out) throws IOException {
+        assert replacedRecords.isEmpty() && recordsInMemory == null : "Only unchanged columns can be copied";
+        ByteBuffer columns = contents.duplicate();
+        columns.limit(columnsStart + recordCount * RECORD_SIZE);
+        columns.position(columnsStart);
+        byte[] chunk = new byte[Math.min(columns.remaining(), COPY_CHUNK_SIZE)];
+        while (columns.hasRemaining()) {
+            int chunkSize = Math.min(columns.remaining(), chunk.length);
+            columns.get(chunk, 0, chunkSize);
+            out.write(chunk, 0, chunkSize);
+        }
+    }
+
+    /**
+     * Returns another list of the same records in the file, which does not share the records replaced in this list.
+     */
+    BinaryStudentRecords copy() {
+        return new BinaryStudentRecords(sessionName, contents, columnsStart, recordCount, nusnetIds, names);
+    }
+
+    /**
+     * Checks that every record is valid without decoding any record, for records that are all about to be read.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    void checkRecords() throws IllegalValueException {
+        checkNusnetIdsUnique();
+        for (int i = 0; i < recordCount; i++) {
+            checkRecord(i);
+        }
+    }
+
+    /**
+     * Checks that no two records have the same NUSNET ID, reading only the NUSNET ID column, before the records are
+     * first used. The other columns of each record are checked as the record is read.
+     *
+     * @throws SessionLoadException if two records have the same NUSNET ID.
+     */
+    synchronized void checkBeforeUse() throws SessionLoadException {
+        if (areNusnetIdsChecked) {
+            return;
+        }
+        try {
+            checkNusnetIdsUnique();
+        } catch (IllegalValueException ive) {
+            throw new SessionLoadException(sessionName.name, ive);
+        }
+        areNusnetIdsChecked = true;
+    }
+
+    @Override
+    public StudentRecord get(int index) {
+        if (recordsInMemory != null) {
+            return recordsInMemory.get(index);
+        }
+
+        Objects.checkIndex(index, recordCount);
+        StudentRecord replacedRecord = replacedRecords.get(index);
+        return replacedRecord != null ? replacedRecord : readRecord(index);
+    }
+
+    @Override
+    public StudentRecord set(int index, StudentRecord studentRecord) {
+        requireNonNull(studentRecord);
+        if (recordsInMemory != null) {
+            return recordsInMemory.set(index, studentRecord);
+        }
+
+        StudentRecord previousRecord = get(index);
+        replacedRecords.put(index, studentRecord);
+        return previousRecord;
+    }
+
+    @Override
+    public void add(int index, StudentRecord studentRecord) {
+        requireNonNull(studentRecord);
+        readIntoMemory().add(index, studentRecord);
+        modCount++;
+    }
+
+    @Override
+    public StudentRecord remove(int index) {
+        StudentRecord removedRecord = readIntoMemory().remove(index);
+        modCount++;
+        return removedRecord;
+    }
+
+    @Override
+    public int size() {
+        return recordsInMemory != null ? recordsInMemory.size() : recordCount;
+    }
+
+    private List<StudentRecord> readIntoMemory() {
+        if (recordsInMemory == null) {
+            recordsInMemory = new ArrayList<>(this);
+            replacedRecords.clear();
+        }
+        return recordsInMemory;
+    }
+
+    private StudentRecord readRecord(int index) {
+        try {
+            checkRecord(index);
+        } catch (IllegalValueException ive) {
+            throw new SessionLoadException(sessionName.name, ive);
+        }
+        return new StudentRecord(names.get(getNamePosition(index)), nusnetIds.get(getNusnetIdPosition(index)),
+                ATTENDANCE_TYPE_CODES[getAttendanceTypeCode(index)], new ClassParticipation(getScore(index)));
+    }
+
+    private int getNusnetIdPosition(int index) {
+        return contents.getInt(columnsStart + Integer.BYTES * index);
+    }
+
+    private int getNamePosition(int index) {
+        return contents.getInt(columnsStart + Integer.BYTES * recordCount + Integer.BYTES * index);
+    }
+
+    private byte getAttendanceTypeCode(int index) {
+        return contents.get(columnsStart + 2 * Integer.BYTES * recordCount + index);
+    }
+
+    private double getScore(int index) {
+        return contents.getDouble(columnsStart + (2 * Integer.BYTES + Byte.BYTES) * recordCount
+                + Double.BYTES * index);
+    }
+
+    private void checkNusnetIdsUnique() throws IllegalValueException {
+        // Each NUSNET ID is at a single position in the table, so a repeated position is a repeated NUSNET ID
+        boolean[] isNusnetIdSeen = new boolean[nusnetIds.size()];
+        for (int i = 0; i < recordCount; i++) {
+            int nusnetIdPosition = getNusnetIdPosition(i);
+            checkTablePosition(nusnetIdPosition, nusnetIds.size());
+            if (isNusnetIdSeen[nusnetIdPosition]) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+            }
+            isNusnetIdSeen[nusnetIdPosition] = true;
+        }
+    }
+
+    /**
+     * Checks the values in the columns of the record at {@code index} without decoding it.
+     */
+    private void checkRecord(int index) throws IllegalValueException {
+        checkTablePosition(getNusnetIdPosition(index), nusnetIds.size());
+        checkTablePosition(getNamePosition(index), names.size());
+
+        byte attendanceTypeCode = getAttendanceTypeCode(index);
+        if (attendanceTypeCode < 0 || attendanceTypeCode >= ATTENDANCE_TYPE_CODES.length) {
+            throw new IllegalValueException(AttendanceType.MESSAGE_CONSTRAINTS);
+        }
+
+        if (!(getScore(index) >= 0)) {
+            throw new IllegalValueException(ClassParticipation.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static void checkTablePosition(int position, int tableSize) throws IllegalValueException {
+        if (position < 0 || position >= tableSize) {
+            throw new IllegalValueException(MESSAGE_INVALID_TABLE_POSITION);
+        }
+    }
+
+    private static byte toCode(AttendanceType attendanceType) {
+        for (byte code = 0; code < ATTENDANCE_TYPE_CODES.length; code++) {
+            if (ATTENDANCE_TYPE_CODES[code] == attendanceType) {
+                return code;
+            }
+        }
+        throw new AssertionError("Attendance type without a code: " + attendanceType);
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.taskmaster.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.session.SessionList;
+
+/**
+ * A class to access Taskmaster data stored in compact binary files on the hard disk.
+ * The files are much smaller and faster to read than the json files of {@link JsonTaskmasterStorage}, but cannot be
+ * read or edited by hand.
+ *
+ * If the storage is mapped, the session list file is memory-mapped when it is read, except on Windows as explained in
+ * {@link BinaryDataFile}, and the records of each session are only decoded as they are displayed or changed.
+ */
+public class BinaryTaskmasterStorage implements TaskmasterStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskmasterStorage.class);
+    private static final String JSON_EXTENSION = ".json";
+
+    private Path taskmasterFilePath;
+    private Path sessionListFilePath;
+    private final boolean isMapped;
+    /** The columns of the session list file as it was last read or saved, kept so that saves can copy them. */
+    private final BinarySessionColumns savedColumns = new BinarySessionColumns();
+
+    /**
+     * Initialises the Storage object which will use the given file paths.
+     */
+    public BinaryTaskmasterStorage(Path taskmasterFilePath, Path sessionListFilePath) {
+        this(taskmasterFilePath, sessionListFilePath, false);
+    }
+
+    /**
+     * Initialises the Storage object which will use the given file paths, and memory-map the session list file
+     * when reading it if {@code isMapped} is true.
+     */
+    public BinaryTaskmasterStorage(Path taskmasterFilePath, Path sessionListFilePath, boolean isMapped) {
+        this.taskmasterFilePath = taskmasterFilePath;
+        this.sessionListFilePath = sessionListFilePath;
+        this.isMapped = isMapped;
+    }
+
+    /**
+     * Returns the path of the binary file holding the same data as the json file at {@code jsonFilePath}, which is
+     * the json file path with its ".json" extension, if any, replaced by ".bin".
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getTaskmasterFilePath() {
+        return taskmasterFilePath;
+    }
+
+    @Override
+    public Path getSessionListFilePath() {
+        return sessionListFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskmaster> readTaskmaster() throws DataConversionException {
+        return readTaskmaster(taskmasterFilePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskmaster()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskmaster> readTaskmaster(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            return BinarySerializableTaskmaster.readModelType(filePath);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTaskmaster(ReadOnlyTaskmaster taskmaster) throws IOException {
+        saveTaskmaster(taskmaster, taskmasterFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskmaster(ReadOnlyTaskmaster)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskmaster(ReadOnlyTaskmaster taskmaster, Path filePath) throws IOException {
+        requireNonNull(taskmaster);
+        requireNonNull(filePath);
+
+        BinarySerializableTaskmaster.save(taskmaster, filePath);
+    }
+
+    @Override
+    public void saveSessionList(ReadOnlyTaskmaster taskmaster) throws IOException {
+        saveSessionList(taskmaster, sessionListFilePath);
+    }
+
+    /**
+     * Saves the SessionList in a Taskmaster to the filepath specified.
+     * If {@code filePath} is the session list file of this storage, the records of sessions without unsaved changes
+     * are copied from the file as it was last read or saved, instead of being read and encoded.
+     */
+    @Override
+    public synchronized void saveSessionList(ReadOnlyTaskmaster taskmaster, Path filePath) throws IOException {
+        requireNonNull(taskmaster);
+        requireNonNull(filePath);
+
+        if (filePath.equals(sessionListFilePath)) {
+            BinarySerializableSessionList.save(taskmaster, filePath, savedColumns, isMapped);
+        } else {
+            BinarySerializableSessionList.save(taskmaster, filePath);
+        }
+    }
+
+    @Override
+    public Optional<SessionList> readSessionList() throws DataConversionException {
+        return readSessionList(sessionListFilePath);
+    }
+
+    /**
+     * Gets SessionList from the filePath specified.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<SessionList> readSessionList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        try {
+            if (filePath.equals(sessionListFilePath)) {
+                return BinarySerializableSessionList.readModelType(filePath, isMapped, savedColumns);
+            }
+            return BinarySerializableSessionList.readModelType(filePath, isMapped);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Does nothing, as saves are written to the file before the save methods return.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Runs {@code onWritten} at once, as saves are written to the file before the save methods return.
+     */
+    @Override
+    public void whenWritten(Runnable onWritten, Consumer<IOException> onFailed) {
+        onWritten.run();
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.taskmaster.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.ClassParticipation;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * Reads the attendance taken outside of TAskmaster, such as by a card scanner, from a CSV file.
+ *
+ * Each line of the file holds the NUSNET ID of a student who attended, the time at which their attendance was taken
+ * in the ISO-8601 format (e.g. {@code 2020-11-01T10:31:05}) and optionally their participation score, separated by
+ * commas. The first line is skipped if it is a header instead. A student may appear on more than one line, in which
+ * case the score on the last line with a score is kept.
+ *
+ * The file is read one line at a time, so that a long scanner log is never held in memory as a whole.
+ */
+class CsvAttendanceFile {
+
+    static final String MESSAGE_INVALID_LINE = "Line %1$d of the attendance file is invalid: %2$s";
+    static final String MESSAGE_WRONG_NUMBER_OF_FIELDS =
+            "Expected a NUSNET ID, a timestamp and an optional score, separated by commas.";
+    static final String MESSAGE_INVALID_TIMESTAMP =
+            "Timestamps should be in the format 'yyyy-MM-ddTHH:mm:ss', e.g. 2020-11-01T10:31:05.";
+    static final String MESSAGE_INVALID_SCORE = "Scores should be numbers between 0 and 10 inclusive.";
+
+    private static final Logger logger = LogsCenter.getLogger(CsvAttendanceFile.class);
+
+    private static final String FIELD_SEPARATOR = ",";
+
+    /**
+     * Returns the edits to make to the record of each student in the attendance file at {@code filePath}, in the
+     * order in which the students first appear in the file. Every student in the file is marked as present.
+     *
+     * @throws DataConversionException if a line of the file is not in the expected format.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    static Map<NusnetId, EditStudentRecordDescriptor> read(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Map<NusnetId, EditStudentRecordDescriptor> edits = new LinkedHashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                try {
+                    readLine(line, edits);
+                } catch (IllegalValueException ive) {
+                    logger.warning("Invalid attendance found in " + filePath + " on line " + lineNumber);
+                    throw new DataConversionException(new IllegalValueException(
+                            String.format(MESSAGE_INVALID_LINE, lineNumber, ive.getMessage())));
+                }
+            }
+        }
+        return edits;
+    }
+
+    /**
+     * Adds the attendance on {@code line} to {@code edits}.
+     *
+     * @throws IllegalValueException if {@code line} is not in the expected format.
+     */
+    private static void readLine(String line, Map<NusnetId, EditStudentRecordDescriptor> edits)
+            throws IllegalValueException {
+        String[] fields = line.split(FIELD_SEPARATOR, -1);
+        if (fields.length < 2 || fields.length > 3) {
+            throw new IllegalValueException(MESSAGE_WRONG_NUMBER_OF_FIELDS);
+        }
+
+        String nusnetId = fields[0].trim();
+        if (!NusnetId.isValidNusnetId(nusnetId)) {
+            throw new IllegalValueException(NusnetId.MESSAGE_CONSTRAINTS);
+        }
+        checkTimestamp(fields[1].trim());
+
+        EditStudentRecordDescriptor descriptor =
+                edits.computeIfAbsent(new NusnetId(nusnetId), id -> new EditStudentRecordDescriptor());
+        descriptor.setAttendanceType(AttendanceType.PRESENT);
+        if (fields.length == 3 && !fields[2].trim().isEmpty()) {
+            descriptor.setClassParticipation(new ClassParticipation(parseScore(fields[2].trim())));
+        }
+    }
+
+    /**
+     * Returns true if {@code line} is a header naming the fields instead of a line of attendance.
+     */
+    private static boolean isHeader(String line) {
+        return !NusnetId.isValidNusnetId(line.split(FIELD_SEPARATOR, -1)[0].trim());
+    }
+
+    private static void checkTimestamp(String timestamp) throws IllegalValueException {
+        try {
+            LocalDateTime.parse(timestamp);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIMESTAMP);
+        }
+    }
+
+    /**
+     * Returns {@code score} rounded to 2 decimal places, as scores entered with the {@code score} command are.
+     */
+    private static double parseScore(String score) throws IllegalValueException {
+        double parsedScore;
+        try {
+            parsedScore = Double.parseDouble(score);
+        } catch (NumberFormatException nfe) {
+            throw new IllegalValueException(MESSAGE_INVALID_SCORE);
+        }
+        if (!ClassParticipation.isValidScore(parsedScore)) {
+            throw new IllegalValueException(MESSAGE_INVALID_SCORE);
+        }
+        return Math.round(parsedScore * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.taskmaster.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.taskmaster.commons.util.FileUtil;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.session.Session;
+
+/**
+ * Writes the student records of sessions to a CSV file, with one line for each student record.
+ *
+ * Each line holds the name and date and time of the session, and the NUSNET ID, name, attendance and participation
+ * score of the student, separated by commas. None of these may contain a comma, so no field is quoted.
+ *
+ * Each line is written as soon as its record is read, through the buffered channel of
+ * {@link FileUtil#writeToFileAtomically}, so that the file is never held in memory as a whole.
+ */
+class CsvSessionFile {
+
+    static final String HEADER = "session,dateTime,nusnetId,name,attendance,score";
+
+    private static final char FIELD_SEPARATOR = ',';
+    private static final char LINE_SEPARATOR = '\n';
+
+    /**
+     * Replaces the contents of the file at {@code filePath} with the student records of {@code sessions}, in the
+     * order of the sessions in {@code sessions}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(List<Session> sessions, Path filePath) throws IOException {
+        requireNonNull(sessions);
+        requireNonNull(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> writeSessions(sessions, out));
+    }
+
+    private static void writeSessions(List<Session> sessions, OutputStream out) throws IOException {
+        // The writer is only flushed, as closing it would close the file before FileUtil forces it to the disk
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+        for (Session session : sessions) {
+            writeSession(session, writer);
+        }
+        writer.flush();
+    }
+
+    private static void writeSession(Session session, Writer writer) throws IOException {
+        String sessionFields = session.getSessionName().name + FIELD_SEPARATOR + session.getSessionDateTime();
+        for (StudentRecord studentRecord : session.getStudentRecords()) {
+            writer.write(sessionFields);
+            writer.write(FIELD_SEPARATOR);
+            writer.write(studentRecord.getNusnetId().value);
+            writer.write(FIELD_SEPARATOR);
+            writer.write(studentRecord.getName().fullName);
+            writer.write(FIELD_SEPARATOR);
+            writer.write(studentRecord.getAttendanceType().name());
+            writer.write(FIELD_SEPARATOR);
+            writer.write(Double.toString(studentRecord.getClassParticipation().getRawScore()));
+            writer.write(LINE_SEPARATOR);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.taskmaster.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.student.Email;
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.Telegram;
+import seedu.taskmaster.model.tag.Tag;
+
+/**
+ * Reads a class list of students from a CSV file.
+ *
+ * Each line of the file holds the name, Telegram username, email and NUSNET ID of a student, and optionally their
+ * tags separated by spaces, separated by commas. The first line is skipped if it is a header starting with
+ * {@code name} instead.
+ *
+ * The file is read one line at a time. A line that is not a valid student does not stop the file from being read,
+ * so that every invalid line of the file can be reported at once.
+ */
+class CsvStudentFile {
+
+    static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    static final String MESSAGE_WRONG_NUMBER_OF_FIELDS =
+            "Expected a name, Telegram username, email, NUSNET ID and optional tags, separated by commas.";
+    static final String MESSAGE_DUPLICATE_STUDENT = "Same NUSNET ID as the student on line %1$d.";
+
+    private static final String FIELD_SEPARATOR = ",";
+    private static final String TAG_SEPARATOR = "\\s+";
+    private static final String HEADER_FIRST_FIELD = "name";
+    private static final int MIN_FIELDS = 4;
+    private static final int MAX_FIELDS = 5;
+
+    /**
+     * Returns the students in the class list at {@code filePath}, and a description of each line that is not a
+     * valid student or that has the same NUSNET ID as an earlier student.
+     *
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    static ImportedStudents read(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        List<Student> students = new ArrayList<>();
+        List<String> invalidLines = new ArrayList<>();
+        Map<NusnetId, Integer> lineOfNusnetId = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                try {
+                    Student student = readLine(line);
+                    Integer earlierLineNumber = lineOfNusnetId.putIfAbsent(student.getNusnetId(), lineNumber);
+                    if (earlierLineNumber != null) {
+                        throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_STUDENT, earlierLineNumber));
+                    }
+                    students.add(student);
+                } catch (IllegalValueException ive) {
+                    invalidLines.add(String.format(MESSAGE_INVALID_LINE, lineNumber, ive.getMessage()));
+                }
+            }
+        }
+        return new ImportedStudents(students, invalidLines);
+    }
+
+    /**
+     * Returns the student on {@code line}.
+     *
+     * @throws IllegalValueException if {@code line} is not a valid student.
+     */
+    private static Student readLine(String line) throws IllegalValueException {
+        String[] fields = line.split(FIELD_SEPARATOR, -1);
+        if (fields.length < MIN_FIELDS || fields.length > MAX_FIELDS) {
+            throw new IllegalValueException(MESSAGE_WRONG_NUMBER_OF_FIELDS);
+        }
+
+        String name = fields[0].trim();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String telegram = fields[1].trim();
+        if (!Telegram.isValidTelegram(telegram)) {
+            throw new IllegalValueException(Telegram.MESSAGE_CONSTRAINTS);
+        }
+        String email = fields[2].trim();
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String nusnetId = fields[3].trim();
+        if (!NusnetId.isValidNusnetId(nusnetId)) {
+            throw new IllegalValueException(NusnetId.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        if (fields.length == MAX_FIELDS && !fields[4].trim().isEmpty()) {
+            for (String tagName : fields[4].trim().split(TAG_SEPARATOR)) {
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags.add(new Tag(tagName));
+            }
+        }
+
+        return new Student(new Name(name), new Telegram(telegram), new Email(email), new NusnetId(nusnetId), tags);
+    }
+
+    /**
+     * Returns true if {@code line} is a header naming the fields instead of a student.
+     */
+    private static boolean isHeader(String line) {
+        return line.split(FIELD_SEPARATOR, -1)[0].trim().equalsIgnoreCase(HEADER_FIRST_FIELD);
+    }
+}
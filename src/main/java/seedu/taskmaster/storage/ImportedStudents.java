@@ -0,0 +1,39 @@
+package seedu.taskmaster.storage;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.taskmaster.model.student.Student;
+
+/**
+ * The students read from a class list, together with the lines of the class list that could not be read as a
+ * student.
+ */
+public class ImportedStudents {
+
+    private final List<Student> students;
+    private final List<String> invalidLines;
+
+    /**
+     * Constructs an {@code ImportedStudents} with the students read and a description of each invalid line.
+     */
+    ImportedStudents(List<Student> students, List<String> invalidLines) {
+        this.students = Collections.unmodifiableList(students);
+        this.invalidLines = Collections.unmodifiableList(invalidLines);
+    }
+
+    /**
+     * Returns the students read from the class list, in the order in which they appear in it.
+     */
+    public List<Student> getStudents() {
+        return students;
+    }
+
+    /**
+     * Returns a description of each line of the class list that could not be read as a student, in the order in
+     * which the lines appear in it.
+     */
+    public List<String> getInvalidLines() {
+        return invalidLines;
+    }
+}
@@ -7,6 +7,7 @@ import seedu.taskmaster.commons.exceptions.IllegalValueException;
 import seedu.taskmaster.model.record.AttendanceType;
 import seedu.taskmaster.model.record.ClassParticipation;
 import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentTable;
 import seedu.taskmaster.model.student.Name;
 import seedu.taskmaster.model.student.NusnetId;
 
@@ -47,11 +48,12 @@ class JsonAdaptedStudentRecord {
     }
 
     /**
-     * Converts this Jackson-friendly adapted student object into the model's {@code StudentRecordListManager} object.
+     * Converts this Jackson-friendly adapted student object into the model's {@code StudentRecordListManager} object,
+     * which shares the name and NUSNET ID objects of the student in {@code studentTable}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted student.
      */
-    public StudentRecord toModelType() throws IllegalValueException {
+    public StudentRecord toModelType(StudentTable studentTable) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Name.class.getSimpleName()));
@@ -75,9 +77,10 @@ class JsonAdaptedStudentRecord {
             throw new IllegalValueException(AttendanceType.MESSAGE_CONSTRAINTS);
         }
 
-        final Name modelName = new Name(name);
+        // The records of a student in every session share the name and NUSNET ID objects of the student
+        final NusnetId modelNusnetId = studentTable.canonicalise(new NusnetId(nusnetId));
 
-        final NusnetId modelNusnetId = new NusnetId(nusnetId);
+        final Name modelName = studentTable.canonicalise(new Name(name), modelNusnetId);
 
         final AttendanceType modelAttendanceType = AttendanceType.valueOf(attendanceType);
 
@@ -0,0 +1,79 @@
+package seedu.taskmaster.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * Jackson-friendly version of the {@link StudentStatistics} of a student.
+ */
+class JsonAdaptedStudentStatistics {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Student statistics' %s field is missing!";
+
+    private final String nusnetId;
+    private final int presentCount;
+    private final int absentCount;
+    private final int noRecordCount;
+    private final long scoreSumInHundredths;
+
+    /**
+     * Constructs a {@code JsonAdaptedStudentStatistics} with the given statistics details.
+     */
+    @JsonCreator
+    public JsonAdaptedStudentStatistics(@JsonProperty("nusnetId") String nusnetId,
+                                        @JsonProperty("presentCount") int presentCount,
+                                        @JsonProperty("absentCount") int absentCount,
+                                        @JsonProperty("noRecordCount") int noRecordCount,
+                                        @JsonProperty("scoreSumInHundredths") long scoreSumInHundredths) {
+        this.nusnetId = nusnetId;
+        this.presentCount = presentCount;
+        this.absentCount = absentCount;
+        this.noRecordCount = noRecordCount;
+        this.scoreSumInHundredths = scoreSumInHundredths;
+    }
+
+    /**
+     * Converts the given {@code StudentStatistics} of the student with {@code nusnetId} into this class for Jackson
+     * use.
+     */
+    public JsonAdaptedStudentStatistics(NusnetId nusnetId, StudentStatistics source) {
+        this.nusnetId = nusnetId.value;
+        presentCount = source.getCount(AttendanceType.PRESENT);
+        absentCount = source.getCount(AttendanceType.ABSENT);
+        noRecordCount = source.getCount(AttendanceType.NO_RECORD);
+        scoreSumInHundredths = source.getScoreSumInHundredths();
+    }
+
+    /**
+     * Returns the NUSNET ID of the student whose statistics these are.
+     *
+     * @throws IllegalValueException if the NUSNET ID is missing or invalid.
+     */
+    public NusnetId toModelNusnetId() throws IllegalValueException {
+        if (nusnetId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    NusnetId.class.getSimpleName()));
+        }
+        if (!NusnetId.isValidNusnetId(nusnetId)) {
+            throw new IllegalValueException(NusnetId.MESSAGE_CONSTRAINTS);
+        }
+        return new NusnetId(nusnetId);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted statistics object into the model's {@code StudentStatistics} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted statistics.
+     */
+    public StudentStatistics toModelType() throws IllegalValueException {
+        if (!StudentStatistics.isValidCounts(presentCount, absentCount, noRecordCount)) {
+            throw new IllegalValueException(StudentStatistics.MESSAGE_CONSTRAINTS);
+        }
+        return new StudentStatistics(presentCount, absentCount, noRecordCount, scoreSumInHundredths);
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.taskmaster.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.TaskmasterChange;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+
+/**
+ * Jackson-friendly version of {@link TaskmasterChange}.
+ * Only the fields used by the type of the change are written.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedTaskmasterChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Change has an unknown type.";
+
+    private final String type;
+    private final String nusnetId;
+    private final JsonAdaptedStudent student;
+    private final String sessionName;
+    private final String sessionDateTime;
+    private final String attendanceType;
+    private final Double score;
+
+    /**
+     * Constructs a {@code JsonAdaptedTaskmasterChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedTaskmasterChange(@JsonProperty("type") String type, @JsonProperty("nusnetId") String nusnetId,
+            @JsonProperty("student") JsonAdaptedStudent student, @JsonProperty("sessionName") String sessionName,
+            @JsonProperty("sessionDateTime") String sessionDateTime,
+            @JsonProperty("attendanceType") String attendanceType, @JsonProperty("score") Double score) {
+        this.type = type;
+        this.nusnetId = nusnetId;
+        this.student = student;
+        this.sessionName = sessionName;
+        this.sessionDateTime = sessionDateTime;
+        this.attendanceType = attendanceType;
+        this.score = score;
+    }
+
+    /**
+     * Converts a given {@code TaskmasterChange} into this class for Jackson use.
+     */
+    public JsonAdaptedTaskmasterChange(TaskmasterChange source) {
+        type = source.getType().name();
+        nusnetId = source.getNusnetId().map(id -> id.value).orElse(null);
+        student = source.getStudent().map(JsonAdaptedStudent::new).orElse(null);
+        sessionName = source.getSessionName().map(name -> name.name).orElse(null);
+        sessionDateTime = source.getSessionDateTime().map(SessionDateTime::toString).orElse(null);
+        attendanceType = source.getAttendanceType().map(Enum::name).orElse(null);
+        score = isScoreChange(source.getType()) ? source.getScore() : null;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code TaskmasterChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public TaskmasterChange toModelType() throws IllegalValueException {
+        switch (toModelChangeType()) {
+        case ADD_STUDENT:
+            return TaskmasterChange.addStudent(toModelStudent());
+        case EDIT_STUDENT:
+            return TaskmasterChange.editStudent(toModelNusnetId(), toModelStudent());
+        case DELETE_STUDENT:
+            return TaskmasterChange.deleteStudent(toModelNusnetId());
+        case ADD_SESSION:
+            return TaskmasterChange.addSession(toModelSessionName(), toModelSessionDateTime());
+        case DELETE_SESSION:
+            return TaskmasterChange.deleteSession(toModelSessionName());
+        case MARK_STUDENT:
+            return TaskmasterChange.markStudent(toModelSessionName(), toModelNusnetId(), toModelAttendanceType());
+        case MARK_ALL_STUDENTS:
+            return TaskmasterChange.markAllStudents(toModelSessionName(), toModelAttendanceType());
+        case SCORE_STUDENT:
+            return TaskmasterChange.scoreStudent(toModelSessionName(), toModelNusnetId(), toModelScore());
+        case SCORE_ALL_STUDENTS:
+            return TaskmasterChange.scoreAllStudents(toModelSessionName(), toModelScore());
+        default:
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+    }
+
+    private static boolean isScoreChange(TaskmasterChange.Type type) {
+        return type == TaskmasterChange.Type.SCORE_STUDENT || type == TaskmasterChange.Type.SCORE_ALL_STUDENTS;
+    }
+
+    private TaskmasterChange.Type toModelChangeType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        try {
+            return TaskmasterChange.Type.valueOf(type);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+    }
+
+    private Student toModelStudent() throws IllegalValueException {
+        if (student == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Student.class.getSimpleName()));
+        }
+        return student.toModelType();
+    }
+
+    private NusnetId toModelNusnetId() throws IllegalValueException {
+        if (nusnetId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    NusnetId.class.getSimpleName()));
+        }
+        if (!NusnetId.isValidNusnetId(nusnetId)) {
+            throw new IllegalValueException(NusnetId.MESSAGE_CONSTRAINTS);
+        }
+        return new NusnetId(nusnetId);
+    }
+
+    private SessionName toModelSessionName() throws IllegalValueException {
+        if (sessionName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    SessionName.class.getSimpleName()));
+        }
+        if (!SessionName.isValidName(sessionName)) {
+            throw new IllegalValueException(SessionName.MESSAGE_CONSTRAINTS);
+        }
+        return new SessionName(sessionName);
+    }
+
+    private SessionDateTime toModelSessionDateTime() throws IllegalValueException {
+        if (sessionDateTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    SessionDateTime.class.getSimpleName()));
+        }
+        try {
+            return new SessionDateTime(LocalDateTime.parse(sessionDateTime, SessionDateTime.DATE_TIME_FORMATTER));
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(SessionDateTime.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private AttendanceType toModelAttendanceType() throws IllegalValueException {
+        if (attendanceType == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    AttendanceType.class.getSimpleName()));
+        }
+        if (!AttendanceType.isValidAttendanceType(attendanceType)) {
+            throw new IllegalValueException(AttendanceType.MESSAGE_CONSTRAINTS);
+        }
+        return AttendanceType.valueOf(attendanceType);
+    }
+
+    private double toModelScore() throws IllegalValueException {
+        if (score == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "score"));
+        }
+        return score;
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.taskmaster.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.FileUtil;
+import seedu.taskmaster.commons.util.JsonUtil;
+import seedu.taskmaster.model.record.Roster;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentTable;
+
+/**
+ * Stores the rosters of the sessions whose records files only hold their marked records, each in a roster file
+ * holding the unmarked records of its students.
+ *
+ * A roster file is named by a digest of its students, so that the sessions created from the same students share one
+ * file, which is never changed once written. A roster that is read is shared by every session that refers to its
+ * file and is loaded into the same student table, and its file name is remembered, so that saving the sessions again
+ * does not compute the digest.
+ *
+ * A roster file that is no longer saved is moved to its backup rather than deleted, as the backups of the records
+ * files may still refer to it, and is read from there when its file is missing.
+ */
+class JsonRosterStore {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonRosterStore.class);
+
+    private static final String STUDENTS_FIELD = "students";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    /** The number of bytes of the digest used in a file name, which is plenty to tell rosters apart. */
+    private static final int FILE_NAME_DIGEST_LENGTH = 16;
+
+    /** The file name of each roster that has been read or saved, for as long as the roster is in use. */
+    private static final Map<Roster, String> fileNameOfRoster = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Path rostersDirectory;
+    private final Map<String, Roster> rosterOfFileName = new HashMap<>();
+    private final Set<String> savedFileNames = new HashSet<>();
+
+    /**
+     * Creates a store of the roster files in {@code rostersDirectory}, which need not exist until a roster is saved.
+     */
+    JsonRosterStore(Path rostersDirectory) {
+        this.rostersDirectory = rostersDirectory;
+    }
+
+    /**
+     * Returns the roster in the roster file named {@code fileName} in {@code studentTable}, reading it only if it has
+     * not been read by this store already.
+     *
+     * @throws DataConversionException if the file is missing or not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    synchronized Roster read(String fileName, StudentTable studentTable)
+            throws DataConversionException, IllegalValueException {
+        Roster roster = rosterOfFileName.get(fileName);
+        if (roster != null) {
+            return roster.in(studentTable);
+        }
+
+        Path rosterFile = rostersDirectory.resolve(fileName);
+        if (!FileUtil.isFileExists(rosterFile) && FileUtil.isFileExists(FileUtil.getBackupFile(rosterFile))) {
+            rosterFile = FileUtil.getBackupFile(rosterFile);
+        }
+        logger.fine("Loading roster from " + rosterFile);
+        List<StudentRecord> unmarkedRecords = new ArrayList<>();
+        boolean isFileFound = JsonUtil.readJsonArrayFile(rosterFile, STUDENTS_FIELD, JsonAdaptedStudentRecord.class,
+                jsonAdaptedStudentRecord -> unmarkedRecords.add(jsonAdaptedStudentRecord.toModelType(studentTable)));
+        if (!isFileFound) {
+            throw new DataConversionException(new NoSuchFileException(rosterFile.toString()));
+        }
+
+        roster = Roster.ofRecords(unmarkedRecords, studentTable);
+        rosterOfFileName.put(fileName, roster);
+        fileNameOfRoster.put(roster, fileName);
+        return roster;
+    }
+
+    /**
+     * Saves {@code roster} to its roster file if the file does not exist, and returns the name of the file.
+     */
+    synchronized String save(Roster roster) throws IOException {
+        String fileName = fileNameOfRoster.computeIfAbsent(roster, JsonRosterStore::getFileName);
+        Path rosterFile = rostersDirectory.resolve(fileName);
+        if (savedFileNames.add(fileName) && !Files.exists(rosterFile)) {
+            Files.createDirectories(rostersDirectory);
+            JsonUtil.saveJsonArrayFile(rosterFile, STUDENTS_FIELD,
+                    roster.getUnmarkedRecords().stream().map(JsonAdaptedStudentRecord::new).iterator());
+        }
+        return fileName;
+    }
+
+    /**
+     * Moves the roster files that have not been saved by this store to their backups, deleting the backups of the
+     * roster files moved by the previous call, which the backups of the records files no longer refer to.
+     */
+    synchronized void backUpRosterFilesNotSaved() throws IOException {
+        if (!Files.isDirectory(rostersDirectory)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(rostersDirectory)) {
+            directoryStream.forEach(files::add);
+        }
+
+        for (Path file : files) {
+            if (!FileUtil.getBackedUpFile(file).equals(file)) {
+                Files.delete(file);
+            }
+        }
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            if (fileName.endsWith(JSON_EXTENSION) && !savedFileNames.contains(fileName)) {
+                Files.move(file, FileUtil.getBackupFile(file));
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the roster file of {@code roster}, from a digest of the NUSNET ID and name of each of its
+     * students in order.
+     */
+    private static String getFileName(Roster roster) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException nsae) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(nsae);
+        }
+        for (StudentRecord unmarkedRecord : roster.getUnmarkedRecords()) {
+            digest.update(unmarkedRecord.getNusnetId().value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(unmarkedRecord.getName().fullName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        StringBuilder fileName = new StringBuilder();
+        byte[] digestBytes = digest.digest();
+        for (int i = 0; i < FILE_NAME_DIGEST_LENGTH; i++) {
+            fileName.append(String.format("%02x", digestBytes[i]));
+        }
+        return fileName.append(JSON_EXTENSION).toString();
+    }
+}
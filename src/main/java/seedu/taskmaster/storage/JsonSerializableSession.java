@@ -1,41 +1,67 @@
 package seedu.taskmaster.storage;
 
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.taskmaster.commons.exceptions.DataConversionException;
 import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.JsonUtil;
+import seedu.taskmaster.model.record.Roster;
 import seedu.taskmaster.model.record.StudentRecord;
 import seedu.taskmaster.model.record.StudentRecordList;
 import seedu.taskmaster.model.record.StudentRecordListManager;
+import seedu.taskmaster.model.record.StudentTable;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionDateTime;
 import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.StudentRecordListLoader;
 import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
 
 
 /**
  * Jackson-friendly version of {@link Session}.
+ * A session may also be stored without its records, which are then kept in a separate records file. If only the
+ * marked records of the session are kept in memory, only those are written to the records file, which then names
+ * the roster file against which the unmarked records are synthesised.
  */
 @JsonRootName(value = "session")
 class JsonSerializableSession {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "StudentRecord list contains duplicate NusnetId(s).";
+    public static final String MESSAGE_MISSING_RECORDS = "Session's records field is missing!";
+    public static final String MESSAGE_STUDENT_NOT_IN_ROSTER =
+            "StudentRecord list contains students not in its roster.";
     private static final String DATE_TIME_FORMAT = "dd-MM-yyyy HH:mm";
+    private static final String RECORDS_FIELD = "records";
+    private static final String ROSTER_FIELD = "roster";
 
     private final String sessionName;
     private final String sessionDateTime;
-    private final List<JsonAdaptedStudentRecord> records = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<JsonAdaptedStudentRecord> records;
 
     /**
      * Constructs a {@code JsonSerializablesession} from the given parameters.
+     * {@code records} is null if the records of the session are stored separately.
      */
     @JsonCreator
     public JsonSerializableSession(@JsonProperty("sessionName") String sessionName,
@@ -43,11 +69,10 @@ class JsonSerializableSession {
                                    @JsonProperty("records") List<JsonAdaptedStudentRecord> records) {
         assert sessionName != null;
         assert sessionDateTime != null;
-        assert records != null;
 
         this.sessionName = sessionName;
         this.sessionDateTime = sessionDateTime;
-        this.records.addAll(records);
+        this.records = (records == null) ? null : new ArrayList<>(records);
     }
 
     /**
@@ -56,9 +81,34 @@ class JsonSerializableSession {
     public JsonSerializableSession(Session source) {
         this.sessionName = source.getSessionName().name;
         this.sessionDateTime = source.getSessionDateTime().getDateTimeString();
-        this.records.addAll(source.getStudentRecords().stream()
+        this.records = source.getStudentRecords().stream()
                     .map(JsonAdaptedStudentRecord::new)
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList());
+    }
+
+    private JsonSerializableSession(SessionName sessionName, SessionDateTime sessionDateTime) {
+        this.sessionName = sessionName.name;
+        this.sessionDateTime = sessionDateTime.getDateTimeString();
+        this.records = null;
+    }
+
+    /**
+     * Converts the name and date of the given {@code Session}, without its records, into this class for Jackson use.
+     * The records of {@code source} are not read, so they need not have been loaded.
+     */
+    public static JsonSerializableSession summaryOf(Session source) {
+        return new JsonSerializableSession(source.getSessionName(), source.getSessionDateTime());
+    }
+
+    /**
+     * Returns true if the records of the session are stored in this object rather than in a separate file.
+     */
+    public boolean hasRecords() {
+        return records != null;
+    }
+
+    public String getSessionName() {
+        return sessionName;
     }
 
     /**
@@ -67,36 +117,126 @@ class JsonSerializableSession {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Session toModelType() throws IllegalValueException {
-        SessionDateTime newDateTime;
-
-        List<StudentRecord> studentRecords = new ArrayList<>();
-        List<NusnetId> nusnetIds = new ArrayList<>();
+        if (!hasRecords()) {
+            throw new IllegalValueException(MESSAGE_MISSING_RECORDS);
+        }
 
+        RecordCollector recordCollector = new RecordCollector(new StudentTable());
         for (JsonAdaptedStudentRecord jsonAdaptedStudentRecord : records) {
-            StudentRecord modelAttendance = jsonAdaptedStudentRecord.toModelType();
+            recordCollector.add(jsonAdaptedStudentRecord);
+        }
 
-            // check for duplicates
-            NusnetId nusnetId = modelAttendance.getNusnetId();
-            if (nusnetIds.contains(nusnetId)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            nusnetIds.add(modelAttendance.getNusnetId());
+        return new Session(toModelSessionName(), toModelSessionDateTime(), recordCollector.toModelType());
+    }
 
-            studentRecords.add(modelAttendance);
+    /**
+     * Converts this object into a Session for use by the model, whose records are loaded by {@code recordsLoader}
+     * when they are first needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Session toModelType(StudentRecordListLoader recordsLoader) throws IllegalValueException {
+        return new Session(toModelSessionName(), toModelSessionDateTime(), recordsLoader);
+    }
+
+    /**
+     * Reads the records of a session from the records file at {@code filePath} into {@code studentTable}, one record
+     * at a time. If the file only holds the marked records of the session, its roster is read from
+     * {@code rosterStore}.
+     *
+     * @throws DataConversionException if a file is missing or not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static StudentRecordList readRecords(Path filePath, JsonRosterStore rosterStore,
+            StudentTable studentTable) throws DataConversionException, IllegalValueException {
+        RecordCollector recordCollector = new RecordCollector(studentTable);
+        Map<String, String> textFields = new HashMap<>();
+        boolean isFileFound = JsonUtil.readJsonArrayFile(filePath, RECORDS_FIELD, JsonAdaptedStudentRecord.class,
+                recordCollector::add, textFields);
+        if (!isFileFound) {
+            throw new DataConversionException(new NoSuchFileException(filePath.toString()));
+        }
+
+        String rosterFileName = textFields.get(ROSTER_FIELD);
+        if (rosterFileName == null) {
+            return recordCollector.toModelType();
         }
+        return recordCollector.toModelType(rosterStore.read(rosterFileName, studentTable));
+    }
 
-        StudentRecordList newRecordList = new StudentRecordListManager();
-        newRecordList.setStudentRecords(studentRecords);
-        SessionName newSessionName = new SessionName(sessionName);
+    /**
+     * Writes the records of {@code source} to the records file at {@code filePath}, one record at a time.
+     * If only the marked records of {@code source} are kept in memory, only those are written, and its roster is
+     * saved to {@code rosterStore}.
+     */
+    public static void saveRecords(Session source, Path filePath, JsonRosterStore rosterStore) throws IOException {
+        Optional<Roster> roster = source.getRoster();
+        if (roster.isPresent()) {
+            String rosterFileName = rosterStore.save(roster.get());
+            JsonUtil.saveJsonArrayFile(filePath, Collections.singletonMap(ROSTER_FIELD, rosterFileName), RECORDS_FIELD,
+                    source.getMarkedRecords().stream().map(JsonAdaptedStudentRecord::new).iterator());
+        } else {
+            JsonUtil.saveJsonArrayFile(filePath, RECORDS_FIELD,
+                    source.getStudentRecords().stream().map(JsonAdaptedStudentRecord::new).iterator());
+        }
+    }
 
+    private SessionName toModelSessionName() throws IllegalValueException {
+        if (!SessionName.isValidName(sessionName)) {
+            throw new IllegalValueException(SessionName.MESSAGE_CONSTRAINTS);
+        }
+        return new SessionName(sessionName);
+    }
+
+    private SessionDateTime toModelSessionDateTime() throws IllegalValueException {
         try {
-            newDateTime = new SessionDateTime(
+            return new SessionDateTime(
                     LocalDateTime.parse(sessionDateTime, DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)));
         } catch (DateTimeParseException dtpe) {
             throw new IllegalValueException("Error when parsing SessionDateTime.");
         }
+    }
+
+    /**
+     * Converts adapted student records into a {@code StudentRecordList}, rejecting duplicate NUSNET IDs.
+     */
+    private static class RecordCollector {
+        private final StudentTable studentTable;
+        private final List<StudentRecord> studentRecords = new ArrayList<>();
+        private final Set<NusnetId> nusnetIds = new HashSet<>();
 
-        return new Session(newSessionName, newDateTime, newRecordList);
+        RecordCollector(StudentTable studentTable) {
+            this.studentTable = studentTable;
+        }
+
+        void add(JsonAdaptedStudentRecord jsonAdaptedStudentRecord) throws IllegalValueException {
+            StudentRecord modelAttendance = jsonAdaptedStudentRecord.toModelType(studentTable);
+
+            // check for duplicates
+            if (!nusnetIds.add(modelAttendance.getNusnetId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+            }
+
+            studentRecords.add(modelAttendance);
+        }
+
+        StudentRecordList toModelType() {
+            StudentRecordList newRecordList = new StudentRecordListManager(studentTable);
+            newRecordList.setStudentRecords(studentRecords);
+            return newRecordList;
+        }
+
+        /**
+         * Returns a list of the students in {@code roster}, in which the records added replace their unmarked
+         * records.
+         */
+        StudentRecordList toModelType(Roster roster) throws IllegalValueException {
+            try {
+                return StudentRecordListManager.sparseOf(roster, studentRecords);
+            } catch (StudentNotFoundException snfe) {
+                throw new IllegalValueException(MESSAGE_STUDENT_NOT_IN_ROSTER);
+            }
+        }
     }
 
 }
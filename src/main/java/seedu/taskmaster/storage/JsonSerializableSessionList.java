@@ -1,18 +1,21 @@
 package seedu.taskmaster.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.taskmaster.commons.exceptions.DataConversionException;
 import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.JsonUtil;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
-import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionList;
-import seedu.taskmaster.model.session.SessionListManager;
 
 /**
  * An Immutable SessionList that is serializable to JSON format.
@@ -21,6 +24,8 @@ import seedu.taskmaster.model.session.SessionListManager;
 class JsonSerializableSessionList {
     public static final String MESSAGE_DUPLICATE_SESSION = "Students list contains duplicate session name(s).";
 
+    private static final String SESSIONS_FIELD = "sessions";
+
     private final List<JsonSerializableSession> sessions = new ArrayList<>();
 
     /**
@@ -48,17 +53,37 @@ class JsonSerializableSessionList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public SessionList toModelType() throws IllegalValueException {
-        SessionList sessionList = new SessionListManager();
+        SessionCollector sessionCollector = new SessionCollector();
         for (JsonSerializableSession jsonSerializableSession : sessions) {
-            Session session = jsonSerializableSession.toModelType();
-
-            if (sessionList.contains(session.getSessionName())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SESSION);
-            }
-            sessionList.add(session);
+            sessionCollector.add(jsonSerializableSession.toModelType());
         }
 
-        return sessionList;
+        return sessionCollector.toModelType();
+    }
+
+    /**
+     * Reads the session list in the json file at {@code filePath} into the model's {@code SessionList} object,
+     * converting one session at a time instead of loading the whole file into memory.
+     *
+     * @return {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<SessionList> readModelType(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        SessionCollector sessionCollector = new SessionCollector();
+        boolean isFileFound = JsonUtil.readJsonArrayFile(filePath, SESSIONS_FIELD, JsonSerializableSession.class,
+                jsonSerializableSession -> sessionCollector.add(jsonSerializableSession.toModelType()));
+        return isFileFound ? Optional.of(sessionCollector.toModelType()) : Optional.empty();
+    }
+
+    /**
+     * Writes the session list of {@code source} to the json file at {@code filePath} one session at a time,
+     * in the same format as this class.
+     */
+    public static void save(ReadOnlyTaskmaster source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, SESSIONS_FIELD,
+                source.getSessionList().stream().map(JsonSerializableSession::new).iterator());
     }
 
 }
@@ -1,17 +1,21 @@
 package seedu.taskmaster.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.taskmaster.commons.exceptions.DataConversionException;
 import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.JsonUtil;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.Taskmaster;
-import seedu.taskmaster.model.student.Student;
 
 /**
  * An Immutable Taskmaster that is serializable to JSON format.
@@ -21,6 +25,8 @@ class JsonSerializableTaskmaster {
 
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
 
+    private static final String STUDENTS_FIELD = "students";
+
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
 
     /**
@@ -47,15 +53,36 @@ class JsonSerializableTaskmaster {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Taskmaster toModelType() throws IllegalValueException {
-        Taskmaster taskmaster = new Taskmaster();
+        StudentCollector studentCollector = new StudentCollector();
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (taskmaster.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            taskmaster.addStudent(student);
+            studentCollector.add(jsonAdaptedStudent.toModelType());
         }
-        return taskmaster;
+        return studentCollector.toModelType();
+    }
+
+    /**
+     * Reads the student list in the json file at {@code filePath} into the model's {@code Taskmaster} object,
+     * converting one student at a time instead of loading the whole file into memory.
+     *
+     * @return {@code Optional.empty()} if the file is not found.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyTaskmaster> readModelType(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        StudentCollector studentCollector = new StudentCollector();
+        boolean isFileFound = JsonUtil.readJsonArrayFile(filePath, STUDENTS_FIELD, JsonAdaptedStudent.class,
+                jsonAdaptedStudent -> studentCollector.add(jsonAdaptedStudent.toModelType()));
+        return isFileFound ? Optional.of(studentCollector.toModelType()) : Optional.empty();
+    }
+
+    /**
+     * Writes the student list of {@code source} to the json file at {@code filePath} one student at a time,
+     * in the same format as this class.
+     */
+    public static void save(ReadOnlyTaskmaster source, Path filePath) throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, STUDENTS_FIELD,
+                source.getStudentList().stream().map(JsonAdaptedStudent::new).iterator());
     }
 
 }
@@ -0,0 +1,313 @@
+package seedu.taskmaster.storage;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.FileUtil;
+import seedu.taskmaster.commons.util.JsonUtil;
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.record.StudentRecordList;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.record.StudentTable;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionList;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+import seedu.taskmaster.model.student.NusnetId;
+
+/**
+ * Stores a session list as a manifest file holding the name and date of every session, together with a records file
+ * for each session in a directory next to the manifest. A session that only keeps its marked records in memory only
+ * has those in its records file, and the rosters of such sessions are kept in a directory inside the records
+ * directory, as described in {@link JsonRosterStore}.
+ *
+ * Only the manifest has to be read to list the sessions, and the records of each session can be read when they are
+ * first needed. Sessions in a manifest written by an older version of TAskmaster hold their records inline; they are
+ * read in full, and their records are moved into records files the next time the session list is saved.
+ *
+ * Each save keeps the version of each records file that the previous manifest refers to as the backup of the records
+ * file, so that the backup of the manifest stays valid: a records file that is rewritten is backed up as it is
+ * written, the records file of a deleted session is moved to its backup, and a records file that is left as it is
+ * has no backup, as both manifests refer to it. The backup of a manifest reads the backup of each records file where
+ * there is one. Sessions read from a backup are saved in full the next time the session list is saved, as the
+ * records files next to the manifest may have changed since.
+ *
+ * The statistics of every student over the sessions are kept in a statistics file next to the manifest, so that they
+ * need not be counted from the records of every session. The statistics file is written before the manifest, and
+ * both hold the same statistics id, so statistics that were not saved together with the manifest are never used.
+ */
+class JsonShardedSessionList {
+
+    public static final String MESSAGE_DUPLICATE_SESSION = JsonSerializableSessionList.MESSAGE_DUPLICATE_SESSION;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonShardedSessionList.class);
+
+    private static final String SESSIONS_FIELD = "sessions";
+    private static final String STATISTICS_FIELD = "statistics";
+    private static final String STATISTICS_ID_FIELD = "statisticsId";
+    private static final String STATISTICS_FILE_SUFFIX = "_statistics";
+    private static final String RECORDS_DIRECTORY_SUFFIX = "_records";
+    private static final String ROSTERS_DIRECTORY = "rosters";
+    private static final String JSON_EXTENSION = ".json";
+
+    /**
+     * Reads the session list whose manifest, or backup of a manifest, is at {@code manifestFile}.
+     * If {@code isLazy} is true, the records of each session are only read when they are first needed.
+     * Otherwise, they are read before this method returns.
+     *
+     * @return {@code Optional.empty()} if the manifest is not found.
+     * @throws DataConversionException if a file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<SessionList> read(Path manifestFile, boolean isLazy)
+            throws DataConversionException, IllegalValueException {
+        Path recordsDirectory = getRecordsDirectory(manifestFile);
+        boolean isBackup = !FileUtil.getBackedUpFile(manifestFile).equals(manifestFile);
+        JsonRosterStore rosterStore = new JsonRosterStore(recordsDirectory.resolve(ROSTERS_DIRECTORY));
+        // The sessions read share a student table until they are moved into the table of a Taskmaster
+        StudentTable studentTable = new StudentTable();
+        SessionCollector sessionCollector = new SessionCollector();
+
+        Map<String, String> manifestFields = new HashMap<>();
+        boolean isFileFound = JsonUtil.readJsonArrayFile(manifestFile, SESSIONS_FIELD, JsonSerializableSession.class,
+                jsonSerializableSession -> sessionCollector.add(toModelSession(jsonSerializableSession,
+                        recordsDirectory, isBackup, rosterStore, studentTable, isLazy)), manifestFields);
+        if (!isFileFound) {
+            return Optional.empty();
+        }
+
+        SessionList sessionList = sessionCollector.toModelType();
+        if (isBackup) {
+            sessionList.forEach(Session::markAsModified);
+        } else {
+            // Sessions read from storage have no unsaved changes
+            sessionList.markAsSaved();
+        }
+        readStatistics(manifestFile, manifestFields.get(STATISTICS_ID_FIELD))
+                .ifPresent(sessionList::setSavedStatistics);
+        return Optional.of(sessionList);
+    }
+
+    /**
+     * Saves the session list of {@code source} with its manifest at {@code manifestFile}, moving the records files
+     * of sessions that are no longer in the list to their backups.
+     * If {@code isUpdate} is true, {@code manifestFile} must be where the session list was read from. The records
+     * files of sessions without unsaved changes are then left as they are, without reading their records.
+     * Otherwise, the records of every session are written.
+     * Roster files are only moved to their backups once no session refers to them, which is known when every records
+     * file has been written, as a records file that is left as it is may refer to any of them.
+     */
+    static void save(ReadOnlyTaskmaster source, Path manifestFile, boolean isUpdate) throws IOException {
+        Path recordsDirectory = getRecordsDirectory(manifestFile);
+        Files.createDirectories(recordsDirectory);
+        JsonRosterStore rosterStore = new JsonRosterStore(recordsDirectory.resolve(ROSTERS_DIRECTORY));
+
+        Set<Path> recordsFiles = new HashSet<>();
+        Set<Path> backedUpRecordsFiles = new HashSet<>();
+        boolean isEveryRecordsFileWritten = true;
+        for (Session session : source.getSessionList()) {
+            Path recordsFile = getRecordsFile(recordsDirectory, session.getSessionName());
+            recordsFiles.add(recordsFile);
+
+            boolean isRecordsFileUpToDate = isUpdate
+                    && !session.isModified()
+                    && Files.exists(recordsFile);
+            if (isRecordsFileUpToDate) {
+                isEveryRecordsFileWritten = false;
+                continue;
+            }
+            if (Files.exists(recordsFile)) {
+                backedUpRecordsFiles.add(recordsFile);
+            }
+            JsonSerializableSession.saveRecords(session, recordsFile, rosterStore);
+        }
+
+        Map<String, String> manifestFields = new HashMap<>();
+        Optional<Map<NusnetId, StudentStatistics>> statistics = source.getStatisticsOfEveryStudent();
+        if (statistics.isPresent()) {
+            String statisticsId = UUID.randomUUID().toString();
+            JsonUtil.saveJsonArrayFile(getStatisticsFile(manifestFile),
+                    Collections.singletonMap(STATISTICS_ID_FIELD, statisticsId), STATISTICS_FIELD,
+                    statistics.get().entrySet().stream()
+                            .map(entry -> new JsonAdaptedStudentStatistics(entry.getKey(), entry.getValue()))
+                            .iterator());
+            manifestFields.put(STATISTICS_ID_FIELD, statisticsId);
+        }
+        JsonUtil.saveJsonArrayFile(manifestFile, manifestFields, SESSIONS_FIELD,
+                source.getSessionList().stream().map(JsonSerializableSession::summaryOf).iterator());
+
+        deleteRecordsFilesExcept(recordsDirectory, recordsFiles, backedUpRecordsFiles);
+        if (isEveryRecordsFileWritten) {
+            rosterStore.backUpRosterFilesNotSaved();
+        }
+    }
+
+    /**
+     * Returns the directory holding the records files of the session list whose manifest is at {@code manifestFile}.
+     * The backup of a manifest refers to the same records files as the manifest.
+     */
+    static Path getRecordsDirectory(Path manifestFile) {
+        return manifestFile.resolveSibling(getBaseName(manifestFile) + RECORDS_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the statistics file of the session list whose manifest is at {@code manifestFile}.
+     * The backup of a manifest refers to the same statistics file as the manifest.
+     */
+    static Path getStatisticsFile(Path manifestFile) {
+        return manifestFile.resolveSibling(getBaseName(manifestFile) + STATISTICS_FILE_SUFFIX + JSON_EXTENSION);
+    }
+
+    /**
+     * Returns the name of the manifest at {@code manifestFile}, or of the manifest it is a backup of, without its
+     * extension.
+     */
+    private static String getBaseName(Path manifestFile) {
+        String manifestFileName = FileUtil.getBackedUpFile(manifestFile).getFileName().toString();
+        if (manifestFileName.endsWith(JSON_EXTENSION)) {
+            manifestFileName = manifestFileName.substring(0, manifestFileName.length() - JSON_EXTENSION.length());
+        }
+        return manifestFileName;
+    }
+
+    /**
+     * Returns the records file of the session named {@code sessionName} in {@code recordsDirectory}.
+     * Session names only contain letters, digits and spaces. Spaces are written as '-' and upper case letters as
+     * '_' followed by the letter in lower case, so that sessions whose names differ only in case have different
+     * records files on case-insensitive file systems too.
+     */
+    static Path getRecordsFile(Path recordsDirectory, SessionName sessionName) {
+        StringBuilder fileName = new StringBuilder();
+        for (char c : sessionName.name.toCharArray()) {
+            if (c == ' ') {
+                fileName.append('-');
+            } else if (Character.isUpperCase(c)) {
+                fileName.append('_').append(Character.toLowerCase(c));
+            } else {
+                fileName.append(c);
+            }
+        }
+        return recordsDirectory.resolve(fileName.append(JSON_EXTENSION).toString());
+    }
+
+    /**
+     * Returns the statistics in the statistics file of the manifest at {@code manifestFile}, if they were saved
+     * with the id {@code statisticsId} that the manifest holds. Statistics that cannot be read are left out, as they
+     * can be counted from the records instead.
+     */
+    private static Optional<Map<NusnetId, StudentStatistics>> readStatistics(Path manifestFile,
+            String statisticsId) {
+        if (statisticsId == null) {
+            return Optional.empty();
+        }
+
+        Path statisticsFile = getStatisticsFile(manifestFile);
+        Map<NusnetId, StudentStatistics> statistics = new HashMap<>();
+        Map<String, String> statisticsFields = new HashMap<>();
+        try {
+            boolean isFileFound = JsonUtil.readJsonArrayFile(statisticsFile, STATISTICS_FIELD,
+                    JsonAdaptedStudentStatistics.class, jsonAdaptedStudentStatistics -> statistics.put(
+                            jsonAdaptedStudentStatistics.toModelNusnetId(),
+                            jsonAdaptedStudentStatistics.toModelType()), statisticsFields);
+            if (isFileFound && statisticsId.equals(statisticsFields.get(STATISTICS_ID_FIELD))) {
+                return Optional.of(statistics);
+            }
+            logger.info("The student statistics in " + statisticsFile + " were not saved with " + manifestFile);
+        } catch (DataConversionException | IllegalValueException e) {
+            logger.warning("Failed to read the student statistics in " + statisticsFile + ": " + e);
+        }
+        return Optional.empty();
+    }
+
+    private static Session toModelSession(JsonSerializableSession jsonSerializableSession, Path recordsDirectory,
+            boolean isBackup, JsonRosterStore rosterStore, StudentTable studentTable, boolean isLazy)
+            throws IllegalValueException {
+        Session session;
+        if (jsonSerializableSession.hasRecords()) {
+            session = jsonSerializableSession.toModelType();
+            session.useStudentTable(studentTable);
+        } else {
+            String sessionName = jsonSerializableSession.getSessionName();
+            session = jsonSerializableSession.toModelType(table -> readRecords(sessionName,
+                    recordsDirectory, isBackup, rosterStore, table));
+            session.useStudentTable(studentTable);
+            if (!isLazy) {
+                try {
+                    session.getStudentRecords();
+                } catch (SessionLoadException sle) {
+                    throw new IllegalValueException(sle.getMessage(), sle);
+                }
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Reads the records of the session named {@code sessionName} from its records file, or from the backup of its
+     * records file if {@code isBackup} is true and there is one.
+     */
+    private static StudentRecordList readRecords(String sessionName, Path recordsDirectory, boolean isBackup,
+            JsonRosterStore rosterStore, StudentTable studentTable) throws SessionLoadException {
+        Path recordsFile = getRecordsFile(recordsDirectory, new SessionName(sessionName));
+        if (isBackup && FileUtil.isFileExists(FileUtil.getBackupFile(recordsFile))) {
+            recordsFile = FileUtil.getBackupFile(recordsFile);
+        }
+        logger.fine("Loading records of session " + sessionName + " from " + recordsFile);
+        try {
+            return JsonSerializableSession.readRecords(recordsFile, rosterStore, studentTable);
+        } catch (DataConversionException | IllegalValueException e) {
+            logger.warning("Failed to load records of session " + sessionName + ": " + e);
+            throw new SessionLoadException(sessionName, e);
+        }
+    }
+
+    /**
+     * Deletes the records files other than {@code recordsFilesToKeep}, moving each to its backup, as the backup of the
+     * manifest still refers to them. The backups of the other records files are then deleted, except those of
+     * {@code backedUpRecordsFiles}, which were backed up as they were written, as the backup of the manifest refers
+     * to the records files themselves or not at all.
+     */
+    private static void deleteRecordsFilesExcept(Path recordsDirectory, Set<Path> recordsFilesToKeep,
+            Set<Path> backedUpRecordsFiles) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(recordsDirectory,
+                Files::isRegularFile)) {
+            directoryStream.forEach(files::add);
+        }
+
+        Set<Path> recordsFilesWithBackup = new HashSet<>(backedUpRecordsFiles);
+        for (Path file : files) {
+            if (isRecordsFile(file) && !recordsFilesToKeep.contains(file)) {
+                Files.move(file, FileUtil.getBackupFile(file), StandardCopyOption.REPLACE_EXISTING);
+                recordsFilesWithBackup.add(file);
+            }
+        }
+        for (Path file : files) {
+            Path backedUpFile = FileUtil.getBackedUpFile(file);
+            if (!backedUpFile.equals(file) && isRecordsFile(backedUpFile)
+                    && !recordsFilesWithBackup.contains(backedUpFile)) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static boolean isRecordsFile(Path file) {
+        return file.getFileName().toString().endsWith(JSON_EXTENSION);
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.taskmaster.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.FileUtil;
+import seedu.taskmaster.commons.util.JsonUtil;
+import seedu.taskmaster.model.TaskmasterChange;
+
+/**
+ * A journal of the changes made to a Taskmaster, stored in a file with one json object on each line.
+ *
+ * Changes are only ever appended to the end of the file, and every append is forced to the disk before it
+ * returns. If TAskmaster stops while a change is being appended, the file ends with an incomplete line, which is
+ * discarded the next time the journal is read.
+ *
+ * Sealing the journal moves the changes in the file to a sealed file beside it, numbered after the ones sealed
+ * before, and later changes are appended to a new journal file. The sealed files are read before the journal file
+ * until they are cleared, so the changes made before a snapshot can be cleared once it is written, even if more
+ * changes have been recorded since. Sealed files may be cleared on another thread than the one recording changes.
+ */
+public class JsonTaskmasterJournal implements TaskmasterJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonTaskmasterJournal.class);
+    private static final byte LINE_SEPARATOR = '\n';
+    /** The suffix of the name of a journal file that has been set aside, before the time at which it was. */
+    private static final String SET_ASIDE_SUFFIX = ".unrecovered-";
+    /** The suffix of the name of a sealed journal file, before its number. */
+    private static final String SEALED_SUFFIX = ".sealed-";
+
+    private final Path journalFilePath;
+    // The fields below are guarded by this object's lock.
+    private int size;
+    private long nextSealNumber;
+
+    /**
+     * Initialises the journal, which will use the file at {@code journalFilePath}.
+     */
+    public JsonTaskmasterJournal(Path journalFilePath) {
+        this.journalFilePath = journalFilePath;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public synchronized List<TaskmasterChange> readJournal() throws DataConversionException, IOException {
+        List<TaskmasterChange> changes = new ArrayList<>();
+        for (Path sealedFilePath : getSealedFiles().values()) {
+            changes.addAll(readJournalFile(sealedFilePath));
+        }
+        List<TaskmasterChange> unsealedChanges = readJournalFile(journalFilePath);
+        changes.addAll(unsealedChanges);
+        size = unsealedChanges.size();
+        return changes;
+    }
+
+    @Override
+    public synchronized void appendToJournal(List<TaskmasterChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (TaskmasterChange change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedTaskmasterChange(change)))
+                    .append((char) LINE_SEPARATOR);
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        size += changes.size();
+    }
+
+    @Override
+    public synchronized void clearJournal() throws IOException {
+        for (Path sealedFilePath : getSealedFiles().values()) {
+            Files.delete(sealedFilePath);
+        }
+        Files.deleteIfExists(journalFilePath);
+        size = 0;
+    }
+
+    @Override
+    public synchronized long sealJournal() throws IOException {
+        if (nextSealNumber == 0) {
+            TreeMap<Long, Path> sealedFiles = getSealedFiles();
+            nextSealNumber = sealedFiles.isEmpty() ? 1 : sealedFiles.lastKey() + 1;
+        }
+        long sealNumber = nextSealNumber++;
+        if (Files.exists(journalFilePath)) {
+            Files.move(journalFilePath, getSealedFile(sealNumber));
+        }
+        size = 0;
+        return sealNumber;
+    }
+
+    @Override
+    public synchronized void clearSealedJournal(long sealNumber) throws IOException {
+        for (Path sealedFilePath : getSealedFiles().headMap(sealNumber, true).values()) {
+            Files.delete(sealedFilePath);
+        }
+    }
+
+    @Override
+    public synchronized Optional<Path> setAsideJournal() throws IOException {
+        List<Path> journalFiles = new ArrayList<>(getSealedFiles().values());
+        if (Files.exists(journalFilePath)) {
+            journalFiles.add(journalFilePath);
+        }
+        if (journalFiles.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path setAsideFilePath = journalFilePath.resolveSibling(
+                journalFilePath.getFileName() + SET_ASIDE_SUFFIX + System.currentTimeMillis());
+        if (journalFiles.size() == 1) {
+            Files.move(journalFiles.get(0), setAsideFilePath);
+        } else {
+            // The changes in every file are kept in the one file set aside, in the order in which they were made
+            for (Path journalFile : journalFiles) {
+                Files.write(setAsideFilePath, Files.readAllBytes(journalFile), StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+                Files.delete(journalFile);
+            }
+        }
+        size = 0;
+        logger.warning("Set aside the journal in " + setAsideFilePath + " to be recovered by hand");
+        return Optional.of(setAsideFilePath);
+    }
+
+    @Override
+    public synchronized int getJournalSize() {
+        return size;
+    }
+
+    /**
+     * Returns the changes in the journal file at {@code filePath}, or an empty list if the file is not found.
+     */
+    private List<TaskmasterChange> readJournalFile(Path filePath) throws DataConversionException, IOException {
+        List<TaskmasterChange> changes = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return changes;
+        }
+
+        byte[] contents = Files.readAllBytes(filePath);
+        int end = discardIncompleteLastLine(filePath, contents);
+
+        String[] lines = new String(contents, 0, end, StandardCharsets.UTF_8).split("\n");
+        for (String line : lines) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                changes.add(JsonUtil.fromJsonString(line, JsonAdaptedTaskmasterChange.class).toModelType());
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Invalid change found in " + filePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the sealed journal files that have not been cleared, keyed and ordered by their number.
+     */
+    private TreeMap<Long, Path> getSealedFiles() throws IOException {
+        TreeMap<Long, Path> sealedFiles = new TreeMap<>();
+        Path directory = journalFilePath.toAbsolutePath().getParent();
+        String sealedFilePrefix = journalFilePath.getFileName() + SEALED_SUFFIX;
+        if (!Files.isDirectory(directory)) {
+            return sealedFiles;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, sealedFilePrefix + "*")) {
+            for (Path file : files) {
+                try {
+                    sealedFiles.put(Long.parseLong(file.getFileName().toString()
+                            .substring(sealedFilePrefix.length())), file);
+                } catch (NumberFormatException nfe) {
+                    logger.warning("Ignoring " + file + ", which is not a sealed journal file");
+                }
+            }
+        }
+        return sealedFiles;
+    }
+
+    private Path getSealedFile(long sealNumber) {
+        return journalFilePath.resolveSibling(journalFilePath.getFileName() + SEALED_SUFFIX + sealNumber);
+    }
+
+    /**
+     * Truncates the journal file at {@code filePath}, whose contents are {@code contents}, after its last complete
+     * line, if it does not end with one.
+     *
+     * @return the length of the complete lines at the start of {@code contents}.
+     */
+    private int discardIncompleteLastLine(Path filePath, byte[] contents) throws IOException {
+        int end = contents.length;
+        while (end > 0 && contents[end - 1] != LINE_SEPARATOR) {
+            end--;
+        }
+        if (end < contents.length) {
+            logger.warning("Discarding an incomplete change at the end of " + filePath);
+            // Later changes would otherwise be appended to the incomplete line
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+                channel.force(false);
+            }
+        }
+        return end;
+    }
+}
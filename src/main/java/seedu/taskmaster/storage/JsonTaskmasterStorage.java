@@ -5,13 +5,12 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.taskmaster.commons.core.LogsCenter;
 import seedu.taskmaster.commons.exceptions.DataConversionException;
 import seedu.taskmaster.commons.exceptions.IllegalValueException;
-import seedu.taskmaster.commons.util.FileUtil;
-import seedu.taskmaster.commons.util.JsonUtil;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.session.SessionList;
 
@@ -57,14 +56,8 @@ public class JsonTaskmasterStorage implements TaskmasterStorage {
     public Optional<ReadOnlyTaskmaster> readTaskmaster(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskmaster> jsonTaskmaster = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskmaster.class);
-        if (!jsonTaskmaster.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonTaskmaster.get().toModelType());
+            return JsonSerializableTaskmaster.readModelType(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -85,8 +78,7 @@ public class JsonTaskmasterStorage implements TaskmasterStorage {
         requireNonNull(taskmaster);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskmaster(taskmaster), filePath);
+        JsonSerializableTaskmaster.save(taskmaster, filePath);
     }
 
     @Override
@@ -95,15 +87,17 @@ public class JsonTaskmasterStorage implements TaskmasterStorage {
     }
 
     /**
-     * Saves the SessionList in a Taskmaster to the filepath specified.
+     * Saves the SessionList in a Taskmaster to the filepath specified, as a manifest of the sessions with the records
+     * of each session in a separate file.
+     * When saving to the session list file of this storage, only the records of sessions that have changed are
+     * written.
      */
     @Override
     public void saveSessionList(ReadOnlyTaskmaster taskmaster, Path filePath) throws IOException {
         requireNonNull(taskmaster);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableSessionList(taskmaster), filePath);
+        JsonShardedSessionList.save(taskmaster, filePath, filePath.equals(sessionListFilePath));
     }
 
     /**
@@ -115,6 +109,8 @@ public class JsonTaskmasterStorage implements TaskmasterStorage {
 
     /**
      * Gets SessionList from the filePath specified.
+     * When reading the session list file of this storage, the records of each session are only read when the
+     * session is first used.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -122,18 +118,26 @@ public class JsonTaskmasterStorage implements TaskmasterStorage {
     public Optional<SessionList> readSessionList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableSessionList> jsonSerializableSessionList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableSessionList.class);
-
-        if (!jsonSerializableSessionList.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonSerializableSessionList.get().toModelType());
+            return JsonShardedSessionList.read(filePath, filePath.equals(sessionListFilePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
+
+    /**
+     * Does nothing, as saves are written to the file before the save methods return.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Runs {@code onWritten} at once, as saves are written to the file before the save methods return.
+     */
+    @Override
+    public void whenWritten(Runnable onWritten, Consumer<IOException> onFailed) {
+        onWritten.run();
+    }
 }
@@ -0,0 +1,41 @@
+package seedu.taskmaster.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionList;
+import seedu.taskmaster.model.session.SessionListManager;
+import seedu.taskmaster.model.session.SessionName;
+
+/**
+ * Collects the sessions read from storage into a {@code SessionList}, rejecting sessions with duplicate names.
+ * Each session is checked against the names seen so far instead of the sessions collected so far, so a session
+ * list is read in time linear in its size.
+ */
+class SessionCollector {
+    private final List<Session> sessions = new ArrayList<>();
+    private final Set<SessionName> sessionNames = new HashSet<>();
+
+    /**
+     * Adds {@code session} after the sessions collected so far.
+     *
+     * @throws IllegalValueException if a session with the same name has already been collected.
+     */
+    void add(Session session) throws IllegalValueException {
+        if (!sessionNames.add(session.getSessionName())) {
+            throw new IllegalValueException(JsonSerializableSessionList.MESSAGE_DUPLICATE_SESSION);
+        }
+        sessions.add(session);
+    }
+
+    /**
+     * Returns a {@code SessionList} of the sessions collected, in the order in which they were added.
+     */
+    SessionList toModelType() {
+        return SessionListManager.of(sessions);
+    }
+}
@@ -2,17 +2,22 @@ package seedu.taskmaster.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import seedu.taskmaster.commons.exceptions.DataConversionException;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.ReadOnlyUserPrefs;
 import seedu.taskmaster.model.UserPrefs;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.student.NusnetId;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends TaskmasterStorage, UserPrefsStorage {
+public interface Storage extends TaskmasterStorage, UserPrefsStorage, TaskmasterJournal {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -30,4 +35,26 @@ public interface Storage extends TaskmasterStorage, UserPrefsStorage {
     void saveTaskmaster(ReadOnlyTaskmaster taskmaster) throws IOException;
 
     boolean fileExists(Path filepath);
+
+    /**
+     * Returns the edits to make to the student records of a session for the attendance in the CSV file at
+     * {@code filePath}, keyed by the NUSNET ID of each student in the file.
+     * @throws DataConversionException if the data in the file is not in the expected format.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    Map<NusnetId, EditStudentRecordDescriptor> readAttendance(Path filePath) throws DataConversionException,
+            IOException;
+
+    /**
+     * Returns the students in the class list in the CSV file at {@code filePath}, together with the lines of the
+     * file that are not valid students.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    ImportedStudents readStudents(Path filePath) throws IOException;
+
+    /**
+     * Writes the student records of {@code sessions} to the CSV file at {@code filePath}, replacing its contents.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void exportSessions(List<Session> sessions, Path filePath) throws IOException;
 }
@@ -3,15 +3,22 @@ package seedu.taskmaster.storage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.taskmaster.commons.core.LogsCenter;
 import seedu.taskmaster.commons.exceptions.DataConversionException;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.ReadOnlyUserPrefs;
+import seedu.taskmaster.model.TaskmasterChange;
 import seedu.taskmaster.model.UserPrefs;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionList;
+import seedu.taskmaster.model.student.NusnetId;
 
 /**
  * Manages storage of Taskmaster data in local storage.
@@ -27,15 +34,19 @@ public class StorageManager implements Storage {
 
     private TaskmasterStorage taskmasterStorage;
     private UserPrefsStorage userPrefsStorage;
+    private TaskmasterJournal taskmasterJournal;
 
 
     /**
-     * Creates a {@code StorageManager} with the given {@code TaskmasterStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code TaskmasterStorage}, {@code UserPrefStorage} and
+     * {@code TaskmasterJournal}.
      */
-    public StorageManager(TaskmasterStorage taskmasterStorage, UserPrefsStorage userPrefsStorage) {
+    public StorageManager(TaskmasterStorage taskmasterStorage, UserPrefsStorage userPrefsStorage,
+            TaskmasterJournal taskmasterJournal) {
         super();
         this.taskmasterStorage = taskmasterStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.taskmasterJournal = taskmasterJournal;
     }
 
     // ================ UserPrefs methods ==============================
@@ -113,6 +124,83 @@ public class StorageManager implements Storage {
         return taskmasterStorage.readSessionList(filepath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        logger.fine("Waiting for pending saves to be written");
+        taskmasterStorage.flush();
+    }
+
+    @Override
+    public void whenWritten(Runnable onWritten, Consumer<IOException> onFailed) {
+        taskmasterStorage.whenWritten(onWritten, onFailed);
+    }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return taskmasterJournal.getJournalFilePath();
+    }
+
+    @Override
+    public List<TaskmasterChange> readJournal() throws DataConversionException, IOException {
+        logger.fine("Attempting to read journal from file: " + taskmasterJournal.getJournalFilePath());
+        return taskmasterJournal.readJournal();
+    }
+
+    @Override
+    public void appendToJournal(List<TaskmasterChange> changes) throws IOException {
+        taskmasterJournal.appendToJournal(changes);
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        taskmasterJournal.clearJournal();
+    }
+
+    @Override
+    public long sealJournal() throws IOException {
+        return taskmasterJournal.sealJournal();
+    }
+
+    @Override
+    public void clearSealedJournal(long sealNumber) throws IOException {
+        taskmasterJournal.clearSealedJournal(sealNumber);
+    }
+
+    @Override
+    public Optional<Path> setAsideJournal() throws IOException {
+        return taskmasterJournal.setAsideJournal();
+    }
+
+    @Override
+    public int getJournalSize() {
+        return taskmasterJournal.getJournalSize();
+    }
+
+    // ================ Import methods ==============================
+
+    @Override
+    public Map<NusnetId, EditStudentRecordDescriptor> readAttendance(Path filePath)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read attendance from file: " + filePath);
+        return CsvAttendanceFile.read(filePath);
+    }
+
+    @Override
+    public ImportedStudents readStudents(Path filePath) throws IOException {
+        logger.fine("Attempting to read students from file: " + filePath);
+        return CsvStudentFile.read(filePath);
+    }
+
+    // ================ Export methods ==============================
+
+    @Override
+    public void exportSessions(List<Session> sessions, Path filePath) throws IOException {
+        logger.fine("Attempting to export sessions to file: " + filePath);
+        CsvSessionFile.write(sessions, filePath);
+    }
+
     // ================ Util methods ==============================
 
     public boolean fileExists(Path filePath) {
@@ -0,0 +1,42 @@
+package seedu.taskmaster.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+
+/**
+ * Collects the students read from storage into a {@code Taskmaster}, rejecting duplicate students.
+ * Each student is checked against the NUSNET IDs seen so far instead of the students collected so far, so a
+ * student list is read in time linear in its size.
+ */
+class StudentCollector {
+    private final List<Student> students = new ArrayList<>();
+    private final Set<NusnetId> nusnetIds = new HashSet<>();
+
+    /**
+     * Adds {@code student} after the students collected so far.
+     *
+     * @throws IllegalValueException if the same student has already been collected.
+     */
+    void add(Student student) throws IllegalValueException {
+        if (!nusnetIds.add(student.getNusnetId())) {
+            throw new IllegalValueException(JsonSerializableTaskmaster.MESSAGE_DUPLICATE_STUDENT);
+        }
+        students.add(student);
+    }
+
+    /**
+     * Returns a {@code Taskmaster} with the students collected, in the order in which they were added.
+     */
+    Taskmaster toModelType() {
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setStudents(students);
+        return taskmaster;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.taskmaster.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.model.TaskmasterChange;
+
+/**
+ * Represents a journal of the changes made to a {@link seedu.taskmaster.model.Taskmaster} since it was last saved.
+ * Recording a change in the journal is much cheaper than saving the Taskmaster, and the changes can be made again to
+ * the last saved Taskmaster to recover any that were not saved.
+ */
+public interface TaskmasterJournal {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Returns the changes in the journal, in the order in which they were recorded.
+     * Returns an empty list if the journal file is not found.
+     * @throws DataConversionException if the data in the journal is not in the expected format.
+     * @throws IOException if there was any problem when reading from the journal.
+     */
+    List<TaskmasterChange> readJournal() throws DataConversionException, IOException;
+
+    /**
+     * Records {@code changes} at the end of the journal. The changes are written to the disk before this method
+     * returns, so they are not lost if TAskmaster stops unexpectedly.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendToJournal(List<TaskmasterChange> changes) throws IOException;
+
+    /**
+     * Removes every change from the journal. Only to be called once the changes have been saved.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void clearJournal() throws IOException;
+
+    /**
+     * Seals the changes recorded so far, so that they can be cleared by {@link #clearSealedJournal} once the data
+     * they were made to has been saved, while later changes are recorded after them. Sealed changes are still read
+     * as part of the journal until they are cleared, but are no longer counted by {@link #getJournalSize}.
+     * Returns the number of the seal, which is greater than that of every earlier seal.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    long sealJournal() throws IOException;
+
+    /**
+     * Removes the changes sealed by the seal numbered {@code sealNumber} and by every seal before it. Only to be
+     * called once the changes have been saved. May be called on another thread than the one recording changes.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void clearSealedJournal(long sealNumber) throws IOException;
+
+    /**
+     * Moves the journal file to a new file beside it, which is never read or cleared, so that the changes in it can be
+     * recovered by hand, and empties the journal.
+     * Returns the path of the file the journal was moved to, or an empty {@code Optional} if there is no journal file.
+     * @throws IOException if there was any problem moving the journal file.
+     */
+    Optional<Path> setAsideJournal() throws IOException;
+
+    /**
+     * Returns the number of changes in the journal that have not been sealed.
+     */
+    int getJournalSize();
+
+}
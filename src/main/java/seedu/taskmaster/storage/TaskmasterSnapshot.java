@@ -0,0 +1,88 @@
+package seedu.taskmaster.storage;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+
+/**
+ * A copy of the students and sessions of a {@code ReadOnlyTaskmaster} at a point in time, which can be written to
+ * storage on another thread.
+ *
+ * Nothing in a snapshot is shared with the source that the source may change, so the writer never reads the
+ * model while it is in use. The records of each loaded session are copied, and sessions that have not been loaded
+ * are loaded by the snapshot into a student table of its own if storage needs their records.
+ */
+class TaskmasterSnapshot implements ReadOnlyTaskmaster {
+
+    private final ObservableList<Student> students;
+    private final ObservableList<Session> sessions;
+    private final Optional<Map<NusnetId, StudentStatistics>> statisticsOfEveryStudent;
+
+    /**
+     * Copies the students, the sessions and the statistics of every student of {@code source}.
+     */
+    TaskmasterSnapshot(ReadOnlyTaskmaster source) {
+        students = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getStudentList()));
+        sessions = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getSessionList().stream()
+                        .map(Session::detachedCopy)
+                        .collect(Collectors.toList())));
+        statisticsOfEveryStudent = source.getStatisticsOfEveryStudent();
+    }
+
+    /**
+     * Marks the sessions in this snapshot that have unsaved changes in {@code older} as modified, so that those
+     * changes are still written when this snapshot is saved in place of {@code older}.
+     */
+    void includeUnsavedChangesOf(TaskmasterSnapshot older) {
+        Set<SessionName> modifiedSessionNames = older.sessions.stream()
+                .filter(Session::isModified)
+                .map(Session::getSessionName)
+                .collect(Collectors.toSet());
+        sessions.stream()
+                .filter(session -> modifiedSessionNames.contains(session.getSessionName()))
+                .forEach(Session::markAsModified);
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return students;
+    }
+
+    @Override
+    public ObservableList<Session> getSessionList() {
+        return sessions;
+    }
+
+    @Override
+    public ObservableList<StudentRecord> getStudentRecordList() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public boolean isStudentListModified() {
+        return true;
+    }
+
+    @Override
+    public boolean isSessionListModified() {
+        return true;
+    }
+
+    @Override
+    public Optional<Map<NusnetId, StudentStatistics>> getStatisticsOfEveryStudent() {
+        return statisticsOfEveryStudent;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.taskmaster.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.taskmaster.commons.exceptions.DataConversionException;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
@@ -73,4 +74,17 @@ public interface TaskmasterStorage {
      * @see #readSessionList()
      */
     Optional<SessionList> readSessionList(Path filePath) throws DataConversionException, IOException;
+
+    /**
+     * Blocks until all saves made so far have been written to the storage.
+     * @throws IOException if there is a problem writing to the file.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Runs {@code onWritten} once all saves made so far have been written to the storage, without waiting for them
+     * to be. If the latest save to a file could not be written, {@code onFailed} is given the failure instead.
+     * Either may be run on another thread.
+     */
+    void whenWritten(Runnable onWritten, Consumer<IOException> onFailed);
 }
@@ -0,0 +1,92 @@
+package seedu.taskmaster.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionList;
+
+/**
+ * Copies Taskmaster data between storages, such as from json files to binary files and back.
+ */
+public class TaskmasterStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskmasterStorageConverter.class);
+
+    /**
+     * Replaces the data in {@code target} with the data in {@code source}.
+     * Data that is missing from {@code source} is saved as empty.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem when reading from {@code source} or writing to {@code target}.
+     */
+    public static void copy(TaskmasterStorage source, TaskmasterStorage target)
+            throws DataConversionException, IOException {
+        Taskmaster taskmaster = new Taskmaster(source.readTaskmaster().orElseGet(Taskmaster::new));
+        Optional<SessionList> sessionList = source.readSessionList();
+        if (sessionList.isPresent()) {
+            // None of the sessions have been saved to the target yet
+            sessionList.get().forEach(Session::markAsModified);
+            taskmaster.setSessions(sessionList.get().asUnmodifiableObservableList());
+        }
+
+        target.saveTaskmaster(taskmaster);
+        target.saveSessionList(taskmaster);
+        target.flush();
+    }
+
+    /**
+     * Replaces the data in {@code target} with the data in {@code source} if {@code source} was saved after
+     * {@code target}, or if {@code target} holds no data at all.
+     *
+     * @return true if the data was copied.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem when reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean copyIfNewer(TaskmasterStorage source, TaskmasterStorage target)
+            throws DataConversionException, IOException {
+        Optional<FileTime> sourceSaveTime = getLastSaveTime(source);
+        if (!sourceSaveTime.isPresent()) {
+            return false;
+        }
+
+        Optional<FileTime> targetSaveTime = getLastSaveTime(target);
+        if (targetSaveTime.isPresent() && sourceSaveTime.get().compareTo(targetSaveTime.get()) <= 0) {
+            return false;
+        }
+
+        logger.info("Copying data from " + source.getTaskmasterFilePath() + " and " + source.getSessionListFilePath()
+                + " to " + target.getTaskmasterFilePath() + " and " + target.getSessionListFilePath());
+        copy(source, target);
+        return true;
+    }
+
+    /**
+     * Returns the time at which a data file of {@code storage} was last written, or {@code Optional.empty()} if it
+     * has no data files.
+     */
+    private static Optional<FileTime> getLastSaveTime(TaskmasterStorage storage) throws IOException {
+        Optional<FileTime> taskmasterSaveTime = getLastModifiedTime(storage.getTaskmasterFilePath());
+        Optional<FileTime> sessionListSaveTime = getLastModifiedTime(storage.getSessionListFilePath());
+        if (!taskmasterSaveTime.isPresent()) {
+            return sessionListSaveTime;
+        }
+        if (!sessionListSaveTime.isPresent()) {
+            return taskmasterSaveTime;
+        }
+        return taskmasterSaveTime.get().compareTo(sessionListSaveTime.get()) >= 0
+                ? taskmasterSaveTime
+                : sessionListSaveTime;
+    }
+
+    private static Optional<FileTime> getLastModifiedTime(Path filePath) throws IOException {
+        return Files.exists(filePath) ? Optional.of(Files.getLastModifiedTime(filePath)) : Optional.empty();
+    }
+}
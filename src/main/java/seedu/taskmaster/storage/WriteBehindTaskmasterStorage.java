@@ -0,0 +1,247 @@
+package seedu.taskmaster.storage;
+
+import static seedu.taskmaster.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.util.StringUtil;
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.session.SessionList;
+
+/**
+ * A {@code TaskmasterStorage} that writes data to another {@code TaskmasterStorage} on a background thread, so that
+ * saving does not hold up the caller.
+ *
+ * Each save takes a snapshot of the data on the calling thread and queues it against the file it is to be written
+ * to. A newer snapshot replaces one for the same file that has not been written yet, so a burst of saves results in
+ * a single write of the latest data, which also carries over any unsaved session changes of the replaced snapshot.
+ * A write that fails is kept and retried with the next save or flush.
+ *
+ * Failures are only reported by {@link #flush} and {@link #whenWritten}, which report them for as long as the latest
+ * write to any file has failed, that is, while some saved data is still not on the disk. Queueing a save never
+ * throws, so a failure is reported to the caller waiting for the failed save to be written, rather than to whichever
+ * caller happens to save next.
+ */
+public class WriteBehindTaskmasterStorage implements TaskmasterStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindTaskmasterStorage.class);
+
+    private final TaskmasterStorage storage;
+    private final ExecutorService writer;
+
+    // The fields below are guarded by this object's lock.
+    private final Map<Path, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private final Map<Path, IOException> writeFailures = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a {@code WriteBehindTaskmasterStorage} that writes to {@code storage} on a background thread.
+     */
+    public WriteBehindTaskmasterStorage(TaskmasterStorage storage) {
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "taskmaster-storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getTaskmasterFilePath() {
+        return storage.getTaskmasterFilePath();
+    }
+
+    @Override
+    public Path getSessionListFilePath() {
+        return storage.getSessionListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskmaster> readTaskmaster() throws DataConversionException, IOException {
+        return readTaskmaster(storage.getTaskmasterFilePath());
+    }
+
+    /**
+     * Waits for pending saves to be written before reading from {@code filePath}.
+     */
+    @Override
+    public Optional<ReadOnlyTaskmaster> readTaskmaster(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readTaskmaster(filePath);
+    }
+
+    @Override
+    public void saveTaskmaster(ReadOnlyTaskmaster taskmaster) throws IOException {
+        saveTaskmaster(taskmaster, storage.getTaskmasterFilePath());
+    }
+
+    /**
+     * Queues a snapshot of the students in {@code taskmaster} to be written to {@code filePath}.
+     * A failure to write it is reported by {@link #flush}.
+     */
+    @Override
+    public void saveTaskmaster(ReadOnlyTaskmaster taskmaster, Path filePath) throws IOException {
+        requireAllNonNull(taskmaster, filePath);
+        queueWrite(filePath, new PendingWrite(new TaskmasterSnapshot(taskmaster), storage::saveTaskmaster));
+    }
+
+    @Override
+    public void saveSessionList(ReadOnlyTaskmaster taskmaster) throws IOException {
+        saveSessionList(taskmaster, storage.getSessionListFilePath());
+    }
+
+    /**
+     * Queues a snapshot of the sessions in {@code taskmaster} to be written to {@code filePath}.
+     * A failure to write it is reported by {@link #flush}.
+     */
+    @Override
+    public void saveSessionList(ReadOnlyTaskmaster taskmaster, Path filePath) throws IOException {
+        requireAllNonNull(taskmaster, filePath);
+        queueWrite(filePath, new PendingWrite(new TaskmasterSnapshot(taskmaster), storage::saveSessionList));
+    }
+
+    @Override
+    public Optional<SessionList> readSessionList() throws DataConversionException, IOException {
+        return readSessionList(storage.getSessionListFilePath());
+    }
+
+    /**
+     * Waits for pending saves to be written before reading from {@code filePath}.
+     */
+    @Override
+    public Optional<SessionList> readSessionList(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readSessionList(filePath);
+    }
+
+    /**
+     * Blocks until every queued save, including any that failed earlier, has been written or has failed again.
+     *
+     * @throws IOException if the latest save to a file could not be written, so the data saved to it is not yet on
+     *     the disk.
+     */
+    @Override
+    public void flush() throws IOException {
+        Future<?> written = writer.submit(this::writePendingSaves);
+        try {
+            written.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Runs {@code onWritten} on the writer thread once every queued save, including any that failed earlier, has been
+     * written, or gives {@code onFailed} the failure if the latest save to a file could not be written.
+     */
+    @Override
+    public void whenWritten(Runnable onWritten, Consumer<IOException> onFailed) {
+        writer.execute(() -> {
+            writePendingSaves();
+            Optional<IOException> failure = getWriteFailure();
+            if (failure.isPresent()) {
+                onFailed.accept(failure.get());
+            } else {
+                onWritten.run();
+            }
+        });
+    }
+
+    /**
+     * Queues {@code write} to be performed on the writer thread, replacing any unwritten save to {@code filePath}.
+     */
+    private synchronized void queueWrite(Path filePath, PendingWrite write) {
+        PendingWrite replacedWrite = pendingWrites.put(filePath, write);
+        if (replacedWrite != null) {
+            write.snapshot.includeUnsavedChangesOf(replacedWrite.snapshot);
+        }
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePendingSaves);
+        }
+    }
+
+    /**
+     * Performs all queued writes, and records whether the latest write to each file failed. Writes that fail are
+     * queued again unless a newer save to the same file has been queued in the meantime.
+     */
+    private void writePendingSaves() {
+        Map<Path, PendingWrite> writes;
+        synchronized (this) {
+            writes = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            isWriteScheduled = false;
+        }
+
+        for (Map.Entry<Path, PendingWrite> entry : writes.entrySet()) {
+            try {
+                entry.getValue().writeTo(entry.getKey());
+                synchronized (this) {
+                    writeFailures.remove(entry.getKey());
+                }
+            } catch (IOException ioe) {
+                logger.warning("Failed to save data to " + entry.getKey() + ": " + StringUtil.getDetails(ioe));
+                synchronized (this) {
+                    writeFailures.put(entry.getKey(), ioe);
+                    PendingWrite newerWrite = pendingWrites.putIfAbsent(entry.getKey(), entry.getValue());
+                    if (newerWrite != null) {
+                        newerWrite.snapshot.includeUnsavedChangesOf(entry.getValue().snapshot);
+                    }
+                }
+            }
+        }
+    }
+
+    private void throwWriteFailure() throws IOException {
+        Optional<IOException> failure = getWriteFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    private synchronized Optional<IOException> getWriteFailure() {
+        // A failed write stays queued until it succeeds, so its failure is reported until then
+        return writeFailures.values().stream().findFirst();
+    }
+
+    /**
+     * A save that has been queued but not yet written.
+     */
+    private static class PendingWrite {
+        private final TaskmasterSnapshot snapshot;
+        private final SaveMethod saveMethod;
+
+        PendingWrite(TaskmasterSnapshot snapshot, SaveMethod saveMethod) {
+            this.snapshot = snapshot;
+            this.saveMethod = saveMethod;
+        }
+
+        void writeTo(Path filePath) throws IOException {
+            saveMethod.save(snapshot, filePath);
+        }
+    }
+
+    /**
+     * One of the save methods of the underlying {@code TaskmasterStorage}.
+     */
+    @FunctionalInterface
+    private interface SaveMethod {
+        void save(ReadOnlyTaskmaster taskmaster, Path filePath) throws IOException;
+    }
+}
@@ -17,18 +17,23 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final LiveStudentSearch liveStudentSearch;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which narrows the student list with
+     * {@code liveStudentSearch} as a {@code find-students} command is typed.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, LiveStudentSearch liveStudentSearch) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveStudentSearch = liveStudentSearch;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) ->
+                liveStudentSearch.handleTextChanged(newText));
     }
 
     /**
@@ -38,6 +43,7 @@ public class CommandBox extends UiPart<Region> {
     private void handleCommandEntered() {
         try {
             commandExecutor.execute(commandTextField.getText());
+            liveStudentSearch.stop();
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
             setStyleToIndicateCommandFailure();
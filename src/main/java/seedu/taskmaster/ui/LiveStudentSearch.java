@@ -0,0 +1,137 @@
+package seedu.taskmaster.ui;
+
+import static seedu.taskmaster.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.util.Duration;
+import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.logic.Logic;
+import seedu.taskmaster.logic.commands.FindCommand;
+import seedu.taskmaster.logic.parser.FindCommandParser;
+import seedu.taskmaster.model.student.IncrementalStudentSearch;
+import seedu.taskmaster.model.student.Student;
+
+/**
+ * Narrows the student list as a {@code find-students} command is typed into the command box, before it is entered.
+ * Its keywords are read and matched as the command reads and matches them, so the students shown as it is typed are
+ * those it shows once entered.
+ *
+ * A search starts once typing has paused for {@code DEBOUNCE_DELAY}, and runs on a background thread so that typing
+ * stays smooth on large student lists. It reads a snapshot of the students taken on the JavaFX thread, which is kept
+ * until the student list changes so that a search extending the previous one only reads the students found before.
+ * The students found are shown on the JavaFX thread, unless the text has changed again since the search started.
+ */
+public class LiveStudentSearch {
+
+    private static final Logger logger = LogsCenter.getLogger(LiveStudentSearch.class);
+    private static final Duration DEBOUNCE_DELAY = Duration.millis(150);
+    private static final String FIND_COMMAND_PREFIX = FindCommand.COMMAND_WORD + " ";
+
+    private final Logic logic;
+    private final PauseTransition debounce = new PauseTransition(DEBOUNCE_DELAY);
+    private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(LiveStudentSearch::newThread);
+    /** Used only on the thread of {@code searchExecutor}. */
+    private final IncrementalStudentSearch search = new IncrementalStudentSearch();
+
+    private List<Student> studentsSnapshot;
+    private List<String> keywordsTyped = Collections.emptyList();
+    private int textVersion;
+    private boolean isNarrowed;
+
+    /**
+     * Creates a {@code LiveStudentSearch} that narrows the filtered student list of {@code logic}.
+     */
+    public LiveStudentSearch(Logic logic) {
+        this.logic = logic;
+        logic.getTaskmaster().getStudentList().addListener((ListChangeListener<Student>) change ->
+                studentsSnapshot = null);
+        debounce.setOnFinished(event -> startSearch());
+    }
+
+    /**
+     * Handles a change of the text in the command box to {@code commandText}, searching for its keywords if it is a
+     * {@code find-students} command, and showing every student again if it no longer is one.
+     */
+    public void handleTextChanged(String commandText) {
+        textVersion++;
+        keywordsTyped = getKeywords(commandText);
+        if (!keywordsTyped.isEmpty()) {
+            debounce.playFromStart();
+            return;
+        }
+
+        debounce.stop();
+        if (isNarrowed) {
+            logic.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+            isNarrowed = false;
+        }
+    }
+
+    /**
+     * Stops the search of the text typed so far, leaving the student list as it is.
+     * Called once the command typed has been entered, so that the list it shows is kept.
+     */
+    public void stop() {
+        textVersion++;
+        debounce.stop();
+        isNarrowed = false;
+    }
+
+    private void startSearch() {
+        if (studentsSnapshot == null) {
+            studentsSnapshot = Collections.unmodifiableList(new ArrayList<>(logic.getTaskmaster().getStudentList()));
+        }
+        List<Student> students = studentsSnapshot;
+        List<String> keywords = keywordsTyped;
+        int searchedTextVersion = textVersion;
+        searchExecutor.execute(() -> showMatches(search.find(students, keywords), searchedTextVersion));
+    }
+
+    /**
+     * Shows {@code matches} in the student list on the JavaFX thread, if the text searched is still the one typed.
+     */
+    private void showMatches(List<Student> matches, int searchedTextVersion) {
+        // Students are told apart by identity, as the matches are the same objects as in the student list
+        Set<Student> matchingStudents = Collections.newSetFromMap(new IdentityHashMap<>(matches.size()));
+        matchingStudents.addAll(matches);
+        Platform.runLater(() -> {
+            if (searchedTextVersion == textVersion) {
+                logger.fine("Showing " + matchingStudents.size() + " students matching " + keywordsTyped);
+                logic.updateFilteredStudentList(matchingStudents::contains);
+                isNarrowed = true;
+            }
+        });
+    }
+
+    /**
+     * Returns the keywords of {@code commandText} if it is a {@code find-students} command, or an empty list if it is
+     * not one or has no keywords yet.
+     */
+    private static List<String> getKeywords(String commandText) {
+        String trimmedText = commandText.stripLeading();
+        if (!trimmedText.startsWith(FIND_COMMAND_PREFIX)) {
+            return Collections.emptyList();
+        }
+        return FindCommandParser.parseKeywords(trimmedText.substring(FIND_COMMAND_PREFIX.length()));
+    }
+
+    /**
+     * Returns a daemon thread for searches, which does not keep the application running once it is closed.
+     */
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "live-student-search");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -23,6 +23,7 @@ import seedu.taskmaster.logic.commands.exceptions.CommandException;
 import seedu.taskmaster.logic.parser.exceptions.ParseException;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.SessionException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -150,7 +151,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTaskmasterFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, new LiveStudentSearch(logic));
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -160,7 +161,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillMainList(boolean fillWithStudents) {
         if (fillWithStudents) {
-            mainListPanel = new StudentListPanel(logic.getFilteredStudentList());
+            mainListPanel = new StudentListPanel(logic.getFilteredStudentList(), logic::getStudentStatistics);
         } else {
             String sessionName = currentSession.get().getSessionName().name;
             String sessionDateTime = currentSession.get().getSessionDateTime().getDisplayDateTimeString();
@@ -173,7 +174,12 @@ public class MainWindow extends UiPart<Stage> {
      * Change current session and fill the main list with it.
      */
     void changeSession(SessionName sessionName) {
-        logic.changeSession(sessionName);
+        try {
+            logic.changeSession(sessionName);
+        } catch (SessionException e) {
+            logger.warning("Failed to change session: " + e.getMessage());
+            resultDisplay.setFeedbackToUser(e.getMessage());
+        }
     }
 
     /**
@@ -239,6 +245,9 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            if (mainListPanel instanceof StudentListPanel) {
+                ((StudentListPanel) mainListPanel).refresh();
+            }
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -7,6 +7,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.student.Student;
 
 /**
@@ -39,12 +40,14 @@ public class StudentCard extends UiPart<Region> {
     @FXML
     private Label email;
     @FXML
+    private Label statistics;
+    @FXML
     private FlowPane tags;
 
     /**
-     * Creates a {@code StudentCode} with the given {@code Student} and index to display.
+     * Creates a {@code StudentCode} with the given {@code Student}, index and statistics to display.
      */
-    public StudentCard(Student student, int displayedIndex) {
+    public StudentCard(Student student, int displayedIndex, StudentStatistics studentStatistics) {
         super(FXML);
         this.student = student;
         id.setText(displayedIndex + ". ");
@@ -52,6 +55,7 @@ public class StudentCard extends UiPart<Region> {
         telegram.setText("@" + student.getTelegram().value);
         nusnetId.setText(student.getNusnetId().value);
         email.setText(student.getEmail().value);
+        statistics.setText(studentStatistics.toString());
         student.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
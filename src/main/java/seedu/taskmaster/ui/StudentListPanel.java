@@ -1,5 +1,6 @@
 package seedu.taskmaster.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,6 +10,8 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.taskmaster.commons.core.LogsCenter;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
 
 /**
@@ -24,16 +27,29 @@ public class StudentListPanel extends UiPart<Region> {
     @FXML
     private ListView<Student> mainListView;
 
+    private final Function<NusnetId, StudentStatistics> statisticsOfStudent;
+
     /**
-     * Creates a {@code StudentListPanel} with the given {@code ObservableList}.
+     * Creates a {@code StudentListPanel} with the given {@code ObservableList}, showing the statistics of each
+     * student given by {@code statisticsOfStudent}.
      */
-    public StudentListPanel(ObservableList<Student> studentList) {
+    public StudentListPanel(ObservableList<Student> studentList,
+                            Function<NusnetId, StudentStatistics> statisticsOfStudent) {
         super(FXML);
+        this.statisticsOfStudent = statisticsOfStudent;
         viewName.setText("Student List");
         mainListView.setItems(studentList);
         mainListView.setCellFactory(listView -> new StudentListViewCell());
     }
 
+    /**
+     * Redraws the students shown, so that their statistics are up to date after the records of a session change.
+     * Only the cards in view are drawn again, each looking up the statistics of its student.
+     */
+    public void refresh() {
+        mainListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentCard}.
      */
@@ -46,7 +62,8 @@ public class StudentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new StudentCard(student, getIndex() + 1).getRoot());
+                StudentStatistics statistics = statisticsOfStudent.apply(student.getNusnetId());
+                setGraphic(new StudentCard(student, getIndex() + 1, statistics).getRoot());
             }
         }
     }
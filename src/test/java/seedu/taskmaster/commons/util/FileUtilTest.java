@@ -1,13 +1,24 @@
 package seedu.taskmaster.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,58 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingFile_fileCreatedWithoutBackup() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+
+        FileUtil.writeToFile(file, "contents");
+        assertEquals("contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFile(file)));
+        assertEquals(1, getNumberOfFilesIn(file.getParent()));
+    }
+
+    @Test
+    public void writeToFile_existingFile_previousContentsBackedUp() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupFile(file)));
+
+        // Only the latest previous contents are kept
+        FileUtil.writeToFile(file, "third");
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFile(file)));
+        assertEquals(2, getNumberOfFilesIn(testFolder));
+    }
+
+    @Test
+    public void getBackedUpFile() {
+        Path file = testFolder.resolve("file.json");
+        assertEquals(file, FileUtil.getBackedUpFile(FileUtil.getBackupFile(file)));
+        assertEquals(file, FileUtil.getBackedUpFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "saved");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, FileUtilTest::writeUntilDiskFull));
+        assertEquals("saved", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFile(file)));
+        assertEquals(1, getNumberOfFilesIn(testFolder));
+    }
+
+    private static void writeUntilDiskFull(OutputStream out) throws IOException {
+        out.write("incomplete".getBytes());
+        throw new IOException("Disk full");
+    }
+
+    private static long getNumberOfFilesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
 }
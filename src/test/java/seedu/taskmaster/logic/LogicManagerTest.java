@@ -1,36 +1,50 @@
 package seedu.taskmaster.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.taskmaster.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.NUSNETID_DESC_AMY;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static seedu.taskmaster.logic.parser.CliSyntax.PREFIX_ATTENDANCE_FILENAME;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 import static seedu.taskmaster.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.taskmaster.logic.commands.AddCommand;
+import seedu.taskmaster.logic.commands.ClearCommand;
 import seedu.taskmaster.logic.commands.CommandResult;
+import seedu.taskmaster.logic.commands.ImportStudentsCommand;
 import seedu.taskmaster.logic.commands.ListStudentsCommand;
 import seedu.taskmaster.logic.commands.exceptions.CommandException;
 import seedu.taskmaster.logic.parser.exceptions.ParseException;
 import seedu.taskmaster.model.Model;
 import seedu.taskmaster.model.ModelManager;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.TaskmasterChange;
 import seedu.taskmaster.model.UserPrefs;
 import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.storage.JsonTaskmasterJournal;
 import seedu.taskmaster.storage.JsonTaskmasterStorage;
 import seedu.taskmaster.storage.JsonUserPrefsStorage;
 import seedu.taskmaster.storage.StorageManager;
+import seedu.taskmaster.storage.WriteBehindTaskmasterStorage;
 import seedu.taskmaster.testutil.StudentBuilder;
+import seedu.taskmaster.testutil.StudentUtil;
+import seedu.taskmaster.testutil.SyntheticStudents;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
@@ -47,7 +61,8 @@ public class LogicManagerTest {
                 new JsonTaskmasterStorage(temporaryFolder.resolve("taskmaster.json"),
                         temporaryFolder.resolve("session_list.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(taskmasterStorage, userPrefsStorage);
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(temporaryFolder.resolve("journal.jsonl"));
+        StorageManager storage = new StorageManager(taskmasterStorage, userPrefsStorage, journal);
         logic = new LogicManager(model, storage);
     }
 
@@ -70,14 +85,99 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonTaskmasterIoExceptionThrowingStub
+    public void execute_readOnlyCommand_doesNotWriteToStorage() throws Exception {
+        model.markAsSaved();
+        logic.execute(ListStudentsCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("taskmaster.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("session_list.json")));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotWriteToJournal() throws Exception {
+        model.markAsSaved();
+        logic.execute(ListStudentsCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("journal.jsonl")));
+    }
+
+    @Test
+    public void execute_studentListModified_appendsToJournal() throws Exception {
+        model.markAsSaved();
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY
+                + NUSNETID_DESC_AMY;
+        logic.execute(addCommand);
+        assertFalse(Files.exists(temporaryFolder.resolve("taskmaster.json")));
+        assertEquals(Collections.singletonList(TaskmasterChange.addStudent(new StudentBuilder(AMY).withTags().build())),
+                new JsonTaskmasterJournal(temporaryFolder.resolve("journal.jsonl")).readJournal());
+
+        // The student list is still to be saved in the next snapshot
+        assertTrue(model.getTaskmaster().isStudentListModified());
+    }
+
+    @Test
+    public void execute_unjournalableChange_savesSnapshot() throws Exception {
+        model.markAsSaved();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY
+                + NUSNETID_DESC_AMY);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertTrue(Files.exists(temporaryFolder.resolve("taskmaster.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("journal.jsonl")));
+        assertFalse(model.getTaskmaster().isStudentListModified());
+    }
+
+    @Test
+    public void execute_journalFull_savesSnapshot() throws Exception {
+        model.markAsSaved();
+        for (int i = 0; i <= LogicManager.SNAPSHOT_INTERVAL; i++) {
+            logic.execute(StudentUtil.getAddCommand(SyntheticStudents.getStudent(i)));
+        }
+        assertTrue(Files.exists(temporaryFolder.resolve("taskmaster.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("journal.jsonl")));
+        assertEquals(LogicManager.SNAPSHOT_INTERVAL + 1, model.getTaskmaster().getStudentList().size());
+    }
+
+    @Test
+    public void execute_importLargeClassList_savesSingleSnapshot() throws Exception {
+        int moduleSize = 1_500;
+        List<String> classList = new ArrayList<>();
+        classList.add("name,telegram,email,nusnetId,tags");
+        for (Student student : SyntheticStudents.getStudents(moduleSize)) {
+            classList.add(String.join(",", student.getName().fullName, student.getTelegram().value,
+                    student.getEmail().value, student.getNusnetId().value));
+        }
+        Files.write(temporaryFolder.resolve("classlist.csv"), classList);
+        model.markAsSaved();
+
+        logic.execute(ImportStudentsCommand.COMMAND_WORD + " " + PREFIX_ATTENDANCE_FILENAME + "classlist");
+
+        assertEquals(moduleSize, model.getTaskmaster().getStudentList().size());
+        assertTrue(Files.exists(temporaryFolder.resolve("taskmaster.json")));
+        // The students are saved in one snapshot instead of being journaled
+        assertFalse(Files.exists(temporaryFolder.resolve("journal.jsonl")));
+        assertFalse(model.getTaskmaster().isStudentListModified());
+    }
+
+    @Test
+    public void saveSnapshot_changesJournaled_savesAndClearsJournal() throws Exception {
+        model.markAsSaved();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY
+                + NUSNETID_DESC_AMY);
+        logic.saveSnapshot();
+        assertTrue(Files.exists(temporaryFolder.resolve("taskmaster.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("journal.jsonl")));
+        assertFalse(model.getTaskmaster().isStudentListModified());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_failureReportedInResult() throws Exception {
+        // Setup LogicManager with JsonTaskmasterIoExceptionThrowingStub, whose data has never been saved so that
+        // the first change is saved rather than journaled
         JsonTaskmasterStorage taskmasterStorage =
                 new JsonTaskmasterIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTaskmaster.json"),
                         temporaryFolder.resolve("ioExceptionSessionList.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(taskmasterStorage, userPrefsStorage);
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(temporaryFolder.resolve("ioExceptionJournal.jsonl"));
+        StorageManager storage = new StorageManager(taskmasterStorage, userPrefsStorage, journal);
         logic = new LogicManager(model, storage);
 
         // Execute add command
@@ -86,8 +186,51 @@ public class LogicManagerTest {
         Student expectedStudent = new StudentBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudent(expectedStudent);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        String expectedMessage = String.format(AddCommand.MESSAGE_SUCCESS, expectedStudent) + "\n"
+                + LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_snapshotWriteFailsBehind_failureReportedOnceAndChangesKeptInJournal() throws Exception {
+        WriteBehindTaskmasterStorage taskmasterStorage = new WriteBehindTaskmasterStorage(
+                new JsonTaskmasterIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTaskmaster.json"),
+                        temporaryFolder.resolve("ioExceptionSessionList.json")));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        Path journalFilePath = temporaryFolder.resolve("ioExceptionJournal.jsonl");
+        StorageManager storage = new StorageManager(taskmasterStorage, userPrefsStorage,
+                new JsonTaskmasterJournal(journalFilePath));
+        logic = new LogicManager(model, storage);
+        model.markAsSaved();
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY
+                + NUSNETID_DESC_AMY);
+        // The snapshot is written behind, so saving it does not throw
+        logic.saveSnapshot();
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+
+        // The failure is reported by the next command, and only by that command
+        assertEquals(ListStudentsCommand.MESSAGE_SUCCESS + "\n" + LogicManager.FILE_OPS_ERROR_MESSAGE
+                + DUMMY_IO_EXCEPTION, logic.execute(ListStudentsCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(ListStudentsCommand.MESSAGE_SUCCESS,
+                logic.execute(ListStudentsCommand.COMMAND_WORD).getFeedbackToUser());
+
+        // The change is not cleared from the journal, as the snapshot with it was not written
+        assertEquals(Collections.singletonList(TaskmasterChange.addStudent(new StudentBuilder(AMY).withTags().build())),
+                new JsonTaskmasterJournal(journalFilePath).readJournal());
+    }
+
+    @Test
+    public void saveSnapshot_changesJournaledAfterSnapshot_onlyEarlierChangesCleared() throws Exception {
+        model.markAsSaved();
+        logic.execute(StudentUtil.getAddCommand(SyntheticStudents.getStudent(0)));
+        logic.saveSnapshot();
+        Student laterStudent = SyntheticStudents.getStudent(1);
+        logic.execute(StudentUtil.getAddCommand(laterStudent));
+
+        assertEquals(Collections.singletonList(TaskmasterChange.addStudent(laterStudent)),
+                new JsonTaskmasterJournal(temporaryFolder.resolve("journal.jsonl")).readJournal());
     }
 
     @Test
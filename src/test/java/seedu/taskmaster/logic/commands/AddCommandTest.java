@@ -10,6 +10,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.function.Predicate;
 
@@ -23,12 +25,18 @@ import seedu.taskmaster.model.Model;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.ReadOnlyUserPrefs;
 import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.TaskmasterChange;
 import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.Roster;
+import seedu.taskmaster.model.record.SamplingMode;
 import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionName;
 import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 import seedu.taskmaster.testutil.StudentBuilder;
 
 public class AddCommandTest {
@@ -136,6 +144,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void markAsSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<List<TaskmasterChange>> getUnjournaledChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markAsJournaled() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void compactStudentTable() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Roster getRoster(List<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoTaskmaster() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoTaskmaster() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoTaskmaster() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoTaskmaster() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTaskmaster() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setSessions(List<Session> sessions) {
             throw new AssertionError("This method should not be called.");
@@ -201,6 +259,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void findStudents(StudentMatchesKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredSessionList(Predicate<Session> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -216,6 +279,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void showHighestScoringStudents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<StudentRecord> showLowestScoringStudents(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<StudentRecord> showHighestScoringStudents(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void markStudentRecord(StudentRecord studentRecord, AttendanceType attendanceType) {
             throw new AssertionError("This method should not be called.");
@@ -241,13 +319,28 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addStudents(List<Student> students) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void scoreAllStudents(double score) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void showRandomStudent(Random random) {
+        public List<NusnetId> editStudentRecords(Map<NusnetId, EditStudentRecordDescriptor> edits) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StudentStatistics getStudentStatistics(NusnetId nusnetId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showRandomStudent(Random random, SamplingMode mode) {
             throw new AssertionError("This method should not be called.");
         }
 
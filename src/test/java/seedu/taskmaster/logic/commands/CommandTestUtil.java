@@ -21,8 +21,8 @@ import seedu.taskmaster.commons.core.index.Index;
 import seedu.taskmaster.logic.commands.exceptions.CommandException;
 import seedu.taskmaster.model.Model;
 import seedu.taskmaster.model.Taskmaster;
-import seedu.taskmaster.model.student.NameContainsKeywordsPredicate;
 import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 import seedu.taskmaster.testutil.EditStudentDescriptorBuilder;
 
 /**
@@ -144,7 +144,7 @@ public class CommandTestUtil {
 
         Student student = model.getFilteredStudentList().get(targetIndex.getZeroBased());
         final String[] splitName = student.getName().fullName.split("\\s+");
-        model.updateFilteredStudentList(new NameContainsKeywordsPredicate(Arrays.asList(splitName[0])));
+        model.findStudents(new StudentMatchesKeywordsPredicate(Arrays.asList(splitName[0])));
 
         assertEquals(1, model.getFilteredStudentList().size());
     }
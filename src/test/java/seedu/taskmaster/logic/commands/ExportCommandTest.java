@@ -0,0 +1,107 @@
+package seedu.taskmaster.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.taskmaster.testutil.TypicalStudents.getScoredTaskmaster;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.ModelManager;
+import seedu.taskmaster.model.UserPrefs;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.storage.JsonTaskmasterJournal;
+import seedu.taskmaster.storage.JsonTaskmasterStorage;
+import seedu.taskmaster.storage.JsonUserPrefsStorage;
+import seedu.taskmaster.storage.StorageManager;
+
+public class ExportCommandTest {
+    private static final SessionName SCORED_SESSION_NAME = new SessionName("Typical session 2");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getScoredTaskmaster(), new UserPrefs());
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(
+                new JsonTaskmasterStorage(temporaryFolder.resolve("taskmaster.json"),
+                        temporaryFolder.resolve("session_list.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonTaskmasterJournal(temporaryFolder.resolve("journal.jsonl")));
+    }
+
+    @Test
+    public void execute_allSessions_everyRecordExported() throws Exception {
+        Model expectedModel = new ModelManager(getScoredTaskmaster(), new UserPrefs());
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, 2, getExportPath("week10"));
+        assertCommandSuccess(createCommand("week10", Optional.empty()), model, expectedMessage, expectedModel);
+
+        List<String> lines = Files.readAllLines(getExportPath("week10"), StandardCharsets.UTF_8);
+        // A header, and a line for each of the 7 typical students in each of the 2 sessions
+        assertEquals(15, lines.size());
+    }
+
+    @Test
+    public void execute_oneSession_onlyRecordsOfSessionExported() throws Exception {
+        Model expectedModel = new ModelManager(getScoredTaskmaster(), new UserPrefs());
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, 1, getExportPath("week10"));
+        assertCommandSuccess(createCommand("week10", Optional.of(SCORED_SESSION_NAME)), model, expectedMessage,
+                expectedModel);
+
+        List<String> lines = Files.readAllLines(getExportPath("week10"), StandardCharsets.UTF_8);
+        assertEquals(8, lines.size());
+        for (String line : lines.subList(1, lines.size())) {
+            assertTrue(line.startsWith(SCORED_SESSION_NAME + ","));
+        }
+    }
+
+    @Test
+    public void execute_sessionNotFound_throwsCommandException() {
+        assertCommandFailure(createCommand("week10", Optional.of(new SessionName("Missing session"))), model,
+                ExportCommand.MESSAGE_SESSION_NOT_FOUND);
+        assertFalse(Files.exists(getExportPath("week10")));
+    }
+
+    @Test
+    public void execute_noSessions_throwsCommandException() {
+        model.setSessions(new ArrayList<>());
+        assertCommandFailure(createCommand("week10", Optional.empty()), model, "There are no sessions yet!");
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportAllCommand = new ExportCommand("week10", Optional.empty());
+        ExportCommand exportOneCommand = new ExportCommand("week10", Optional.of(SCORED_SESSION_NAME));
+
+        assertTrue(exportAllCommand.equals(exportAllCommand));
+        assertTrue(exportAllCommand.equals(new ExportCommand("week10", Optional.empty())));
+        assertFalse(exportAllCommand.equals(null));
+        assertFalse(exportAllCommand.equals(exportOneCommand));
+        assertFalse(exportAllCommand.equals(new ExportCommand("week11", Optional.empty())));
+    }
+
+    private ExportCommand createCommand(String filename, Optional<SessionName> sessionName) {
+        ExportCommand command = new ExportCommand(filename, sessionName);
+        command.initialiseStorage(storage);
+        return command;
+    }
+
+    private Path getExportPath(String filename) {
+        return temporaryFolder.resolve(filename + StorageCommand.CSV_FILE_EXTENSION);
+    }
+}
@@ -10,15 +10,20 @@ import static seedu.taskmaster.testutil.TypicalStudents.ELLE;
 import static seedu.taskmaster.testutil.TypicalStudents.FIONA;
 import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.taskmaster.logic.parser.FindCommandParser;
 import seedu.taskmaster.model.Model;
 import seedu.taskmaster.model.ModelManager;
 import seedu.taskmaster.model.UserPrefs;
-import seedu.taskmaster.model.student.NameContainsKeywordsPredicate;
+import seedu.taskmaster.model.student.IncrementalStudentSearch;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -29,10 +34,10 @@ public class FindCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
+        StudentMatchesKeywordsPredicate firstPredicate =
+                new StudentMatchesKeywordsPredicate(Collections.singletonList("first"));
+        StudentMatchesKeywordsPredicate secondPredicate =
+                new StudentMatchesKeywordsPredicate(Collections.singletonList("second"));
 
         FindCommand findFirstCommand = new FindCommand(firstPredicate);
         FindCommand findSecondCommand = new FindCommand(secondPredicate);
@@ -57,7 +62,7 @@ public class FindCommandTest {
     @Test
     public void execute_zeroKeywords_noStudentFound() {
         String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
-        NameContainsKeywordsPredicate predicate = preparePredicate(" ");
+        StudentMatchesKeywordsPredicate predicate = preparePredicate(" ");
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredStudentList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -67,17 +72,32 @@ public class FindCommandTest {
     @Test
     public void execute_multipleKeywords_multipleStudentsFound() {
         String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
-        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        StudentMatchesKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredStudentList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredStudentList());
     }
 
+    @Test
+    public void execute_keywordsTyped_sameStudentsAsPreview() throws Exception {
+        // Each command as its keywords are typed, which the preview searches before the command is entered
+        List<String> argumentsTyped = Arrays.asList("k", "ku", "ku*", "kur*", "kurz", "kurz m", "kurz me*",
+                "kurz meier", "E", "e*", "elle", "elle*", "meier kunz*");
+        List<Student> students = new ArrayList<>(model.getTaskmaster().getStudentList());
+        IncrementalStudentSearch preview = new IncrementalStudentSearch();
+
+        for (String arguments : argumentsTyped) {
+            List<Student> previewedStudents = preview.find(students, FindCommandParser.parseKeywords(arguments));
+            new FindCommandParser().parse(arguments).execute(model);
+            assertEquals(previewedStudents, model.getFilteredStudentList(), "Keywords typed: " + arguments);
+        }
+    }
+
     /**
-     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     * Parses {@code userInput} into a {@code StudentMatchesKeywordsPredicate}.
      */
-    private NameContainsKeywordsPredicate preparePredicate(String userInput) {
-        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    private StudentMatchesKeywordsPredicate preparePredicate(String userInput) {
+        return new StudentMatchesKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
     }
 }
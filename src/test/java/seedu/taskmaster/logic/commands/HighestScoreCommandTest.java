@@ -0,0 +1,80 @@
+package seedu.taskmaster.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_RECORDS_LISTED_OVERVIEW;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.taskmaster.testutil.TypicalStudents.DANIEL;
+import static seedu.taskmaster.testutil.TypicalStudents.ELLE;
+import static seedu.taskmaster.testutil.TypicalStudents.getScoredTaskmaster;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.ModelManager;
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.UserPrefs;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.ScoreEqualsPredicate;
+import seedu.taskmaster.model.record.StudentRecordOfStudentsPredicate;
+import seedu.taskmaster.model.session.SessionName;
+
+public class HighestScoreCommandTest {
+    private static final SessionName SCORED_SESSION_NAME = new SessionName("Typical session 2");
+
+    private Taskmaster scoredTaskmaster = getScoredTaskmaster();
+    private Model model = new ModelManager(scoredTaskmaster, new UserPrefs());
+    private Model expectedModel = new ModelManager(scoredTaskmaster, new UserPrefs());
+
+    @Test
+    public void execute_noCount_allStudentsWithHighestScoreFound() {
+        model.changeSession(SCORED_SESSION_NAME);
+        expectedModel.changeSession(SCORED_SESSION_NAME);
+        String expectedMessage = String.format(MESSAGE_RECORDS_LISTED_OVERVIEW, 5);
+
+        expectedModel.updateFilteredStudentRecordList(new ScoreEqualsPredicate(5));
+        assertCommandSuccess(new HighestScoreCommand(), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredStudentRecordList(), model.getFilteredStudentRecordList());
+    }
+
+    @Test
+    public void execute_count_highestScoringStudentsFoundInOrder() {
+        model.changeSession(SCORED_SESSION_NAME);
+        expectedModel.changeSession(SCORED_SESSION_NAME);
+        // Five students are tied on 5, of whom Daniel and Elle have the last NUSNET IDs
+        String expectedMessage = String.format(MESSAGE_RECORDS_LISTED_OVERVIEW, 2)
+                + String.format(HighestScoreCommand.MESSAGE_SCORES, "Daniel Meier 5.00, Elle Meyer 5.00");
+
+        expectedModel.updateFilteredStudentRecordList(new StudentRecordOfStudentsPredicate(
+                new HashSet<>(Arrays.asList(DANIEL.getNusnetId(), ELLE.getNusnetId()))));
+        assertCommandSuccess(new HighestScoreCommand(2), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredStudentRecordList(), model.getFilteredStudentRecordList());
+    }
+
+    @Test
+    public void execute_noStudentsPresent_exceptionThrown() {
+        model.changeSession(SCORED_SESSION_NAME);
+        model.markAllStudents(AttendanceType.ABSENT);
+        String expectedMessage = "The student record list has no students who are present!";
+
+        assertCommandFailure(new HighestScoreCommand(), model, expectedMessage);
+        assertCommandFailure(new HighestScoreCommand(2), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        HighestScoreCommand highestScoreCommand = new HighestScoreCommand(2);
+
+        assertTrue(highestScoreCommand.equals(highestScoreCommand));
+        assertTrue(highestScoreCommand.equals(new HighestScoreCommand(2)));
+        assertFalse(highestScoreCommand.equals(null));
+        assertFalse(highestScoreCommand.equals(new HighestScoreCommand(3)));
+        assertFalse(highestScoreCommand.equals(new HighestScoreCommand()));
+        assertFalse(highestScoreCommand.equals(new LowestScoreCommand(2)));
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.taskmaster.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
+import static seedu.taskmaster.testutil.TypicalStudents.IDA;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.ModelManager;
+import seedu.taskmaster.model.UserPrefs;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.ClassParticipation;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.storage.JsonTaskmasterJournal;
+import seedu.taskmaster.storage.JsonTaskmasterStorage;
+import seedu.taskmaster.storage.JsonUserPrefsStorage;
+import seedu.taskmaster.storage.StorageManager;
+
+public class ImportAttendanceCommandTest {
+    private static final SessionName TYPICAL_SESSION_NAME = new SessionName("Typical session");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(
+                new JsonTaskmasterStorage(temporaryFolder.resolve("taskmaster.json"),
+                        temporaryFolder.resolve("session_list.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonTaskmasterJournal(temporaryFolder.resolve("journal.jsonl")));
+    }
+
+    @Test
+    public void execute_studentsInSession_recordsEdited() throws Exception {
+        writeAttendanceFile("lecture1", "nusnetId,timestamp,score\n"
+                + "e0123456,2020-11-01T10:29:41,6\n"
+                + "e0456789,2020-11-01T10:30:02\n");
+        model.changeSession(TYPICAL_SESSION_NAME);
+        model.markAsSaved();
+
+        Model expectedModel = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        expectedModel.changeSession(TYPICAL_SESSION_NAME);
+        expectedModel.markStudentWithNusnetId(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        expectedModel.scoreStudentWithNusnetId(ALICE.getNusnetId(), 6);
+        expectedModel.markStudentWithNusnetId(BENSON.getNusnetId(), AttendanceType.PRESENT);
+
+        String expectedMessage = String.format(ImportAttendanceCommand.MESSAGE_SUCCESS, 2,
+                getAttendanceFilePath("lecture1"));
+        assertCommandSuccess(createCommand("lecture1"), model, expectedMessage, expectedModel);
+        // Importing is journaled as marking and scoring each student, instead of saving the whole Taskmaster
+        assertEquals(3, model.getUnjournaledChanges().get().size());
+    }
+
+    @Test
+    public void execute_studentsNotInSession_skippedAndReported() throws Exception {
+        writeAttendanceFile("lecture1", String.format("%s,2020-11-01T10:29:41\n%s,2020-11-01T10:30:02\n"
+                + "%s,2020-11-01T10:30:15\n", HOON.getNusnetId(), ALICE.getNusnetId(), IDA.getNusnetId()));
+        model.changeSession(TYPICAL_SESSION_NAME);
+
+        Model expectedModel = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        expectedModel.changeSession(TYPICAL_SESSION_NAME);
+        expectedModel.markStudentWithNusnetId(ALICE.getNusnetId(), AttendanceType.PRESENT);
+
+        String expectedMessage = String.format(ImportAttendanceCommand.MESSAGE_SUCCESS, 1,
+                getAttendanceFilePath("lecture1"))
+                + String.format(ImportAttendanceCommand.MESSAGE_STUDENTS_NOT_FOUND, 2,
+                        HOON.getNusnetId() + ", " + IDA.getNusnetId());
+        assertCommandSuccess(createCommand("lecture1"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        model.changeSession(TYPICAL_SESSION_NAME);
+        assertCommandFailure(createCommand("missing"), model,
+                String.format(ImportAttendanceCommand.MESSAGE_FILE_NOT_FOUND, getAttendanceFilePath("missing")));
+    }
+
+    @Test
+    public void execute_invalidFile_noRecordEdited() throws Exception {
+        writeAttendanceFile("lecture1", "e0123456,2020-11-01T10:29:41\ne0456789,yesterday\n");
+        model.changeSession(TYPICAL_SESSION_NAME);
+
+        ImportAttendanceCommand command = createCommand("lecture1");
+        assertCommandFailure(command, model, String.format(ImportAttendanceCommand.MESSAGE_READ_ERROR,
+                getAttendanceFilePath("lecture1"), "Line 2 of the attendance file is invalid: "
+                        + "Timestamps should be in the format 'yyyy-MM-ddTHH:mm:ss', e.g. 2020-11-01T10:31:05."));
+    }
+
+    @Test
+    public void execute_noSessionSelected_throwsCommandException() throws Exception {
+        writeAttendanceFile("lecture1", "e0123456,2020-11-01T10:29:41\n");
+        assertCommandFailure(createCommand("lecture1"), model, "Please select a session first!");
+    }
+
+    @Test
+    public void editStudentRecords_studentNotInSession_otherStudentsEdited() {
+        model.changeSession(TYPICAL_SESSION_NAME);
+        EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+        descriptor.setClassParticipation(new ClassParticipation(2));
+        Map<NusnetId, EditStudentRecordDescriptor> edits = new LinkedHashMap<>();
+        edits.put(HOON.getNusnetId(), descriptor);
+        edits.put(BENSON.getNusnetId(), descriptor);
+
+        assertEquals(1, model.editStudentRecords(edits).size());
+        assertTrue(model.getFilteredStudentRecordList().stream().anyMatch(studentRecord ->
+                studentRecord.getNusnetId().equals(BENSON.getNusnetId())
+                && studentRecord.getClassParticipation().getRawScore() == 2));
+        assertFalse(model.getCurrentSession().get().hasStudentRecord(HOON.getNusnetId()));
+    }
+
+    @Test
+    public void equals() {
+        ImportAttendanceCommand importLecture1Command = new ImportAttendanceCommand("lecture1");
+
+        assertTrue(importLecture1Command.equals(importLecture1Command));
+        assertTrue(importLecture1Command.equals(new ImportAttendanceCommand("lecture1")));
+        assertFalse(importLecture1Command.equals(null));
+        assertFalse(importLecture1Command.equals(new ImportAttendanceCommand("lecture2")));
+    }
+
+    private ImportAttendanceCommand createCommand(String filename) {
+        ImportAttendanceCommand command = new ImportAttendanceCommand(filename);
+        command.initialiseStorage(storage);
+        return command;
+    }
+
+    private Path getAttendanceFilePath(String filename) {
+        return temporaryFolder.resolve(filename + StorageCommand.CSV_FILE_EXTENSION);
+    }
+
+    private void writeAttendanceFile(String filename, String contents) throws Exception {
+        Files.write(getAttendanceFilePath(filename), contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
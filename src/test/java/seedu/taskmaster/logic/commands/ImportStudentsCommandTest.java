@@ -0,0 +1,133 @@
+package seedu.taskmaster.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
+import static seedu.taskmaster.testutil.TypicalStudents.IDA;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.ModelManager;
+import seedu.taskmaster.model.UserPrefs;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.Telegram;
+import seedu.taskmaster.storage.JsonTaskmasterJournal;
+import seedu.taskmaster.storage.JsonTaskmasterStorage;
+import seedu.taskmaster.storage.JsonUserPrefsStorage;
+import seedu.taskmaster.storage.StorageManager;
+
+public class ImportStudentsCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(
+                new JsonTaskmasterStorage(temporaryFolder.resolve("taskmaster.json"),
+                        temporaryFolder.resolve("session_list.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonTaskmasterJournal(temporaryFolder.resolve("journal.jsonl")));
+    }
+
+    @Test
+    public void execute_newStudents_studentsAdded() throws Exception {
+        writeClassList("classlist", toLine(HOON) + toLine(IDA));
+
+        Model expectedModel = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        expectedModel.addStudent(HOON);
+        expectedModel.addStudent(IDA);
+
+        String expectedMessage = String.format(ImportStudentsCommand.MESSAGE_SUCCESS, 2,
+                getClassListPath("classlist"));
+        assertCommandSuccess(createCommand("classlist"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_existingAndInvalidStudents_validNewStudentsAddedAndRestReported() throws Exception {
+        writeClassList("classlist", toLine(ALICE) + "Bad Telegram,bad,bad@example.com,e0999999\n"
+                + toLine(HOON));
+
+        Model expectedModel = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        expectedModel.addStudent(HOON);
+
+        String expectedMessage = String.format(ImportStudentsCommand.MESSAGE_SUCCESS, 1,
+                getClassListPath("classlist"))
+                + String.format(ImportStudentsCommand.MESSAGE_DUPLICATE_STUDENTS, 1, ALICE.getNusnetId())
+                + String.format(ImportStudentsCommand.MESSAGE_INVALID_LINES, 1,
+                        "Line 2: " + Telegram.MESSAGE_CONSTRAINTS);
+        assertCommandSuccess(createCommand("classlist"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_newStudents_addedInSingleChange() throws Exception {
+        writeClassList("classlist", toLine(HOON) + toLine(IDA));
+        int[] changes = new int[1];
+        ListChangeListener<Student> changeCounter = change -> changes[0]++;
+        model.getTaskmaster().getStudentList().addListener(changeCounter);
+        model.markAsSaved();
+
+        createCommand("classlist").execute(model);
+        assertEquals(1, changes[0]);
+        assertEquals(2, model.getUnjournaledChanges().get().size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertCommandFailure(createCommand("missing"), model,
+                String.format(ImportStudentsCommand.MESSAGE_FILE_NOT_FOUND, getClassListPath("missing")));
+    }
+
+    @Test
+    public void equals() {
+        ImportStudentsCommand importClassListCommand = new ImportStudentsCommand("classlist");
+
+        assertTrue(importClassListCommand.equals(importClassListCommand));
+        assertTrue(importClassListCommand.equals(new ImportStudentsCommand("classlist")));
+        assertFalse(importClassListCommand.equals(null));
+        assertFalse(importClassListCommand.equals(new ImportAttendanceCommand("classlist")));
+        assertFalse(importClassListCommand.equals(new ImportStudentsCommand("otherlist")));
+    }
+
+    private ImportStudentsCommand createCommand(String filename) {
+        ImportStudentsCommand command = new ImportStudentsCommand(filename);
+        command.initialiseStorage(storage);
+        return command;
+    }
+
+    private Path getClassListPath(String filename) {
+        return temporaryFolder.resolve(filename + StorageCommand.CSV_FILE_EXTENSION);
+    }
+
+    private void writeClassList(String filename, String contents) throws Exception {
+        Files.write(getClassListPath(filename), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the line of a class list holding {@code student}.
+     */
+    private static String toLine(Student student) {
+        return String.join(",", Arrays.asList(student.getName().fullName, student.getTelegram().value,
+                student.getEmail().value, student.getNusnetId().value,
+                student.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(" "))))
+                + "\n";
+    }
+}
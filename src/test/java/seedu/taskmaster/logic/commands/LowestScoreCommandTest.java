@@ -6,12 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.taskmaster.commons.core.Messages.MESSAGE_RECORDS_LISTED_OVERVIEW;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.CARL;
+import static seedu.taskmaster.testutil.TypicalStudents.FIONA;
 import static seedu.taskmaster.testutil.TypicalStudents.getScoredTaskmaster;
 import static seedu.taskmaster.testutil.TypicalStudents.getTypicalPresentStudentRecords;
 import static seedu.taskmaster.testutil.TypicalStudents.markAllAsPresentInTypicalSession;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +26,7 @@ import seedu.taskmaster.model.Taskmaster;
 import seedu.taskmaster.model.UserPrefs;
 import seedu.taskmaster.model.record.AttendanceType;
 import seedu.taskmaster.model.record.ScoreEqualsPredicate;
+import seedu.taskmaster.model.record.StudentRecordOfStudentsPredicate;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionDateTime;
 import seedu.taskmaster.model.session.SessionName;
@@ -47,6 +53,13 @@ public class LowestScoreCommandTest {
         // null -> returns false
         assertFalse(lowestScoreCommand.equals(null));
 
+        // same count -> returns true
+        assertTrue(new LowestScoreCommand(3).equals(new LowestScoreCommand(3)));
+
+        // different count -> returns false
+        assertFalse(new LowestScoreCommand(3).equals(new LowestScoreCommand(2)));
+        assertFalse(lowestScoreCommand.equals(new LowestScoreCommand(3)));
+
     }
 
     @Test
@@ -104,4 +117,28 @@ public class LowestScoreCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(model.getFilteredStudentRecordList(), expectedModel.getFilteredStudentRecordList());
     }
+
+    @Test
+    public void execute_count_lowestScoringStudentsFoundInOrder() {
+        model.changeSession(new SessionName("Typical session 2"));
+        expectedModel.changeSession(new SessionName("Typical session 2"));
+        // Alice and Carl are tied on 4, and Fiona has the first NUSNET ID of the students tied on 5
+        String expectedMessage = String.format(MESSAGE_RECORDS_LISTED_OVERVIEW, 3)
+                + String.format(LowestScoreCommand.MESSAGE_SCORES,
+                        "Alice Pauline 4.00, Carl Kurz 4.00, Fiona Kunz 5.00");
+
+        expectedModel.updateFilteredStudentRecordList(new StudentRecordOfStudentsPredicate(
+                new HashSet<>(Arrays.asList(ALICE.getNusnetId(), CARL.getNusnetId(), FIONA.getNusnetId()))));
+        assertCommandSuccess(new LowestScoreCommand(3), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredStudentRecordList(), model.getFilteredStudentRecordList());
+    }
+
+    @Test
+    public void execute_countNoStudentsPresent_exceptionThrown() {
+        model.changeSession(new SessionName("Typical session 2"));
+        model.markAllStudents(AttendanceType.ABSENT);
+
+        assertCommandFailure(new LowestScoreCommand(3), model,
+                "The student record list has no students who are present!");
+    }
 }
@@ -1,5 +1,8 @@
 package seedu.taskmaster.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.taskmaster.testutil.TypicalStudents.getTypicalStudents;
@@ -7,7 +10,10 @@ import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,9 +22,12 @@ import seedu.taskmaster.model.Model;
 import seedu.taskmaster.model.ModelManager;
 import seedu.taskmaster.model.UserPrefs;
 import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.SamplingMode;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionDateTime;
 import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
 
 public class RandomStudentCommandTest {
 
@@ -80,10 +89,46 @@ public class RandomStudentCommandTest {
         Model expectedModel = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
         expectedModel.addSession(existingSession);
         expectedModel.markAllStudents(AttendanceType.PRESENT);
-        expectedModel.showRandomStudent(new Random(seed));
+        expectedModel.showRandomStudent(new Random(seed), SamplingMode.UNIFORM);
 
         assertCommandSuccess(randomStudentCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_noRepeat_callsEveryPresentStudentOnce() throws Exception {
+        model.addSession(existingSession);
+        model.markAllStudents(AttendanceType.PRESENT);
+        RandomStudentCommand randomStudentCommand = new RandomStudentCommand(SamplingMode.NO_REPEAT);
+
+        Set<NusnetId> calledStudents = new HashSet<>();
+        for (int i = 0; i < getTypicalStudents().size(); i++) {
+            randomStudentCommand.execute(model);
+            assertEquals(1, model.getFilteredStudentRecordList().size());
+            calledStudents.add(model.getFilteredStudentRecordList().get(0).getNusnetId());
+        }
+        assertEquals(getTypicalStudents().stream().map(Student::getNusnetId).collect(Collectors.toSet()),
+                calledStudents);
+    }
+
+    @Test
+    public void equals() {
+        RandomStudentCommand uniformCommand = new RandomStudentCommand(new Random(1));
+        RandomStudentCommand noRepeatCommand = new RandomStudentCommand(SamplingMode.NO_REPEAT);
+
+        // same object -> returns true
+        assertTrue(uniformCommand.equals(uniformCommand));
+
+        // same mode -> returns true
+        assertTrue(uniformCommand.equals(new RandomStudentCommand()));
+
+        // different types -> returns false
+        assertFalse(uniformCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(uniformCommand.equals(null));
+
+        // different mode -> returns false
+        assertFalse(uniformCommand.equals(noRepeatCommand));
+    }
 
 }
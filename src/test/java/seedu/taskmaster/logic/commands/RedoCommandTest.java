@@ -0,0 +1,35 @@
+package seedu.taskmaster.logic.commands;
+
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.ModelManager;
+import seedu.taskmaster.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_noCommandToRedo_failure() {
+        Model model = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        model.deleteStudent(ALICE);
+        model.commitTaskmaster();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_deleteUndone_studentDeletedAgain() {
+        Model model = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        model.deleteStudent(ALICE);
+        model.commitTaskmaster();
+        model.undoTaskmaster();
+
+        Model expectedModel = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        expectedModel.deleteStudent(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
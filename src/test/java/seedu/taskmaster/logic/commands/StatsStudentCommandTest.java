@@ -0,0 +1,52 @@
+package seedu.taskmaster.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.taskmaster.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+import static seedu.taskmaster.testutil.TypicalIndexes.INDEX_SECOND_STUDENT;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.getScoredTaskmaster;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.commons.core.Messages;
+import seedu.taskmaster.commons.core.index.Index;
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.ModelManager;
+import seedu.taskmaster.model.UserPrefs;
+
+public class StatsStudentCommandTest {
+
+    private Model model = new ModelManager(getScoredTaskmaster(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getScoredTaskmaster(), new UserPrefs());
+
+    @Test
+    public void execute_validIndex_showsStatistics() {
+        // Alice has no record in the first session, and is present with a score of 4 in the second
+        String expectedMessage = String.format(StatsStudentCommand.MESSAGE_SUCCESS, ALICE.getName(),
+                ALICE.getNusnetId(), 2, 1, 0, 1, 50.0, 2.0);
+
+        assertCommandSuccess(new StatsStudentCommand(INDEX_FIRST_STUDENT), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
+
+        assertCommandFailure(new StatsStudentCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        StatsStudentCommand statsFirstCommand = new StatsStudentCommand(INDEX_FIRST_STUDENT);
+
+        assertTrue(statsFirstCommand.equals(statsFirstCommand));
+        assertTrue(statsFirstCommand.equals(new StatsStudentCommand(INDEX_FIRST_STUDENT)));
+        assertFalse(statsFirstCommand.equals(1));
+        assertFalse(statsFirstCommand.equals(null));
+        assertFalse(statsFirstCommand.equals(new StatsStudentCommand(INDEX_SECOND_STUDENT)));
+    }
+}
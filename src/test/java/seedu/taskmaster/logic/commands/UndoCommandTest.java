@@ -0,0 +1,42 @@
+package seedu.taskmaster.logic.commands;
+
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.taskmaster.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.Model;
+import seedu.taskmaster.model.ModelManager;
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noCommandToUndo_failure() {
+        Model model = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_studentDeleted_studentRestored() {
+        Model model = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        model.deleteStudent(ALICE);
+        model.commitTaskmaster();
+
+        Model expectedModel = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_taskmasterCleared_dataRestored() {
+        Model model = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        model.setTaskmaster(new Taskmaster());
+        model.commitTaskmaster();
+
+        Model expectedModel = new ModelManager(getTypicalTaskmaster(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.logic.commands.ExportCommand;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.storage.StorageManager;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_filenameOnly_returnsExportAllCommand() {
+        assertParseSuccess(parser, " fn/week10", new ExportCommand("week10", Optional.empty()));
+    }
+
+    @Test
+    public void parse_filenameAndSession_returnsExportOneCommand() {
+        assertParseSuccess(parser, " fn/week10 s/CS2103 Tutorial 10",
+                new ExportCommand("week10", Optional.of(new SessionName("CS2103 Tutorial 10"))));
+        assertParseSuccess(parser, " s/CS2103 Tutorial 10 fn/week10",
+                new ExportCommand("week10", Optional.of(new SessionName("CS2103 Tutorial 10"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " s/CS2103 Tutorial 10", expectedMessage);
+        assertParseFailure(parser, " week10", expectedMessage);
+        assertParseFailure(parser, " fn/week 10", StorageManager.FILENAME_CONSTRAINTS);
+        assertParseFailure(parser, " fn/week10 s/", SessionName.MESSAGE_CONSTRAINTS);
+    }
+}
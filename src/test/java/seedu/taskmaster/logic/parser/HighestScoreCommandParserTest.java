@@ -0,0 +1,31 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.logic.commands.HighestScoreCommand;
+
+public class HighestScoreCommandParserTest {
+
+    private HighestScoreCommandParser parser = new HighestScoreCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsHighestScoreCommandForTies() {
+        assertParseSuccess(parser, "  ", new HighestScoreCommand());
+    }
+
+    @Test
+    public void parse_count_returnsHighestScoreCommandForCount() {
+        assertParseSuccess(parser, " 3 ", new HighestScoreCommand(3));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, HighestScoreCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.logic.commands.ImportAttendanceCommand;
+import seedu.taskmaster.storage.StorageManager;
+
+public class ImportAttendanceCommandParserTest {
+
+    private ImportAttendanceCommandParser parser = new ImportAttendanceCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportAttendanceCommand() {
+        assertParseSuccess(parser, " fn/lecture1", new ImportAttendanceCommand("lecture1"));
+        assertParseSuccess(parser, " fn/  lecture_1  ", new ImportAttendanceCommand("lecture_1"));
+    }
+
+    @Test
+    public void parse_missingFilename_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportAttendanceCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " fn/", expectedMessage);
+        assertParseFailure(parser, " lecture1", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidFilename_throwsParseException() {
+        assertParseFailure(parser, " fn/../lecture1", StorageManager.FILENAME_CONSTRAINTS);
+        assertParseFailure(parser, " fn/lecture 1", StorageManager.FILENAME_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.logic.commands.ImportStudentsCommand;
+import seedu.taskmaster.storage.StorageManager;
+
+public class ImportStudentsCommandParserTest {
+
+    private ImportStudentsCommandParser parser = new ImportStudentsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportStudentsCommand() {
+        assertParseSuccess(parser, " fn/classlist", new ImportStudentsCommand("classlist"));
+        assertParseSuccess(parser, " fn/  class_list  ", new ImportStudentsCommand("class_list"));
+    }
+
+    @Test
+    public void parse_missingFilename_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportStudentsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " fn/", expectedMessage);
+        assertParseFailure(parser, " classlist", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidFilename_throwsParseException() {
+        assertParseFailure(parser, " fn/../classlist", StorageManager.FILENAME_CONSTRAINTS);
+        assertParseFailure(parser, " fn/class list", StorageManager.FILENAME_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.logic.commands.LowestScoreCommand;
+
+public class LowestScoreCommandParserTest {
+
+    private LowestScoreCommandParser parser = new LowestScoreCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsLowestScoreCommandForTies() {
+        assertParseSuccess(parser, "  ", new LowestScoreCommand());
+    }
+
+    @Test
+    public void parse_count_returnsLowestScoreCommandForCount() {
+        assertParseSuccess(parser, " 3 ", new LowestScoreCommand(3));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LowestScoreCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.taskmaster.logic.commands.CommandTestUtil.INVALID_PARTICIPAT
 import static seedu.taskmaster.logic.commands.CommandTestUtil.INVALID_PARTICIPATION_SCORE;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.VALID_SCORE_DOUBLE;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.VALID_SCORE_STRING;
+import static seedu.taskmaster.logic.parser.ParserUtil.MESSAGE_INVALID_COUNT;
 import static seedu.taskmaster.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 import static seedu.taskmaster.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
@@ -60,6 +61,18 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_STUDENT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseCount_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_COUNT, () -> ParserUtil.parseCount("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_COUNT, () -> ParserUtil.parseCount("-2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_COUNT, () -> ParserUtil.parseCount("3 a"));
+    }
+
+    @Test
+    public void parseCount_validInput_success() throws Exception {
+        assertEquals(3, ParserUtil.parseCount("  3  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,33 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.logic.commands.RandomStudentCommand;
+import seedu.taskmaster.model.record.SamplingMode;
+
+public class RandomStudentCommandParserTest {
+
+    private RandomStudentCommandParser parser = new RandomStudentCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsUniformRandomStudentCommand() {
+        assertParseSuccess(parser, "  ", new RandomStudentCommand(SamplingMode.UNIFORM));
+    }
+
+    @Test
+    public void parse_mode_returnsRandomStudentCommandForMode() {
+        assertParseSuccess(parser, " no-repeat ", new RandomStudentCommand(SamplingMode.NO_REPEAT));
+        assertParseSuccess(parser, "weighted", new RandomStudentCommand(SamplingMode.WEIGHTED_TO_LOW_SCORES));
+    }
+
+    @Test
+    public void parse_invalidMode_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RandomStudentCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "uniform", expectedMessage);
+        assertParseFailure(parser, "no-repeat weighted", expectedMessage);
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.taskmaster.logic.parser;
+
+import static seedu.taskmaster.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.taskmaster.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.taskmaster.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.logic.commands.StatsStudentCommand;
+
+public class StatsStudentCommandParserTest {
+
+    private StatsStudentCommandParser parser = new StatsStudentCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStatsStudentCommand() {
+        assertParseSuccess(parser, "1", new StatsStudentCommand(INDEX_FIRST_STUDENT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsStudentCommand.MESSAGE_USAGE));
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.taskmaster.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -20,13 +21,23 @@ import seedu.taskmaster.logic.commands.DeleteCommand;
 import seedu.taskmaster.logic.commands.EditCommand;
 import seedu.taskmaster.logic.commands.EditCommand.EditStudentDescriptor;
 import seedu.taskmaster.logic.commands.ExitCommand;
+import seedu.taskmaster.logic.commands.ExportCommand;
 import seedu.taskmaster.logic.commands.FindCommand;
 import seedu.taskmaster.logic.commands.HelpCommand;
+import seedu.taskmaster.logic.commands.HighestScoreCommand;
+import seedu.taskmaster.logic.commands.ImportAttendanceCommand;
+import seedu.taskmaster.logic.commands.ImportStudentsCommand;
 import seedu.taskmaster.logic.commands.ListStudentsCommand;
+import seedu.taskmaster.logic.commands.LowestScoreCommand;
 import seedu.taskmaster.logic.commands.ParticipationCommand;
+import seedu.taskmaster.logic.commands.RandomStudentCommand;
+import seedu.taskmaster.logic.commands.RedoCommand;
+import seedu.taskmaster.logic.commands.StatsStudentCommand;
+import seedu.taskmaster.logic.commands.UndoCommand;
 import seedu.taskmaster.logic.parser.exceptions.ParseException;
-import seedu.taskmaster.model.student.NameContainsKeywordsPredicate;
+import seedu.taskmaster.model.record.SamplingMode;
 import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 import seedu.taskmaster.testutil.EditStudentDescriptorBuilder;
 import seedu.taskmaster.testutil.StudentBuilder;
 import seedu.taskmaster.testutil.StudentUtil;
@@ -55,6 +66,28 @@ public class TaskmasterParserTest {
         assertEquals(new DeleteCommand(INDEX_FIRST_STUDENT), command);
     }
 
+    @Test
+    public void parseCommand_lowestAndHighestScore() throws Exception {
+        assertEquals(new LowestScoreCommand(), parser.parseCommand(LowestScoreCommand.COMMAND_WORD));
+        assertEquals(new LowestScoreCommand(3), parser.parseCommand(LowestScoreCommand.COMMAND_WORD + " 3"));
+        assertEquals(new HighestScoreCommand(), parser.parseCommand(HighestScoreCommand.COMMAND_WORD));
+        assertEquals(new HighestScoreCommand(3), parser.parseCommand(HighestScoreCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_randomStudent() throws Exception {
+        assertEquals(new RandomStudentCommand(), parser.parseCommand(RandomStudentCommand.COMMAND_WORD));
+        assertEquals(new RandomStudentCommand(SamplingMode.NO_REPEAT),
+                parser.parseCommand(RandomStudentCommand.COMMAND_WORD + " " + RandomStudentCommand.MODE_NO_REPEAT));
+    }
+
+    @Test
+    public void parseCommand_statsStudent() throws Exception {
+        StatsStudentCommand command = (StatsStudentCommand) parser.parseCommand(
+                StatsStudentCommand.COMMAND_WORD + " " + INDEX_FIRST_STUDENT.getOneBased());
+        assertEquals(new StatsStudentCommand(INDEX_FIRST_STUDENT), command);
+    }
+
     @Test
     public void parseCommand_edit() throws Exception {
         Student student = new StudentBuilder().build();
@@ -70,12 +103,30 @@ public class TaskmasterParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand("week10", Optional.empty()),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " fn/week10"));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindCommand command = (FindCommand) parser.parseCommand(
                 FindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindCommand(new StudentMatchesKeywordsPredicate(keywords)), command);
     }
 
     @Test
@@ -84,6 +135,18 @@ public class TaskmasterParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_importAttendance() throws Exception {
+        assertEquals(new ImportAttendanceCommand("lecture1"),
+                parser.parseCommand(ImportAttendanceCommand.COMMAND_WORD + " fn/lecture1"));
+    }
+
+    @Test
+    public void parseCommand_importStudents() throws Exception {
+        assertEquals(new ImportStudentsCommand("classlist"),
+                parser.parseCommand(ImportStudentsCommand.COMMAND_WORD + " fn/classlist"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListStudentsCommand.COMMAND_WORD) instanceof ListStudentsCommand);
@@ -30,8 +30,8 @@ import seedu.taskmaster.model.session.SessionDateTime;
 import seedu.taskmaster.model.session.SessionName;
 import seedu.taskmaster.model.session.exceptions.NoSessionException;
 import seedu.taskmaster.model.session.exceptions.NoSessionSelectedException;
-import seedu.taskmaster.model.student.NameContainsKeywordsPredicate;
 import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.StudentMatchesKeywordsPredicate;
 import seedu.taskmaster.testutil.TaskmasterBuilder;
 import seedu.taskmaster.testutil.TypicalStudents;
 
@@ -209,7 +209,7 @@ public class ModelManagerTest {
 
         // different filteredList -> returns false
         String[] keywords = ALICE.getName().fullName.split("\\s+");
-        modelManager.updateFilteredStudentList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        modelManager.findStudents(new StudentMatchesKeywordsPredicate(Arrays.asList(keywords)));
         assertFalse(modelManager.equals(new ModelManager(taskmaster, userPrefs)));
 
         // resets modelManager to initial state for upcoming tests
@@ -0,0 +1,134 @@
+package seedu.taskmaster.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalSession;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.StudentBuilder;
+
+public class TaskmasterChangeTest {
+
+    private static final SessionName TYPICAL_SESSION_NAME = getTypicalSession().getSessionName();
+
+    @Test
+    public void applyTo_changesRecordedFromTaskmaster_sameData() {
+        Taskmaster original = getTypicalTaskmaster();
+        Taskmaster copy = getTypicalTaskmaster();
+        original.markAsSaved();
+
+        makeChanges(original);
+        for (TaskmasterChange change : original.getUnjournaledChanges().get()) {
+            change.applyTo(copy);
+        }
+
+        assertEquals(original, copy);
+        assertEquals(original.getSessionList(), copy.getSessionList());
+    }
+
+    @Test
+    public void applyTo_changesAlreadyMade_noEffect() {
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        taskmaster.markAsSaved();
+        makeChanges(taskmaster);
+        List<TaskmasterChange> changes = taskmaster.getUnjournaledChanges().get();
+        Taskmaster expected = copyOf(taskmaster);
+
+        for (TaskmasterChange change : changes) {
+            change.applyTo(taskmaster);
+        }
+
+        assertEquals(expected, taskmaster);
+        assertEquals(expected.getSessionList(), taskmaster.getSessionList());
+    }
+
+    @Test
+    public void applyTo_sessionDeleted_changeToSessionSkipped() {
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        taskmaster.deleteSession(TYPICAL_SESSION_NAME);
+
+        TaskmasterChange.markStudent(TYPICAL_SESSION_NAME, ALICE.getNusnetId(), AttendanceType.ABSENT)
+                .applyTo(taskmaster);
+        assertFalse(taskmaster.hasSession(TYPICAL_SESSION_NAME));
+    }
+
+    @Test
+    public void applyTo_studentNotInSession_changeSkipped() {
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        Session expectedSession = new Session(taskmaster.getSession(TYPICAL_SESSION_NAME));
+
+        TaskmasterChange.scoreStudent(TYPICAL_SESSION_NAME, HOON.getNusnetId(), 3).applyTo(taskmaster);
+        assertEquals(expectedSession, taskmaster.getSession(TYPICAL_SESSION_NAME));
+    }
+
+    @Test
+    public void applyTo_addSession_unmarkedRecordOfEveryStudent() {
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        SessionName sessionName = new SessionName("Added");
+        TaskmasterChange.addSession(sessionName, getTypicalSession().getSessionDateTime()).applyTo(taskmaster);
+
+        List<StudentRecord> studentRecords = taskmaster.getSession(sessionName).getStudentRecords();
+        assertEquals(taskmaster.getStudentList().size(), studentRecords.size());
+        for (int i = 0; i < studentRecords.size(); i++) {
+            assertEquals(taskmaster.getStudentList().get(i).getNusnetId(), studentRecords.get(i).getNusnetId());
+            assertEquals(AttendanceType.NO_RECORD, studentRecords.get(i).getAttendanceType());
+        }
+    }
+
+    @Test
+    public void equals() {
+        TaskmasterChange change = TaskmasterChange.scoreStudent(TYPICAL_SESSION_NAME, ALICE.getNusnetId(), 2);
+
+        assertTrue(change.equals(change));
+        assertTrue(change.equals(TaskmasterChange.scoreStudent(TYPICAL_SESSION_NAME, ALICE.getNusnetId(), 2)));
+        assertFalse(change.equals(null));
+        assertFalse(change.equals(TaskmasterChange.scoreStudent(TYPICAL_SESSION_NAME, ALICE.getNusnetId(), 3)));
+        assertFalse(change.equals(TaskmasterChange.scoreAllStudents(TYPICAL_SESSION_NAME, 2)));
+    }
+
+    /**
+     * Returns a copy of {@code taskmaster} that does not share any sessions with it.
+     */
+    private static Taskmaster copyOf(Taskmaster taskmaster) {
+        Taskmaster copy = new Taskmaster(taskmaster);
+        copy.setSessions(taskmaster.getSessionList().stream().map(Session::new).collect(Collectors.toList()));
+        return copy;
+    }
+
+    /**
+     * Makes a change of every type to {@code taskmaster}, which must hold the typical students and session.
+     */
+    private static void makeChanges(Taskmaster taskmaster) {
+        Student editedBenson = new StudentBuilder(BENSON).withTelegram("benson_edited").build();
+        taskmaster.addStudent(HOON);
+        taskmaster.setStudent(BENSON, editedBenson);
+        taskmaster.removeStudent(ALICE);
+
+        taskmaster.changeSession(TYPICAL_SESSION_NAME);
+        taskmaster.markAllStudentRecords(AttendanceType.PRESENT);
+        taskmaster.markStudentWithNusnetId(BENSON.getNusnetId(), AttendanceType.ABSENT);
+        taskmaster.scoreAllStudents(2);
+        taskmaster.scoreStudentWithNusnetId(ALICE.getNusnetId(), 4);
+
+        // Only sessions of the whole student list are journaled as added
+        taskmaster.addSession(new Session(new SessionName("Copy"), getTypicalSession().getSessionDateTime(),
+                taskmaster.getStudentList()));
+        taskmaster.deleteSession(TYPICAL_SESSION_NAME);
+        taskmaster.addSession(new Session(TYPICAL_SESSION_NAME, getTypicalSession().getSessionDateTime(),
+                taskmaster.getStudentList()));
+    }
+}
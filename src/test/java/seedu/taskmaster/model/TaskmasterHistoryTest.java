@@ -0,0 +1,155 @@
+package seedu.taskmaster.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
+import static seedu.taskmaster.testutil.TypicalStudents.CARL;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalStudents;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.StudentBuilder;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class TaskmasterHistoryTest {
+    private static final long BUDGET_BYTES = 1024 * 1024;
+    private static final SessionName SESSION_NAME = new SessionName("Tutorial 1");
+    private static final SessionDateTime SESSION_DATE_TIME = new SessionDateTime(LocalDateTime.of(2020, 1, 1, 12, 0));
+
+    @Test
+    public void undoRedo_studentsChanged_restoresStudentsInOrder() {
+        Taskmaster taskmaster = getTaskmasterWithHistory(getTypicalStudents());
+        List<Student> originalStudents = new ArrayList<>(taskmaster.getStudentList());
+
+        taskmaster.removeStudent(BENSON);
+        taskmaster.commitHistory();
+        taskmaster.setStudent(CARL, new StudentBuilder(CARL).withEmail("carl@example.com").build());
+        taskmaster.commitHistory();
+        taskmaster.addStudent(SyntheticStudents.getStudent(0));
+        taskmaster.commitHistory();
+        List<Student> changedStudents = new ArrayList<>(taskmaster.getStudentList());
+
+        while (taskmaster.canUndo()) {
+            taskmaster.undo();
+        }
+        assertEquals(originalStudents, taskmaster.getStudentList());
+
+        while (taskmaster.canRedo()) {
+            taskmaster.redo();
+        }
+        assertEquals(changedStudents, taskmaster.getStudentList());
+    }
+
+    @Test
+    public void undoRedo_recordsChanged_restoresRecords() {
+        Taskmaster taskmaster = getTaskmasterWithHistory(getTypicalStudents());
+        taskmaster.addSession(new Session(SESSION_NAME, SESSION_DATE_TIME, taskmaster.getStudentList()));
+        taskmaster.commitHistory();
+        taskmaster.changeSession(SESSION_NAME);
+        List<StudentRecord> unmarkedRecords = new ArrayList<>(taskmaster.getStudentRecordList());
+
+        taskmaster.markStudentWithNusnetId(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        taskmaster.scoreStudentWithNusnetId(ALICE.getNusnetId(), 3);
+        taskmaster.commitHistory();
+        List<StudentRecord> scoredRecords = new ArrayList<>(taskmaster.getStudentRecordList());
+        taskmaster.markAllStudentRecords(AttendanceType.ABSENT);
+        taskmaster.commitHistory();
+        List<StudentRecord> absentRecords = new ArrayList<>(taskmaster.getStudentRecordList());
+
+        taskmaster.undo();
+        assertEquals(scoredRecords, taskmaster.getStudentRecordList());
+        taskmaster.undo();
+        assertEquals(unmarkedRecords, taskmaster.getStudentRecordList());
+        taskmaster.undo();
+        assertFalse(taskmaster.hasSession(SESSION_NAME));
+
+        taskmaster.redo();
+        taskmaster.redo();
+        taskmaster.redo();
+        taskmaster.changeSession(SESSION_NAME);
+        assertEquals(absentRecords, taskmaster.getStudentRecordList());
+        assertEquals(0, taskmaster.getStudentStatistics(BENSON.getNusnetId()).getCount(AttendanceType.PRESENT));
+    }
+
+    @Test
+    public void commitHistory_changeAfterUndo_cannotRedo() {
+        Taskmaster taskmaster = getTaskmasterWithHistory(getTypicalStudents());
+        taskmaster.removeStudent(ALICE);
+        taskmaster.commitHistory();
+        taskmaster.undo();
+        assertTrue(taskmaster.canRedo());
+
+        // A command that changes nothing keeps the undone changes
+        taskmaster.commitHistory();
+        assertTrue(taskmaster.canRedo());
+
+        taskmaster.removeStudent(BENSON);
+        taskmaster.commitHistory();
+        assertFalse(taskmaster.canRedo());
+        assertTrue(taskmaster.hasStudent(ALICE));
+    }
+
+    @Test
+    public void commitHistory_overBudget_forgetsOldestSteps() {
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setStudents(getTypicalStudents());
+        // Enough for about two steps that each add a student
+        taskmaster.setHistoryBudget(2 * (TaskmasterHistory.EDIT_BYTES + TaskmasterHistory.STUDENT_BYTES));
+
+        List<Student> students = SyntheticStudents.getStudents(5);
+        for (Student student : students) {
+            taskmaster.addStudent(student);
+            taskmaster.commitHistory();
+        }
+
+        taskmaster.undo();
+        taskmaster.undo();
+        assertFalse(taskmaster.canUndo());
+        assertTrue(taskmaster.hasStudent(students.get(2)));
+        assertFalse(taskmaster.hasStudent(students.get(3)));
+    }
+
+    @Test
+    public void setHistoryBudget_zero_recordsNothing() {
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.addStudent(ALICE);
+        taskmaster.commitHistory();
+        assertFalse(taskmaster.canUndo());
+    }
+
+    @Test
+    public void commitHistory_markInLargeSession_costScalesWithChange() {
+        List<Student> students = SyntheticStudents.getStudents(10_000);
+        Taskmaster taskmaster = getTaskmasterWithHistory(students);
+        taskmaster.addSession(new Session(SESSION_NAME, SESSION_DATE_TIME, students));
+        taskmaster.changeSession(SESSION_NAME);
+        taskmaster.commitHistory();
+
+        long bytesBefore = taskmaster.getHistoryBytes();
+        taskmaster.markStudentWithNusnetId(students.get(5_000).getNusnetId(), AttendanceType.PRESENT);
+        taskmaster.commitHistory();
+
+        // Only the record of the student marked is kept, not the records of the whole session
+        long markBytes = taskmaster.getHistoryBytes() - bytesBefore;
+        assertEquals(TaskmasterHistory.EDIT_BYTES + 2 * TaskmasterHistory.RECORD_BYTES, markBytes);
+    }
+
+    private static Taskmaster getTaskmasterWithHistory(List<Student> students) {
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setStudents(students);
+        taskmaster.setHistoryBudget(BUDGET_BYTES);
+        return taskmaster;
+    }
+}
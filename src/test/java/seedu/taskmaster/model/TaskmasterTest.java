@@ -2,12 +2,15 @@ package seedu.taskmaster.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BOB;
 import static seedu.taskmaster.testutil.TypicalStudents.getTypicalSession;
 import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
 
@@ -17,17 +20,24 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.Roster;
 import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.record.StudentTable;
 import seedu.taskmaster.model.session.Session;
 import seedu.taskmaster.model.session.SessionDateTime;
 import seedu.taskmaster.model.session.SessionName;
 import seedu.taskmaster.model.session.exceptions.DuplicateSessionException;
 import seedu.taskmaster.model.session.exceptions.SessionNotFoundException;
+import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
 import seedu.taskmaster.model.student.exceptions.DuplicateStudentException;
 import seedu.taskmaster.testutil.StudentBuilder;
@@ -172,6 +182,156 @@ public class TaskmasterTest {
         assertTrue(taskmaster.hasStudent(editedAlice));
     }
 
+    @Test
+    public void isStudentListModified_afterMarkAsSaved_returnsFalse() {
+        taskmaster.addStudent(ALICE);
+        assertTrue(taskmaster.isStudentListModified());
+
+        taskmaster.markAsSaved();
+        assertFalse(taskmaster.isStudentListModified());
+        assertFalse(taskmaster.isSessionListModified());
+    }
+
+    @Test
+    public void isModified_readOnlyOperations_returnsFalse() {
+        Taskmaster typicalTaskmaster = getTypicalTaskmaster();
+        typicalTaskmaster.markAsSaved();
+
+        typicalTaskmaster.hasStudent(ALICE);
+        typicalTaskmaster.showStudentList();
+        assertFalse(typicalTaskmaster.isStudentListModified());
+        assertFalse(typicalTaskmaster.isSessionListModified());
+    }
+
+    @Test
+    public void isModified_sessionChanged_onlySessionListModified() {
+        taskmaster.addStudent(ALICE);
+        taskmaster.markAsSaved();
+
+        Session session = new Session(new SessionName("Modified session"),
+                new SessionDateTime(LocalDateTime.of(2020, 1, 1, 12, 0)), taskmaster.getStudentList());
+        taskmaster.addSession(session);
+        assertTrue(taskmaster.isSessionListModified());
+        assertFalse(taskmaster.isStudentListModified());
+
+        taskmaster.markAsSaved();
+        taskmaster.changeSession(session.getSessionName());
+        taskmaster.scoreStudentWithNusnetId(ALICE.getNusnetId(), 2.0);
+        assertTrue(taskmaster.isSessionListModified());
+        assertFalse(taskmaster.isStudentListModified());
+    }
+
+    @Test
+    public void getUnjournaledChanges_changesMade_changesInOrder() {
+        taskmaster.addStudent(ALICE);
+        taskmaster.markAsSaved();
+        assertEquals(Optional.of(Collections.emptyList()), taskmaster.getUnjournaledChanges());
+
+        Session session = new Session(new SessionName("Journaled session"),
+                new SessionDateTime(LocalDateTime.of(2020, 1, 1, 12, 0)), taskmaster.getStudentList());
+        TaskmasterChange addSession = TaskmasterChange.addSession(session.getSessionName(),
+                session.getSessionDateTime());
+        taskmaster.addSession(session);
+        taskmaster.changeSession(session.getSessionName());
+        taskmaster.markStudentWithNusnetId(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        assertEquals(Optional.of(Arrays.asList(addSession,
+                TaskmasterChange.markStudent(session.getSessionName(), ALICE.getNusnetId(), AttendanceType.PRESENT))),
+                taskmaster.getUnjournaledChanges());
+
+        taskmaster.markAsJournaled();
+        assertEquals(Optional.of(Collections.emptyList()), taskmaster.getUnjournaledChanges());
+        assertTrue(taskmaster.isSessionListModified());
+    }
+
+    @Test
+    public void getUnjournaledChanges_sessionOfSomeStudentsAdded_empty() {
+        taskmaster.addStudent(ALICE);
+        taskmaster.addStudent(BOB);
+        taskmaster.markAsSaved();
+
+        // The session cannot be made again from the student list, so it is saved in the next snapshot instead
+        taskmaster.addSession(new Session(new SessionName("Filtered session"),
+                new SessionDateTime(LocalDateTime.of(2020, 1, 1, 12, 0)), Collections.singletonList(ALICE)));
+        assertEquals(Optional.empty(), taskmaster.getUnjournaledChanges());
+    }
+
+    @Test
+    public void getUnjournaledChanges_studentsReplaced_empty() {
+        taskmaster.markAsSaved();
+        taskmaster.setStudents(Collections.singletonList(ALICE));
+        assertEquals(Optional.empty(), taskmaster.getUnjournaledChanges());
+
+        taskmaster.markAsSaved();
+        assertEquals(Optional.of(Collections.emptyList()), taskmaster.getUnjournaledChanges());
+    }
+
+    @Test
+    public void getStudentStatistics_sessionsChanged_statisticsUpdated() {
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        SessionName typicalSessionName = getTypicalSession().getSessionName();
+        taskmaster.changeSession(typicalSessionName);
+        taskmaster.markStudentWithNusnetId(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        taskmaster.scoreStudentWithNusnetId(ALICE.getNusnetId(), 3);
+        taskmaster.addSession(new Session(new SessionName("Second"),
+                new SessionDateTime(LocalDateTime.of(2020, 1, 2, 12, 0)), TypicalStudents.getTypicalStudents()));
+
+        StudentStatistics statistics = taskmaster.getStudentStatistics(ALICE.getNusnetId());
+        assertEquals(2, statistics.getSessionCount());
+        assertEquals(1, statistics.getCount(AttendanceType.PRESENT));
+        assertEquals(1.5, statistics.getAverageScore());
+
+        taskmaster.deleteSession(typicalSessionName);
+        statistics = taskmaster.getStudentStatistics(ALICE.getNusnetId());
+        assertEquals(1, statistics.getSessionCount());
+        assertEquals(0, statistics.getCount(AttendanceType.PRESENT));
+
+        taskmaster.setSessions(Collections.emptyList());
+        assertEquals(StudentStatistics.EMPTY, taskmaster.getStudentStatistics(ALICE.getNusnetId()));
+    }
+
+    @Test
+    public void getRoster_sameStudents_returnsSameRoster() {
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        List<Student> students = taskmaster.getStudentList();
+        Roster roster = taskmaster.getRoster(students);
+
+        assertSame(roster, taskmaster.getRoster(new ArrayList<>(students)));
+        assertNotSame(roster, taskmaster.getRoster(students.subList(1, students.size())));
+    }
+
+    @Test
+    public void compactStudentTable_tableNotGrown_tableKept() {
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        StudentTable studentTable = taskmaster.getStudentTable();
+
+        taskmaster.compactStudentTable();
+        assertSame(studentTable, taskmaster.getStudentTable());
+    }
+
+    @Test
+    public void compactStudentTable_studentsRenamed_renamedStudentsDroppedAndRecordsKept() {
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        Session session = taskmaster.getSession(getTypicalSession().getSessionName());
+        List<StudentRecord> studentRecords = new ArrayList<>(session.getStudentRecords());
+        for (String surname : Arrays.asList(" Tan", " Lim")) {
+            for (Student student : new ArrayList<>(taskmaster.getStudentList())) {
+                taskmaster.setStudent(student,
+                        new StudentBuilder(student).withName(student.getName().fullName + surname).build());
+            }
+        }
+        int studentCount = taskmaster.getStudentList().size();
+        assertEquals(3 * studentCount, taskmaster.getStudentTable().size());
+
+        taskmaster.compactStudentTable();
+
+        // The students under their first names are still referred to by the records of the session
+        assertEquals(2 * studentCount, taskmaster.getStudentTable().size());
+        assertEquals(studentRecords, session.getStudentRecords());
+        Student student = taskmaster.getStudentList().get(0);
+        StudentRecord newRecord = taskmaster.getRoster(taskmaster.getStudentList()).getUnmarkedRecords().get(0);
+        assertSame(student.getName(), newRecord.getName());
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> taskmaster.getStudentList().remove(0));
@@ -203,6 +363,21 @@ public class TaskmasterTest {
         public ObservableList<Session> getSessionList() {
             return sessions;
         }
+
+        @Override
+        public boolean isStudentListModified() {
+            return true;
+        }
+
+        @Override
+        public boolean isSessionListModified() {
+            return true;
+        }
+
+        @Override
+        public Optional<Map<NusnetId, StudentStatistics>> getStatisticsOfEveryStudent() {
+            return Optional.empty();
+        }
     }
 
 }
@@ -18,4 +18,10 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setTaskmasterFilePath(null));
     }
 
+    @Test
+    public void setStorageFormat_nullStorageFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStorageFormat(null));
+    }
+
 }
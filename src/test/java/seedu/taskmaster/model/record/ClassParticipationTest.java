@@ -1,7 +1,9 @@
 package seedu.taskmaster.model.record;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +22,15 @@ class ClassParticipationTest {
         assertEquals(filledClassPart.getRawScore(), CLASS_PART_SCORE);
     }
 
+    @Test
+    void isValidScore() {
+        assertTrue(ClassParticipation.isValidScore(0));
+        assertTrue(ClassParticipation.isValidScore(ClassParticipation.MAX_SCORE));
+        assertFalse(ClassParticipation.isValidScore(-0.01));
+        assertFalse(ClassParticipation.isValidScore(ClassParticipation.MAX_SCORE + 0.01));
+        assertFalse(ClassParticipation.isValidScore(Double.NaN));
+    }
+
     @Test
     void testToString() {
         assertEquals(emptyClassPart.toString(), "Class Participation Score: 0.00");
@@ -0,0 +1,111 @@
+package seedu.taskmaster.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.SyntheticStudents;
+import seedu.taskmaster.testutil.TypicalStudents;
+
+public class ColumnarStudentRecordsTest {
+    private static final int SESSION_COUNT = 10;
+    private static final int STUDENTS_PER_SESSION = 1_000;
+
+    private final StudentRecord aliceRecord = new StudentRecord(TypicalStudents.ALICE.getName(),
+            TypicalStudents.ALICE.getNusnetId(), AttendanceType.PRESENT, new ClassParticipation(4.5));
+    private final StudentRecord bensonRecord = new StudentRecord(TypicalStudents.BENSON.getName(),
+            TypicalStudents.BENSON.getNusnetId(), AttendanceType.ABSENT, new ClassParticipation());
+    private final StudentRecord carlRecord = new StudentRecord(TypicalStudents.CARL.getName(),
+            TypicalStudents.CARL.getNusnetId());
+
+    @Test
+    public void addSetRemove_recordsReadBackEqual() {
+        ColumnarStudentRecords studentRecords = new ColumnarStudentRecords(new StudentTable());
+        List<StudentRecord> expectedRecords = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            StudentRecord studentRecord = new StudentRecord(new Name("Student " + i),
+                    SyntheticStudents.getStudent(i).getNusnetId(), AttendanceType.values()[i % 3],
+                    new ClassParticipation(i / 3.0));
+            studentRecords.add(studentRecord);
+            expectedRecords.add(studentRecord);
+        }
+        assertEquals(expectedRecords, studentRecords);
+
+        studentRecords.add(0, aliceRecord);
+        expectedRecords.add(0, aliceRecord);
+        studentRecords.add(15, bensonRecord);
+        expectedRecords.add(15, bensonRecord);
+        assertEquals(expectedRecords.remove(7), studentRecords.remove(7));
+        assertEquals(expectedRecords.set(3, carlRecord), studentRecords.set(3, carlRecord));
+        assertEquals(expectedRecords, studentRecords);
+
+        studentRecords.clear();
+        assertTrue(studentRecords.isEmpty());
+        studentRecords.addAll(Arrays.asList(aliceRecord, bensonRecord));
+        assertEquals(Arrays.asList(aliceRecord, bensonRecord), studentRecords);
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        ColumnarStudentRecords studentRecords = new ColumnarStudentRecords(new StudentTable());
+        studentRecords.add(aliceRecord);
+        assertThrows(IndexOutOfBoundsException.class, () -> studentRecords.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> studentRecords.add(2, bensonRecord));
+    }
+
+    @Test
+    public void set_studentRenamed_otherRecordsKeepOldName() {
+        StudentTable studentTable = new StudentTable();
+        ColumnarStudentRecords olderSession = new ColumnarStudentRecords(studentTable);
+        ColumnarStudentRecords newerSession = new ColumnarStudentRecords(studentTable);
+        olderSession.add(aliceRecord);
+        newerSession.add(aliceRecord);
+
+        StudentRecord renamedRecord = new StudentRecord(new Name("Alice Tan"), aliceRecord.getNusnetId());
+        newerSession.set(0, renamedRecord);
+
+        assertEquals(aliceRecord, olderSession.get(0));
+        assertEquals(renamedRecord, newerSession.get(0));
+        assertNotEquals(olderSession.get(0).getName(), newerSession.get(0).getName());
+        assertEquals(2, studentTable.size());
+    }
+
+    @Test
+    public void add_sameStudentInManySessions_addedToTableOnce() {
+        StudentTable studentTable = new StudentTable();
+        for (int i = 0; i < 5; i++) {
+            ColumnarStudentRecords session = new ColumnarStudentRecords(studentTable);
+            session.addAll(Arrays.asList(aliceRecord, bensonRecord, carlRecord));
+        }
+        assertEquals(3, studentTable.size());
+    }
+
+    @Test
+    public void setStudentRecords_manySessions_eachStudentStoredOnce() {
+        List<Student> roster = SyntheticStudents.getStudents(STUDENTS_PER_SESSION);
+        StudentTable studentTable = new StudentTable();
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            StudentRecordList studentRecords = new StudentRecordListManager(studentTable);
+            studentRecords.setStudentRecords(StudentRecordListManager.of(roster).asUnmodifiableObservableList());
+            studentRecords.markAllStudentAttendances(AttendanceType.PRESENT);
+            studentRecords.scoreStudentParticipation(roster.get(i).getNusnetId(), i % 10);
+
+            StudentRecord scoredRecord = studentRecords.getStudentRecord(roster.get(i).getNusnetId());
+            assertSame(roster.get(i).getName(), scoredRecord.getName());
+            assertSame(roster.get(i).getNusnetId(), scoredRecord.getNusnetId());
+        }
+
+        // Each record refers to its student by id, instead of keeping a name and NUSNET ID of its own
+        assertEquals(STUDENTS_PER_SESSION, studentTable.size());
+    }
+}
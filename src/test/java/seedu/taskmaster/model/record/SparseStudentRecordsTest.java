@@ -0,0 +1,159 @@
+package seedu.taskmaster.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class SparseStudentRecordsTest {
+    private static final int SESSION_COUNT = 100;
+    private static final int STUDENTS_PER_SESSION = 1_000;
+    private static final int MARKS_PER_SESSION = 5;
+
+    private final List<Student> roster = SyntheticStudents.getStudents(STUDENTS_PER_SESSION);
+
+    @Test
+    public void of_sameRoster_shareRosterAndStoreNoRecords() {
+        Roster studentRoster = Roster.of(roster);
+        StudentRecordList studentRecords = StudentRecordListManager.of(studentRoster);
+
+        assertSame(studentRoster, studentRecords.getRoster().get());
+        assertSame(studentRoster, StudentRecordListManager.of(studentRoster).getRoster().get());
+        assertTrue(studentRecords.getMarkedRecords().isEmpty());
+        assertEquals(getDenseRecords(roster).asUnmodifiableObservableList(),
+                studentRecords.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void markAndScore_fewStudents_staysSparse() {
+        StudentRecordList studentRecords = StudentRecordListManager.of(roster);
+        StudentRecordList denseRecords = getDenseRecords(roster);
+        for (StudentRecordList records : List.of(studentRecords, denseRecords)) {
+            records.markStudentAttendance(roster.get(3).getNusnetId(), AttendanceType.PRESENT);
+            records.scoreStudentParticipation(roster.get(3).getNusnetId(), 7);
+            records.markStudentAttendance(roster.get(700).getNusnetId(), AttendanceType.ABSENT);
+            records.markStudentAttendance(roster.get(9).getNusnetId(), AttendanceType.PRESENT);
+            // Unmarking a student stops their record from being stored
+            records.markStudentAttendance(roster.get(9).getNusnetId(), AttendanceType.NO_RECORD);
+        }
+
+        assertTrue(studentRecords.getRoster().isPresent());
+        assertEquals(denseRecords.getMarkedRecords(), studentRecords.getMarkedRecords());
+        assertEquals(2, studentRecords.getMarkedRecords().size());
+        assertEquals(denseRecords, studentRecords);
+        assertEquals(7, studentRecords.getHighestScore());
+        assertEquals(roster.get(3).getNusnetId(),
+                studentRecords.getLowestScoringRecords(2).get(0).getNusnetId());
+    }
+
+    @Test
+    public void markAllStudentAttendances_tooManyMarked_becomesDense() {
+        StudentRecordList studentRecords = StudentRecordListManager.of(roster);
+        StudentRecordList denseRecords = getDenseRecords(roster);
+        studentRecords.markAllStudentAttendances(AttendanceType.PRESENT);
+        denseRecords.markAllStudentAttendances(AttendanceType.PRESENT);
+
+        assertFalse(studentRecords.getRoster().isPresent());
+        assertEquals(denseRecords, studentRecords);
+        assertEquals(roster.size(), studentRecords.getMarkedRecords().size());
+        assertTrue(studentRecords.hasStudentRecord(roster.get(500).getNusnetId()));
+
+        // Records of the same students that are mostly unmarked again are only stored while marked
+        studentRecords.markAllStudentAttendances(AttendanceType.NO_RECORD);
+        assertTrue(studentRecords.getRoster().isPresent());
+        assertEquals(getDenseRecords(roster), studentRecords);
+    }
+
+    @Test
+    public void setStudentRecords_otherStudents_becomesDense() {
+        StudentRecordList studentRecords = StudentRecordListManager.of(roster);
+        List<Student> otherStudents = new ArrayList<>(roster.subList(0, 10));
+        Collections.reverse(otherStudents);
+        studentRecords.setStudentRecords(StudentRecordListManager.of(otherStudents).asUnmodifiableObservableList());
+
+        assertFalse(studentRecords.getRoster().isPresent());
+        assertEquals(getDenseRecords(otherStudents), studentRecords);
+        assertTrue(studentRecords.hasStudentRecord(roster.get(0).getNusnetId()));
+        assertFalse(studentRecords.hasStudentRecord(roster.get(10).getNusnetId()));
+    }
+
+    @Test
+    public void useStudentTable_sameRoster_shareMovedRoster() {
+        Roster studentRoster = Roster.of(roster);
+        StudentRecordList studentRecords = StudentRecordListManager.of(studentRoster);
+        StudentRecordList otherRecords = StudentRecordListManager.of(studentRoster);
+        otherRecords.markStudentAttendance(roster.get(5).getNusnetId(), AttendanceType.PRESENT);
+        StudentRecordList expectedRecords = otherRecords.copy();
+
+        StudentTable studentTable = new StudentTable();
+        studentRecords.useStudentTable(studentTable);
+        otherRecords.useStudentTable(studentTable);
+
+        Roster movedRoster = studentRecords.getRoster().get();
+        assertNotSame(studentRoster, movedRoster);
+        assertSame(movedRoster, otherRecords.getRoster().get());
+        assertSame(movedRoster, studentRoster.in(studentTable));
+        assertEquals(expectedRecords, otherRecords);
+    }
+
+    @Test
+    public void sparseOf_markedRecords_replaceUnmarkedRecords() {
+        StudentRecord markedRecord = new StudentRecord(roster.get(42).getName(), roster.get(42).getNusnetId(),
+                AttendanceType.PRESENT, new ClassParticipation(3));
+        Roster studentRoster = Roster.of(roster);
+        StudentRecordList studentRecords = StudentRecordListManager.sparseOf(studentRoster,
+                Collections.singletonList(markedRecord));
+
+        StudentRecordList expectedRecords = getDenseRecords(roster);
+        expectedRecords.markStudentAttendance(markedRecord.getNusnetId(), AttendanceType.PRESENT);
+        expectedRecords.scoreStudentParticipation(markedRecord.getNusnetId(), 3);
+        assertEquals(expectedRecords, studentRecords);
+        assertSame(studentRoster, studentRecords.getRoster().get());
+    }
+
+    @Test
+    public void sparseOf_studentNotInRoster_throwsStudentNotFoundException() {
+        Student otherStudent = SyntheticStudents.getStudent(STUDENTS_PER_SESSION);
+        assertThrows(StudentNotFoundException.class, () -> StudentRecordListManager.sparseOf(Roster.of(roster),
+                Collections.singletonList(new StudentRecord(otherStudent.getName(), otherStudent.getNusnetId(),
+                        AttendanceType.PRESENT, new ClassParticipation()))));
+    }
+
+    @Test
+    public void markStudentAttendance_semesterOfSessions_storesOnlyMarkedRecords() {
+        Roster studentRoster = Roster.of(roster);
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            StudentRecordList studentRecords = StudentRecordListManager.of(studentRoster);
+            for (int j = 0; j < MARKS_PER_SESSION; j++) {
+                studentRecords.markStudentAttendance(roster.get((i + j * 97) % roster.size()).getNusnetId(),
+                        AttendanceType.PRESENT);
+            }
+
+            // Sessions of the same students share one roster, so each only stores the few records marked in it
+            assertSame(studentRoster, studentRecords.getRoster().get());
+            assertEquals(MARKS_PER_SESSION, studentRecords.getMarkedRecords().size());
+        }
+    }
+
+    private static StudentRecordList getDenseRecords(List<Student> students) {
+        StudentRecordList studentRecords = new StudentRecordListManager();
+        List<StudentRecord> unmarkedRecords = new ArrayList<>();
+        for (Student student : students) {
+            unmarkedRecords.add(new StudentRecord(student.getName(), student.getNusnetId()));
+        }
+        studentRecords.setStudentRecords(unmarkedRecords);
+        return studentRecords;
+    }
+}
@@ -1,20 +1,47 @@
 package seedu.taskmaster.model.record;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.model.student.Student;
 import seedu.taskmaster.model.student.exceptions.DuplicateStudentException;
 import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
+import seedu.taskmaster.testutil.ReadCountingList;
+import seedu.taskmaster.testutil.SyntheticStudents;
 import seedu.taskmaster.testutil.TypicalStudents;
 
 public class StudentRecordListTest {
+    private static final int LARGE_ROSTER_SIZE = 50_000;
+    private static final int LOOKUPS = 1_000;
+    /**
+     * The most records read on average to find a student by the position index, which probes a run of slots when
+     * the NUSNET IDs of many students hash to nearby slots. A scan would read half of the large roster.
+     */
+    private static final int MAX_READS_PER_LOOKUP = 20;
+    private static final int LECTURE_SIZE = 600;
+
     private final Student studentInList = TypicalStudents.ALICE;
     private final StudentRecord markedStudentRecordOfStudentInList = new StudentRecord(
             studentInList.getName(),
@@ -66,6 +93,36 @@ public class StudentRecordListTest {
                 studentNotInList.getNusnetId(), AttendanceType.PRESENT));
     }
 
+    @Test
+    public void markStudentAttendance_afterSetStudentRecords_marksReplacementRecords() {
+        studentRecordList.setStudentRecords(Collections.singletonList(studentRecordOfStudentNotInList));
+
+        assertThrows(StudentNotFoundException.class, ()
+            -> studentRecordList.markStudentAttendance(studentInList.getNusnetId(), AttendanceType.PRESENT));
+
+        studentRecordList.markStudentAttendance(studentNotInList.getNusnetId(), AttendanceType.ABSENT);
+        StudentRecord expectedStudentRecord = new StudentRecord(studentNotInList.getName(),
+                studentNotInList.getNusnetId(), AttendanceType.ABSENT, new ClassParticipation(4.3));
+        assertEquals(expectedStudentRecord, studentRecordList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void markStudentAttendance_largeRoster_readsFewRecordsPerMark() {
+        List<Student> roster = SyntheticStudents.getStudents(LARGE_ROSTER_SIZE);
+        ReadCountingList<StudentRecord> backingList = new ReadCountingList<>(getUnmarkedRecords(roster));
+        StudentRecordList records = StudentRecordListManager.backedBy(backingList);
+        // The first mark reads every record to build the position index
+        records.markStudentAttendance(roster.get(0).getNusnetId(), AttendanceType.PRESENT);
+
+        backingList.resetReads();
+        for (int i = 0; i < LOOKUPS; i++) {
+            records.markStudentAttendance(getStridedStudent(roster, i).getNusnetId(), AttendanceType.PRESENT);
+        }
+
+        assertTrue(backingList.getReads() <= MAX_READS_PER_LOOKUP * LOOKUPS,
+                backingList.getReads() + " records read for " + LOOKUPS + " marks");
+    }
+
     @Test
     public void markAllStudents_idsInList_success() {
         studentRecordList.markAllStudentAttendances(AttendanceType.PRESENT);
@@ -167,4 +224,329 @@ public class StudentRecordListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> studentRecordList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void markAllAndScoreAll_observedList_observersNotifiedOnce() {
+        List<Student> lecture = SyntheticStudents.getStudents(LECTURE_SIZE);
+        StudentRecordList records = StudentRecordListManager.of(lecture);
+        ChangeCounter changeCounter = observeAsDisplayed(records);
+
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        assertEquals(1, changeCounter.changes);
+        records.scoreAllParticipation(2);
+        assertEquals(2, changeCounter.changes);
+
+        // The records can still be found after being replaced
+        records.markStudentAttendance(lecture.get(LECTURE_SIZE - 1).getNusnetId(), AttendanceType.ABSENT);
+        assertEquals(3, changeCounter.changes);
+        for (StudentRecord studentRecord : changeCounter.observedList.subList(0, LECTURE_SIZE - 1)) {
+            assertEquals(AttendanceType.PRESENT, studentRecord.getAttendanceType());
+            assertEquals(2, studentRecord.getClassParticipation().getRawScore());
+        }
+        assertEquals(AttendanceType.ABSENT, changeCounter.observedList.get(LECTURE_SIZE - 1).getAttendanceType());
+    }
+
+    @Test
+    public void scoreAllParticipation_noStudentPresent_observersNotNotified() {
+        StudentRecordList records = StudentRecordListManager.of(SyntheticStudents.getStudents(LECTURE_SIZE));
+        ChangeCounter changeCounter = observeAsDisplayed(records);
+
+        records.scoreAllParticipation(2);
+        assertEquals(0, changeCounter.changes);
+    }
+
+    @Test
+    public void editStudentRecords_observedList_observersNotifiedOnce() {
+        List<Student> lecture = SyntheticStudents.getStudents(LECTURE_SIZE);
+        StudentRecordList records = StudentRecordListManager.of(lecture);
+        ChangeCounter changeCounter = observeAsDisplayed(records);
+
+        EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+        descriptor.setAttendanceType(AttendanceType.PRESENT);
+        descriptor.setClassParticipation(new ClassParticipation(3));
+        Map<NusnetId, EditStudentRecordDescriptor> edits = new LinkedHashMap<>();
+        for (int i = LECTURE_SIZE - 1; i >= 0; i -= 2) {
+            edits.put(lecture.get(i).getNusnetId(), descriptor);
+        }
+
+        records.editStudentRecords(edits);
+        assertEquals(1, changeCounter.changes);
+        for (int i = 0; i < LECTURE_SIZE; i++) {
+            StudentRecord studentRecord = changeCounter.observedList.get(i);
+            boolean isEdited = edits.containsKey(studentRecord.getNusnetId());
+            assertEquals(isEdited ? AttendanceType.PRESENT : AttendanceType.NO_RECORD,
+                    studentRecord.getAttendanceType());
+            assertEquals(isEdited ? 3 : 0, studentRecord.getClassParticipation().getRawScore());
+        }
+    }
+
+    @Test
+    public void editStudentRecords_idNotInList_noRecordEdited() {
+        EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+        descriptor.setAttendanceType(AttendanceType.PRESENT);
+        Map<NusnetId, EditStudentRecordDescriptor> edits = new LinkedHashMap<>();
+        edits.put(studentInList.getNusnetId(), descriptor);
+        edits.put(studentNotInList.getNusnetId(), descriptor);
+
+        assertThrows(StudentNotFoundException.class, () -> studentRecordList.editStudentRecords(edits));
+        assertEquals(StudentRecordListManager.of(Collections.singletonList(studentInList)), studentRecordList);
+        assertTrue(studentRecordList.hasStudentRecord(studentInList.getNusnetId()));
+        assertFalse(studentRecordList.hasStudentRecord(studentNotInList.getNusnetId()));
+    }
+
+    @Test
+    public void getLowestAndHighestScoringRecords_recordsChanged_inOrderOfScore() {
+        List<Student> students = SyntheticStudents.getStudents(LECTURE_SIZE);
+        StudentRecordList records = StudentRecordListManager.of(students);
+        assertTrue(records.getLowestScoringRecords(5).isEmpty());
+        assertThrows(StudentNotFoundException.class, records::getHighestScore);
+
+        // Every way of changing the records, with queries in between so that the index is kept up to date
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        records.scoreAllParticipation(5);
+        assertScoreOrder(records);
+        for (int i = 0; i < students.size(); i += 3) {
+            records.scoreStudentParticipation(students.get(i).getNusnetId(), i % 10);
+        }
+        for (int i = 0; i < students.size(); i += 7) {
+            records.markStudentAttendance(students.get(i).getNusnetId(), AttendanceType.ABSENT);
+        }
+        assertScoreOrder(records);
+        Map<NusnetId, EditStudentRecordDescriptor> edits = new LinkedHashMap<>();
+        for (int i = 1; i < students.size(); i += 5) {
+            EditStudentRecordDescriptor descriptor = new EditStudentRecordDescriptor();
+            descriptor.setClassParticipation(new ClassParticipation((i * 31) % 11 / 1.1));
+            edits.put(students.get(i).getNusnetId(), descriptor);
+        }
+        records.editStudentRecords(edits);
+        assertScoreOrder(records);
+        records.setStudentRecords(records.getHighestScoringRecords(10));
+        assertScoreOrder(records);
+    }
+
+    @Test
+    public void getLowestScoringRecords_largeRoster_readsOnlyScoredRecords() {
+        List<Student> roster = SyntheticStudents.getStudents(LARGE_ROSTER_SIZE);
+        ReadCountingList<StudentRecord> backingList = new ReadCountingList<>(getUnmarkedRecords(roster));
+        StudentRecordList records = StudentRecordListManager.backedBy(backingList);
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        records.scoreStudentParticipation(roster.get(0).getNusnetId(), 0);
+        records.getLowestScore();
+
+        backingList.resetReads();
+        for (int i = 0; i < LOOKUPS; i++) {
+            records.scoreStudentParticipation(getStridedStudent(roster, i).getNusnetId(), i % 10);
+            records.getLowestScoringRecords(5);
+        }
+
+        // The lowest scoring records are found in the index of present students, without reading the list
+        assertTrue(backingList.getReads() <= MAX_READS_PER_LOOKUP * LOOKUPS,
+                backingList.getReads() + " records read for " + LOOKUPS + " scores and queries");
+    }
+
+    @Test
+    public void getRandomPresentRecord_noStudentPresent_throwsStudentNotFoundException() {
+        for (SamplingMode mode : SamplingMode.values()) {
+            assertThrows(StudentNotFoundException.class, () -> studentRecordList.getRandomPresentRecord(
+                    new Random(1), mode));
+        }
+    }
+
+    @Test
+    public void getRandomPresentRecord_noRepeat_everyPresentStudentOncePerRound() {
+        List<Student> students = SyntheticStudents.getStudents(LECTURE_SIZE);
+        StudentRecordList records = StudentRecordListManager.of(students);
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        for (int i = 0; i < students.size(); i += 7) {
+            records.markStudentAttendance(students.get(i).getNusnetId(), AttendanceType.ABSENT);
+        }
+        Random random = new Random(1);
+        for (int round = 0; round < 2; round++) {
+            Set<NusnetId> presentNusnetIds = getPresentNusnetIds(records);
+            assertEquals(presentNusnetIds, pickNoRepeat(records, random, presentNusnetIds.size()));
+        }
+
+        // Students who arrive or leave part way through a round
+        Set<NusnetId> calledNusnetIds = pickNoRepeat(records, random, 100);
+        Iterator<NusnetId> calledIterator = calledNusnetIds.iterator();
+        records.markStudentAttendance(calledIterator.next(), AttendanceType.ABSENT);
+        records.markStudentAttendance(calledIterator.next(), AttendanceType.ABSENT);
+        for (int i = 1; i < 20; i++) {
+            records.markStudentAttendance(students.get(i).getNusnetId(), AttendanceType.ABSENT);
+        }
+        records.markStudentAttendance(students.get(0).getNusnetId(), AttendanceType.PRESENT);
+        Set<NusnetId> uncalledNusnetIds = getPresentNusnetIds(records);
+        uncalledNusnetIds.removeAll(calledNusnetIds);
+        assertEquals(uncalledNusnetIds, pickNoRepeat(records, random, uncalledNusnetIds.size()));
+
+        // The next round starts over with every present student
+        assertEquals(getPresentNusnetIds(records), pickNoRepeat(records, random, getPresentNusnetIds(records).size()));
+    }
+
+    @Test
+    public void getRandomPresentRecord_noRepeatAfterRecordsReplaced_roundCarriesOn() {
+        List<Student> students = SyntheticStudents.getStudents(LECTURE_SIZE);
+        StudentRecordList records = StudentRecordListManager.of(students);
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        Random random = new Random(1);
+        Set<NusnetId> calledNusnetIds = pickNoRepeat(records, random, 100);
+
+        // Replacing the records, as reloading or undoing does, rebuilds the pool of present students
+        records.setStudentRecords(new ArrayList<>(records.asUnmodifiableObservableList()));
+        Set<NusnetId> uncalledNusnetIds = getPresentNusnetIds(records);
+        uncalledNusnetIds.removeAll(calledNusnetIds);
+        assertEquals(uncalledNusnetIds, pickNoRepeat(records, random, uncalledNusnetIds.size()));
+    }
+
+    @Test
+    public void getRandomPresentRecord_weightedToLowScores_lowScoresPickedMoreOften() {
+        List<Student> students = SyntheticStudents.getStudents(LECTURE_SIZE);
+        StudentRecordList records = StudentRecordListManager.of(students);
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        for (int i = 0; i < students.size(); i += 2) {
+            records.scoreStudentParticipation(students.get(i).getNusnetId(), ClassParticipation.MAX_SCORE);
+        }
+
+        Random random = new Random(1);
+        int picks = 12_000;
+        int lowScorePicks = 0;
+        int uniformLowScorePicks = 0;
+        for (int i = 0; i < picks; i++) {
+            if (records.getRandomPresentRecord(random, SamplingMode.WEIGHTED_TO_LOW_SCORES)
+                    .getClassParticipation().getRawScore() == 0) {
+                lowScorePicks++;
+            }
+            if (records.getRandomPresentRecord(random, SamplingMode.UNIFORM)
+                    .getClassParticipation().getRawScore() == 0) {
+                uniformLowScorePicks++;
+            }
+        }
+
+        // A score of 0 is weighted 11 times as much as a score of 10, so about 11 in 12 picks should have a score of 0
+        assertTrue(lowScorePicks > picks * 0.88 && lowScorePicks < picks * 0.95, lowScorePicks + " of " + picks);
+        assertTrue(uniformLowScorePicks > picks * 0.45 && uniformLowScorePicks < picks * 0.55,
+                uniformLowScorePicks + " of " + picks);
+    }
+
+    @Test
+    public void getRandomPresentRecord_largeRoster_readsOnlyPickedRecords() {
+        List<Student> roster = SyntheticStudents.getStudents(LARGE_ROSTER_SIZE);
+        ReadCountingList<StudentRecord> backingList = new ReadCountingList<>(getUnmarkedRecords(roster));
+        StudentRecordList records = StudentRecordListManager.backedBy(backingList);
+        records.markAllStudentAttendances(AttendanceType.PRESENT);
+        Random random = new Random(1);
+        records.getRandomPresentRecord(random, SamplingMode.UNIFORM);
+
+        backingList.resetReads();
+        for (int i = 0; i < LOOKUPS; i++) {
+            records.markStudentAttendance(getStridedStudent(roster, i).getNusnetId(),
+                    i % 2 == 0 ? AttendanceType.ABSENT : AttendanceType.PRESENT);
+            for (SamplingMode mode : SamplingMode.values()) {
+                // No student has been scored, so a student picked with weights to low scores is always kept
+                records.getRandomPresentRecord(random, mode);
+            }
+        }
+
+        // Each mark and pick looks up one student, instead of reading every present record
+        int lookups = LOOKUPS * (1 + SamplingMode.values().length);
+        assertTrue(backingList.getReads() <= MAX_READS_PER_LOOKUP * lookups,
+                backingList.getReads() + " records read for " + lookups + " marks and picks");
+    }
+
+    /**
+     * Returns the NUSNET IDs of the present students in {@code records}.
+     */
+    private static Set<NusnetId> getPresentNusnetIds(StudentRecordList records) {
+        Set<NusnetId> presentNusnetIds = new HashSet<>();
+        for (StudentRecord studentRecord : records) {
+            if (studentRecord.getAttendanceType() == AttendanceType.PRESENT) {
+                presentNusnetIds.add(studentRecord.getNusnetId());
+            }
+        }
+        return presentNusnetIds;
+    }
+
+    /**
+     * Picks {@code count} present students from {@code records} without repeats and returns their NUSNET IDs,
+     * asserting that no student was picked twice.
+     */
+    private static Set<NusnetId> pickNoRepeat(StudentRecordList records, Random random, int count) {
+        Set<NusnetId> pickedNusnetIds = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            StudentRecord studentRecord = records.getRandomPresentRecord(random, SamplingMode.NO_REPEAT);
+            assertEquals(AttendanceType.PRESENT, studentRecord.getAttendanceType());
+            assertTrue(pickedNusnetIds.add(studentRecord.getNusnetId()), "Picked twice: " + studentRecord);
+        }
+        return pickedNusnetIds;
+    }
+
+    /**
+     * Asserts that the lowest and highest scoring records of {@code records} are its present records in order of
+     * their score, as found by sorting every record.
+     */
+    private static void assertScoreOrder(StudentRecordList records) {
+        List<StudentRecord> expectedOrder = new ArrayList<>();
+        for (StudentRecord studentRecord : records) {
+            if (studentRecord.getAttendanceType() == AttendanceType.PRESENT) {
+                expectedOrder.add(studentRecord);
+            }
+        }
+        expectedOrder.sort(Comparator
+                .comparingDouble((StudentRecord studentRecord) -> studentRecord.getClassParticipation().getRawScore())
+                .thenComparing(studentRecord -> studentRecord.getNusnetId().value));
+
+        int count = Math.min(7, expectedOrder.size());
+        assertEquals(expectedOrder.subList(0, count), records.getLowestScoringRecords(7));
+        assertEquals(expectedOrder, records.getLowestScoringRecords(expectedOrder.size() + 1));
+        Collections.reverse(expectedOrder);
+        assertEquals(expectedOrder.subList(0, count), records.getHighestScoringRecords(7));
+        assertEquals(expectedOrder.get(0).getClassParticipation().getRawScore(), records.getHighestScore());
+        assertEquals(expectedOrder.get(expectedOrder.size() - 1).getClassParticipation().getRawScore(),
+                records.getLowestScore());
+    }
+
+    /**
+     * Returns the unmarked records of {@code students}, in order.
+     */
+    private static List<StudentRecord> getUnmarkedRecords(List<Student> students) {
+        List<StudentRecord> unmarkedRecords = new ArrayList<>(students.size());
+        for (Student student : students) {
+            unmarkedRecords.add(new StudentRecord(student.getName(), student.getNusnetId()));
+        }
+        return unmarkedRecords;
+    }
+
+    /**
+     * Returns the {@code i}th student in a stride through {@code roster}, so that lookups land all over the list.
+     */
+    private static Student getStridedStudent(List<Student> roster, int i) {
+        return roster.get((int) ((i * 7919L) % roster.size()));
+    }
+
+    /**
+     * Returns a counter of the changes to {@code records} that reach an observer of the records through a
+     * {@code FilteredList}, as the displayed list of records observes them.
+     */
+    private static ChangeCounter observeAsDisplayed(StudentRecordList records) {
+        ChangeCounter changeCounter = new ChangeCounter(new FilteredList<>(records.asUnmodifiableObservableList()));
+        changeCounter.observedList.addListener(changeCounter);
+        return changeCounter;
+    }
+
+    /**
+     * Counts the number of times that it is notified of changes to a list.
+     */
+    private static class ChangeCounter implements ListChangeListener<StudentRecord> {
+        private final ObservableList<StudentRecord> observedList;
+        private int changes;
+
+        ChangeCounter(ObservableList<StudentRecord> observedList) {
+            this.observedList = observedList;
+        }
+
+        @Override
+        public void onChanged(Change<? extends StudentRecord> change) {
+            changes++;
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package seedu.taskmaster.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+
+public class StudentTableTest {
+
+    private static final String NAME = "Alice Pauline";
+    private static final String NUSNET_ID = "e0123456";
+
+    private final StudentTable studentTable = new StudentTable();
+
+    @Test
+    public void canonicalise_studentInTable_returnsObjectsInTable() {
+        Name name = new Name(NAME);
+        NusnetId nusnetId = new NusnetId(NUSNET_ID);
+        studentTable.add(name, nusnetId);
+
+        assertSame(nusnetId, studentTable.canonicalise(new NusnetId(NUSNET_ID)));
+        assertSame(name, studentTable.canonicalise(new Name(NAME), new NusnetId(NUSNET_ID)));
+        assertEquals(1, studentTable.size());
+    }
+
+    @Test
+    public void canonicalise_studentNotInTable_returnsGivenObjects() {
+        NusnetId nusnetId = new NusnetId(NUSNET_ID);
+        assertSame(nusnetId, studentTable.canonicalise(nusnetId));
+
+        Name name = new Name(NAME);
+        assertSame(name, studentTable.canonicalise(name, nusnetId));
+        assertEquals(1, studentTable.size());
+    }
+
+    @Test
+    public void add_studentAlreadyInTable_replacesSharedObjects() {
+        int id = studentTable.idOf(new Name(NAME), new NusnetId(NUSNET_ID), -1);
+
+        // The objects of the student in the student list replace the copies read with their records
+        Name name = new Name(NAME);
+        NusnetId nusnetId = new NusnetId(NUSNET_ID);
+        studentTable.add(name, nusnetId);
+
+        assertSame(name, studentTable.getName(id));
+        assertSame(nusnetId, studentTable.getNusnetId(id));
+        assertEquals(1, studentTable.size());
+    }
+
+    @Test
+    public void canonicalise_studentRenamed_keepsBothNames() {
+        Name oldName = new Name(NAME);
+        NusnetId nusnetId = new NusnetId(NUSNET_ID);
+        int oldId = studentTable.idOf(oldName, nusnetId, -1);
+
+        Name newName = new Name("Alice Tan");
+        assertSame(newName, studentTable.canonicalise(newName, nusnetId));
+
+        assertSame(oldName, studentTable.getName(oldId));
+        assertSame(nusnetId, studentTable.canonicalise(new NusnetId(NUSNET_ID)));
+        assertEquals(2, studentTable.size());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.taskmaster.model.session;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 
@@ -25,4 +26,18 @@ public class SessionDateTimeTest {
         String expected = "10:30 (Sun) \n1 Nov 2020";
         assertEquals(expected, testSessionDateTime.getDisplayDateTimeString());
     }
+
+    @Test
+    public void compareTo() {
+        SessionDateTime later = new SessionDateTime(testLocalDateTime.plusMinutes(1));
+
+        assertTrue(testSessionDateTime.compareTo(later) < 0);
+        assertTrue(later.compareTo(testSessionDateTime) > 0);
+        assertEquals(0, testSessionDateTime.compareTo(new SessionDateTime(testLocalDateTime)));
+    }
+
+    @Test
+    public void hashCode_equalDateTimes_sameHashCode() {
+        assertEquals(testSessionDateTime.hashCode(), new SessionDateTime(testLocalDateTime).hashCode());
+    }
 }
@@ -4,18 +4,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
 import static seedu.taskmaster.testutil.TypicalStudents.getTypicalSession;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentStatistics;
 import seedu.taskmaster.model.session.exceptions.DuplicateSessionException;
 import seedu.taskmaster.model.session.exceptions.SessionNotFoundException;
+import seedu.taskmaster.model.student.NusnetId;
 import seedu.taskmaster.testutil.TypicalStudents;
 
 public class SessionListTest {
@@ -184,6 +192,90 @@ public class SessionListTest {
             -> sessionList.setSessions(listOfDuplicateSessions));
     }
 
+    @Test
+    public void getSessionsInChronologicalOrder_sessionsAddedOutOfOrder_earliestFirst() {
+        Session week2 = createSession("Week 2", 15);
+        Session week1 = createSession("Week 1", 8);
+        Session week1Makeup = createSession("Week 1 makeup", 8);
+        SessionList sessionList = SessionListManager.of(Arrays.asList(week2, week1));
+        sessionList.add(week1Makeup);
+
+        assertEquals(Arrays.asList(week1, week1Makeup, week2), sessionList.getSessionsInChronologicalOrder());
+        // The displayed list keeps the order in which the sessions were added
+        assertEquals(Arrays.asList(week2, week1, week1Makeup), sessionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getSessionsBetween_sessionsAroundPeriod_onlySessionsInPeriodReturned() {
+        Session week1 = createSession("Week 1", 8);
+        Session week2 = createSession("Week 2", 15);
+        Session week3 = createSession("Week 3", 22);
+        Session week4 = createSession("Week 4", 29);
+        SessionList sessionList = SessionListManager.of(Arrays.asList(week4, week3, week2, week1));
+
+        assertEquals(Arrays.asList(week2, week3),
+                sessionList.getSessionsBetween(week2.getSessionDateTime(), week4.getSessionDateTime()));
+        assertEquals(Collections.emptyList(),
+                sessionList.getSessionsBetween(week3.getSessionDateTime(), week2.getSessionDateTime()));
+        assertEquals(Collections.emptyList(),
+                sessionList.getSessionsBetween(week1.getSessionDateTime(), week1.getSessionDateTime()));
+    }
+
+    @Test
+    public void delete_sessionInList_removedFromIndexes() {
+        Session week1 = createSession("Week 1", 8);
+        Session week1Makeup = createSession("Week 1 makeup", 8);
+        SessionList sessionList = SessionListManager.of(Arrays.asList(week1, week1Makeup));
+
+        sessionList.delete(week1.getSessionName());
+        assertFalse(sessionList.contains(week1.getSessionName()));
+        assertThrows(SessionNotFoundException.class, () -> sessionList.get(week1.getSessionName()));
+        assertEquals(Collections.singletonList(week1Makeup), sessionList.getSessionsInChronologicalOrder());
+
+        // A session with the name of the deleted session can be added again
+        Session newWeek1 = createSession("Week 1", 9);
+        sessionList.add(newWeek1);
+        assertEquals(newWeek1, sessionList.get(week1.getSessionName()));
+        assertEquals(Arrays.asList(week1Makeup, newWeek1), sessionList.getSessionsInChronologicalOrder());
+    }
+
+    @Test
+    public void setSessions_sessionsReplaced_indexesReplaced() {
+        SessionList sessionList = SessionListManager.of(Collections.singletonList(createSession("Week 1", 8)));
+        Session week2 = createSession("Week 2", 15);
+        sessionList.setSessions(Collections.singletonList(week2));
+
+        assertFalse(sessionList.contains(new SessionName("Week 1")));
+        assertEquals(week2, sessionList.get(week2.getSessionName()));
+        assertEquals(Collections.singletonList(week2), sessionList.getSessionsInChronologicalOrder());
+    }
+
+    /**
+     * Returns a session named {@code sessionName} conducted at noon on {@code dayOfAugust} August 2020.
+     */
+    private static Session createSession(String sessionName, int dayOfAugust) {
+        return new Session(new SessionName(sessionName),
+                new SessionDateTime(LocalDateTime.of(2020, 8, dayOfAugust, 12, 0)),
+                TypicalStudents.getTypicalStudents());
+    }
+
+    @Test
+    public void getSavedStatistics_sessionListChanged_empty() {
+        Map<NusnetId, StudentStatistics> savedStatistics = Collections.singletonMap(ALICE.getNusnetId(),
+                StudentStatistics.EMPTY.plus(typicalSession1.getStudentRecord(ALICE.getNusnetId())));
+        SessionList sessionList = SessionListManager.of(Collections.singletonList(typicalSession1));
+        sessionList.markAsSaved();
+        sessionList.setSavedStatistics(savedStatistics);
+        assertEquals(Optional.of(savedStatistics), sessionList.getSavedStatistics());
+
+        typicalSession1.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        assertEquals(Optional.empty(), sessionList.getSavedStatistics());
+
+        // Statistics saved with an earlier state of the list are not restored by saving it again
+        sessionList.markAsSaved();
+        assertEquals(Optional.empty(), sessionList.getSavedStatistics());
+    }
+
     @Test
     public void asUnmodifiableObservableList() {
         ObservableList<Session> unmodifiableObservableList =
@@ -210,4 +302,34 @@ public class SessionListTest {
     public void equals_differentInternalList_returnFalse() {
         assertFalse(typicalSessionList.equals(emptySessionList));
     }
+
+    @Test
+    public void isModified_afterMarkAsSaved_returnsFalse() {
+        typicalSessionList.markAsSaved();
+        assertFalse(typicalSessionList.isModified());
+    }
+
+    @Test
+    public void isModified_afterAddingSession_returnsTrue() {
+        emptySessionList.markAsSaved();
+        emptySessionList.add(typicalSession1);
+        assertTrue(emptySessionList.isModified());
+    }
+
+    @Test
+    public void isModified_afterDeletingSession_returnsTrue() {
+        typicalSessionList.markAsSaved();
+        typicalSessionList.delete(typicalSession1.getSessionName());
+        assertTrue(typicalSessionList.isModified());
+    }
+
+    @Test
+    public void isModified_afterModifyingSession_returnsTrue() {
+        typicalSessionList.markAsSaved();
+        typicalSessionList.get(typicalSession1.getSessionName()).markAllStudentAttendances(AttendanceType.PRESENT);
+        assertTrue(typicalSessionList.isModified());
+
+        typicalSessionList.markAsSaved();
+        assertFalse(typicalSessionList.isModified());
+    }
 }
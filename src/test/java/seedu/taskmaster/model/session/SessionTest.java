@@ -2,10 +2,12 @@ package seedu.taskmaster.model.session;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 import static seedu.taskmaster.testutil.TypicalIndexes.INDEX_FIRST_STUDENT;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import seedu.taskmaster.model.record.AttendanceType;
 import seedu.taskmaster.model.record.StudentRecordList;
 import seedu.taskmaster.model.record.StudentRecordListManager;
+import seedu.taskmaster.model.record.StudentTable;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
 import seedu.taskmaster.model.student.Student;
 import seedu.taskmaster.model.student.exceptions.StudentNotFoundException;
 import seedu.taskmaster.testutil.StudentBuilder;
@@ -151,4 +155,100 @@ public class SessionTest {
         assertFalse(typicalSessionByStudentRecordList.equals(differentSessionByStudentRecordList));
     }
 
+    @Test
+    public void copyConstructor_originalModified_copyUnchanged() {
+        Session copy = new Session(typicalSessionByStudentList);
+        assertEquals(typicalSessionByStudentList, copy);
+
+        typicalSessionByStudentList.markAllStudentAttendances(AttendanceType.PRESENT);
+        assertFalse(typicalSessionByStudentList.equals(copy));
+        assertEquals(typicalSessionByStudentRecordList, copy);
+    }
+
+    @Test
+    public void detachedCopy_loadedSession_unaffectedByChangesToOriginal() {
+        typicalSessionByStudentList.markAsSaved();
+        Session copy = typicalSessionByStudentList.detachedCopy();
+        assertFalse(copy.isModified());
+
+        typicalSessionByStudentList.markAllStudentAttendances(AttendanceType.PRESENT);
+        assertEquals(typicalSessionByStudentRecordList, copy);
+    }
+
+    @Test
+    public void detachedCopy_unloadedSession_loadsIntoOwnStudentTable() {
+        StudentTable studentTable = new StudentTable();
+        List<StudentTable> loadedIntoTables = new ArrayList<>();
+        Session lazySession = new Session(
+                new SessionName("Typical Session"),
+                new SessionDateTime(LocalDateTime.of(2020, 11, 1, 10, 30)), table -> {
+                    loadedIntoTables.add(table);
+                    return StudentRecordListManager.of(typicalStudents);
+                });
+        lazySession.useStudentTable(studentTable);
+
+        Session copy = lazySession.detachedCopy();
+        assertEquals(typicalSessionByStudentRecordList, copy);
+        assertFalse(lazySession.isLoaded());
+        assertEquals(1, loadedIntoTables.size());
+        assertNotSame(studentTable, loadedIntoTables.get(0));
+    }
+
+    @Test
+    public void isModified_newSession_returnsTrue() {
+        assertTrue(typicalSessionByStudentList.isModified());
+    }
+
+    @Test
+    public void isModified_afterMarkingStudent_returnsTrue() {
+        typicalSessionByStudentList.markAsSaved();
+        typicalSessionByStudentList.markStudentAttendance(firstStudent.getNusnetId(), AttendanceType.PRESENT);
+        assertTrue(typicalSessionByStudentList.isModified());
+    }
+
+    @Test
+    public void isModified_afterMarkAsSaved_returnsFalse() {
+        typicalSessionByStudentList.scoreAllParticipation(3.0);
+        typicalSessionByStudentList.markAsSaved();
+        assertFalse(typicalSessionByStudentList.isModified());
+    }
+
+    @Test
+    public void isModified_afterFailedMark_returnsFalse() {
+        typicalSessionByStudentList.markAsSaved();
+        Student outsider = new StudentBuilder().withNusnetId("e0999999").build();
+        assertThrows(StudentNotFoundException.class, () ->
+                typicalSessionByStudentList.markStudentAttendance(outsider.getNusnetId(), AttendanceType.PRESENT));
+        assertFalse(typicalSessionByStudentList.isModified());
+    }
+
+    @Test
+    public void getStudentRecords_lazySession_loadsOnce() {
+        int[] loadCount = {0};
+        Session lazySession = new Session(
+                new SessionName("Typical Session"),
+                new SessionDateTime(LocalDateTime.of(2020, 11, 1, 10, 30)), studentTable -> {
+                    loadCount[0]++;
+                    return StudentRecordListManager.of(typicalStudents);
+                });
+        assertFalse(lazySession.isLoaded());
+        assertFalse(lazySession.isModified());
+
+        assertEquals(typicalSessionByStudentList, lazySession);
+        lazySession.markStudentAttendance(firstStudent.getNusnetId(), AttendanceType.PRESENT);
+        assertTrue(lazySession.isLoaded());
+        assertTrue(lazySession.isModified());
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void getStudentRecords_loadFails_throwsSessionLoadException() {
+        Session lazySession = new Session(
+                new SessionName("Typical Session"),
+                new SessionDateTime(LocalDateTime.of(2020, 11, 1, 10, 30)), studentTable -> {
+                    throw new SessionLoadException("Typical Session", new IOException("dummy exception"));
+                });
+        assertThrows(SessionLoadException.class, lazySession::getStudentRecords);
+        assertFalse(lazySession.isLoaded());
+    }
 }
@@ -0,0 +1,216 @@
+package seedu.taskmaster.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.record.StudentRecordListManager;
+import seedu.taskmaster.model.record.StudentStatistics;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.ReadCountingList;
+import seedu.taskmaster.testutil.TypicalStudents;
+
+public class StudentStatisticsStoreTest {
+
+    private static final SessionDateTime SESSION_DATE_TIME = new SessionDateTime(LocalDateTime.of(2020, 11, 1, 10, 30));
+    private static final int SESSION_COUNT = 50;
+
+    private final StudentStatisticsStore store = new StudentStatisticsStore();
+
+    @Test
+    public void get_noSessions_emptyStatistics() {
+        assertEquals(StudentStatistics.EMPTY, store.get(ALICE.getNusnetId()));
+    }
+
+    @Test
+    public void addSession_loadedSessions_recordsCounted() {
+        Session first = createSession("First");
+        first.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        first.scoreStudentParticipation(ALICE.getNusnetId(), 4);
+        Session second = createSession("Second");
+        second.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.ABSENT);
+        store.addSession(first);
+        store.addSession(second);
+
+        StudentStatistics statistics = store.get(ALICE.getNusnetId());
+        assertEquals(2, statistics.getSessionCount());
+        assertEquals(1, statistics.getCount(AttendanceType.PRESENT));
+        assertEquals(1, statistics.getCount(AttendanceType.ABSENT));
+        assertEquals(0, statistics.getCount(AttendanceType.NO_RECORD));
+        assertEquals(0.5, statistics.getAttendanceRate());
+        assertEquals(2, statistics.getAverageScore());
+        assertEquals(StudentStatistics.EMPTY, store.get(HOON.getNusnetId()));
+    }
+
+    @Test
+    public void get_recordsChangedAfterSessionAdded_statisticsUpdated() {
+        Session session = createSession("First");
+        store.addSession(session);
+
+        session.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        session.scoreStudentParticipation(ALICE.getNusnetId(), 3.25);
+        assertEquals(1, store.get(ALICE.getNusnetId()).getCount(AttendanceType.PRESENT));
+        assertEquals(3.25, store.get(ALICE.getNusnetId()).getScoreSum());
+
+        session.markAllStudentAttendances(AttendanceType.PRESENT);
+        session.scoreAllParticipation(1);
+        assertEquals(1, store.get(BENSON.getNusnetId()).getCount(AttendanceType.PRESENT));
+        assertEquals(1, store.get(ALICE.getNusnetId()).getScoreSum());
+
+        session.markAllStudentAttendances(AttendanceType.ABSENT);
+        assertEquals(1, store.get(ALICE.getNusnetId()).getCount(AttendanceType.ABSENT));
+        assertEquals(0, store.get(ALICE.getNusnetId()).getCount(AttendanceType.PRESENT));
+        assertEquals(1, store.get(ALICE.getNusnetId()).getSessionCount());
+    }
+
+    @Test
+    public void removeSession_sessionChangedLater_statisticsUnaffected() {
+        Session first = createSession("First");
+        Session second = createSession("Second");
+        store.addSession(first);
+        store.addSession(second);
+
+        store.removeSession(first.getSessionName());
+        first.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+
+        assertEquals(1, store.get(ALICE.getNusnetId()).getSessionCount());
+        assertEquals(0, store.get(ALICE.getNusnetId()).getCount(AttendanceType.PRESENT));
+
+        store.removeSession(second.getSessionName());
+        assertEquals(StudentStatistics.EMPTY, store.get(ALICE.getNusnetId()));
+    }
+
+    @Test
+    public void addSession_unloadedSession_countedWhenAdded() {
+        Session lazySession = createUnloadedSession("Lazy");
+        store.addSession(lazySession);
+        assertTrue(lazySession.isLoaded());
+        assertEquals(1, store.get(ALICE.getNusnetId()).getSessionCount());
+
+        lazySession.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        assertEquals(1, store.get(ALICE.getNusnetId()).getCount(AttendanceType.PRESENT));
+    }
+
+    @Test
+    public void addSession_sessionFailsToLoad_sessionLeftOut() {
+        Session brokenSession = new Session(new SessionName("Broken"), SESSION_DATE_TIME, studentTable -> {
+            throw new SessionLoadException("Broken", new IOException("dummy exception"));
+        });
+        store.addSession(brokenSession);
+        store.addSession(createSession("First"));
+
+        assertEquals(1, store.get(ALICE.getNusnetId()).getSessionCount());
+        assertEquals(Optional.empty(), store.getAll());
+    }
+
+    @Test
+    public void setSessions_savedStatistics_sessionsNotLoaded() {
+        List<Session> sessions = Arrays.asList(createUnloadedSession("First"), createUnloadedSession("Second"));
+        Map<NusnetId, StudentStatistics> savedStatistics = getStatisticsOf(createSession("First"),
+                createSession("Second"));
+
+        store.setSessions(sessions, Optional.of(savedStatistics));
+        assertEquals(2, store.get(ALICE.getNusnetId()).getSessionCount());
+        assertEquals(Optional.of(savedStatistics), store.getAll());
+        for (Session session : sessions) {
+            assertFalse(session.isLoaded());
+        }
+    }
+
+    @Test
+    public void get_savedSessionChangedAfterLoading_statisticsUpdated() {
+        Session session = createUnloadedSession("First");
+        store.setSessions(Collections.singletonList(session), Optional.of(getStatisticsOf(createSession("First"))));
+
+        session.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        assertEquals(1, store.get(ALICE.getNusnetId()).getCount(AttendanceType.PRESENT));
+        assertEquals(0, store.get(ALICE.getNusnetId()).getCount(AttendanceType.NO_RECORD));
+        assertEquals(1, store.get(ALICE.getNusnetId()).getSessionCount());
+    }
+
+    @Test
+    public void removeSession_unloadedSavedSession_recordsSubtracted() {
+        Session first = createUnloadedSession("First");
+        Session second = createUnloadedSession("Second");
+        store.setSessions(Arrays.asList(first, second),
+                Optional.of(getStatisticsOf(createSession("First"), createSession("Second"))));
+
+        store.removeSession(first.getSessionName());
+        assertEquals(1, store.get(ALICE.getNusnetId()).getSessionCount());
+        assertFalse(second.isLoaded());
+
+        // The removed session is no longer listened to once it has been loaded
+        first.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        assertEquals(0, store.get(ALICE.getNusnetId()).getCount(AttendanceType.PRESENT));
+    }
+
+    @Test
+    public void clear_sessionsAdded_allStatisticsRemoved() {
+        Session session = createSession("First");
+        store.addSession(session);
+        store.clear();
+        session.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+
+        assertEquals(StudentStatistics.EMPTY, store.get(ALICE.getNusnetId()));
+    }
+
+    @Test
+    public void get_sessionsCounted_noRecordsRead() {
+        List<ReadCountingList<StudentRecord>> recordsOfSessions = new ArrayList<>();
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            ReadCountingList<StudentRecord> studentRecords = new ReadCountingList<>(new ArrayList<>(
+                    StudentRecordListManager.of(TypicalStudents.getTypicalStudents()).asUnmodifiableObservableList()));
+            Session session = new Session(new SessionName("Session " + i), SESSION_DATE_TIME,
+                    StudentRecordListManager.backedBy(studentRecords));
+            session.markAllStudentAttendances(AttendanceType.PRESENT);
+            store.addSession(session);
+            recordsOfSessions.add(studentRecords);
+        }
+        recordsOfSessions.forEach(ReadCountingList::resetReads);
+
+        for (Student student : TypicalStudents.getTypicalStudents()) {
+            assertEquals(SESSION_COUNT, store.get(student.getNusnetId()).getCount(AttendanceType.PRESENT));
+        }
+
+        // The statistics of a student are kept up to date as records change, instead of being counted on each lookup
+        for (ReadCountingList<StudentRecord> studentRecords : recordsOfSessions) {
+            assertEquals(0, studentRecords.getReads());
+        }
+    }
+
+    private static Session createSession(String sessionName) {
+        return new Session(new SessionName(sessionName), SESSION_DATE_TIME, TypicalStudents.getTypicalStudents());
+    }
+
+    /**
+     * Returns a session whose records of the typical students are only made when they are first needed.
+     */
+    private static Session createUnloadedSession(String sessionName) {
+        return new Session(new SessionName(sessionName), SESSION_DATE_TIME, studentTable ->
+                StudentRecordListManager.of(TypicalStudents.getTypicalStudents()));
+    }
+
+    private static Map<NusnetId, StudentStatistics> getStatisticsOf(Session... sessions) {
+        StudentStatisticsStore store = new StudentStatisticsStore();
+        Arrays.stream(sessions).forEach(store::addSession);
+        return store.getAll().get();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.taskmaster.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.taskmaster.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
+import static seedu.taskmaster.testutil.TypicalStudents.CARL;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.taskmaster.testutil.StudentBuilder;
+
+public class FilteredStudentListTest {
+
+    private static final StudentMatchesKeywordsPredicate SEARCH_PREDICATE =
+            new StudentMatchesKeywordsPredicate(Arrays.asList("meier", "ho*"));
+
+    private final UniqueStudentList students = new UniqueStudentList();
+    private FilteredStudentList filteredStudents;
+    /** A copy of the students shown, kept up to date only through the changes reported by the list. */
+    private List<Student> observedStudents;
+
+    @BeforeEach
+    public void setUp() {
+        students.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+        filteredStudents = new FilteredStudentList(students);
+        observedStudents = new ArrayList<>(filteredStudents);
+        filteredStudents.addListener((ListChangeListener<Student>) this::applyChange);
+    }
+
+    @Test
+    public void setSearch_listChanged_showsCurrentMatchingStudents() {
+        filteredStudents.setSearch(SEARCH_PREDICATE);
+        assertShown(Collections.singletonList(BENSON));
+
+        students.add(0, HOON);
+        Student editedCarl = new StudentBuilder(CARL).withName("Carl Meier").build();
+        students.setStudent(CARL, editedCarl);
+        assertShown(Arrays.asList(HOON, BENSON, editedCarl));
+
+        students.remove(BENSON);
+        students.remove(ALICE);
+        assertShown(Arrays.asList(HOON, editedCarl));
+    }
+
+    @Test
+    public void setPredicate_afterSearch_showsStudentsPassingPredicate() {
+        filteredStudents.setSearch(SEARCH_PREDICATE);
+        filteredStudents.setPredicate(student -> !student.equals(BENSON));
+        assertShown(Arrays.asList(ALICE, CARL));
+
+        students.add(HOON);
+        assertShown(Arrays.asList(ALICE, CARL, HOON));
+
+        filteredStudents.setPredicate(PREDICATE_SHOW_ALL_STUDENTS);
+        assertShown(Arrays.asList(ALICE, BENSON, CARL, HOON));
+    }
+
+    /**
+     * Asserts that {@code expectedStudents} are shown, and that the changes reported by the list lead to them.
+     */
+    private void assertShown(List<Student> expectedStudents) {
+        assertEquals(expectedStudents, filteredStudents);
+        assertEquals(expectedStudents, observedStudents);
+    }
+
+    private void applyChange(ListChangeListener.Change<? extends Student> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                observedStudents.subList(change.getFrom(), change.getTo()).clear();
+                observedStudents.addAll(change.getFrom(), change.getList().subList(change.getFrom(), change.getTo()));
+                continue;
+            }
+            observedStudents.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            observedStudents.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.taskmaster.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class IncrementalStudentSearchTest {
+    private static final int STUDENT_COUNT = 10_000;
+
+    private final List<Student> students = SyntheticStudents.getStudents(STUDENT_COUNT);
+
+    @Test
+    public void find_keywordsTyped_matchesAsPredicateDoes() {
+        IncrementalStudentSearch search = new IncrementalStudentSearch();
+        assertEquals(Arrays.asList(students.get(42)), search.find(students, Collections.singletonList("E0000042")));
+        assertEquals(filter(students, "stud*", "e0000042"), search.find(students, Arrays.asList("stud*", "e0000042")));
+
+        // A keyword without a prefix wildcard matches only whole tokens
+        assertEquals(Collections.emptyList(), search.find(students, Collections.singletonList("e00000")));
+        assertEquals(Collections.emptyList(), search.find(students, Collections.singletonList("alex")));
+    }
+
+    @Test
+    public void find_prefixKeywordExtended_readsOnlyPreviousMatches() {
+        IncrementalStudentSearch search = new IncrementalStudentSearch();
+        search.find(students, Collections.singletonList("e0001*"));
+        assertEquals(STUDENT_COUNT, search.getStudentsRead());
+
+        List<Student> matches = search.find(students, Collections.singletonList("E00012*"));
+        assertEquals(1_000, search.getStudentsRead());
+        assertEquals(filter(students, "e00012*"), matches);
+
+        // A whole token starting with the prefix searched before
+        assertEquals(Arrays.asList(students.get(1234)), search.find(students, Collections.singletonList("e0001234")));
+        assertEquals(matches.size(), search.getStudentsRead());
+    }
+
+    @Test
+    public void find_searchNotNarrowed_readsEveryStudent() {
+        IncrementalStudentSearch search = new IncrementalStudentSearch();
+        search.find(students, Collections.singletonList("e00012*"));
+
+        // A shorter prefix, another keyword, or another snapshot of the students may match students not found before
+        assertEquals(filter(students, "e0001*"), search.find(students, Collections.singletonList("e0001*")));
+        assertEquals(STUDENT_COUNT, search.getStudentsRead());
+        assertEquals(filter(students, "e0001*", "e0002*"),
+                search.find(students, Arrays.asList("e0001*", "e0002*")));
+        assertEquals(STUDENT_COUNT, search.getStudentsRead());
+        List<Student> otherStudents = new ArrayList<>(students.subList(0, 1_500));
+        assertEquals(filter(otherStudents, "e00012*", "e00020*"),
+                search.find(otherStudents, Arrays.asList("e00012*", "e00020*")));
+        assertEquals(otherStudents.size(), search.getStudentsRead());
+
+        // A whole token extended by typing is another token, which the previous search did not match
+        search.find(students, Collections.singletonList("e000123"));
+        assertEquals(Arrays.asList(students.get(1234)), search.find(students, Collections.singletonList("e0001234")));
+        assertEquals(STUDENT_COUNT, search.getStudentsRead());
+    }
+
+    private static List<Student> filter(List<Student> students, String... keywords) {
+        StudentMatchesKeywordsPredicate predicate = new StudentMatchesKeywordsPredicate(Arrays.asList(keywords));
+        List<Student> matches = new ArrayList<>();
+        for (Student student : students) {
+            if (predicate.test(student)) {
+                matches.add(student);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.taskmaster.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.testutil.StudentBuilder;
+
+public class StudentMatchesKeywordsPredicateTest {
+
+    private static final Student ALICE_BOB = new StudentBuilder().withName("Alice Bob").withTelegram("alice_b")
+            .withEmail("alice@email.com").withNusnetId("e0271188").build();
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        StudentMatchesKeywordsPredicate firstPredicate = new StudentMatchesKeywordsPredicate(firstPredicateKeywordList);
+        StudentMatchesKeywordsPredicate secondPredicate =
+                new StudentMatchesKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new StudentMatchesKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_keywordsMatch_returnsTrue() {
+        // Only one matching keyword, in mixed case
+        assertTrue(new StudentMatchesKeywordsPredicate(Arrays.asList("Carol", "bOB")).test(ALICE_BOB));
+
+        // NUSNET ID, email and Telegram handle
+        assertTrue(new StudentMatchesKeywordsPredicate(Collections.singletonList("E0271188")).test(ALICE_BOB));
+        assertTrue(new StudentMatchesKeywordsPredicate(Collections.singletonList("alice@email.com")).test(ALICE_BOB));
+        assertTrue(new StudentMatchesKeywordsPredicate(Collections.singletonList("alice_b")).test(ALICE_BOB));
+
+        // Prefixes
+        assertTrue(new StudentMatchesKeywordsPredicate(Collections.singletonList("Ali*")).test(ALICE_BOB));
+        assertTrue(new StudentMatchesKeywordsPredicate(Collections.singletonList("e027*")).test(ALICE_BOB));
+    }
+
+    @Test
+    public void test_keywordsDoNotMatch_returnsFalse() {
+        // Zero keywords
+        assertFalse(new StudentMatchesKeywordsPredicate(Collections.emptyList()).test(ALICE_BOB));
+
+        // Part of a word without a prefix wildcard
+        assertFalse(new StudentMatchesKeywordsPredicate(Arrays.asList("Ali", "e027", "email")).test(ALICE_BOB));
+
+        // Prefix of no word
+        assertFalse(new StudentMatchesKeywordsPredicate(Collections.singletonList("lice*")).test(ALICE_BOB));
+    }
+}
@@ -9,11 +9,15 @@ import static seedu.taskmaster.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.taskmaster.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
 import static seedu.taskmaster.testutil.TypicalStudents.BOB;
+import static seedu.taskmaster.testutil.TypicalStudents.CARL;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -60,6 +64,33 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newStudents_addedAfterExistingStudents() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.addAll(Arrays.asList(BOB, HOON));
+
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.setStudents(Arrays.asList(ALICE, BOB, HOON));
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+
+        // The added students can be found by their NUSNET ID
+        uniqueStudentList.remove(HOON);
+        assertTrue(uniqueStudentList.contains(BOB));
+        assertFalse(uniqueStudentList.contains(HOON));
+    }
+
+    @Test
+    public void addAll_studentAlreadyInList_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, ALICE)));
+        assertFalse(uniqueStudentList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicateStudents_throwsDuplicateStudentException() {
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, BOB)));
+    }
+
     @Test
     public void setStudent_nullTargetStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent(null, ALICE));
@@ -164,6 +195,52 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void remove_studentBeforeOthers_laterStudentsStillFound() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+        uniqueStudentList.remove(ALICE);
+
+        Student editedCarl = new StudentBuilder(CARL).withTelegram(VALID_TELEGRAM_BOB).build();
+        uniqueStudentList.setStudent(CARL, editedCarl);
+        uniqueStudentList.remove(BENSON);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertFalse(uniqueStudentList.contains(BENSON));
+        assertEquals(Collections.singletonList(editedCarl), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void get_studentRemovedBefore_findsStudentsByNusnetId() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+        uniqueStudentList.remove(ALICE);
+
+        assertEquals(Optional.of(CARL), uniqueStudentList.get(CARL.getNusnetId()));
+        assertEquals(Optional.empty(), uniqueStudentList.get(ALICE.getNusnetId()));
+    }
+
+    @Test
+    public void remove_sameIdentityDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withTelegram(VALID_TELEGRAM_BOB).build();
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(editedAlice));
+        assertTrue(uniqueStudentList.contains(editedAlice));
+    }
+
+    @Test
+    public void findMatchingStudents_listChanged_matchesCurrentStudentsInOrder() {
+        uniqueStudentList.setStudents(Arrays.asList(ALICE, BENSON, CARL));
+        StudentMatchesKeywordsPredicate predicate =
+                new StudentMatchesKeywordsPredicate(Arrays.asList("meier", "ho*"));
+        assertEquals(Collections.singletonList(BENSON), uniqueStudentList.findMatchingStudents(predicate));
+
+        uniqueStudentList.add(0, HOON);
+        Student editedCarl = new StudentBuilder(CARL).withName("Carl Meier").build();
+        uniqueStudentList.setStudent(CARL, editedCarl);
+        assertEquals(Arrays.asList(HOON, BENSON, editedCarl), uniqueStudentList.findMatchingStudents(predicate));
+
+        uniqueStudentList.remove(BENSON);
+        assertEquals(Arrays.asList(HOON, editedCarl), uniqueStudentList.findMatchingStudents(predicate));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
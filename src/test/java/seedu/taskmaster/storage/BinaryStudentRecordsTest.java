@@ -0,0 +1,154 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.taskmaster.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.ClassParticipation;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class BinaryStudentRecordsTest {
+
+    private static final int RECORD_COUNT = 5;
+    private static final SessionName SESSION_NAME = new SessionName("Tutorial 1");
+
+    private final List<StudentRecord> records = new ArrayList<>();
+    private final List<NusnetId> nusnetIds = new ArrayList<>();
+    private final List<Name> names = new ArrayList<>();
+
+    @Test
+    public void read_recordsWritten_sameRecords() throws Exception {
+        assertEquals(records, readRecords());
+    }
+
+    @Test
+    public void read_tooFewBytes_throwsEofException() throws Exception {
+        ByteBuffer contents = writeRecords();
+        contents.limit(contents.limit() - 1);
+        assertThrows(EOFException.class, () -> BinaryStudentRecords.read(SESSION_NAME, contents, RECORD_COUNT,
+                nusnetIds, names));
+    }
+
+    @Test
+    public void get_invalidRecord_throwsSessionLoadException() throws Exception {
+        BinaryStudentRecords studentRecords = BinaryStudentRecords.read(SESSION_NAME, writeInvalidLastRecord(),
+                RECORD_COUNT, nusnetIds, names);
+
+        assertEquals(records.get(0), studentRecords.get(0));
+        assertThrows(SessionLoadException.class, () -> studentRecords.get(RECORD_COUNT - 1));
+    }
+
+    @Test
+    public void checkRecords_invalidRecord_throwsIllegalValueException() throws Exception {
+        BinaryStudentRecords studentRecords = BinaryStudentRecords.read(SESSION_NAME, writeInvalidLastRecord(),
+                RECORD_COUNT, nusnetIds, names);
+        assertThrows(IllegalValueException.class, studentRecords::checkRecords);
+    }
+
+    @Test
+    public void checkBeforeUse_duplicateNusnetId_throwsSessionLoadException() throws Exception {
+        ByteBuffer contents = writeRecords();
+        // The NUSNET ID column comes first, so the second record takes the NUSNET ID of the first
+        contents.putInt(Integer.BYTES, 0);
+        BinaryStudentRecords studentRecords = BinaryStudentRecords.read(SESSION_NAME, contents, RECORD_COUNT,
+                nusnetIds, names);
+        assertThrows(SessionLoadException.class, studentRecords::checkBeforeUse);
+    }
+
+    @Test
+    public void writeColumnsTo_recordsRead_sameColumnsWritten() throws Exception {
+        ByteBuffer contents = writeRecords();
+        BinaryStudentRecords studentRecords = BinaryStudentRecords.read(SESSION_NAME, contents.duplicate(),
+                RECORD_COUNT, nusnetIds, names);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            studentRecords.writeColumnsTo(out);
+        }
+        assertEquals(contents, ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    @Test
+    public void set_recordReplaced_copyUnaffected() throws Exception {
+        BinaryStudentRecords studentRecords = readRecords();
+        BinaryStudentRecords copy = studentRecords.copy();
+        StudentRecord replacement = absentRecordOf(records.get(2));
+
+        assertEquals(records.get(2), studentRecords.set(2, replacement));
+        assertEquals(replacement, studentRecords.get(2));
+        assertEquals(records.get(2), copy.get(2));
+    }
+
+    @Test
+    public void addAndRemove_afterSet_replacedRecordKept() throws Exception {
+        BinaryStudentRecords studentRecords = readRecords();
+        StudentRecord replacement = absentRecordOf(records.get(0));
+        studentRecords.set(0, replacement);
+
+        studentRecords.add(records.get(1));
+        studentRecords.remove(1);
+
+        List<StudentRecord> expectedRecords = new ArrayList<>(records);
+        expectedRecords.set(0, replacement);
+        expectedRecords.remove(1);
+        expectedRecords.add(records.get(1));
+        assertEquals(expectedRecords, studentRecords);
+    }
+
+    private static StudentRecord absentRecordOf(StudentRecord record) {
+        return new StudentRecord(record.getName(), record.getNusnetId(), AttendanceType.ABSENT,
+                record.getClassParticipation());
+    }
+
+    private BinaryStudentRecords readRecords() throws Exception {
+        return BinaryStudentRecords.read(SESSION_NAME, writeRecords(), RECORD_COUNT, nusnetIds, names);
+    }
+
+    /**
+     * Returns the columns of the records with the score of the last record made NaN.
+     */
+    private ByteBuffer writeInvalidLastRecord() throws Exception {
+        ByteBuffer contents = writeRecords();
+        contents.putDouble(contents.limit() - Double.BYTES, Double.NaN);
+        return contents;
+    }
+
+    private ByteBuffer writeRecords() throws Exception {
+        Map<NusnetId, Integer> nusnetIdPositions = new HashMap<>();
+        Map<Name, Integer> namePositions = new HashMap<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            Student student = SyntheticStudents.getStudent(i);
+            StudentRecord record = new StudentRecord(student.getName(), student.getNusnetId(),
+                    AttendanceType.PRESENT, new ClassParticipation(i));
+            records.add(record);
+            nusnetIds.add(record.getNusnetId());
+            names.add(record.getName());
+            nusnetIdPositions.put(record.getNusnetId(), i);
+            namePositions.put(record.getName(), i);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            BinaryStudentRecords.write(out, records, nusnetIdPositions, namePositions);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,300 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.Assert.assertThrows;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
+import static seedu.taskmaster.testutil.TypicalStudents.getScoredTaskmaster;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionList;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+import seedu.taskmaster.testutil.SyntheticStudents;
+
+public class BinaryTaskmasterStorageTest {
+    private static final Path NOT_BINARY_FILE = Paths.get("src", "test", "data", "JsonTaskmasterStorageTest",
+            "notJsonFormatTaskmaster.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath_jsonFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "taskmaster.bin"),
+                BinaryTaskmasterStorage.toBinaryFilePath(Paths.get("data", "taskmaster.json")));
+        assertEquals(Paths.get("data", "taskmaster.bin"),
+                BinaryTaskmasterStorage.toBinaryFilePath(Paths.get("data", "taskmaster")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        BinaryTaskmasterStorage storage = createStorage();
+        assertFalse(storage.readTaskmaster().isPresent());
+        assertFalse(storage.readSessionList().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_throwsDataConversionException() {
+        BinaryTaskmasterStorage storage = createStorage();
+        assertThrows(DataConversionException.class, () -> storage.readTaskmaster(NOT_BINARY_FILE));
+        assertThrows(DataConversionException.class, () -> storage.readSessionList(NOT_BINARY_FILE));
+    }
+
+    @Test
+    public void readSessionList_studentListFile_throwsDataConversionException() throws Exception {
+        BinaryTaskmasterStorage storage = createStorage();
+        storage.saveTaskmaster(getTypicalTaskmaster());
+        assertThrows(DataConversionException.class, () -> storage.readSessionList(storage.getTaskmasterFilePath()));
+    }
+
+    @Test
+    public void readSessionList_truncatedFile_throwsDataConversionException() throws Exception {
+        BinaryTaskmasterStorage storage = createStorage();
+        storage.saveSessionList(getScoredTaskmaster());
+        byte[] contents = Files.readAllBytes(storage.getSessionListFilePath());
+        Files.write(storage.getSessionListFilePath(), Arrays.copyOf(contents, contents.length / 2));
+
+        assertThrows(DataConversionException.class, storage::readSessionList);
+    }
+
+    @Test
+    public void readAndSaveTaskmaster_allInOrder_success() throws Exception {
+        BinaryTaskmasterStorage storage = createStorage();
+        Taskmaster original = getTypicalTaskmaster();
+
+        storage.saveTaskmaster(original);
+        assertEquals(original.getStudentList(), storage.readTaskmaster().get().getStudentList());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addStudent(HOON);
+        storage.saveTaskmaster(original);
+        assertEquals(original.getStudentList(), storage.readTaskmaster().get().getStudentList());
+    }
+
+    @Test
+    public void readAndSaveSessionList_allInOrder_success() throws Exception {
+        BinaryTaskmasterStorage storage = createStorage();
+        Taskmaster original = getScoredTaskmaster();
+
+        storage.saveSessionList(original);
+        SessionList readBack = storage.readSessionList().get();
+        assertEquals(original.getSessionList(), readBack.asUnmodifiableObservableList());
+        assertFalse(readBack.isModified());
+
+        // Every attendance type is written and read back
+        Session session = original.getSessionList().get(0);
+        session.markAllStudentAttendances(AttendanceType.ABSENT);
+        session.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.PRESENT);
+        storage.saveSessionList(original);
+        assertEquals(original.getSessionList(), storage.readSessionList().get().asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void readSessionList_mapped_sessionsLoadedOnDemand() throws Exception {
+        BinaryTaskmasterStorage storage = createMappedStorage();
+        Taskmaster original = getScoredTaskmaster();
+        storage.saveSessionList(original);
+
+        SessionList readBack = storage.readSessionList().get();
+        Session session = readBack.asUnmodifiableObservableList().get(0);
+        assertFalse(session.isLoaded());
+        assertFalse(readBack.isModified());
+
+        assertEquals(original.getSessionList(), readBack.asUnmodifiableObservableList());
+        assertTrue(session.isLoaded());
+    }
+
+    @Test
+    public void readSessionList_mappedInvalidRecord_throwsSessionLoadExceptionWhenDecoded() throws Exception {
+        BinaryTaskmasterStorage storage = createMappedStorage();
+        writeInvalidLastRecord(storage);
+
+        // Only the header and tables are checked when the file is opened, so the invalid record is found when read
+        SessionList readBack = storage.readSessionList().get();
+        List<Session> sessions = readBack.asUnmodifiableObservableList();
+        ObservableList<StudentRecord> studentRecords = sessions.get(sessions.size() - 1).getStudentRecords();
+        studentRecords.get(0);
+        assertThrows(SessionLoadException.class, () -> studentRecords.get(studentRecords.size() - 1));
+    }
+
+    @Test
+    public void readSessionList_invalidRecord_throwsDataConversionException() throws Exception {
+        BinaryTaskmasterStorage storage = createStorage();
+        writeInvalidLastRecord(storage);
+
+        assertThrows(DataConversionException.class, storage::readSessionList);
+    }
+
+    @Test
+    public void saveSessionList_mappedSessionChanged_changesReadBack() throws Exception {
+        BinaryTaskmasterStorage storage = createMappedStorage();
+        storage.saveSessionList(getScoredTaskmaster());
+
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setSessions(storage.readSessionList().get().asUnmodifiableObservableList());
+        Session session = taskmaster.getSessionList().get(0);
+        session.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.ABSENT);
+
+        // The file is replaced while it is still mapped by the sessions that are being saved
+        storage.saveSessionList(taskmaster);
+        assertEquals(taskmaster.getSessionList(), storage.readSessionList().get().asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void saveSessionList_mappedSessionsUnchanged_recordsCopiedWithoutLoading() throws Exception {
+        BinaryTaskmasterStorage storage = createMappedStorage();
+        storage.saveSessionList(getScoredTaskmaster());
+
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setSessionList(storage.readSessionList().get());
+        Session changedSession = taskmaster.getSessionList().get(0);
+        changedSession.markStudentAttendance(ALICE.getNusnetId(), AttendanceType.ABSENT);
+        Session newSession = new Session(new SessionName("New session"),
+                new SessionDateTime(LocalDateTime.of(2020, 11, 2, 10, 30)), Arrays.asList(ALICE, HOON));
+        taskmaster.addSession(newSession);
+
+        storage.saveSessionList(taskmaster);
+        for (Session session : taskmaster.getSessionList()) {
+            if (session != changedSession && session != newSession) {
+                assertFalse(session.isLoaded());
+            }
+        }
+        assertEquals(taskmaster.getSessionList(), storage.readSessionList().get().asUnmodifiableObservableList());
+
+        // The sessions written by the previous save are copied from the file it wrote
+        taskmaster.markAsSaved();
+        newSession.markStudentAttendance(HOON.getNusnetId(), AttendanceType.PRESENT);
+        storage.saveSessionList(taskmaster);
+        assertEquals(taskmaster.getSessionList(), storage.readSessionList().get().asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void saveSessionList_unmappedSessionsUnchanged_recordsCopiedWithoutReading() throws Exception {
+        BinaryTaskmasterStorage storage = createStorage();
+        storage.saveSessionList(getScoredTaskmaster());
+        SessionList savedSessionList = storage.readSessionList().get();
+
+        // Unchanged sessions whose records cannot be read, so that the save only succeeds if it copies them
+        Taskmaster taskmaster = new Taskmaster();
+        for (Session session : savedSessionList.asUnmodifiableObservableList()) {
+            taskmaster.addSession(new Session(session.getSessionName(), session.getSessionDateTime(), studentTable -> {
+                throw new SessionLoadException(session.getSessionName().toString(),
+                        new IOException("Records of unchanged sessions should not be read"));
+            }));
+        }
+        taskmaster.markAsSaved();
+
+        storage.saveSessionList(taskmaster);
+        assertEquals(savedSessionList.asUnmodifiableObservableList(),
+                storage.readSessionList().get().asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void readSessionList_savedWithStatistics_statisticsRead() throws Exception {
+        BinaryTaskmasterStorage storage = createMappedStorage();
+        Taskmaster taskmaster = getScoredTaskmaster();
+        storage.saveSessionList(taskmaster);
+
+        SessionList readBack = storage.readSessionList().get();
+        assertEquals(taskmaster.getStatisticsOfEveryStudent(), readBack.getSavedStatistics());
+        readBack.asUnmodifiableObservableList().forEach(session -> assertFalse(session.isLoaded()));
+    }
+
+    @Test
+    public void saveSessionList_largeSessionList_muchSmallerThanJson() throws Exception {
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setStudents(SyntheticStudents.getStudents(300));
+        for (int week = 1; week <= 12; week++) {
+            Session session = new Session(new SessionName("Week " + week),
+                    new SessionDateTime(LocalDateTime.of(2020, 8, 10, 10, 0).plusWeeks(week)),
+                    taskmaster.getStudentList());
+            // Marks every student, so that the json records files hold every record rather than only a roster
+            session.markAllStudentAttendances(AttendanceType.PRESENT);
+            taskmaster.addSession(session);
+        }
+
+        BinaryTaskmasterStorage binaryStorage = createStorage();
+        JsonTaskmasterStorage jsonStorage = new JsonTaskmasterStorage(testFolder.resolve("taskmaster.json"),
+                testFolder.resolve("session_list.json"));
+        binaryStorage.saveSessionList(taskmaster);
+        jsonStorage.saveSessionList(taskmaster);
+
+        long binarySize = Files.size(binaryStorage.getSessionListFilePath());
+        long jsonSize = Files.size(jsonStorage.getSessionListFilePath())
+                + getTotalSize(JsonShardedSessionList.getRecordsDirectory(jsonStorage.getSessionListFilePath()));
+        assertTrue(binarySize * 5 < jsonSize, "binary: " + binarySize + " bytes, json: " + jsonSize + " bytes");
+    }
+
+    @Test
+    public void readSessionList_semester_recordsShareObjectsOfStudentList() throws Exception {
+        BinaryTaskmasterStorage storage = createStorage();
+        Taskmaster semester = SyntheticStudents.getSemester(300, 26);
+        storage.saveTaskmaster(semester);
+        storage.saveSessionList(semester);
+
+        JsonTaskmasterStorageTest.assertRecordsShareObjectsOfStudentList(storage.readTaskmaster().get(),
+                storage.readSessionList().get());
+    }
+
+    /**
+     * Saves the scored taskmaster to {@code storage} with the score of the last record of the last session made NaN.
+     */
+    private static void writeInvalidLastRecord(BinaryTaskmasterStorage storage) throws Exception {
+        Taskmaster taskmaster = getScoredTaskmaster();
+        storage.saveSessionList(taskmaster);
+
+        // The statistics of each student, written after the records, are its NUSNET ID followed by four counts
+        int statisticsSize = 1 + Integer.BYTES + taskmaster.getStatisticsOfEveryStudent().get().keySet().stream()
+                .mapToInt(nusnetId -> Short.BYTES + nusnetId.value.length() + 3 * Integer.BYTES + Long.BYTES)
+                .sum();
+        // The byte before the statistics is part of the score of the last record of the last session, which
+        // becomes NaN
+        byte[] contents = Files.readAllBytes(storage.getSessionListFilePath());
+        int scoreEnd = contents.length - statisticsSize;
+        contents[scoreEnd - 8] = (byte) 0xff;
+        contents[scoreEnd - 7] = (byte) 0xff;
+        Files.write(storage.getSessionListFilePath(), contents);
+    }
+
+    private BinaryTaskmasterStorage createStorage() {
+        return new BinaryTaskmasterStorage(testFolder.resolve("taskmaster.bin"),
+                testFolder.resolve("session_list.bin"));
+    }
+
+    private BinaryTaskmasterStorage createMappedStorage() {
+        return new BinaryTaskmasterStorage(testFolder.resolve("taskmaster.bin"),
+                testFolder.resolve("session_list.bin"), true);
+    }
+
+    private static long getTotalSize(Path directory) throws IOException {
+        long totalSize = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                totalSize += Files.size(file);
+            }
+        }
+        return totalSize;
+    }
+}
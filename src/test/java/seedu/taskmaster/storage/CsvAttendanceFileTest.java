@@ -0,0 +1,86 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
+import static seedu.taskmaster.testutil.TypicalStudents.CARL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.record.ClassParticipation;
+import seedu.taskmaster.model.record.StudentRecordListManager.EditStudentRecordDescriptor;
+import seedu.taskmaster.model.student.NusnetId;
+
+public class CsvAttendanceFileTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvAttendanceFileTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_validFile_everyStudentPresentWithLastScore() throws Exception {
+        Map<NusnetId, EditStudentRecordDescriptor> edits =
+                CsvAttendanceFile.read(TEST_DATA_FOLDER.resolve("validAttendance.csv"));
+
+        assertEquals(Arrays.asList(ALICE.getNusnetId(), BENSON.getNusnetId(), CARL.getNusnetId()),
+                new ArrayList<>(edits.keySet()));
+        for (EditStudentRecordDescriptor descriptor : edits.values()) {
+            assertEquals(Optional.of(AttendanceType.PRESENT), descriptor.getAttendanceType());
+        }
+        assertEquals(Optional.of(new ClassParticipation(7.26)),
+                edits.get(ALICE.getNusnetId()).getClassParticipation());
+        // A later scan without a score keeps the earlier score
+        assertEquals(Optional.of(new ClassParticipation(4.5)),
+                edits.get(BENSON.getNusnetId()).getClassParticipation());
+        assertEquals(Optional.of(new ClassParticipation(3)),
+                edits.get(CARL.getNusnetId()).getClassParticipation());
+    }
+
+    @Test
+    public void read_noHeader_firstLineRead() throws Exception {
+        Path filePath = testFolder.resolve("attendance.csv");
+        Files.write(filePath, "e0123456,2020-11-01T10:29:41\n".getBytes(StandardCharsets.UTF_8));
+
+        Map<NusnetId, EditStudentRecordDescriptor> edits = CsvAttendanceFile.read(filePath);
+        assertEquals(1, edits.size());
+        assertFalse(edits.get(ALICE.getNusnetId()).getClassParticipation().isPresent());
+    }
+
+    @Test
+    public void read_invalidTimestamp_throwsDataConversionException() {
+        DataConversionException thrown = assertThrows(DataConversionException.class, () ->
+                CsvAttendanceFile.read(TEST_DATA_FOLDER.resolve("invalidTimestampAttendance.csv")));
+        assertEquals(String.format(CsvAttendanceFile.MESSAGE_INVALID_LINE, 2,
+                CsvAttendanceFile.MESSAGE_INVALID_TIMESTAMP), thrown.getCause().getMessage());
+    }
+
+    @Test
+    public void read_invalidLines_throwsDataConversionException() throws Exception {
+        assertInvalidLine("e0123456\n");
+        assertInvalidLine("e0123456,2020-11-01T10:29:41,5,extra\n");
+        assertInvalidLine("e0123456,2020-11-01T10:29:41\nE0123456,2020-11-01T10:29:41\n");
+        assertInvalidLine("e0123456,2020-11-01T10:29:41,ten\n");
+        assertInvalidLine("e0123456,2020-11-01T10:29:41,-1\n");
+        assertInvalidLine("e0123456,2020-11-01T10:29:41,10.5\n");
+    }
+
+    private void assertInvalidLine(String contents) throws Exception {
+        Path filePath = testFolder.resolve("attendance.csv");
+        Files.write(filePath, contents.getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> CsvAttendanceFile.read(filePath));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.taskmaster.testutil.Assert.assertThrows;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalScoredSession;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalSession;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.model.record.StudentRecordList;
+import seedu.taskmaster.model.record.StudentTable;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+
+public class CsvSessionFileTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvSessionFileTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_sessions_oneLinePerStudentRecord() throws Exception {
+        Path filePath = testFolder.resolve("export.csv");
+        CsvSessionFile.write(Arrays.asList(getTypicalSession(), getTypicalScoredSession()), filePath);
+
+        assertEquals(Files.readAllLines(TEST_DATA_FOLDER.resolve("typicalSessions.csv"), StandardCharsets.UTF_8),
+                Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_noSessions_headerOnly() throws Exception {
+        Path filePath = testFolder.resolve("export.csv");
+        CsvSessionFile.write(Collections.emptyList(), filePath);
+
+        assertEquals(Collections.singletonList(CsvSessionFile.HEADER),
+                Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void write_sessionCannotBeLoaded_fileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("export.csv");
+        List<String> previousContents = Collections.singletonList("previous export");
+        Files.write(filePath, previousContents);
+        Session unloadableSession = new Session(getTypicalSession().getSessionName(),
+                getTypicalSession().getSessionDateTime(), CsvSessionFileTest::failToLoad);
+
+        assertThrows(SessionLoadException.class, () ->
+                CsvSessionFile.write(Arrays.asList(getTypicalSession(), unloadableSession), filePath));
+        assertEquals(previousContents, Files.readAllLines(filePath, StandardCharsets.UTF_8));
+        assertFalse(Files.exists(testFolder.resolve("export.csv.tmp")));
+    }
+
+    private static StudentRecordList failToLoad(StudentTable studentTable) {
+        throw new SessionLoadException("Typical session", new IOException("unreadable"));
+    }
+}
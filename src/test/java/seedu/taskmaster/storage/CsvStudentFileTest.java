@@ -0,0 +1,51 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
+import static seedu.taskmaster.testutil.TypicalStudents.CARL;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.taskmaster.model.student.Email;
+import seedu.taskmaster.model.student.Name;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Telegram;
+import seedu.taskmaster.model.tag.Tag;
+
+public class CsvStudentFileTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvStudentFileTest");
+
+    @Test
+    public void read_validFile_allStudentsRead() throws Exception {
+        ImportedStudents importedStudents = CsvStudentFile.read(TEST_DATA_FOLDER.resolve("validClassList.csv"));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), importedStudents.getStudents());
+        assertTrue(importedStudents.getInvalidLines().isEmpty());
+    }
+
+    @Test
+    public void read_invalidLines_everyInvalidLineReported() throws Exception {
+        ImportedStudents importedStudents = CsvStudentFile.read(TEST_DATA_FOLDER.resolve("invalidClassList.csv"));
+
+        assertEquals(Arrays.asList(ALICE, CARL), importedStudents.getStudents());
+        assertEquals(Arrays.asList(
+                invalidLine(2, Telegram.MESSAGE_CONSTRAINTS),
+                invalidLine(4, String.format(CsvStudentFile.MESSAGE_DUPLICATE_STUDENT, 1)),
+                invalidLine(5, Email.MESSAGE_CONSTRAINTS),
+                invalidLine(6, Tag.MESSAGE_CONSTRAINTS),
+                invalidLine(7, CsvStudentFile.MESSAGE_WRONG_NUMBER_OF_FIELDS),
+                invalidLine(8, Name.MESSAGE_CONSTRAINTS),
+                invalidLine(9, NusnetId.MESSAGE_CONSTRAINTS)),
+                importedStudents.getInvalidLines());
+    }
+
+    private static String invalidLine(int lineNumber, String message) {
+        return String.format(CsvStudentFile.MESSAGE_INVALID_LINE, lineNumber, message);
+    }
+}
@@ -1,15 +1,19 @@
 package seedu.taskmaster.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.FileUtil;
 import seedu.taskmaster.commons.util.JsonUtil;
+import seedu.taskmaster.model.Taskmaster;
 import seedu.taskmaster.model.session.SessionList;
 import seedu.taskmaster.testutil.TypicalStudents;
 
@@ -21,6 +25,9 @@ public class JsonSerializableSessionListTest {
     private static final Path INVALID_SESSION_LIST_FILE = TEST_DATA_FOLDER.resolve("invalidSessionList.json");
     private static final Path DUPLICATE_SESSION_FILE = TEST_DATA_FOLDER.resolve("duplicateNusnetIdSessionList.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalSessionListFile_success() throws Exception {
         JsonSerializableSessionList dataFromFile = JsonUtil.readJsonFile(TYPICAL_SESSION_LIST_FILE,
@@ -45,4 +52,39 @@ public class JsonSerializableSessionListTest {
         assertThrows(IllegalValueException.class, JsonSerializableSessionList.MESSAGE_DUPLICATE_SESSION,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void readModelType_typicalSessionListFile_success() throws Exception {
+        SessionList sessionListFromFile = JsonSerializableSessionList.readModelType(TYPICAL_SESSION_LIST_FILE).get();
+        assertEquals(TypicalStudents.getTypicalSessionList(), sessionListFromFile);
+    }
+
+    @Test
+    public void readModelType_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonSerializableSessionList.readModelType(TEST_DATA_FOLDER.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void readModelType_invalidSessionListFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                JsonSerializableSessionList.readModelType(INVALID_SESSION_LIST_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicateSessionName_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableSessionList.MESSAGE_DUPLICATE_SESSION, () ->
+                JsonSerializableSessionList.readModelType(DUPLICATE_SESSION_FILE));
+    }
+
+    @Test
+    public void save_typicalSessionList_sameAsSerializedSessionList() throws Exception {
+        Taskmaster taskmaster = TypicalStudents.getTypicalTaskmaster();
+        taskmaster.setSessions(TypicalStudents.getTypicalScoredSessionList().asUnmodifiableObservableList());
+        Path filePath = testFolder.resolve("sessionList.json");
+
+        JsonSerializableSessionList.save(taskmaster, filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableSessionList(taskmaster)),
+                FileUtil.readFromFile(filePath));
+    }
 }
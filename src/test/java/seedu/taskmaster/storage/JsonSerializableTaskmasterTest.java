@@ -1,15 +1,19 @@
 package seedu.taskmaster.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.taskmaster.commons.exceptions.IllegalValueException;
+import seedu.taskmaster.commons.util.FileUtil;
 import seedu.taskmaster.commons.util.JsonUtil;
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.Taskmaster;
 import seedu.taskmaster.testutil.TypicalStudents;
 
@@ -20,6 +24,9 @@ public class JsonSerializableTaskmasterTest {
     private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentTaskmaster.json");
     private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentTaskmaster.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalStudentsFile_success() throws Exception {
         JsonSerializableTaskmaster dataFromFile = JsonUtil.readJsonFile(TYPICAL_STUDENTS_FILE,
@@ -44,4 +51,36 @@ public class JsonSerializableTaskmasterTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalStudentsFile_success() throws Exception {
+        ReadOnlyTaskmaster taskmasterFromFile = JsonSerializableTaskmaster.readModelType(TYPICAL_STUDENTS_FILE).get();
+        assertEquals(TypicalStudents.getTypicalTaskmaster().getStudentList(), taskmasterFromFile.getStudentList());
+    }
+
+    @Test
+    public void readModelType_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonSerializableTaskmaster.readModelType(TEST_DATA_FOLDER.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void readModelType_invalidStudentFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonSerializableTaskmaster.readModelType(INVALID_STUDENT_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicateStudents_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableTaskmaster.MESSAGE_DUPLICATE_STUDENT, () ->
+                JsonSerializableTaskmaster.readModelType(DUPLICATE_STUDENT_FILE));
+    }
+
+    @Test
+    public void save_typicalStudents_sameAsSerializedTaskmaster() throws Exception {
+        Taskmaster typicalStudentsTaskmaster = TypicalStudents.getTypicalTaskmaster();
+        Path filePath = testFolder.resolve("taskmaster.json");
+
+        JsonSerializableTaskmaster.save(typicalStudentsTaskmaster, filePath);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTaskmaster(typicalStudentsTaskmaster)),
+                FileUtil.readFromFile(filePath));
+    }
 }
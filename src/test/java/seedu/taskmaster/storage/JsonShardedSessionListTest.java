@@ -0,0 +1,314 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.commons.util.FileUtil;
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionList;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.session.exceptions.SessionLoadException;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.testutil.SyntheticStudents;
+import seedu.taskmaster.testutil.TypicalStudents;
+
+public class JsonShardedSessionListTest {
+
+    private static final Path LEGACY_SESSION_LIST_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableSessionListTest", "typicalSessionList.json");
+    private static final FileTime OLD_FILE_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSave_allInOrder_success() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Taskmaster original = getTaskmasterWithTwoSessions();
+
+        JsonShardedSessionList.save(original, manifestFile, true);
+        SessionList readBack = JsonShardedSessionList.read(manifestFile, false).get();
+        assertEquals(original.getSessionList(), readBack.asUnmodifiableObservableList());
+        assertFalse(readBack.isModified());
+
+        readBack = JsonShardedSessionList.read(manifestFile, true).get();
+        assertEquals(original.getSessionList(), readBack.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonShardedSessionList.read(testFolder.resolve("missing.json"), true).isPresent());
+    }
+
+    @Test
+    public void read_lazy_loadsRecordsWhenFirstNeeded() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Taskmaster original = getTaskmasterWithTwoSessions();
+        JsonShardedSessionList.save(original, manifestFile, true);
+
+        Session session = JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList().get(0);
+        assertFalse(session.isLoaded());
+        assertEquals(original.getSessionList().get(0).getStudentRecords(), session.getStudentRecords());
+        assertTrue(session.isLoaded());
+        assertFalse(session.isModified());
+    }
+
+    @Test
+    public void read_lazyWithMissingRecordsFile_throwsSessionLoadExceptionWhenLoaded() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Taskmaster original = getTaskmasterWithTwoSessions();
+        JsonShardedSessionList.save(original, manifestFile, true);
+        Session originalSession = original.getSessionList().get(0);
+        Files.delete(JsonShardedSessionList.getRecordsFile(
+                JsonShardedSessionList.getRecordsDirectory(manifestFile), originalSession.getSessionName()));
+
+        Session session = JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList().get(0);
+        assertThrows(SessionLoadException.class, session::getStudentRecords);
+    }
+
+    @Test
+    public void save_update_rewritesOnlyModifiedSessions() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Path recordsDirectory = JsonShardedSessionList.getRecordsDirectory(manifestFile);
+        JsonShardedSessionList.save(getTaskmasterWithTwoSessions(), manifestFile, true);
+
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setSessions(JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList());
+        Session modifiedSession = taskmaster.getSessionList().get(0);
+        Session unmodifiedSession = taskmaster.getSessionList().get(1);
+        Path modifiedRecordsFile = JsonShardedSessionList.getRecordsFile(recordsDirectory,
+                modifiedSession.getSessionName());
+        Path unmodifiedRecordsFile = JsonShardedSessionList.getRecordsFile(recordsDirectory,
+                unmodifiedSession.getSessionName());
+        Files.setLastModifiedTime(modifiedRecordsFile, OLD_FILE_TIME);
+        Files.setLastModifiedTime(unmodifiedRecordsFile, OLD_FILE_TIME);
+
+        modifiedSession.markAllStudentAttendances(AttendanceType.PRESENT);
+        unmodifiedSession.getStudentRecords();
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+
+        assertNotEquals(OLD_FILE_TIME, Files.getLastModifiedTime(modifiedRecordsFile));
+        assertEquals(OLD_FILE_TIME, Files.getLastModifiedTime(unmodifiedRecordsFile));
+        assertEquals(taskmaster.getSessionList(),
+                JsonShardedSessionList.read(manifestFile, false).get().asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void save_sessionDeleted_recordsFileMovedToBackup() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Path recordsDirectory = JsonShardedSessionList.getRecordsDirectory(manifestFile);
+        Taskmaster taskmaster = getTaskmasterWithTwoSessions();
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+
+        Session deletedSession = taskmaster.getSessionList().get(1);
+        Path deletedRecordsFile = JsonShardedSessionList.getRecordsFile(recordsDirectory,
+                deletedSession.getSessionName());
+        assertTrue(Files.exists(deletedRecordsFile));
+
+        taskmaster.deleteSession(deletedSession.getSessionName());
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+        assertFalse(Files.exists(deletedRecordsFile));
+        assertTrue(Files.exists(FileUtil.getBackupFile(deletedRecordsFile)));
+
+        // The backup is deleted once the backup of the manifest no longer refers to it
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+        assertFalse(Files.exists(FileUtil.getBackupFile(deletedRecordsFile)));
+    }
+
+    @Test
+    public void read_backupOfManifest_readsSessionsAsPreviouslySaved() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Path backupManifestFile = FileUtil.getBackupFile(manifestFile);
+        JsonShardedSessionList.save(getTaskmasterWithTwoSessions(), manifestFile, true);
+        List<Session> firstSave = JsonShardedSessionList.read(manifestFile, false).get()
+                .asUnmodifiableObservableList();
+
+        Taskmaster taskmaster = getTaskmasterWithTwoSessions();
+        taskmaster.setSessions(JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList());
+        taskmaster.getSessionList().get(0).markAllStudentAttendances(AttendanceType.PRESENT);
+        taskmaster.deleteSession(taskmaster.getSessionList().get(1).getSessionName());
+        taskmaster.addSession(new Session(new SessionName("Lab 3"),
+                new SessionDateTime(LocalDateTime.of(2020, 11, 8, 14, 0)), taskmaster.getStudentList()));
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+        SessionList backupSessionList = JsonShardedSessionList.read(backupManifestFile, false).get();
+        assertEquals(firstSave, backupSessionList.asUnmodifiableObservableList());
+        // The records files of the sessions read from the backup have changed, so they are saved again in full
+        assertTrue(backupSessionList.asUnmodifiableObservableList().stream().allMatch(Session::isModified));
+
+        // A records file left as it is by the next save is read by the backup of the manifest as it is
+        List<Session> secondSave = JsonShardedSessionList.read(manifestFile, false).get()
+                .asUnmodifiableObservableList();
+        taskmaster.deleteSession(new SessionName("Lab 3"));
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+        assertEquals(secondSave, JsonShardedSessionList.read(backupManifestFile, false).get()
+                .asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void read_legacySessionList_migratedOnSave() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Files.copy(LEGACY_SESSION_LIST_FILE, manifestFile);
+
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setSessions(JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList());
+        assertEquals(TypicalStudents.getTypicalSessionList().asUnmodifiableObservableList(),
+                taskmaster.getSessionList());
+
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+        assertTrue(Files.exists(JsonShardedSessionList.getRecordsFile(
+                JsonShardedSessionList.getRecordsDirectory(manifestFile),
+                taskmaster.getSessionList().get(0).getSessionName())));
+
+        Session session = JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList().get(0);
+        assertFalse(session.isLoaded());
+        assertEquals(taskmaster.getSessionList().get(0), session);
+    }
+
+    @Test
+    public void save_sparseSessions_recordsFilesHoldOnlyMarkedRecords() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Path recordsDirectory = JsonShardedSessionList.getRecordsDirectory(manifestFile);
+        Taskmaster taskmaster = getTaskmasterWithSparseSessions(300, 12);
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+
+        List<Path> rosterFiles = getRosterFiles(recordsDirectory);
+        assertEquals(1, rosterFiles.size());
+        for (Session session : taskmaster.getSessionList()) {
+            Path recordsFile = JsonShardedSessionList.getRecordsFile(recordsDirectory, session.getSessionName());
+            // Each records file holds the two records marked in its session, and refers to the roster for the rest
+            assertTrue(20 * Files.size(recordsFile) < Files.size(rosterFiles.get(0)),
+                    recordsFile + ": " + Files.size(recordsFile) + " bytes");
+        }
+
+        List<Session> readBack = JsonShardedSessionList.read(manifestFile, false).get().asUnmodifiableObservableList();
+        assertEquals(taskmaster.getSessionList(), readBack);
+        assertSame(readBack.get(0).getRoster().get(), readBack.get(11).getRoster().get());
+        assertEquals(2, readBack.get(0).getMarkedRecords().size());
+    }
+
+    @Test
+    public void save_rosterNoLongerUsed_backedUpOnceEveryRecordsFileIsWritten() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Path recordsDirectory = JsonShardedSessionList.getRecordsDirectory(manifestFile);
+        JsonShardedSessionList.save(getTaskmasterWithSparseSessions(30, 2), manifestFile, true);
+
+        Taskmaster taskmaster = getTaskmasterWithSparseSessions(31, 0);
+        taskmaster.setSessions(JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList());
+        taskmaster.addSession(new Session(new SessionName("Week 3"),
+                new SessionDateTime(LocalDateTime.of(2020, 8, 31, 10, 0)), taskmaster.getStudentList()));
+
+        // The unloaded sessions still refer to the roster they were saved with
+        JsonShardedSessionList.save(taskmaster, manifestFile, true);
+        assertEquals(2, getRosterFiles(recordsDirectory).size());
+        assertEquals(taskmaster.getSessionList(),
+                JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList());
+
+        List<Session> previousSave = JsonShardedSessionList.read(manifestFile, false).get()
+                .asUnmodifiableObservableList();
+        taskmaster.deleteSession(new SessionName("Week 1"));
+        taskmaster.deleteSession(new SessionName("Week 2"));
+        JsonShardedSessionList.save(taskmaster, manifestFile, false);
+        assertEquals(1, getRosterFiles(recordsDirectory).size());
+        assertEquals(taskmaster.getSessionList(),
+                JsonShardedSessionList.read(manifestFile, true).get().asUnmodifiableObservableList());
+        // The backups of the records files still refer to the roster no longer used
+        assertEquals(previousSave, JsonShardedSessionList.read(FileUtil.getBackupFile(manifestFile), false).get()
+                .asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void read_savedWithStatistics_statisticsUsedWithoutLoadingSessions() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        Taskmaster original = getTaskmasterWithSparseSessions(20, 5);
+        JsonShardedSessionList.save(original, manifestFile, true);
+
+        SessionList readBack = JsonShardedSessionList.read(manifestFile, true).get();
+        assertEquals(original.getStatisticsOfEveryStudent(), readBack.getSavedStatistics());
+
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setStudents(original.getStudentList());
+        taskmaster.setSessionList(readBack);
+        NusnetId nusnetId = new NusnetId(SyntheticStudents.getNusnetId(2));
+        assertEquals(original.getStudentStatistics(nusnetId), taskmaster.getStudentStatistics(nusnetId));
+        for (Session session : taskmaster.getSessionList()) {
+            assertFalse(session.isLoaded());
+        }
+    }
+
+    @Test
+    public void read_statisticsFileOfAnotherSave_statisticsNotUsed() throws Exception {
+        Path manifestFile = testFolder.resolve("session_list.json");
+        JsonShardedSessionList.save(getTaskmasterWithTwoSessions(), manifestFile, true);
+        byte[] statisticsOfFirstSave = Files.readAllBytes(JsonShardedSessionList.getStatisticsFile(manifestFile));
+        JsonShardedSessionList.save(getTaskmasterWithTwoSessions(), manifestFile, true);
+
+        // As if saving stopped after the statistics file of the first save was written, but before its manifest was
+        Files.write(JsonShardedSessionList.getStatisticsFile(manifestFile), statisticsOfFirstSave);
+        assertFalse(JsonShardedSessionList.read(manifestFile, true).get().getSavedStatistics().isPresent());
+    }
+
+    @Test
+    public void getRecordsFile_namesDifferingInCase_differentFiles() {
+        Path recordsDirectory = testFolder.resolve("session_list_records");
+        Path lowerCaseFile = JsonShardedSessionList.getRecordsFile(recordsDirectory, new SessionName("tut 1"));
+        Path upperCaseFile = JsonShardedSessionList.getRecordsFile(recordsDirectory, new SessionName("Tut 1"));
+
+        assertNotEquals(lowerCaseFile.toString().toLowerCase(), upperCaseFile.toString().toLowerCase());
+        assertEquals(recordsDirectory, lowerCaseFile.getParent());
+    }
+
+    /**
+     * Returns a taskmaster of {@code studentCount} students with {@code sessionCount} weekly sessions, in each of
+     * which two students are marked.
+     */
+    private static Taskmaster getTaskmasterWithSparseSessions(int studentCount, int sessionCount) {
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setStudents(SyntheticStudents.getStudents(studentCount));
+        for (int week = 1; week <= sessionCount; week++) {
+            Session session = new Session(new SessionName("Week " + week),
+                    new SessionDateTime(LocalDateTime.of(2020, 8, 10, 10, 0).plusWeeks(week)),
+                    taskmaster.getStudentList());
+            session.markStudentAttendance(new NusnetId(SyntheticStudents.getNusnetId(week)), AttendanceType.PRESENT);
+            session.scoreStudentParticipation(new NusnetId(SyntheticStudents.getNusnetId(week)), 2.5);
+            session.markStudentAttendance(new NusnetId(SyntheticStudents.getNusnetId(week + 1)),
+                    AttendanceType.ABSENT);
+            taskmaster.addSession(session);
+        }
+        return taskmaster;
+    }
+
+    private static List<Path> getRosterFiles(Path recordsDirectory) throws IOException {
+        try (Stream<Path> rosterFiles = Files.list(recordsDirectory.resolve("rosters"))) {
+            return rosterFiles.filter(rosterFile -> FileUtil.getBackedUpFile(rosterFile).equals(rosterFile))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static Taskmaster getTaskmasterWithTwoSessions() {
+        Taskmaster taskmaster = TypicalStudents.getTypicalTaskmaster();
+        taskmaster.addSession(new Session(new SessionName("Lab 2"),
+                new SessionDateTime(LocalDateTime.of(2020, 11, 1, 14, 0)),
+                taskmaster.getStudentList()));
+        return taskmaster;
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.Assert.assertThrows;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
+import static seedu.taskmaster.testutil.TypicalStudents.BENSON;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalSession;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.model.TaskmasterChange;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.testutil.StudentBuilder;
+
+public class JsonTaskmasterJournalTest {
+
+    private static final SessionName SESSION_NAME = getTypicalSession().getSessionName();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJournal_missingFile_emptyResult() throws Exception {
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(testFolder.resolve("missing.jsonl"));
+        assertTrue(journal.readJournal().isEmpty());
+        assertEquals(0, journal.getJournalSize());
+    }
+
+    @Test
+    public void appendToJournal_everyTypeOfChange_readBackInOrder() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.jsonl");
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(journalFilePath);
+        List<TaskmasterChange> changes = getChangeOfEveryType();
+
+        journal.appendToJournal(changes.subList(0, 4));
+        journal.appendToJournal(changes.subList(4, changes.size()));
+        assertEquals(changes.size(), journal.getJournalSize());
+
+        // A new journal on the same file, as when TAskmaster is started again
+        JsonTaskmasterJournal reopenedJournal = new JsonTaskmasterJournal(journalFilePath);
+        assertEquals(changes, reopenedJournal.readJournal());
+        assertEquals(changes.size(), reopenedJournal.getJournalSize());
+    }
+
+    @Test
+    public void readJournal_incompleteLastLine_lineDiscarded() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.jsonl");
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(journalFilePath);
+        TaskmasterChange change = TaskmasterChange.deleteStudent(ALICE.getNusnetId());
+        journal.appendToJournal(Collections.singletonList(change));
+        Files.write(journalFilePath, "{\"type\":\"DELETE_ST".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(Collections.singletonList(change), journal.readJournal());
+
+        // Changes appended afterwards are not joined to the discarded line
+        TaskmasterChange nextChange = TaskmasterChange.deleteStudent(BENSON.getNusnetId());
+        journal.appendToJournal(Collections.singletonList(nextChange));
+        assertEquals(Arrays.asList(change, nextChange), journal.readJournal());
+    }
+
+    @Test
+    public void readJournal_invalidChange_throwsDataConversionException() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.jsonl");
+        Files.write(journalFilePath, "{\"type\":\"MARK_STUDENT\",\"sessionName\":\"Typical session\"}\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> new JsonTaskmasterJournal(journalFilePath).readJournal());
+    }
+
+    @Test
+    public void clearJournal_changesAppended_journalEmpty() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.jsonl");
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(journalFilePath);
+        journal.appendToJournal(getChangeOfEveryType());
+
+        journal.clearJournal();
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(0, journal.getJournalSize());
+        assertTrue(journal.readJournal().isEmpty());
+    }
+
+    @Test
+    public void setAsideJournal_changesAppended_changesKeptAndJournalEmpty() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.jsonl");
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(journalFilePath);
+        assertFalse(journal.setAsideJournal().isPresent());
+        journal.appendToJournal(getChangeOfEveryType());
+
+        Path setAsideFilePath = journal.setAsideJournal().get();
+        assertEquals(0, journal.getJournalSize());
+        assertTrue(journal.readJournal().isEmpty());
+        assertEquals(getChangeOfEveryType(), new JsonTaskmasterJournal(setAsideFilePath).readJournal());
+
+        // Clearing the journal once the data is saved leaves the changes set aside
+        journal.appendToJournal(Collections.singletonList(TaskmasterChange.addStudent(HOON)));
+        journal.clearJournal();
+        assertTrue(Files.exists(setAsideFilePath));
+    }
+
+    @Test
+    public void sealJournal_changesAppendedAfterSeal_readAfterSealedChanges() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.jsonl");
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(journalFilePath);
+        journal.appendToJournal(getChangeOfEveryType());
+        journal.sealJournal();
+        assertEquals(0, journal.getJournalSize());
+
+        TaskmasterChange laterChange = TaskmasterChange.deleteStudent(HOON.getNusnetId());
+        journal.appendToJournal(Collections.singletonList(laterChange));
+        List<TaskmasterChange> expectedChanges = getChangeOfEveryType();
+        expectedChanges.add(laterChange);
+        assertEquals(expectedChanges, new JsonTaskmasterJournal(journalFilePath).readJournal());
+        assertEquals(1, journal.getJournalSize());
+    }
+
+    @Test
+    public void clearSealedJournal_changesSealedTwice_onlyChangesUpToSealCleared() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.jsonl");
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(journalFilePath);
+        TaskmasterChange firstChange = TaskmasterChange.addStudent(HOON);
+        TaskmasterChange secondChange = TaskmasterChange.deleteStudent(ALICE.getNusnetId());
+        TaskmasterChange thirdChange = TaskmasterChange.deleteStudent(BENSON.getNusnetId());
+
+        journal.appendToJournal(Collections.singletonList(firstChange));
+        long firstSeal = journal.sealJournal();
+        journal.appendToJournal(Collections.singletonList(secondChange));
+        long secondSeal = journal.sealJournal();
+        journal.appendToJournal(Collections.singletonList(thirdChange));
+        assertTrue(firstSeal < secondSeal);
+
+        journal.clearSealedJournal(firstSeal);
+        assertEquals(Arrays.asList(secondChange, thirdChange), journal.readJournal());
+
+        // Seals made after the journal is reopened are numbered after the ones that are not cleared
+        JsonTaskmasterJournal reopenedJournal = new JsonTaskmasterJournal(journalFilePath);
+        long thirdSeal = reopenedJournal.sealJournal();
+        assertTrue(thirdSeal > secondSeal);
+
+        reopenedJournal.clearSealedJournal(secondSeal);
+        assertEquals(Collections.singletonList(thirdChange), reopenedJournal.readJournal());
+        reopenedJournal.clearSealedJournal(thirdSeal);
+        assertTrue(reopenedJournal.readJournal().isEmpty());
+    }
+
+    @Test
+    public void setAsideJournal_changesSealed_sealedChangesSetAsideInOrder() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.jsonl");
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(journalFilePath);
+        journal.appendToJournal(getChangeOfEveryType());
+        journal.sealJournal();
+        TaskmasterChange laterChange = TaskmasterChange.deleteStudent(HOON.getNusnetId());
+        journal.appendToJournal(Collections.singletonList(laterChange));
+
+        Path setAsideFilePath = journal.setAsideJournal().get();
+        assertTrue(journal.readJournal().isEmpty());
+        List<TaskmasterChange> expectedChanges = getChangeOfEveryType();
+        expectedChanges.add(laterChange);
+        assertEquals(expectedChanges, new JsonTaskmasterJournal(setAsideFilePath).readJournal());
+    }
+
+    private static List<TaskmasterChange> getChangeOfEveryType() {
+        List<TaskmasterChange> changes = new ArrayList<>();
+        changes.add(TaskmasterChange.addStudent(HOON));
+        changes.add(TaskmasterChange.editStudent(BENSON.getNusnetId(),
+                new StudentBuilder(BENSON).withTelegram("benson_edited").build()));
+        changes.add(TaskmasterChange.deleteStudent(ALICE.getNusnetId()));
+        changes.add(TaskmasterChange.addSession(SESSION_NAME, getTypicalSession().getSessionDateTime()));
+        changes.add(TaskmasterChange.deleteSession(SESSION_NAME));
+        changes.add(TaskmasterChange.markStudent(SESSION_NAME, BENSON.getNusnetId(), AttendanceType.PRESENT));
+        changes.add(TaskmasterChange.markAllStudents(SESSION_NAME, AttendanceType.ABSENT));
+        changes.add(TaskmasterChange.scoreStudent(SESSION_NAME, BENSON.getNusnetId(), 2.5));
+        changes.add(TaskmasterChange.scoreAllStudents(SESSION_NAME, 0));
+        return changes;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.taskmaster.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.taskmaster.testutil.Assert.assertThrows;
 import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
 import static seedu.taskmaster.testutil.TypicalStudents.HOON;
@@ -9,18 +10,34 @@ import static seedu.taskmaster.testutil.TypicalStudents.IDA;
 import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.taskmaster.commons.exceptions.DataConversionException;
+import seedu.taskmaster.commons.util.FileUtil;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.record.StudentRecord;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionList;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.NusnetId;
+import seedu.taskmaster.model.student.Student;
+import seedu.taskmaster.testutil.SyntheticStudents;
 
 public class JsonTaskmasterStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonTaskmasterStorageTest");
+    private static final int SEMESTER_STUDENT_COUNT = 1_000;
+    private static final int SEMESTER_SESSION_COUNT = 26;
 
     @TempDir
     public Path testFolder;
@@ -109,6 +126,60 @@ public class JsonTaskmasterStorageTest {
         }
     }
 
+    @Test
+    public void readSessionList_semester_recordsShareObjectsOfStudentList() throws Exception {
+        JsonTaskmasterStorage storage = new JsonTaskmasterStorage(testFolder.resolve("taskmaster.json"),
+                testFolder.resolve("session_list.json"));
+        Taskmaster semester = SyntheticStudents.getSemester(SEMESTER_STUDENT_COUNT, SEMESTER_SESSION_COUNT);
+        storage.saveTaskmaster(semester);
+        storage.saveSessionList(semester);
+
+        ReadOnlyTaskmaster studentList = storage.readTaskmaster().get();
+        SessionList sessionList = storage.readSessionList().get();
+        assertRecordsShareObjectsOfStudentList(studentList, sessionList);
+    }
+
+    @Test
+    public void readSessionList_backupOfSessionList_readsPreviousSessions() throws Exception {
+        Path sessionListFilePath = testFolder.resolve("session_list.json");
+        JsonTaskmasterStorage storage = new JsonTaskmasterStorage(testFolder.resolve("taskmaster.json"),
+                sessionListFilePath);
+        Taskmaster semester = SyntheticStudents.getSemester(10, 2);
+        storage.saveSessionList(semester);
+        semester.addSession(new Session(new SessionName("Extra"),
+                new SessionDateTime(LocalDateTime.of(2020, 11, 1, 10, 0)), semester.getStudentList()));
+        storage.saveSessionList(semester);
+        Files.write(sessionListFilePath, "corrupted".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> storage.readSessionList());
+        // The backup of the session list file reads the records files kept beside the session list file
+        SessionList backupSessionList = storage.readSessionList(FileUtil.getBackupFile(sessionListFilePath)).get();
+        assertEquals(SyntheticStudents.getSemester(10, 2).getSessionList(),
+                backupSessionList.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Asserts that once the sessions of {@code sessionList} are in a {@code Taskmaster} with the students of
+     * {@code studentList}, the record of each student in every session has the same name and NUSNET ID objects as
+     * the student in the student list, instead of copies of them.
+     */
+    static void assertRecordsShareObjectsOfStudentList(ReadOnlyTaskmaster studentList, SessionList sessionList) {
+        Taskmaster taskmaster = new Taskmaster(studentList);
+        taskmaster.setSessions(sessionList.asUnmodifiableObservableList());
+
+        Map<NusnetId, Student> studentOfNusnetId = new HashMap<>();
+        for (Student student : taskmaster.getStudentList()) {
+            studentOfNusnetId.put(student.getNusnetId(), student);
+        }
+        for (Session session : taskmaster.getSessionList()) {
+            for (StudentRecord studentRecord : session.getStudentRecords()) {
+                Student student = studentOfNusnetId.get(studentRecord.getNusnetId());
+                assertSame(student.getNusnetId(), studentRecord.getNusnetId());
+                assertSame(student.getName(), studentRecord.getName());
+            }
+        }
+    }
+
     @Test
     public void saveTaskmaster_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTaskmaster(new Taskmaster(), "SomeFile.json", null));
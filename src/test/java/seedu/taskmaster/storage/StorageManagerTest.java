@@ -2,9 +2,12 @@ package seedu.taskmaster.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.taskmaster.testutil.TypicalStudents.ALICE;
 import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.taskmaster.commons.core.GuiSettings;
 import seedu.taskmaster.model.ReadOnlyTaskmaster;
 import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.TaskmasterChange;
 import seedu.taskmaster.model.UserPrefs;
 
 public class StorageManagerTest {
@@ -28,7 +32,8 @@ public class StorageManagerTest {
                 new JsonTaskmasterStorage(getTempFilePath("ab"), getTempFilePath("cd"));
 
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(taskmasterStorage, userPrefsStorage);
+        JsonTaskmasterJournal journal = new JsonTaskmasterJournal(getTempFilePath("journal"));
+        storageManager = new StorageManager(taskmasterStorage, userPrefsStorage, journal);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -62,6 +67,19 @@ public class StorageManagerTest {
         assertEquals(original, new Taskmaster(retrieved));
     }
 
+    @Test
+    public void journalReadAppend() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonTaskmasterJournal} class.
+         * More extensive testing of the journal is done in {@link JsonTaskmasterJournalTest} class.
+         */
+        List<TaskmasterChange> changes = Collections.singletonList(TaskmasterChange.addStudent(ALICE));
+        storageManager.appendToJournal(changes);
+        assertEquals(changes, storageManager.readJournal());
+        assertEquals(1, storageManager.getJournalSize());
+    }
+
     @Test
     public void getTaskmasterFilePath() {
         assertNotNull(storageManager.getTaskmasterFilePath());
@@ -0,0 +1,93 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.TypicalStudents.getScoredTaskmaster;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.model.Taskmaster;
+
+public class TaskmasterStorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void copy_jsonToBinaryAndBack_sameData() throws Exception {
+        JsonTaskmasterStorage jsonStorage = createJsonStorage();
+        BinaryTaskmasterStorage binaryStorage = createBinaryStorage();
+        Taskmaster original = getScoredTaskmaster();
+        jsonStorage.saveTaskmaster(original);
+        jsonStorage.saveSessionList(original);
+
+        TaskmasterStorageConverter.copy(jsonStorage, binaryStorage);
+        assertSameData(original, binaryStorage);
+
+        // Changes made in the binary files are copied back over the existing json files
+        Taskmaster changed = getTypicalTaskmaster();
+        binaryStorage.saveTaskmaster(changed);
+        binaryStorage.saveSessionList(changed);
+        TaskmasterStorageConverter.copy(binaryStorage, jsonStorage);
+        assertSameData(changed, createJsonStorage());
+    }
+
+    @Test
+    public void copyIfNewer_sourceHasNoData_notCopied() throws Exception {
+        assertFalse(TaskmasterStorageConverter.copyIfNewer(createJsonStorage(), createBinaryStorage()));
+        assertFalse(Files.exists(createBinaryStorage().getTaskmasterFilePath()));
+    }
+
+    @Test
+    public void copyIfNewer_targetHasNoData_copied() throws Exception {
+        JsonTaskmasterStorage jsonStorage = createJsonStorage();
+        Taskmaster original = getScoredTaskmaster();
+        jsonStorage.saveTaskmaster(original);
+        jsonStorage.saveSessionList(original);
+
+        assertTrue(TaskmasterStorageConverter.copyIfNewer(jsonStorage, createBinaryStorage()));
+        assertSameData(original, createBinaryStorage());
+    }
+
+    @Test
+    public void copyIfNewer_targetSavedLater_notCopied() throws Exception {
+        JsonTaskmasterStorage jsonStorage = createJsonStorage();
+        BinaryTaskmasterStorage binaryStorage = createBinaryStorage();
+        Taskmaster older = getTypicalTaskmaster();
+        jsonStorage.saveTaskmaster(older);
+        jsonStorage.saveSessionList(older);
+        Files.setLastModifiedTime(jsonStorage.getTaskmasterFilePath(), FileTime.fromMillis(0));
+        Files.setLastModifiedTime(jsonStorage.getSessionListFilePath(), FileTime.fromMillis(0));
+
+        Taskmaster newer = getScoredTaskmaster();
+        binaryStorage.saveTaskmaster(newer);
+        binaryStorage.saveSessionList(newer);
+
+        assertFalse(TaskmasterStorageConverter.copyIfNewer(jsonStorage, binaryStorage));
+        assertSameData(newer, binaryStorage);
+        assertTrue(TaskmasterStorageConverter.copyIfNewer(binaryStorage, jsonStorage));
+        assertSameData(newer, createJsonStorage());
+    }
+
+    private static void assertSameData(Taskmaster expected, TaskmasterStorage storage) throws Exception {
+        assertEquals(expected.getStudentList(), storage.readTaskmaster().get().getStudentList());
+        assertEquals(expected.getSessionList(), storage.readSessionList().get().asUnmodifiableObservableList());
+    }
+
+    private JsonTaskmasterStorage createJsonStorage() {
+        return new JsonTaskmasterStorage(testFolder.resolve("taskmaster.json"),
+                testFolder.resolve("session_list.json"));
+    }
+
+    private BinaryTaskmasterStorage createBinaryStorage() {
+        return new BinaryTaskmasterStorage(testFolder.resolve("taskmaster.bin"),
+                testFolder.resolve("session_list.bin"));
+    }
+}
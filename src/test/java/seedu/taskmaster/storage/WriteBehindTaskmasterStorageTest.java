@@ -0,0 +1,202 @@
+package seedu.taskmaster.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.taskmaster.testutil.Assert.assertThrows;
+import static seedu.taskmaster.testutil.TypicalStudents.HOON;
+import static seedu.taskmaster.testutil.TypicalStudents.getTypicalTaskmaster;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.taskmaster.model.ReadOnlyTaskmaster;
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.session.Session;
+
+public class WriteBehindTaskmasterStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndFlush_allInOrder_success() throws Exception {
+        WriteBehindTaskmasterStorage storage = new WriteBehindTaskmasterStorage(new JsonTaskmasterStorage(
+                testFolder.resolve("taskmaster.json"), testFolder.resolve("session_list.json")));
+        Taskmaster original = getTypicalTaskmaster();
+
+        storage.saveTaskmaster(original);
+        storage.flush();
+        assertEquals(original, new Taskmaster(storage.readTaskmaster().get()));
+
+        // Reads wait for pending saves
+        original.addStudent(HOON);
+        storage.saveTaskmaster(original);
+        assertEquals(original, new Taskmaster(storage.readTaskmaster().get()));
+    }
+
+    @Test
+    public void saveSessionList_burstOfSaves_writesLatestSnapshotOnce() throws Exception {
+        BlockingTaskmasterStorageStub stub = new BlockingTaskmasterStorageStub(testFolder);
+        WriteBehindTaskmasterStorage storage = new WriteBehindTaskmasterStorage(stub);
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        Session session = taskmaster.getSessionList().get(0);
+
+        storage.saveSessionList(taskmaster);
+        assertTrue(stub.writeStarted.await(5, TimeUnit.SECONDS));
+
+        // Queued while the first write is in progress
+        session.markAllStudentAttendances(AttendanceType.PRESENT);
+        for (int i = 0; i < 10; i++) {
+            session.scoreAllParticipation(i);
+            storage.saveSessionList(taskmaster);
+        }
+        stub.releaseWrites.countDown();
+        storage.flush();
+
+        assertEquals(2, stub.sessionListWriteCount.get());
+        assertEquals(taskmaster.getSessionList(), storage.readSessionList().get().asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void saveSessionList_modelChangedBeforeWrite_writesSnapshotAtTimeOfSave() throws Exception {
+        BlockingTaskmasterStorageStub stub = new BlockingTaskmasterStorageStub(testFolder);
+        WriteBehindTaskmasterStorage storage = new WriteBehindTaskmasterStorage(stub);
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        Session session = taskmaster.getSessionList().get(0);
+        Session expectedSession = new Session(session);
+
+        storage.saveSessionList(taskmaster);
+        assertTrue(stub.writeStarted.await(5, TimeUnit.SECONDS));
+        session.markAllStudentAttendances(AttendanceType.PRESENT);
+        stub.releaseWrites.countDown();
+        storage.flush();
+
+        assertEquals(expectedSession, storage.readSessionList().get().get(session.getSessionName()));
+    }
+
+    @Test
+    public void saveSessionList_savedSessionChangedBeforeWrite_writesSnapshotAtTimeOfSave() throws Exception {
+        BlockingTaskmasterStorageStub stub = new BlockingTaskmasterStorageStub(testFolder);
+        WriteBehindTaskmasterStorage storage = new WriteBehindTaskmasterStorage(stub);
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        taskmaster.markAsSaved();
+        Session session = taskmaster.getSessionList().get(0);
+        Session expectedSession = new Session(session);
+
+        // The session has no unsaved changes when the snapshot is taken, but is changed before it is written
+        storage.saveSessionList(taskmaster);
+        assertTrue(stub.writeStarted.await(5, TimeUnit.SECONDS));
+        session.markAllStudentAttendances(AttendanceType.PRESENT);
+        stub.releaseWrites.countDown();
+        storage.flush();
+
+        assertEquals(expectedSession, storage.readSessionList().get().get(session.getSessionName()));
+    }
+
+    @Test
+    public void saveSessionList_replacedSnapshotHadUnsavedChanges_changesWritten() throws Exception {
+        BlockingTaskmasterStorageStub stub = new BlockingTaskmasterStorageStub(testFolder);
+        WriteBehindTaskmasterStorage storage = new WriteBehindTaskmasterStorage(stub);
+        Taskmaster taskmaster = getTypicalTaskmaster();
+        Session session = taskmaster.getSessionList().get(0);
+
+        storage.saveSessionList(taskmaster);
+        assertTrue(stub.writeStarted.await(5, TimeUnit.SECONDS));
+        taskmaster.markAsSaved();
+
+        // The second save replaces the first before it is written, and its snapshot has no unsaved changes
+        session.markAllStudentAttendances(AttendanceType.PRESENT);
+        storage.saveSessionList(taskmaster);
+        taskmaster.markAsSaved();
+        storage.saveSessionList(taskmaster);
+        stub.releaseWrites.countDown();
+        storage.flush();
+
+        assertEquals(session, storage.readSessionList().get().get(session.getSessionName()));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionAndRetries() throws Exception {
+        // Fails both the write triggered by the save and the retry made by the first flush
+        FailingTaskmasterStorageStub stub = new FailingTaskmasterStorageStub(testFolder, 2);
+        WriteBehindTaskmasterStorage storage = new WriteBehindTaskmasterStorage(stub);
+        Taskmaster original = getTypicalTaskmaster();
+
+        storage.saveTaskmaster(original);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+
+        // The failed write is retried on the next flush
+        storage.flush();
+        assertEquals(original, new Taskmaster(storage.readTaskmaster().get()));
+    }
+
+    @Test
+    public void saveSessionList_earlierWriteFailed_failureOnlyReportedByFlush() throws Exception {
+        // Fails both the write triggered by the save and the retry made by the flush
+        FailingTaskmasterStorageStub stub = new FailingTaskmasterStorageStub(testFolder, 2);
+        WriteBehindTaskmasterStorage storage = new WriteBehindTaskmasterStorage(stub);
+        Taskmaster original = getTypicalTaskmaster();
+
+        // A later save does not report the failure of the student list save queued before it
+        storage.saveTaskmaster(original);
+        storage.saveSessionList(original);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+
+        // Once the retry succeeds, the failure is not reported again
+        storage.flush();
+        assertEquals(original, new Taskmaster(storage.readTaskmaster().get()));
+    }
+
+    /**
+     * A stub that holds up every session list write until {@code releaseWrites} is counted down.
+     */
+    private static class BlockingTaskmasterStorageStub extends JsonTaskmasterStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseWrites = new CountDownLatch(1);
+        private final AtomicInteger sessionListWriteCount = new AtomicInteger();
+
+        private BlockingTaskmasterStorageStub(Path folder) {
+            super(folder.resolve("taskmaster.json"), folder.resolve("session_list.json"));
+        }
+
+        @Override
+        public void saveSessionList(ReadOnlyTaskmaster taskmaster, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                releaseWrites.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            sessionListWriteCount.incrementAndGet();
+            super.saveSessionList(taskmaster, filePath);
+        }
+    }
+
+    /**
+     * A stub that throws an {@code IOException} for the first few times the student list is saved.
+     */
+    private static class FailingTaskmasterStorageStub extends JsonTaskmasterStorage {
+        private final AtomicInteger failuresRemaining;
+
+        private FailingTaskmasterStorageStub(Path folder, int failures) {
+            super(folder.resolve("taskmaster.json"), folder.resolve("session_list.json"));
+            failuresRemaining = new AtomicInteger(failures);
+        }
+
+        @Override
+        public void saveTaskmaster(ReadOnlyTaskmaster taskmaster, Path filePath) throws IOException {
+            if (failuresRemaining.getAndDecrement() > 0) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveTaskmaster(taskmaster, filePath);
+        }
+    }
+}
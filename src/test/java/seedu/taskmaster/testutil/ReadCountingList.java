@@ -0,0 +1,57 @@
+package seedu.taskmaster.testutil;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A list that counts the elements read from it, so that a test can check how much of a list an operation reads
+ * instead of timing the operation.
+ */
+public class ReadCountingList<T> extends AbstractList<T> {
+    private final List<T> elements;
+    private int reads;
+
+    /**
+     * Creates a list backed by {@code elements}, which must support the changes made to the list.
+     */
+    public ReadCountingList(List<T> elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public T get(int index) {
+        reads++;
+        return elements.get(index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    public T remove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns the number of elements read from the list since it was created or the count was last reset.
+     */
+    public int getReads() {
+        return reads;
+    }
+
+    public void resetReads() {
+        reads = 0;
+    }
+}
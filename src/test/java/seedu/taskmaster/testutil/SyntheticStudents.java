@@ -0,0 +1,73 @@
+package seedu.taskmaster.testutil;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.taskmaster.model.Taskmaster;
+import seedu.taskmaster.model.record.AttendanceType;
+import seedu.taskmaster.model.session.Session;
+import seedu.taskmaster.model.session.SessionDateTime;
+import seedu.taskmaster.model.session.SessionName;
+import seedu.taskmaster.model.student.Student;
+
+/**
+ * A utility class that generates large rosters of distinct {@code Student} objects to be used in tests that
+ * exercise the model and storage at realistic module sizes.
+ */
+public class SyntheticStudents {
+
+    private SyntheticStudents() {} // prevents instantiation
+
+    /**
+     * Returns the NUSNET ID string of the {@code i}-th synthetic student.
+     */
+    public static String getNusnetId(int i) {
+        return String.format("e0%06d", i);
+    }
+
+    /**
+     * Returns the {@code i}-th synthetic student.
+     */
+    public static Student getStudent(int i) {
+        return new StudentBuilder()
+                .withName("Student " + i)
+                .withTelegram("student" + i)
+                .withEmail("student" + i + "@example.com")
+                .withNusnetId(getNusnetId(i))
+                .build();
+    }
+
+    /**
+     * Returns a list of {@code count} synthetic students with distinct NUSNET IDs.
+     */
+    public static List<Student> getStudents(int count) {
+        assert count <= 1_000_000;
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(getStudent(i));
+        }
+        return students;
+    }
+
+    /**
+     * Returns a {@code Taskmaster} with {@code studentCount} synthetic students and {@code sessionCount} weekly
+     * sessions of all of them, in each of which a third of the students are marked as present and scored.
+     */
+    public static Taskmaster getSemester(int studentCount, int sessionCount) {
+        Taskmaster taskmaster = new Taskmaster();
+        taskmaster.setStudents(getStudents(studentCount));
+        for (int week = 1; week <= sessionCount; week++) {
+            Session session = new Session(new SessionName("Week " + week),
+                    new SessionDateTime(LocalDateTime.of(2020, 8, 10, 10, 0).plusWeeks(week)),
+                    taskmaster.getStudentList());
+            taskmaster.addSession(session);
+            for (int i = week % 3; i < studentCount; i += 3) {
+                Student student = taskmaster.getStudentList().get(i);
+                session.markStudentAttendance(student.getNusnetId(), AttendanceType.PRESENT);
+                session.scoreStudentParticipation(student.getNusnetId(), (i + week) % 10);
+            }
+        }
+        return taskmaster;
+    }
+}